@@ -0,0 +1,80 @@
+package foodiepass.server.common.price.domain;
+
+import foodiepass.server.currency.domain.Currency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BigDecimal} 곱셈 후 {@code setScale}하던 기존 환산 방식과 최소 단위 long 연산을 쓰는 {@link Price#convert}의 비용 비교.
+ * 할당량은 {@code -prof gc}로 함께 확인한다.
+ * <pre>./gradlew jmh -Pjmh.includes=PriceConversionBenchmark</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceConversionBenchmark {
+
+    private static final int SAMPLE_COUNT = 1024;
+    private static final int ORDER_SIZE = 8;
+
+    private final Price[] prices = new Price[SAMPLE_COUNT];
+    private final BigDecimal[] amounts = new BigDecimal[SAMPLE_COUNT];
+    private final double[] rates = new double[SAMPLE_COUNT];
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            amounts[i] = BigDecimal.valueOf(random.nextInt(10_000_000), 2);
+            prices[i] = new Price(Currency.UNITED_STATES_DOLLAR, amounts[i]);
+            rates[i] = Math.round((900 + random.nextDouble() * 600) * 100) / 100.0;
+        }
+    }
+
+    @Benchmark
+    public BigDecimal convertWithBigDecimal() {
+        final int index = nextIndex();
+        return amounts[index].multiply(BigDecimal.valueOf(rates[index])).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public Price convertWithMinorUnits() {
+        final int index = nextIndex();
+        return prices[index].convert(Currency.SOUTH_KOREAN_WON, rates[index]);
+    }
+
+    @Benchmark
+    public BigDecimal sumOrderWithBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < ORDER_SIZE; i++) {
+            total = total.add(amounts[nextIndex()].multiply(BigDecimal.TWO));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Price sumOrderWithMinorUnits() {
+        final Price.Total total = Price.total(Currency.UNITED_STATES_DOLLAR);
+        for (int i = 0; i < ORDER_SIZE; i++) {
+            total.add(amounts[nextIndex()], BigDecimal.TWO);
+        }
+        return total.toPrice();
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 1) & (SAMPLE_COUNT - 1);
+        return cursor;
+    }
+}
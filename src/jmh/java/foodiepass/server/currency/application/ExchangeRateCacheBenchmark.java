@@ -0,0 +1,133 @@
+package foodiepass.server.currency.application;
+
+import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.currency.domain.ExchangeRateTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 문자열 키 {@code ConcurrentHashMap} 캐시와 ordinal 기반 환율 행렬의 조회/갱신 비용 비교.
+ * <pre>./gradlew jmh -Pjmh.includes=ExchangeRateCacheBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExchangeRateCacheBenchmark {
+
+    private static final Currency BASE_CURRENCY = Currency.UNITED_STATES_DOLLAR;
+    private static final int LOOKUP_COUNT = 1024;
+
+    private final Currency[] fromCurrencies = new Currency[LOOKUP_COUNT];
+    private final Currency[] toCurrencies = new Currency[LOOKUP_COUNT];
+
+    private Map<Currency, Double> baseRates;
+    private LegacyMapCache legacyMapCache;
+    private ExchangeRateCache exchangeRateCache;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        final Currency[] currencies = Currency.values();
+
+        baseRates = new EnumMap<>(Currency.class);
+        for (Currency currency : currencies) {
+            if (currency != BASE_CURRENCY) {
+                baseRates.put(currency, 0.01 + random.nextDouble() * 2000);
+            }
+        }
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            fromCurrencies[i] = currencies[random.nextInt(currencies.length)];
+            toCurrencies[i] = currencies[random.nextInt(currencies.length)];
+        }
+
+        legacyMapCache = new LegacyMapCache();
+        legacyMapCache.refresh(BASE_CURRENCY, baseRates);
+
+        exchangeRateCache = new ExchangeRateCache();
+        exchangeRateCache.replace(ExchangeRateTable.fromBaseRates(BASE_CURRENCY, baseRates, Instant.now()));
+    }
+
+    @Benchmark
+    public double lookupLegacyMap() {
+        final int index = nextIndex();
+        return legacyMapCache.getExchangeRate(
+                fromCurrencies[index].getCurrencyCode(),
+                toCurrencies[index].getCurrencyCode()
+        ).orElse(Double.NaN);
+    }
+
+    @Benchmark
+    public double lookupRateTable() {
+        final int index = nextIndex();
+        return exchangeRateCache.getExchangeRate(fromCurrencies[index], toCurrencies[index]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void refreshLegacyMap(final Blackhole blackhole) {
+        legacyMapCache.refresh(BASE_CURRENCY, baseRates);
+        blackhole.consume(legacyMapCache);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void refreshRateTable(final Blackhole blackhole) {
+        exchangeRateCache.replace(exchangeRateCache.getExchangeRateTable().refresh(BASE_CURRENCY, baseRates, Instant.now()));
+        blackhole.consume(exchangeRateCache);
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 1) & (LOOKUP_COUNT - 1);
+        return cursor;
+    }
+
+    /**
+     * 행렬 도입 이전의 {@code ExchangeRateCache}와 {@code ExchangeRateScheduler} 갱신 로직을 그대로 옮긴 기준 구현.
+     */
+    private static final class LegacyMapCache {
+
+        private final Map<String, Double> exchangeRateCache = new ConcurrentHashMap<>();
+
+        Optional<Double> getExchangeRate(String fromCurrencyCode, String toCurrencyCode) {
+            if (fromCurrencyCode.equals(toCurrencyCode)) {
+                return Optional.of(1.0);
+            }
+            return Optional.ofNullable(exchangeRateCache.get(fromCurrencyCode + "-" + toCurrencyCode));
+        }
+
+        void refresh(Currency baseCurrency, Map<Currency, Double> ratesMap) {
+            final String baseCode = baseCurrency.getCurrencyCode();
+            ratesMap.forEach((target, rate) -> {
+                exchangeRateCache.put(baseCode + "-" + target.getCurrencyCode(), rate);
+                exchangeRateCache.put(target.getCurrencyCode() + "-" + baseCode, 1.0 / rate);
+            });
+            for (Map.Entry<Currency, Double> fromEntry : ratesMap.entrySet()) {
+                for (Map.Entry<Currency, Double> toEntry : ratesMap.entrySet()) {
+                    if (fromEntry.getKey() == toEntry.getKey()) {
+                        continue;
+                    }
+                    exchangeRateCache.put(
+                            fromEntry.getKey().getCurrencyCode() + "-" + toEntry.getKey().getCurrencyCode(),
+                            toEntry.getValue() / fromEntry.getValue()
+                    );
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package foodiepass.server.currency.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.NumberFormat;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출마다 {@link NumberFormat#getCurrencyInstance()}를 만드는 기존 방식과 미리 계산한 {@link CurrencyFormatTable}의 포맷 비용 비교.
+ * 할당량은 {@code -prof gc}로 함께 확인한다.
+ * <pre>./gradlew jmh -Pjmh.includes=CurrencyFormatBenchmark</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CurrencyFormatBenchmark {
+
+    private static final int SAMPLE_COUNT = 1024;
+    private static final Currency[] SAMPLE_CURRENCIES = {
+            Currency.SOUTH_KOREAN_WON,
+            Currency.UNITED_STATES_DOLLAR,
+            Currency.JAPANESE_YEN,
+            Currency.EURO
+    };
+
+    private final Currency[] currencies = new Currency[SAMPLE_COUNT];
+    private final BigDecimal[] amounts = new BigDecimal[SAMPLE_COUNT];
+    private final StringBuilder reusedBuilder = new StringBuilder(32);
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            currencies[i] = SAMPLE_CURRENCIES[random.nextInt(SAMPLE_CURRENCIES.length)];
+            amounts[i] = BigDecimal.valueOf(random.nextDouble() * 100_000).setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+
+    @Benchmark
+    public String formatWithNumberFormat() {
+        final int index = nextIndex();
+        final NumberFormat numberFormat = NumberFormat.getCurrencyInstance();
+        numberFormat.setCurrency(java.util.Currency.getInstance(currencies[index].getCurrencyCode()));
+        return numberFormat.format(amounts[index]);
+    }
+
+    @Benchmark
+    public String formatWithTable() {
+        final int index = nextIndex();
+        return CurrencyFormatTable.format(currencies[index], amounts[index]);
+    }
+
+    @Benchmark
+    public int formatWithTableIntoReusedBuilder() {
+        final int index = nextIndex();
+        reusedBuilder.setLength(0);
+        CurrencyFormatTable.formatTo(reusedBuilder, currencies[index], amounts[index]);
+        return reusedBuilder.length();
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 1) & (SAMPLE_COUNT - 1);
+        return cursor;
+    }
+}
@@ -0,0 +1,139 @@
+package foodiepass.server.menu.infra.image;
+
+import foodiepass.server.menu.domain.MenuImage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 메뉴판 사진 한 장을 OCR 전에 전처리하는 비용과 줄어드는 바이트 수.
+ * {@code -Dmenu.photos=<디렉터리>}를 주면 그 안의 사진을, 없으면 12MP 휴대폰 사진 크기의 합성 메뉴판을 쓴다.
+ * 줄어든 크기는 {@code originalBytes}, {@code preparedBytes} 보조 지표로 함께 출력된다.
+ * <pre>./gradlew jmh -Pjmh.includes=MenuImagePreprocessorBenchmark</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MenuImagePreprocessorBenchmark {
+
+    private static final int SYNTHETIC_PHOTO_COUNT = 4;
+
+    @Param({"1600", "2048"})
+    private int maxEdge;
+
+    @Param({"false", "true"})
+    private boolean grayscale;
+
+    private final List<MenuImage> photos = new ArrayList<>();
+    private MenuImagePreprocessor preprocessor;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        preprocessor = new MenuImagePreprocessor(maxEdge, grayscale, 0.85f, new SimpleMeterRegistry());
+        final String photoDirectory = System.getProperty("menu.photos");
+        if (photoDirectory != null) {
+            try (Stream<Path> files = Files.list(Path.of(photoDirectory))) {
+                for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                    photos.add(MenuImage.of(Files.readAllBytes(file)));
+                }
+            }
+        }
+        if (photos.isEmpty()) {
+            final Random random = new Random(42);
+            for (int i = 0; i < SYNTHETIC_PHOTO_COUNT; i++) {
+                photos.add(MenuImage.of(syntheticMenuPhoto(random)));
+            }
+        }
+    }
+
+    @Benchmark
+    public MenuImagePreprocessor.PreparedImage prepare(final ByteCounters counters) {
+        final MenuImage photo = photos.get(cursor);
+        cursor = (cursor + 1) % photos.size();
+        final MenuImagePreprocessor.PreparedImage prepared = preprocessor.prepare(photo);
+        counters.originalBytes += photo.length();
+        counters.preparedBytes += prepared.image().length();
+        return prepared;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ByteCounters {
+        public long originalBytes;
+        public long preparedBytes;
+    }
+
+    /**
+     * 4032x3024 크기의 종이 질감 위에 메뉴 줄을 그리고 센서 잡음을 더해 휴대폰 카메라 품질로 인코딩한다.
+     */
+    private static byte[] syntheticMenuPhoto(final Random random) throws IOException {
+        final int width = 4032;
+        final int height = 3024;
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = image.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        graphics.setColor(new Color(240, 232, 214));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 72));
+        graphics.setColor(new Color(40, 30, 25));
+        for (int y = 200; y < height - 100; y += 140) {
+            graphics.drawString("Dish " + random.nextInt(1000) + " ........................ "
+                    + (5 + random.nextInt(30)) + ",000", 240, y);
+        }
+        graphics.dispose();
+        for (int i = 0; i < width * height / 8; i++) {
+            final int x = random.nextInt(width);
+            final int y = random.nextInt(height);
+            final int noise = random.nextInt(31) - 15;
+            final int rgb = image.getRGB(x, y);
+            image.setRGB(x, y, new Color(clamp(((rgb >> 16) & 0xFF) + noise), clamp(((rgb >> 8) & 0xFF) + noise),
+                    clamp((rgb & 0xFF) + noise)).getRGB());
+        }
+
+        final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            final ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(0.95f);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    private static int clamp(final int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+}
@@ -1,12 +1,15 @@
 package foodiepass.server;
 
+import foodiepass.server.menu.infra.config.FoodInfoCacheProperties;
+import foodiepass.server.menu.infra.config.FoodScrapperTierProperties;
 import foodiepass.server.menu.infra.config.TasteAtlasProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(TasteAtlasProperties.class)
+@EnableConfigurationProperties({TasteAtlasProperties.class, FoodInfoCacheProperties.class,
+		FoodScrapperTierProperties.class})
 public class ServerApplication {
 
 	public static void main(String[] args) {
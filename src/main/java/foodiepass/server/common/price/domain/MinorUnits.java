@@ -0,0 +1,131 @@
+package foodiepass.server.common.price.domain;
+
+import foodiepass.server.common.price.exception.PriceErrorCode;
+import foodiepass.server.common.price.exception.PriceException;
+import foodiepass.server.currency.domain.Currency;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 통화별 최소 단위(센트, 원 등) 정수 금액과 {@link BigDecimal} 사이의 변환, 환율 적용 시 반올림 규칙을 담당한다.
+ * 환율 적용은 double 연산으로 처리하고, 결과가 반올림 경계에 걸치거나 정밀도 범위를 벗어날 때만 십진 연산으로 다시 계산한다.
+ */
+final class MinorUnits {
+
+    private static final int DEFAULT_FRACTION_DIGITS = 2;
+    private static final int[] FRACTION_DIGITS = createFractionDigits();
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9};
+    private static final double FAST_PATH_LIMIT = 0x1p40;
+    private static final double TIE_TOLERANCE = 1e-3;
+
+    private MinorUnits() {
+    }
+
+    static int fractionDigits(final Currency currency) {
+        return FRACTION_DIGITS[currency.ordinal()];
+    }
+
+    static long fromAmount(final Currency currency, final BigDecimal amount) {
+        try {
+            return amount.setScale(fractionDigits(currency), RoundingMode.HALF_UP)
+                    .unscaledValue()
+                    .longValueExact();
+        } catch (ArithmeticException e) {
+            throw new PriceException(PriceErrorCode.AMOUNT_OVERFLOW);
+        }
+    }
+
+    static BigDecimal toAmount(final Currency currency, final long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, fractionDigits(currency));
+    }
+
+    static long add(final long left, final long right) {
+        try {
+            return Math.addExact(left, right);
+        } catch (ArithmeticException e) {
+            throw new PriceException(PriceErrorCode.AMOUNT_OVERFLOW);
+        }
+    }
+
+    static long multiply(final long minorUnits, final long quantity) {
+        try {
+            return Math.multiplyExact(minorUnits, quantity);
+        } catch (ArithmeticException e) {
+            throw new PriceException(PriceErrorCode.AMOUNT_OVERFLOW);
+        }
+    }
+
+    /**
+     * 요청으로 받은 십진 수량을 long 곱셈에 쓸 정수 수량으로 바꾼다. 소수 부분이 남는 수량은 받지 않는다.
+     */
+    static long quantityOf(final BigDecimal quantity) {
+        if (quantity == null || quantity.signum() < 0) {
+            throw new PriceException(PriceErrorCode.INVALID_QUANTITY);
+        }
+        try {
+            return quantity.longValueExact();
+        } catch (ArithmeticException e) {
+            throw new PriceException(PriceErrorCode.FRACTIONAL_QUANTITY);
+        }
+    }
+
+    /**
+     * 원본 통화의 최소 단위 금액에 환율을 곱해 대상 통화의 최소 단위 금액으로 바꾼다. 반올림은 HALF_UP이다.
+     */
+    static long convert(final long minorUnits, final Currency source, final Currency target, final double rate) {
+        if (!(rate >= 0) || Double.isInfinite(rate)) {
+            throw new PriceException(PriceErrorCode.INVALID_EXCHANGE_RATE);
+        }
+
+        final int sourceDigits = fractionDigits(source);
+        final int targetDigits = fractionDigits(target);
+        final double scaled = scale(minorUnits * rate, targetDigits - sourceDigits);
+        if (scaled >= 0 && scaled < FAST_PATH_LIMIT) {
+            final double floor = Math.floor(scaled);
+            final double fraction = scaled - floor;
+            if (Math.abs(fraction - 0.5) > TIE_TOLERANCE) {
+                return (long) floor + (fraction > 0.5 ? 1 : 0);
+            }
+        }
+        return convertExactly(minorUnits, sourceDigits, targetDigits, rate);
+    }
+
+    private static double scale(final double value, final int digitShift) {
+        if (digitShift >= 0) {
+            return value * POWERS_OF_TEN[digitShift];
+        }
+        return value / POWERS_OF_TEN[-digitShift];
+    }
+
+    private static long convertExactly(final long minorUnits, final int sourceDigits, final int targetDigits,
+                                       final double rate) {
+        try {
+            return BigDecimal.valueOf(minorUnits, sourceDigits)
+                    .multiply(BigDecimal.valueOf(rate))
+                    .setScale(targetDigits, RoundingMode.HALF_UP)
+                    .unscaledValue()
+                    .longValueExact();
+        } catch (ArithmeticException e) {
+            throw new PriceException(PriceErrorCode.AMOUNT_OVERFLOW);
+        }
+    }
+
+    private static int[] createFractionDigits() {
+        final Currency[] currencies = Currency.values();
+        final int[] fractionDigits = new int[currencies.length];
+        for (Currency currency : currencies) {
+            fractionDigits[currency.ordinal()] = lookupFractionDigits(currency);
+        }
+        return fractionDigits;
+    }
+
+    private static int lookupFractionDigits(final Currency currency) {
+        try {
+            final int digits = java.util.Currency.getInstance(currency.getCurrencyCode()).getDefaultFractionDigits();
+            return digits < 0 ? DEFAULT_FRACTION_DIGITS : digits;
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_FRACTION_DIGITS;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package foodiepass.server.common.price.domain;
 
 import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.currency.domain.CurrencyFormatTable;
 import foodiepass.server.common.price.exception.PriceErrorCode;
 import foodiepass.server.common.price.exception.PriceException;
 import lombok.EqualsAndHashCode;
@@ -9,39 +10,76 @@ import lombok.Getter;
 import java.math.BigDecimal;
 import java.util.Objects;
 
+/**
+ * 통화의 최소 단위(센트, 원 등)를 정수로 보관하는 가격.
+ * 합산, 수량 곱셈, 환율 적용은 long 연산으로 처리하고 {@link BigDecimal}은 API 경계에서만 만든다.
+ */
 @Getter
 @EqualsAndHashCode
 public class Price {
 
-    private static final BigDecimal ZERO_AMOUNT = BigDecimal.ZERO;
-
-    private final BigDecimal amount;
+    private final long minorUnits;
     private final Currency currency;
 
+    /**
+     * 통화의 소수 자릿수를 넘는 금액은 HALF_UP으로 반올림해 최소 단위로 맞춘다.
+     */
     public Price(Currency currency, BigDecimal amount) {
         validateCurrency(currency);
         validateAmount(amount);
         this.currency = currency;
-        this.amount = amount;
+        this.minorUnits = MinorUnits.fromAmount(currency, amount);
+    }
+
+    private Price(Currency currency, long minorUnits) {
+        this.currency = currency;
+        this.minorUnits = minorUnits;
     }
 
     public static Price zero(final Currency currency) {
-        return new Price(currency, ZERO_AMOUNT);
+        return ofMinorUnits(currency, 0L);
+    }
+
+    public static Price ofMinorUnits(final Currency currency, final long minorUnits) {
+        validateCurrency(currency);
+        if (minorUnits < 0) {
+            throw new PriceException(PriceErrorCode.INVALID_AMOUNT);
+        }
+        return new Price(currency, minorUnits);
+    }
+
+    /**
+     * 단가와 수량을 곱해 더하는 합계를 시작한다. 중간 합계는 최소 단위 long으로만 쌓고 {@link Price}는 마지막에 한 번 만든다.
+     */
+    public static Total total(final Currency currency) {
+        validateCurrency(currency);
+        return new Total(currency);
+    }
+
+    public BigDecimal getAmount() {
+        return MinorUnits.toAmount(currency, minorUnits);
     }
 
     public Price add(final Price other) {
         validateCurrencyEquality(other);
-        BigDecimal addedAmount = this.amount.add(other.getAmount());
-        return new Price(this.currency, addedAmount);
+        return new Price(this.currency, MinorUnits.add(this.minorUnits, other.minorUnits));
     }
 
     public Price multiply(final int quantity) {
         validateQuantity(quantity);
-        BigDecimal multipliedAmount = this.amount.multiply(BigDecimal.valueOf(quantity));
-        return new Price(this.currency, multipliedAmount);
+        return new Price(this.currency, MinorUnits.multiply(this.minorUnits, quantity));
     }
 
-    private void validateCurrency(Currency currency) {
+    public Price convert(final Currency targetCurrency, final double exchangeRate) {
+        validateCurrency(targetCurrency);
+        return new Price(targetCurrency, MinorUnits.convert(minorUnits, currency, targetCurrency, exchangeRate));
+    }
+
+    public String format() {
+        return CurrencyFormatTable.format(currency, minorUnits, MinorUnits.fractionDigits(currency));
+    }
+
+    private static void validateCurrency(Currency currency) {
         if (Objects.isNull(currency)) {
             throw new PriceException(PriceErrorCode.NULL_CURRENCY);
         }
@@ -51,7 +89,7 @@ public class Price {
         if (Objects.isNull(amount)) {
             throw new PriceException(PriceErrorCode.NULL_AMOUNT);
         }
-        if (amount.compareTo(ZERO_AMOUNT) < 0) {
+        if (amount.signum() < 0) {
             throw new PriceException(PriceErrorCode.INVALID_AMOUNT);
         }
     }
@@ -67,4 +105,45 @@ public class Price {
             throw new PriceException(PriceErrorCode.INVALID_QUANTITY);
         }
     }
+
+    public static final class Total {
+
+        private final Currency currency;
+        private long minorUnits;
+
+        private Total(final Currency currency) {
+            this.currency = currency;
+        }
+
+        public Total add(final BigDecimal unitAmount, final BigDecimal quantity) {
+            if (Objects.isNull(unitAmount)) {
+                throw new PriceException(PriceErrorCode.NULL_AMOUNT);
+            }
+            if (unitAmount.signum() < 0) {
+                throw new PriceException(PriceErrorCode.INVALID_AMOUNT);
+            }
+            final long lineMinorUnits = MinorUnits.multiply(
+                    MinorUnits.fromAmount(currency, unitAmount), MinorUnits.quantityOf(quantity));
+            minorUnits = MinorUnits.add(minorUnits, lineMinorUnits);
+            return this;
+        }
+
+        /**
+         * 이미 최소 단위로 보관된 단가를 더할 때 쓴다. 금액을 다시 변환하지 않고 long 곱셈과 덧셈만 한다.
+         */
+        public Total add(final Price unitPrice, final int quantity) {
+            if (!currency.equals(unitPrice.getCurrency())) {
+                throw new PriceException(PriceErrorCode.CURRENCIES_DO_NOT_MATCH);
+            }
+            if (quantity < 0) {
+                throw new PriceException(PriceErrorCode.INVALID_QUANTITY);
+            }
+            minorUnits = MinorUnits.add(minorUnits, MinorUnits.multiply(unitPrice.minorUnits, quantity));
+            return this;
+        }
+
+        public Price toPrice() {
+            return new Price(currency, minorUnits);
+        }
+    }
 }
@@ -12,9 +12,12 @@ public enum PriceErrorCode implements ErrorCode {
     NULL_CURRENCY(HttpStatus.BAD_REQUEST, "통화 정보는 필수입니다."),
     NULL_AMOUNT(HttpStatus.BAD_REQUEST, "금액 정보는 필수입니다."),
     INVALID_AMOUNT(HttpStatus.BAD_REQUEST, "금액은 음수가 될 수 없습니다."),
+    AMOUNT_OVERFLOW(HttpStatus.BAD_REQUEST, "처리할 수 있는 금액의 범위를 벗어났습니다."),
 
     CURRENCIES_DO_NOT_MATCH(HttpStatus.BAD_REQUEST, "서로 다른 통화의 가격은 연산할 수 없습니다. 통화를 일치시켜 주세요."),
-    INVALID_QUANTITY(HttpStatus.BAD_REQUEST, "수량은 음수가 될 수 없습니다. 0 이상의 값을 입력해 주세요.");
+    INVALID_QUANTITY(HttpStatus.BAD_REQUEST, "수량은 음수가 될 수 없습니다. 0 이상의 값을 입력해 주세요."),
+    FRACTIONAL_QUANTITY(HttpStatus.BAD_REQUEST, "수량은 정수여야 합니다."),
+    INVALID_EXCHANGE_RATE(HttpStatus.INTERNAL_SERVER_ERROR, "환율은 0 이상의 유한한 값이어야 합니다.");
 
 
     private final HttpStatus status;
@@ -1,14 +1,26 @@
 package foodiepass.server.currency.api;
 
 import foodiepass.server.currency.application.CurrencyService;
+import foodiepass.server.currency.application.ExchangeRateVectorCache;
+import foodiepass.server.currency.application.ExchangeRateVectorCache.SerializedRates;
+import foodiepass.server.currency.domain.Currency;
 import foodiepass.server.currency.dto.request.CalculatePriceRequest;
+import foodiepass.server.currency.dto.request.ConvertBatchRequest;
 import foodiepass.server.currency.dto.response.CalculatePriceResponse;
+import foodiepass.server.currency.dto.response.ConvertBatchResponse;
 import foodiepass.server.currency.dto.response.CurrencyResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Mono;
 
@@ -20,16 +32,45 @@ import java.util.List;
 public class CurrencyController {
 
     private final CurrencyService currencyService;
+    private final ExchangeRateVectorCache exchangeRateVectorCache;
 
     @GetMapping
     public Mono<List<CurrencyResponse>> getCurrencies() {
         return Mono.just(currencyService.findAllCurrencies());
     }
 
+    @GetMapping("/rates")
+    public Mono<ResponseEntity<byte[]>> getRates(
+            @RequestParam final String base,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch
+    ) {
+        return Mono.fromSupplier(() -> {
+            final SerializedRates rates = exchangeRateVectorCache.getRates(Currency.fromCurrencyCode(base));
+            if (rates.matches(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(rates.eTag())
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(rates.eTag())
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(rates.body());
+        });
+    }
+
     @PostMapping("/calculate")
     public Mono<CalculatePriceResponse> calculateTotalPrice(
             @RequestBody final CalculatePriceRequest calculatePriceRequest
     ) {
         return currencyService.calculateOrdersPriceAsync(calculatePriceRequest);
     }
+
+    @PostMapping("/convert-batch")
+    public Mono<ConvertBatchResponse> convertBatch(
+            @RequestBody final ConvertBatchRequest convertBatchRequest
+    ) {
+        return currencyService.convertBatchAsync(convertBatchRequest);
+    }
 }
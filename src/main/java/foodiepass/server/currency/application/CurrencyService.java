@@ -2,9 +2,14 @@ package foodiepass.server.currency.application;
 
 import foodiepass.server.common.price.domain.Price;
 import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.currency.domain.ExchangeRateTable;
 import foodiepass.server.currency.dto.request.CalculatePriceRequest;
 import foodiepass.server.currency.dto.request.CalculatePriceRequest.OrderElementRequest;
+import foodiepass.server.currency.dto.request.ConvertBatchRequest;
 import foodiepass.server.currency.dto.response.CalculatePriceResponse;
+import foodiepass.server.currency.dto.response.CalculatePriceResponse.FormattedPrice;
+import foodiepass.server.currency.dto.response.ConvertBatchResponse;
+import foodiepass.server.currency.dto.response.ConvertBatchResponse.TargetConversion;
 import foodiepass.server.currency.dto.response.CurrencyResponse;
 import foodiepass.server.currency.exception.CurrencyException;
 import foodiepass.server.menu.dto.response.ReconfigureResponse.PriceInfoResponse;
@@ -12,19 +17,22 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.text.NumberFormat;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
 import static foodiepass.server.currency.exception.CurrencyErrorCode.EXCHANGE_RATE_NOT_FOUND;
+import static foodiepass.server.currency.exception.CurrencyErrorCode.INVALID_BATCH_SIZE;
 
 @Service
 @RequiredArgsConstructor
 public class CurrencyService {
 
+    private static final int MAX_BATCH_AMOUNTS = 200;
+    private static final int MAX_BATCH_TARGETS = 20;
+
     private final ExchangeRateCache exchangeRateCache;
+    private final UsageBasedExchangeRateRefresher exchangeRateRefresher;
 
     public List<CurrencyResponse> findAllCurrencies() {
         return Stream.of(Currency.values())
@@ -36,45 +44,97 @@ public class CurrencyService {
         final Currency originCurrency = originPrice.getCurrency();
 
         return Mono.fromSupplier(() -> {
-            double exchangeRate = exchangeRateCache.getExchangeRate(originCurrency.getCurrencyCode(), userCurrency.getCurrencyCode())
-                    .orElseThrow(() -> new CurrencyException(EXCHANGE_RATE_NOT_FOUND));
-
-            final BigDecimal userPriceValue = originPrice.getAmount()
-                    .multiply(BigDecimal.valueOf(exchangeRate))
-                    .setScale(2, RoundingMode.HALF_UP);
+            exchangeRateRefresher.recordUsage(originCurrency, userCurrency);
+            final double exchangeRate = exchangeRateCache.getExchangeRate(originCurrency, userCurrency);
 
-            final String originFormatted = formatPrice(originPrice.getAmount(), originCurrency);
-            final String userFormatted = formatPrice(userPriceValue, userCurrency);
+            final Price userPrice = originPrice.convert(userCurrency, exchangeRate);
 
-            return new PriceInfoResponse(originFormatted, userFormatted);
+            return new PriceInfoResponse(originPrice.format(), userPrice.format());
         });
     }
 
     public Mono<CalculatePriceResponse> calculateOrdersPriceAsync(final CalculatePriceRequest request) {
         final Currency originCurrency = Currency.fromCurrencyName(request.originCurrency());
         final Currency userCurrency = Currency.fromCurrencyName(request.userCurrency());
-        final BigDecimal originTotalPrice = calculateTotalPrice(request.orders());
+        final Price originTotalPrice = calculateTotalPrice(originCurrency, request.orders());
 
         return Mono.fromSupplier(() -> {
-            double exchangeRate = exchangeRateCache.getExchangeRate(originCurrency.getCurrencyCode(), userCurrency.getCurrencyCode())
-                    .orElseThrow(() -> new CurrencyException(EXCHANGE_RATE_NOT_FOUND));
+            exchangeRateRefresher.recordUsage(originCurrency, userCurrency);
+            final double exchangeRate = exchangeRateCache.getExchangeRate(originCurrency, userCurrency);
+
+            final Price userTotalPrice = originTotalPrice.convert(userCurrency, exchangeRate);
+
+            return CalculatePriceResponse.of(originTotalPrice, userTotalPrice);
+        });
+    }
 
-            final BigDecimal userTotalPrice = originTotalPrice.multiply(BigDecimal.valueOf(exchangeRate))
-                    .setScale(2, RoundingMode.HALF_UP);
+    /**
+     * 한 원본 통화의 금액 N개를 대상 통화 M개로 환산한다.
+     * 환율 표는 한 번만 읽으므로 모든 대상 통화가 같은 스냅샷 기준으로 계산된다.
+     */
+    public Mono<ConvertBatchResponse> convertBatchAsync(final ConvertBatchRequest request) {
+        validateBatchSize(request);
+        final Currency originCurrency = Currency.fromCurrencyName(request.originCurrency());
+        final List<Currency> userCurrencies = request.userCurrencies().stream()
+                .map(Currency::fromCurrencyName)
+                .distinct()
+                .toList();
+        final List<Price> originPrices = request.amounts().stream()
+                .map(amount -> new Price(originCurrency, amount))
+                .toList();
 
-            return CalculatePriceResponse.of(originCurrency, originTotalPrice, userCurrency, userTotalPrice);
+        return Mono.fromSupplier(() -> {
+            final ExchangeRateTable exchangeRateTable = exchangeRateCache.getExchangeRateTable();
+            final List<TargetConversion> conversions = new ArrayList<>(userCurrencies.size());
+            for (Currency userCurrency : userCurrencies) {
+                exchangeRateRefresher.recordUsage(originCurrency, userCurrency);
+                final double exchangeRate = findExchangeRate(exchangeRateTable, originCurrency, userCurrency);
+                conversions.add(convertAll(originPrices, userCurrency, exchangeRate));
+            }
+            return new ConvertBatchResponse(formatAll(originPrices), conversions);
         });
     }
 
-    private BigDecimal calculateTotalPrice(final List<OrderElementRequest> orderElementRequests) {
-        return orderElementRequests.stream()
-                .map(order -> order.originPrice().multiply(order.quantity()))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private void validateBatchSize(final ConvertBatchRequest request) {
+        if (isOutOfRange(request.amounts(), MAX_BATCH_AMOUNTS)
+                || isOutOfRange(request.userCurrencies(), MAX_BATCH_TARGETS)) {
+            throw new CurrencyException(INVALID_BATCH_SIZE);
+        }
+    }
+
+    private boolean isOutOfRange(final List<?> values, final int maxSize) {
+        return values == null || values.isEmpty() || values.size() > maxSize;
+    }
+
+    private double findExchangeRate(final ExchangeRateTable exchangeRateTable, final Currency from, final Currency to) {
+        final double rate = exchangeRateTable.getRate(from, to);
+        if (Double.isNaN(rate)) {
+            throw new CurrencyException(EXCHANGE_RATE_NOT_FOUND);
+        }
+        return rate;
+    }
+
+    private TargetConversion convertAll(final List<Price> originPrices, final Currency userCurrency,
+                                        final double exchangeRate) {
+        final List<FormattedPrice> prices = new ArrayList<>(originPrices.size());
+        for (Price originPrice : originPrices) {
+            prices.add(FormattedPrice.from(originPrice.convert(userCurrency, exchangeRate)));
+        }
+        return new TargetConversion(userCurrency.getCurrencyCode(), prices);
+    }
+
+    private List<FormattedPrice> formatAll(final List<Price> prices) {
+        return prices.stream()
+                .map(FormattedPrice::from)
+                .toList();
     }
 
-    private String formatPrice(final BigDecimal amount, final Currency currency) {
-        NumberFormat format = NumberFormat.getCurrencyInstance();
-        format.setCurrency(java.util.Currency.getInstance(currency.getCurrencyCode()));
-        return format.format(amount);
+    private Price calculateTotalPrice(final Currency originCurrency,
+                                      final List<OrderElementRequest> orderElementRequests) {
+        final Price.Total total = Price.total(originCurrency);
+        for (OrderElementRequest order : orderElementRequests) {
+            total.add(order.originPrice(), order.quantity());
+        }
+        return total.toPrice();
     }
 }
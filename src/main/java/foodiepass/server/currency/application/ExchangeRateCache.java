@@ -1,28 +1,43 @@
 package foodiepass.server.currency.application;
 
+import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.currency.domain.ExchangeRateTable;
+import foodiepass.server.currency.exception.CurrencyException;
 import org.springframework.stereotype.Component;
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+
+import static foodiepass.server.currency.exception.CurrencyErrorCode.EXCHANGE_RATE_NOT_FOUND;
 
 @Component
 public class ExchangeRateCache {
-    private final Map<String, Double> exchangeRateCache = new ConcurrentHashMap<>();
 
-    public Optional<Double> getExchangeRate(String fromCurrencyCode, String toCurrencyCode) {
-        if (fromCurrencyCode.equals(toCurrencyCode)) {
-            return Optional.of(1.0);
+    private volatile ExchangeRateTable exchangeRateTable = ExchangeRateTable.empty();
+
+    public double getExchangeRate(final Currency from, final Currency to) {
+        final double rate = exchangeRateTable.getRate(from, to);
+        if (Double.isNaN(rate)) {
+            throw new CurrencyException(EXCHANGE_RATE_NOT_FOUND);
         }
-        String key = generateKey(fromCurrencyCode, toCurrencyCode);
-        return Optional.ofNullable(exchangeRateCache.get(key));
+        return rate;
     }
 
-    public void updateExchangeRate(String fromCurrencyCode, String toCurrencyCode, double rate) {
-        String key = generateKey(fromCurrencyCode, toCurrencyCode);
-        exchangeRateCache.put(key, rate);
+    public ExchangeRateTable getExchangeRateTable() {
+        return exchangeRateTable;
     }
 
-    private String generateKey(String fromCurrencyCode, String toCurrencyCode) {
-        return fromCurrencyCode + "-" + toCurrencyCode;
+    public synchronized void replace(final ExchangeRateTable exchangeRateTable) {
+        this.exchangeRateTable = exchangeRateTable;
+    }
+
+    /**
+     * 현재 스냅샷보다 버전이 높을 때만 교체한다. 다른 노드가 저장한 스냅샷을 적용할 때 사용한다.
+     *
+     * @return 교체되었으면 true
+     */
+    public synchronized boolean replaceIfNewer(final ExchangeRateTable exchangeRateTable) {
+        if (exchangeRateTable.getVersion() <= this.exchangeRateTable.getVersion()) {
+            return false;
+        }
+        this.exchangeRateTable = exchangeRateTable;
+        return true;
     }
 }
@@ -0,0 +1,29 @@
+package foodiepass.server.currency.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.stereotype.Component;
+
+/**
+ * 환율 정보가 한 번이라도 적재되었는지 기억한다. 적재되기 전까지는 애플리케이션의 Readiness 상태를
+ * {@link ReadinessState#REFUSING_TRAFFIC}으로 보이게 한다({@link foodiepass.server.global.config.AvailabilityConfig}).
+ * 환율 없이 트래픽을 받으면 모든 가격 변환이 EXCHANGE_RATE_NOT_FOUND로 실패하기 때문이다.
+ */
+@Slf4j
+@Component
+public class ExchangeRateReadinessGate {
+
+    private volatile boolean ratesLoaded;
+
+    public void markRatesLoaded() {
+        if (ratesLoaded) {
+            return;
+        }
+        ratesLoaded = true;
+        log.info("환율 정보 적재가 완료되어 트래픽 수신을 허용합니다.");
+    }
+
+    public boolean isRatesLoaded() {
+        return ratesLoaded;
+    }
+}
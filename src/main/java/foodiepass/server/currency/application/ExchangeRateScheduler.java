@@ -1,82 +1,270 @@
 package foodiepass.server.currency.application;
 
+import foodiepass.server.currency.application.port.out.ExchangeRateFeed;
+import foodiepass.server.currency.application.port.out.ExchangeRateSnapshotRepository;
 import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.currency.domain.ExchangeRateTable;
 import foodiepass.server.menu.application.port.out.ExchangeRateProvider;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.DefaultLockingTaskExecutor;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.LockingTaskExecutor;
+import net.javacrumbs.shedlock.core.LockingTaskExecutor.TaskResult;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuples;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ExchangeRateScheduler {
 
+    private static final String UPDATE_LOCK_NAME = "updateAllExchangeRates";
+    private static final String STARTUP_LOCK_NAME = "initializeExchangeRates";
+    private static final Duration STARTUP_LOCK_AT_MOST_FOR = Duration.ofHours(1);
+    private static final Duration STARTUP_LOCK_AT_LEAST_FOR = Duration.ofMinutes(5);
+    private static final int RATE_FETCH_CONCURRENCY = 16;
+
     private final ExchangeRateProvider exchangeRateProvider;
+    private final Optional<ExchangeRateFeed> exchangeRateFeed;
     private final ExchangeRateCache exchangeRateCache;
+    private final ExchangeRateSnapshotRepository snapshotRepository;
+    private final ExchangeRateReadinessGate readinessGate;
+    private final Duration snapshotMaxAge;
+    private final Duration feedReuseFor;
+    private final LockingTaskExecutor lockingTaskExecutor;
+    private final Scheduler applyScheduler;
+
+    private volatile FeedRates lastFeedRates;
+
+    @Autowired
+    public ExchangeRateScheduler(
+            final ExchangeRateProvider exchangeRateProvider,
+            final Optional<ExchangeRateFeed> exchangeRateFeed,
+            final ExchangeRateCache exchangeRateCache,
+            final ExchangeRateSnapshotRepository snapshotRepository,
+            final ExchangeRateReadinessGate readinessGate,
+            @Value("${exchange-rate.snapshot.max-age:PT24H}") final Duration snapshotMaxAge,
+            @Value("${exchange-rate.feed.reuse-for:PT1H}") final Duration feedReuseFor,
+            final LockProvider lockProvider
+    ) {
+        this(exchangeRateProvider, exchangeRateFeed, exchangeRateCache, snapshotRepository, readinessGate,
+                snapshotMaxAge, feedReuseFor, lockProvider, Schedulers.boundedElastic());
+    }
+
+    ExchangeRateScheduler(
+            final ExchangeRateProvider exchangeRateProvider,
+            final Optional<ExchangeRateFeed> exchangeRateFeed,
+            final ExchangeRateCache exchangeRateCache,
+            final ExchangeRateSnapshotRepository snapshotRepository,
+            final ExchangeRateReadinessGate readinessGate,
+            final Duration snapshotMaxAge,
+            final Duration feedReuseFor,
+            final LockProvider lockProvider,
+            final Scheduler applyScheduler
+    ) {
+        this.exchangeRateProvider = exchangeRateProvider;
+        this.exchangeRateFeed = exchangeRateFeed;
+        this.exchangeRateCache = exchangeRateCache;
+        this.snapshotRepository = snapshotRepository;
+        this.readinessGate = readinessGate;
+        this.snapshotMaxAge = snapshotMaxAge;
+        this.feedReuseFor = feedReuseFor;
+        this.lockingTaskExecutor = new DefaultLockingTaskExecutor(lockProvider);
+        this.applyScheduler = applyScheduler;
+    }
 
+    /**
+     * 저장된 최신 스냅샷으로 캐시를 즉시 채우고, 스냅샷이 없거나 오래된 경우에만 백그라운드에서 외부 환율을 다시 가져온다.
+     * 여러 노드가 동시에 기동해도 기동용 락을 잡은 한 노드만 외부 환율을 가져오며,
+     * 나머지 노드는 {@link ExchangeRateSnapshotSynchronizer}를 통해 그 결과를 받는다.
+     */
     @PostConstruct
     public void initializeCacheOnStartup() {
-        updateAllExchangeRatesInternal();
+        final Optional<ExchangeRateTable> latestSnapshot = loadLatestSnapshot();
+        latestSnapshot.ifPresent(snapshot -> {
+            exchangeRateCache.replace(snapshot);
+            readinessGate.markRatesLoaded();
+            log.info("저장된 환율 스냅샷(version={}, {}개 통화)으로 캐시를 초기화했습니다.", snapshot.getVersion(), snapshot.size());
+        });
+
+        if (latestSnapshot.map(this::isStale).orElse(true)) {
+            updateAllExchangeRatesWithLock();
+        }
     }
 
-    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
-    @SchedulerLock(name = "updateAllExchangeRates", lockAtLeastFor = "PT5M", lockAtMostFor = "PT1H")
+    /**
+     * 전체 통화를 한 번에 갱신하는 정기 작업. 평소에는 {@link UsageBasedExchangeRateRefresher}가 필요한 통화만 갱신하지만,
+     * 어느 노드에서도 쓰이지 않아 갱신 대상에 오르지 않은 통화도 하루에 한 번은 새로 가져오도록 기본으로 켜 둔다.
+     */
+    @Scheduled(cron = "${exchange-rate.full-refresh.cron:0 0 0 * * *}", zone = "Asia/Seoul")
+    @SchedulerLock(name = UPDATE_LOCK_NAME, lockAtLeastFor = "PT5M", lockAtMostFor = "PT1H")
     public void scheduledCacheUpdate() {
         updateAllExchangeRatesInternal();
     }
 
     void updateAllExchangeRatesInternal() {
-        log.info("환율 정보 캐시 갱신 작업을 시작합니다...");
+        refreshRates(EnumSet.allOf(Currency.class));
+    }
+
+    /**
+     * 지정한 통화의 환율만 가져와 현재 스냅샷에 반영한다. 나머지 통화는 이전 환율을 유지한다.
+     * 마지막 환율은 Netty 이벤트 루프에서 도착하므로, 락을 잡고 스냅샷을 저장하는 반영 단계는 별도 스레드로 넘긴다.
+     */
+    void refreshRates(final Set<Currency> targetCurrencies) {
+        log.info("환율 정보 캐시 갱신 작업을 시작합니다... (대상 통화 {}개)", targetCurrencies.size());
 
         final Currency baseCurrency = Currency.UNITED_STATES_DOLLAR;
 
-        Mono.just(Currency.values())
-                .flatMapMany(currencies -> reactor.core.publisher.Flux.fromArray(currencies)
-                        .filter(currency -> !currency.equals(baseCurrency))
-                        .flatMap(targetCurrency ->
-                                exchangeRateProvider.getExchangeRateAsync(baseCurrency, targetCurrency)
-                                        .map(rate -> Tuples.of(targetCurrency.getCurrencyCode(), rate))
-                                        .onErrorResume(error -> {
-                                            log.error("환율 정보를 가져오는 중 오류 발생: {} -> {}", baseCurrency.getCurrencyCode(), targetCurrency.getCurrencyCode(), error);
-                                            return Mono.empty();
-                                        })
-                        )
-                )
-                .collectMap(tuple -> tuple.getT1(), tuple -> tuple.getT2())
+        fetchFeedRates(baseCurrency)
+                .flatMap(feedRates -> fetchMissingRates(baseCurrency, targetCurrencies, feedRates))
+                .publishOn(applyScheduler)
                 .doOnSuccess(ratesMap -> {
                     if (ratesMap.isEmpty()) {
                         log.warn("갱신할 환율 정보를 가져오지 못했습니다.");
                         return;
                     }
-
-                    ratesMap.forEach((targetCode, rate) -> {
-                        exchangeRateCache.updateExchangeRate(baseCurrency.getCurrencyCode(), targetCode, rate);
-                        exchangeRateCache.updateExchangeRate(targetCode, baseCurrency.getCurrencyCode(), 1.0 / rate);
-                    });
-
-                    for (Map.Entry<String, Double> fromEntry : ratesMap.entrySet()) {
-                        for (Map.Entry<String, Double> toEntry : ratesMap.entrySet()) {
-                            if (fromEntry.getKey().equals(toEntry.getKey())) {
-                                continue;
-                            }
-
-                            double crossRate = toEntry.getValue() / fromEntry.getValue();
-                            exchangeRateCache.updateExchangeRate(fromEntry.getKey(), toEntry.getKey(), crossRate);
-                        }
-                    }
-
-                    log.info("총 {}개의 통화에 대한 환율 캐시 갱신을 완료했습니다.", ratesMap.size());
+                    applyRefreshedRates(baseCurrency, ratesMap);
                 })
                 .subscribe(
                         null,
                         error -> log.error("환율 정보 캐시 갱신 스트림에 치명적인 오류가 발생했습니다.", error)
                 );
     }
+
+    /**
+     * 전체 갱신과 부분 갱신이 겹쳐도 서로의 결과를 덮어쓰지 않도록 읽기-갱신-교체를 한 번에 수행한다.
+     * 이 노드의 캐시는 동기화 주기만큼 늦을 수 있으므로, 저장소에 더 새로운 스냅샷이 있으면 그 위에 반영해
+     * 그사이 다른 노드가 갱신한 환율을 되돌리지 않는다.
+     */
+    private synchronized void applyRefreshedRates(final Currency baseCurrency, final Map<Currency, Double> ratesMap) {
+        final ExchangeRateTable localTable = exchangeRateCache.getExchangeRateTable();
+        final ExchangeRateTable currentTable = loadLatestSnapshot()
+                .filter(snapshot -> snapshot.getVersion() > localTable.getVersion())
+                .orElse(localTable);
+        final ExchangeRateTable refreshedTable = currentTable.refresh(baseCurrency, ratesMap, Instant.now());
+        exchangeRateCache.replace(refreshedTable);
+        readinessGate.markRatesLoaded();
+        saveSnapshot(refreshedTable);
+
+        log.info("총 {}개의 통화에 대한 환율 캐시 갱신을 완료했습니다.", ratesMap.size());
+    }
+
+    /**
+     * 피드는 하루 한 번 정도만 바뀌므로, 부분 갱신이 주기마다 피드 전체를 다시 받지 않도록 {@code feedReuseFor} 동안 결과를 재사용한다.
+     */
+    private Mono<Map<Currency, Double>> fetchFeedRates(final Currency baseCurrency) {
+        final FeedRates reusable = lastFeedRates;
+        if (reusable != null && reusable.isReusable(baseCurrency, Instant.now(), feedReuseFor)) {
+            return Mono.just(reusable.rates());
+        }
+        return exchangeRateFeed
+                .map(feed -> feed.fetchBaseRates(baseCurrency)
+                        .doOnNext(feedRates -> {
+                            log.info("환율 피드에서 {}개 통화의 환율을 가져왔습니다.", feedRates.size());
+                            lastFeedRates = new FeedRates(baseCurrency, feedRates, Instant.now());
+                        })
+                        .onErrorResume(error -> {
+                            log.warn("환율 피드를 가져오지 못해 통화쌍 단위로 환율을 조회합니다.", error);
+                            return Mono.empty();
+                        }))
+                .orElseGet(Mono::empty)
+                .defaultIfEmpty(Map.of());
+    }
+
+    /**
+     * 대상 통화 중 피드에 없는 통화만 통화쌍 단위로 조회해 피드 결과와 합친다.
+     */
+    private Mono<Map<Currency, Double>> fetchMissingRates(
+            final Currency baseCurrency,
+            final Set<Currency> targetCurrencies,
+            final Map<Currency, Double> feedRates
+    ) {
+        return Flux.fromIterable(targetCurrencies)
+                .filter(currency -> !currency.equals(baseCurrency) && !feedRates.containsKey(currency))
+                .flatMap(targetCurrency ->
+                                exchangeRateProvider.getExchangeRateAsync(baseCurrency, targetCurrency)
+                                        .map(rate -> Tuples.of(targetCurrency, rate))
+                                        .onErrorResume(error -> {
+                                            log.error("환율 정보를 가져오는 중 오류 발생: {} -> {}", baseCurrency.getCurrencyCode(), targetCurrency.getCurrencyCode(), error);
+                                            return Mono.empty();
+                                        }),
+                        RATE_FETCH_CONCURRENCY
+                )
+                .collect(
+                        () -> {
+                            final Map<Currency, Double> rates = new EnumMap<>(Currency.class);
+                            rates.putAll(feedRates);
+                            return rates;
+                        },
+                        (rates, tuple) -> rates.put(tuple.getT1(), tuple.getT2())
+                );
+    }
+
+    private void updateAllExchangeRatesWithLock() {
+        final LockConfiguration lockConfiguration = new LockConfiguration(
+                Instant.now(),
+                STARTUP_LOCK_NAME,
+                STARTUP_LOCK_AT_MOST_FOR,
+                STARTUP_LOCK_AT_LEAST_FOR
+        );
+        try {
+            final TaskResult<Void> result = lockingTaskExecutor.executeWithLock(() -> {
+                updateAllExchangeRatesInternal();
+                return null;
+            }, lockConfiguration);
+
+            if (!result.wasExecuted()) {
+                log.info("다른 노드가 환율을 갱신하고 있어 공유 스냅샷을 기다립니다.");
+            }
+        } catch (Throwable e) {
+            log.error("환율 갱신 락을 획득하는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private Optional<ExchangeRateTable> loadLatestSnapshot() {
+        try {
+            return snapshotRepository.findLatest()
+                    .filter(snapshot -> !snapshot.isEmpty());
+        } catch (DataAccessException e) {
+            log.warn("저장된 환율 스냅샷을 불러오지 못했습니다. 외부에서 환율을 다시 가져옵니다.", e);
+            return Optional.empty();
+        }
+    }
+
+    private boolean isStale(final ExchangeRateTable snapshot) {
+        return snapshot.getFetchedAt().plus(snapshotMaxAge).isBefore(Instant.now());
+    }
+
+    private void saveSnapshot(final ExchangeRateTable exchangeRateTable) {
+        try {
+            snapshotRepository.save(exchangeRateTable);
+        } catch (DataAccessException e) {
+            log.error("환율 스냅샷 저장에 실패했습니다. version={}", exchangeRateTable.getVersion(), e);
+        }
+    }
+
+    private record FeedRates(Currency baseCurrency, Map<Currency, Double> rates, Instant fetchedAt) {
+
+        boolean isReusable(final Currency requestedBaseCurrency, final Instant now, final Duration reuseFor) {
+            return baseCurrency == requestedBaseCurrency && fetchedAt.plus(reuseFor).isAfter(now);
+        }
+    }
 }
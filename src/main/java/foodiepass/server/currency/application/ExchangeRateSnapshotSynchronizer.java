@@ -0,0 +1,52 @@
+package foodiepass.server.currency.application;
+
+import foodiepass.server.currency.application.port.out.ExchangeRateSnapshotRepository;
+import foodiepass.server.currency.domain.ExchangeRateTable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+
+/**
+ * 환율 갱신은 ShedLock을 잡은 한 노드에서만 실행되므로, 나머지 노드는 공유 저장소의 스냅샷 버전을 주기적으로 확인해
+ * 더 새로운 스냅샷이 있을 때만 한꺼번에 불러온다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExchangeRateSnapshotSynchronizer {
+
+    private final ExchangeRateSnapshotRepository snapshotRepository;
+    private final ExchangeRateCache exchangeRateCache;
+    private final ExchangeRateReadinessGate readinessGate;
+
+    @Scheduled(
+            fixedDelayString = "${exchange-rate.sync.poll-interval:PT1M}",
+            initialDelayString = "${exchange-rate.sync.poll-interval:PT1M}"
+    )
+    public void synchronizeWithLatestSnapshot() {
+        try {
+            final long currentVersion = exchangeRateCache.getExchangeRateTable().getVersion();
+            final OptionalLong latestVersion = snapshotRepository.findLatestVersion();
+            if (latestVersion.isEmpty() || latestVersion.getAsLong() <= currentVersion) {
+                return;
+            }
+
+            snapshotRepository.findByVersion(latestVersion.getAsLong())
+                    .filter(snapshot -> !snapshot.isEmpty())
+                    .ifPresent(this::apply);
+        } catch (DataAccessException e) {
+            log.warn("공유 저장소의 환율 스냅샷을 확인하지 못했습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private void apply(final ExchangeRateTable snapshot) {
+        if (exchangeRateCache.replaceIfNewer(snapshot)) {
+            readinessGate.markRatesLoaded();
+            log.info("다른 노드가 갱신한 환율 스냅샷(version={}, {}개 통화)을 적용했습니다.", snapshot.getVersion(), snapshot.size());
+        }
+    }
+}
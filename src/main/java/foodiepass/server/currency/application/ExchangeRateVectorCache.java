@@ -0,0 +1,97 @@
+package foodiepass.server.currency.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.currency.domain.ExchangeRateTable;
+import foodiepass.server.currency.dto.response.ExchangeRatesResponse;
+import foodiepass.server.currency.exception.CurrencyException;
+import foodiepass.server.global.success.GlobalSuccessCode;
+import foodiepass.server.global.success.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static foodiepass.server.currency.exception.CurrencyErrorCode.EXCHANGE_RATE_NOT_FOUND;
+
+/**
+ * 기준 통화별 전체 환율 벡터를 직렬화된 응답 본문으로 보관한다.
+ * 스냅샷 버전이 바뀐 뒤 처음 요청된 기준 통화만 한 번 직렬화하고, 같은 버전 동안에는 같은 바이트 배열을 돌려준다.
+ * ETag는 스냅샷 버전에서 만들므로 클라이언트는 환율이 갱신되기 전까지 304로 재검증할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExchangeRateVectorCache {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private final ExchangeRateCache exchangeRateCache;
+    private final ObjectMapper objectMapper;
+
+    private volatile VersionedVectors versionedVectors = new VersionedVectors(-1L);
+
+    public SerializedRates getRates(final Currency baseCurrency) {
+        final ExchangeRateTable exchangeRateTable = exchangeRateCache.getExchangeRateTable();
+        VersionedVectors current = versionedVectors;
+        if (current.version() != exchangeRateTable.getVersion()) {
+            current = new VersionedVectors(exchangeRateTable.getVersion());
+            versionedVectors = current;
+        }
+        return current.vectors().computeIfAbsent(baseCurrency, base -> serialize(exchangeRateTable, base));
+    }
+
+    private SerializedRates serialize(final ExchangeRateTable exchangeRateTable, final Currency baseCurrency) {
+        final Map<String, Double> rates = new LinkedHashMap<>();
+        for (Currency currency : CURRENCIES) {
+            final double rate = exchangeRateTable.getRate(baseCurrency, currency);
+            if (currency != baseCurrency && !Double.isNaN(rate)) {
+                rates.put(currency.getCurrencyCode(), rate);
+            }
+        }
+        if (rates.isEmpty()) {
+            throw new CurrencyException(EXCHANGE_RATE_NOT_FOUND);
+        }
+
+        final long version = exchangeRateTable.getVersion();
+        final ExchangeRatesResponse response = new ExchangeRatesResponse(baseCurrency.getCurrencyCode(), version, rates);
+        try {
+            final byte[] body = objectMapper.writeValueAsBytes(SuccessResponse.of(GlobalSuccessCode.OK, response));
+            return new SerializedRates(eTag(version, baseCurrency), body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("환율 응답을 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    private static String eTag(final long version, final Currency baseCurrency) {
+        return "\"" + baseCurrency.getCurrencyCode() + "-" + version + "\"";
+    }
+
+    /**
+     * 직렬화가 끝난 응답 본문. 본문 배열은 공유되므로 수정하지 않는다.
+     */
+    public record SerializedRates(String eTag, byte[] body) {
+
+        public boolean matches(final String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                final String trimmed = candidate.trim();
+                if (trimmed.equals("*") || trimmed.equals(eTag) || trimmed.equals("W/" + eTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record VersionedVectors(long version, Map<Currency, SerializedRates> vectors) {
+
+        VersionedVectors(final long version) {
+            this(version, new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package foodiepass.server.currency.application;
+
+import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.currency.domain.ExchangeRateTable;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 통화별 환산 횟수를 기록해 실제로 쓰이는 통화만 갱신한다.
+ * 자주 쓰이는 통화(설정된 통화와 사용량 상위 통화)는 짧은 유효 기간이 지나면 주기적으로 갱신하고,
+ * 나머지 통화는 긴 유효 기간이 지난 뒤 처음 사용될 때 갱신을 예약한다.
+ * 통화마다 유효 기간을 조금씩 다르게 줄여 갱신 시점이 한꺼번에 몰리지 않게 한다.
+ * <p>
+ * 사용량은 노드마다 따로 센다. 여러 노드가 떠 있으면 갱신 주기마다 락을 잡은 노드의 사용량으로 대상 통화를 고르고,
+ * 갱신 결과는 스냅샷으로 다른 노드에 전달된다. 락은 주기 하나 동안 유지해 같은 주기에 다른 노드가 다시 갱신하지 않게 하고,
+ * 락을 잡는 노드는 주기마다 바뀔 수 있으므로 한 노드에서만 쓰이는 통화도 결국 갱신된다.
+ * 어느 노드의 사용량에도 오르지 않는 통화는 {@link ExchangeRateScheduler}의 전체 갱신이 맡는다.
+ */
+@Slf4j
+@Component
+public class UsageBasedExchangeRateRefresher {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final double GOLDEN_RATIO_CONJUGATE = 0.6180339887498949;
+
+    private final ExchangeRateCache exchangeRateCache;
+    private final ExchangeRateScheduler exchangeRateScheduler;
+    private final Set<Currency> hotCurrencies;
+    private final int hotUsageRank;
+    private final Duration hotStalenessBudget;
+    private final Duration coldStalenessBudget;
+    private final double jitterRatio;
+    private final int maxCurrenciesPerTick;
+
+    private final AtomicLongArray usageCounts = new AtomicLongArray(CURRENCIES.length);
+    private final AtomicIntegerArray pendingRefreshes = new AtomicIntegerArray(CURRENCIES.length);
+
+    public UsageBasedExchangeRateRefresher(
+            final ExchangeRateCache exchangeRateCache,
+            final ExchangeRateScheduler exchangeRateScheduler,
+            @Value("${exchange-rate.refresh.hot-currencies:USD,KRW,JPY,EUR}") final List<String> hotCurrencyCodes,
+            @Value("${exchange-rate.refresh.hot-usage-rank:8}") final int hotUsageRank,
+            @Value("${exchange-rate.refresh.hot-staleness-budget:PT1H}") final Duration hotStalenessBudget,
+            @Value("${exchange-rate.refresh.cold-staleness-budget:PT24H}") final Duration coldStalenessBudget,
+            @Value("${exchange-rate.refresh.jitter-ratio:0.2}") final double jitterRatio,
+            @Value("${exchange-rate.refresh.max-currencies-per-tick:20}") final int maxCurrenciesPerTick
+    ) {
+        this.exchangeRateCache = exchangeRateCache;
+        this.exchangeRateScheduler = exchangeRateScheduler;
+        this.hotCurrencies = hotCurrencyCodes.stream()
+                .map(String::trim)
+                .map(Currency::fromCurrencyCode)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(Currency.class)));
+        this.hotUsageRank = hotUsageRank;
+        this.hotStalenessBudget = hotStalenessBudget;
+        this.coldStalenessBudget = coldStalenessBudget;
+        this.jitterRatio = jitterRatio;
+        this.maxCurrenciesPerTick = maxCurrenciesPerTick;
+    }
+
+    /**
+     * 환산 한 번을 기록한다. 통화쌍의 양쪽 통화 사용량을 모두 올리고,
+     * 유효 기간이 지난 통화는 다음 갱신 주기에 가져오도록 예약한다.
+     */
+    public void recordUsage(final Currency from, final Currency to) {
+        if (from == to) {
+            return;
+        }
+
+        final ExchangeRateTable table = exchangeRateCache.getExchangeRateTable();
+        final Instant now = Instant.now();
+        for (Currency currency : new Currency[]{from, to}) {
+            usageCounts.incrementAndGet(currency.ordinal());
+            if (isStale(table, currency, coldStalenessBudget, now)) {
+                pendingRefreshes.set(currency.ordinal(), 1);
+            }
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${exchange-rate.refresh.tick:PT1M}",
+            initialDelayString = "${exchange-rate.refresh.tick:PT1M}"
+    )
+    @SchedulerLock(
+            name = "refreshDueExchangeRates",
+            lockAtLeastFor = "${exchange-rate.refresh.tick:PT1M}",
+            lockAtMostFor = "PT5M"
+    )
+    public void refreshDueCurrencies() {
+        final Set<Currency> dueCurrencies = collectDueCurrencies(Instant.now());
+        decayUsageCounts();
+
+        if (dueCurrencies.isEmpty()) {
+            return;
+        }
+        log.info("유효 기간이 지난 {}개 통화의 환율을 갱신합니다: {}", dueCurrencies.size(), dueCurrencies);
+        exchangeRateScheduler.refreshRates(dueCurrencies);
+    }
+
+    Set<Currency> collectDueCurrencies(final Instant now) {
+        final ExchangeRateTable table = exchangeRateCache.getExchangeRateTable();
+        final Set<Currency> currentHotCurrencies = currentHotCurrencies();
+
+        final Set<Currency> dueCurrencies = Stream.of(CURRENCIES)
+                .filter(currency -> currency != table.getBaseCurrency())
+                .filter(currency -> isDue(table, currency, currentHotCurrencies, now))
+                .sorted(Comparator.comparingLong((Currency currency) -> usageCounts.get(currency.ordinal())).reversed())
+                .limit(maxCurrenciesPerTick)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(Currency.class)));
+
+        dueCurrencies.forEach(currency -> pendingRefreshes.set(currency.ordinal(), 0));
+        return dueCurrencies;
+    }
+
+    private boolean isDue(
+            final ExchangeRateTable table,
+            final Currency currency,
+            final Set<Currency> currentHotCurrencies,
+            final Instant now
+    ) {
+        if (currentHotCurrencies.contains(currency)) {
+            return isStale(table, currency, hotStalenessBudget, now);
+        }
+        return pendingRefreshes.get(currency.ordinal()) == 1 && isStale(table, currency, coldStalenessBudget, now);
+    }
+
+    private Set<Currency> currentHotCurrencies() {
+        final Set<Currency> currentHotCurrencies = EnumSet.copyOf(hotCurrencies);
+        Stream.of(CURRENCIES)
+                .filter(currency -> usageCounts.get(currency.ordinal()) > 0)
+                .sorted(Comparator.comparingLong((Currency currency) -> usageCounts.get(currency.ordinal())).reversed())
+                .limit(hotUsageRank)
+                .forEach(currentHotCurrencies::add);
+        return currentHotCurrencies;
+    }
+
+    private boolean isStale(final ExchangeRateTable table, final Currency currency, final Duration budget, final Instant now) {
+        return table.getRateFetchedAt(currency)
+                .map(fetchedAt -> fetchedAt.plus(jittered(budget, currency)).isBefore(now))
+                .orElse(true);
+    }
+
+    /**
+     * 통화마다 고정된 비율(황금비 수열)만큼 유효 기간을 줄여, 같은 시각에 가져온 통화들도 서로 다른 시각에 만료되게 한다.
+     */
+    private Duration jittered(final Duration budget, final Currency currency) {
+        final double spread = (currency.ordinal() * GOLDEN_RATIO_CONJUGATE) % 1.0;
+        return Duration.ofMillis((long) (budget.toMillis() * (1.0 - jitterRatio * spread)));
+    }
+
+    /**
+     * 최근 사용량이 더 큰 비중을 갖도록 주기마다 사용량을 약 6%씩 줄인다.
+     */
+    private void decayUsageCounts() {
+        for (int i = 0; i < CURRENCIES.length; i++) {
+            usageCounts.getAndUpdate(i, count -> (count * 15) >> 4);
+        }
+    }
+}
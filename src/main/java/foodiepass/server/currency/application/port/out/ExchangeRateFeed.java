@@ -0,0 +1,15 @@
+package foodiepass.server.currency.application.port.out;
+
+import foodiepass.server.currency.domain.Currency;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * 한 번의 요청으로 기준 통화에 대한 전체 환율표를 가져오는 피드.
+ * 피드에 없는 통화는 통화쌍 단위의 ExchangeRateProvider로 보충한다.
+ */
+public interface ExchangeRateFeed {
+
+    Mono<Map<Currency, Double>> fetchBaseRates(Currency baseCurrency);
+}
@@ -0,0 +1,17 @@
+package foodiepass.server.currency.application.port.out;
+
+import foodiepass.server.currency.domain.ExchangeRateTable;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+public interface ExchangeRateSnapshotRepository {
+
+    void save(ExchangeRateTable exchangeRateTable);
+
+    Optional<ExchangeRateTable> findLatest();
+
+    Optional<ExchangeRateTable> findByVersion(long version);
+
+    OptionalLong findLatestVersion();
+}
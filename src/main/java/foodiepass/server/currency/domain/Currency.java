@@ -5,7 +5,6 @@ import lombok.Getter;
 import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
-import java.text.NumberFormat;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
@@ -16,7 +15,6 @@ import java.util.stream.Stream;
 
 import static foodiepass.server.currency.exception.CurrencyErrorCode.CURRENCY_NOT_FOUND;
 import static foodiepass.server.currency.exception.CurrencyErrorCode.INVALID_CURRENCY_INPUT;
-import static foodiepass.server.currency.exception.CurrencyErrorCode.UNSUPPORTED_CURRENCY_CODE;
 
 @Getter
 public enum Currency {
@@ -227,12 +225,6 @@ public enum Currency {
     }
 
     public String format(BigDecimal amount) {
-        NumberFormat numberFormat = NumberFormat.getCurrencyInstance();
-        try {
-            numberFormat.setCurrency(java.util.Currency.getInstance(this.currencyCode));
-        } catch (IllegalArgumentException e) {
-            throw new CurrencyException(UNSUPPORTED_CURRENCY_CODE);
-        }
-        return numberFormat.format(amount);
+        return CurrencyFormatTable.format(this, amount);
     }
 }
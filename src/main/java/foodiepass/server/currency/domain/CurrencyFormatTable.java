@@ -0,0 +1,185 @@
+package foodiepass.server.currency.domain;
+
+import foodiepass.server.currency.exception.CurrencyException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+import static foodiepass.server.currency.exception.CurrencyErrorCode.UNSUPPORTED_CURRENCY_CODE;
+
+/**
+ * 통화별 금액 표기 규칙(기호, 소수 자릿수, 자릿수 구분)을 기동 시 한 번만 계산해 두는 표.
+ * {@link NumberFormat#getCurrencyInstance()}와 같은 결과를 만들지만, 호출마다 로케일 데이터를 복제하지 않고
+ * 불변 규칙으로 숫자를 직접 써 내려가므로 여러 스레드에서 동기화 없이 사용할 수 있다.
+ */
+public final class CurrencyFormatTable {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L,
+            100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L,
+            1_000_000_000_000_000_000L
+    };
+    private static final int MAX_COMPACT_DIGITS = 18;
+    private static final CurrencyFormat[] FORMATS = createFormats(Locale.getDefault(Locale.Category.FORMAT));
+
+    private CurrencyFormatTable() {
+    }
+
+    public static String format(final Currency currency, final BigDecimal amount) {
+        final StringBuilder builder = new StringBuilder(24);
+        formatTo(builder, currency, amount);
+        return builder.toString();
+    }
+
+    /**
+     * 호출자가 재사용하는 {@link StringBuilder}에 금액을 이어 쓴다.
+     */
+    public static void formatTo(final StringBuilder builder, final Currency currency, final BigDecimal amount) {
+        final CurrencyFormat format = FORMATS[currency.ordinal()];
+        if (format == null) {
+            throw new CurrencyException(UNSUPPORTED_CURRENCY_CODE);
+        }
+        format.formatTo(builder, amount);
+    }
+
+    /**
+     * 최소 단위 정수 금액({@code unscaled} × 10<sup>-scale</sup>)을 {@link BigDecimal} 없이 포맷한다.
+     */
+    public static String format(final Currency currency, final long unscaled, final int scale) {
+        final StringBuilder builder = new StringBuilder(24);
+        formatTo(builder, currency, unscaled, scale);
+        return builder.toString();
+    }
+
+    public static void formatTo(final StringBuilder builder, final Currency currency, final long unscaled,
+                                final int scale) {
+        final CurrencyFormat format = FORMATS[currency.ordinal()];
+        if (format == null) {
+            throw new CurrencyException(UNSUPPORTED_CURRENCY_CODE);
+        }
+        format.formatTo(builder, unscaled, scale);
+    }
+
+    private static CurrencyFormat[] createFormats(final Locale locale) {
+        final CurrencyFormat[] formats = new CurrencyFormat[CURRENCIES.length];
+        for (Currency currency : CURRENCIES) {
+            formats[currency.ordinal()] = CurrencyFormat.create(currency, locale);
+        }
+        return formats;
+    }
+
+    private record CurrencyFormat(
+            DecimalFormat prototype,
+            String positivePrefix,
+            String positiveSuffix,
+            String negativePrefix,
+            String negativeSuffix,
+            int minimumFractionDigits,
+            int maximumFractionDigits,
+            int groupingSize,
+            char groupingSeparator,
+            char decimalSeparator
+    ) {
+
+        static CurrencyFormat create(final Currency currency, final Locale locale) {
+            final java.util.Currency javaCurrency;
+            try {
+                javaCurrency = java.util.Currency.getInstance(currency.getCurrencyCode());
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+
+            final NumberFormat numberFormat = NumberFormat.getCurrencyInstance(locale);
+            numberFormat.setCurrency(javaCurrency);
+            if (!(numberFormat instanceof DecimalFormat decimalFormat)) {
+                return null;
+            }
+
+            final DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+            return new CurrencyFormat(
+                    decimalFormat,
+                    decimalFormat.getPositivePrefix(),
+                    decimalFormat.getPositiveSuffix(),
+                    decimalFormat.getNegativePrefix(),
+                    decimalFormat.getNegativeSuffix(),
+                    decimalFormat.getMinimumFractionDigits(),
+                    decimalFormat.getMaximumFractionDigits(),
+                    decimalFormat.isGroupingUsed() ? decimalFormat.getGroupingSize() : 0,
+                    symbols.getMonetaryGroupingSeparator(),
+                    symbols.getMonetaryDecimalSeparator()
+            );
+        }
+
+        void formatTo(final StringBuilder builder, final BigDecimal amount) {
+            final BigDecimal rounded = amount.setScale(maximumFractionDigits, RoundingMode.HALF_EVEN);
+            if (rounded.precision() > MAX_COMPACT_DIGITS) {
+                builder.append(((DecimalFormat) prototype.clone()).format(amount));
+                return;
+            }
+
+            final long unscaled = rounded.unscaledValue().longValue();
+            appendDigits(builder, amount.signum() < 0, Math.abs(unscaled));
+        }
+
+        void formatTo(final StringBuilder builder, final long unscaled, final int scale) {
+            if (scale != maximumFractionDigits || unscaled == Long.MIN_VALUE) {
+                formatTo(builder, BigDecimal.valueOf(unscaled, scale));
+                return;
+            }
+            appendDigits(builder, unscaled < 0, Math.abs(unscaled));
+        }
+
+        private void appendDigits(final StringBuilder builder, final boolean negative, final long absolute) {
+            final long divisor = POWERS_OF_TEN[maximumFractionDigits];
+
+            builder.append(negative ? negativePrefix : positivePrefix);
+            appendIntegerPart(builder, absolute / divisor);
+
+            int fractionDigits = maximumFractionDigits;
+            long fraction = absolute % divisor;
+            while (fractionDigits > minimumFractionDigits && fraction % 10 == 0) {
+                fraction /= 10;
+                fractionDigits--;
+            }
+            if (fractionDigits > 0) {
+                builder.append(decimalSeparator);
+                appendZeroPadded(builder, fraction, fractionDigits);
+            }
+            builder.append(negative ? negativeSuffix : positiveSuffix);
+        }
+
+        private void appendIntegerPart(final StringBuilder builder, final long integerPart) {
+            final int digitCount = digitCount(integerPart);
+            long divisor = POWERS_OF_TEN[digitCount - 1];
+            for (int remaining = digitCount; remaining > 0; remaining--) {
+                builder.append((char) ('0' + (integerPart / divisor) % 10));
+                if (groupingSize > 0 && remaining > 1 && (remaining - 1) % groupingSize == 0) {
+                    builder.append(groupingSeparator);
+                }
+                divisor /= 10;
+            }
+        }
+
+        private static void appendZeroPadded(final StringBuilder builder, final long value, final int width) {
+            long divisor = POWERS_OF_TEN[width - 1];
+            for (int i = 0; i < width; i++) {
+                builder.append((char) ('0' + (value / divisor) % 10));
+                divisor /= 10;
+            }
+        }
+
+        private static int digitCount(final long value) {
+            int count = 1;
+            while (count < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[count]) {
+                count++;
+            }
+            return count;
+        }
+    }
+}
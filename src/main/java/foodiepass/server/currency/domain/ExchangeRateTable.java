@@ -0,0 +1,200 @@
+package foodiepass.server.currency.domain;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 한 번의 갱신으로 만들어진 환율 스냅샷.
+ * 모든 교차 환율을 {@link Currency#ordinal()} 기반의 {@code double[]} 행렬에 미리 계산해 두므로
+ * 조회 시 문자열 키 생성이나 박싱 없이 배열 인덱싱만으로 환율을 얻을 수 있다.
+ * 생성 이후에는 변경되지 않으므로 여러 스레드에서 안전하게 공유할 수 있다.
+ * 버전은 환율을 가져온 시각(epoch millis)이며, 스냅샷 저장소와 노드 간 동기화의 기준이 된다.
+ * 일부 통화만 갱신할 수 있으므로 통화별로 환율을 가져온 시각도 함께 보관한다.
+ */
+public final class ExchangeRateTable {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final int SIZE = CURRENCIES.length;
+    private static final long UNKNOWN_FETCHED_AT = 0L;
+    private static final ExchangeRateTable EMPTY = new ExchangeRateTable(null, null, unknownRates(), new long[SIZE]);
+
+    private final Currency baseCurrency;
+    private final Instant fetchedAt;
+    private final double[] baseRates;
+    private final long[] rateFetchedAtMillis;
+    private final double[] crossRates;
+    private final int availableCount;
+
+    private ExchangeRateTable(
+            final Currency baseCurrency,
+            final Instant fetchedAt,
+            final double[] baseRates,
+            final long[] rateFetchedAtMillis
+    ) {
+        this.baseCurrency = baseCurrency;
+        this.fetchedAt = fetchedAt;
+        this.baseRates = baseRates;
+        this.rateFetchedAtMillis = rateFetchedAtMillis;
+        this.crossRates = calculateCrossRates(baseRates);
+        this.availableCount = countAvailable(baseCurrency, baseRates);
+    }
+
+    public static ExchangeRateTable empty() {
+        return EMPTY;
+    }
+
+    public static ExchangeRateTable fromBaseRates(
+            final Currency baseCurrency,
+            final Map<Currency, Double> rates,
+            final Instant fetchedAt
+    ) {
+        return EMPTY.refresh(baseCurrency, rates, fetchedAt);
+    }
+
+    /**
+     * 저장된 스냅샷을 복원한다. 통화별 조회 시각이 없는 통화는 스냅샷의 조회 시각을 사용한다.
+     */
+    public static ExchangeRateTable restore(
+            final Currency baseCurrency,
+            final Map<Currency, Double> rates,
+            final Map<Currency, Instant> rateFetchedAts,
+            final Instant fetchedAt
+    ) {
+        Objects.requireNonNull(baseCurrency);
+        Objects.requireNonNull(fetchedAt);
+
+        final double[] restoredRates = unknownRates();
+        final long[] restoredFetchedAts = new long[SIZE];
+        restoredRates[baseCurrency.ordinal()] = 1.0;
+        restoredFetchedAts[baseCurrency.ordinal()] = fetchedAt.toEpochMilli();
+        rates.forEach((currency, rate) -> {
+            if (isValidRate(rate)) {
+                restoredRates[currency.ordinal()] = rate;
+                restoredFetchedAts[currency.ordinal()] = rateFetchedAts.getOrDefault(currency, fetchedAt).toEpochMilli();
+            }
+        });
+        return new ExchangeRateTable(baseCurrency, fetchedAt, restoredRates, restoredFetchedAts);
+    }
+
+    /**
+     * 새로 가져온 기준 환율로 갱신된 스냅샷을 만든다.
+     * 이번 갱신에서 가져오지 못한 통화는 기준 통화가 같을 때에 한해 이전 환율을 유지한다.
+     */
+    public ExchangeRateTable refresh(
+            final Currency baseCurrency,
+            final Map<Currency, Double> freshRates,
+            final Instant fetchedAt
+    ) {
+        Objects.requireNonNull(baseCurrency);
+        Objects.requireNonNull(fetchedAt);
+
+        final boolean sameBase = baseCurrency.equals(this.baseCurrency);
+        final double[] rates = sameBase ? baseRates.clone() : unknownRates();
+        final long[] fetchedAts = sameBase ? rateFetchedAtMillis.clone() : new long[SIZE];
+        final long fetchedAtMillis = fetchedAt.toEpochMilli();
+
+        rates[baseCurrency.ordinal()] = 1.0;
+        fetchedAts[baseCurrency.ordinal()] = fetchedAtMillis;
+        freshRates.forEach((currency, rate) -> {
+            if (isValidRate(rate)) {
+                rates[currency.ordinal()] = rate;
+                fetchedAts[currency.ordinal()] = fetchedAtMillis;
+            }
+        });
+        return new ExchangeRateTable(baseCurrency, fetchedAt, rates, fetchedAts);
+    }
+
+    /**
+     * @return {@code from} 1단위를 {@code to}로 환산한 환율. 환율 정보가 없으면 {@link Double#NaN}
+     */
+    public double getRate(final Currency from, final Currency to) {
+        return crossRates[from.ordinal() * SIZE + to.ordinal()];
+    }
+
+    public boolean hasRate(final Currency from, final Currency to) {
+        return !Double.isNaN(getRate(from, to));
+    }
+
+    public Currency getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    public Instant getFetchedAt() {
+        return fetchedAt;
+    }
+
+    /**
+     * @return 해당 통화의 기준 환율을 마지막으로 가져온 시각. 환율 정보가 없으면 빈 값
+     */
+    public Optional<Instant> getRateFetchedAt(final Currency currency) {
+        final long millis = rateFetchedAtMillis[currency.ordinal()];
+        return millis == UNKNOWN_FETCHED_AT ? Optional.empty() : Optional.of(Instant.ofEpochMilli(millis));
+    }
+
+    /**
+     * @return 스냅샷 버전. 아직 한 번도 갱신되지 않은 빈 스냅샷은 0
+     */
+    public long getVersion() {
+        return fetchedAt == null ? 0L : fetchedAt.toEpochMilli();
+    }
+
+    /**
+     * @return 기준 통화 1단위당 각 통화의 환율. 기준 통화 자신과 환율 정보가 없는 통화는 제외한다.
+     */
+    public Map<Currency, Double> toBaseRates() {
+        final Map<Currency, Double> rates = new EnumMap<>(Currency.class);
+        for (Currency currency : CURRENCIES) {
+            final double rate = baseRates[currency.ordinal()];
+            if (!Double.isNaN(rate) && currency != baseCurrency) {
+                rates.put(currency, rate);
+            }
+        }
+        return rates;
+    }
+
+    /**
+     * @return 기준 통화를 제외하고 환율 정보가 있는 통화의 수
+     */
+    public int size() {
+        return availableCount;
+    }
+
+    public boolean isEmpty() {
+        return availableCount == 0;
+    }
+
+    private static double[] calculateCrossRates(final double[] baseRates) {
+        final double[] crossRates = new double[SIZE * SIZE];
+        for (int from = 0; from < SIZE; from++) {
+            final int row = from * SIZE;
+            for (int to = 0; to < SIZE; to++) {
+                crossRates[row + to] = (from == to) ? 1.0 : baseRates[to] / baseRates[from];
+            }
+        }
+        return crossRates;
+    }
+
+    private static int countAvailable(final Currency baseCurrency, final double[] baseRates) {
+        int count = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (!Double.isNaN(baseRates[i]) && (baseCurrency == null || i != baseCurrency.ordinal())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static double[] unknownRates() {
+        final double[] rates = new double[SIZE];
+        Arrays.fill(rates, Double.NaN);
+        return rates;
+    }
+
+    private static boolean isValidRate(final Double rate) {
+        return rate != null && Double.isFinite(rate) && rate > 0;
+    }
+}
@@ -0,0 +1,11 @@
+package foodiepass.server.currency.dto.request;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record ConvertBatchRequest(
+        String originCurrency,
+        List<BigDecimal> amounts,
+        List<String> userCurrencies
+) {
+}
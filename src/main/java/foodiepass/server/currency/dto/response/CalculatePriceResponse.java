@@ -1,6 +1,7 @@
 package foodiepass.server.currency.dto.response;
 
-import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.common.price.domain.Price;
+
 import java.math.BigDecimal;
 
 import static java.math.RoundingMode.*;
@@ -13,24 +14,17 @@ public record CalculatePriceResponse(
             BigDecimal value,
             String currencyCode,
             String formatted
-    ) {}
-
-    public static CalculatePriceResponse of(
-            Currency originCurrency, BigDecimal originTotal,
-            Currency userCurrency, BigDecimal userTotal) {
-
-        FormattedPrice originPrice = new FormattedPrice(
-                originTotal.setScale(2, HALF_UP),
-                originCurrency.getCurrencyCode(),
-                originCurrency.format(originTotal)
-        );
-
-        FormattedPrice userPrice = new FormattedPrice(
-                userTotal.setScale(2, HALF_UP),
-                userCurrency.getCurrencyCode(),
-                userCurrency.format(userTotal)
-        );
+    ) {
+        public static FormattedPrice from(final Price price) {
+            return new FormattedPrice(
+                    price.getAmount().setScale(2, HALF_UP),
+                    price.getCurrency().getCurrencyCode(),
+                    price.format()
+            );
+        }
+    }
 
-        return new CalculatePriceResponse(originPrice, userPrice);
+    public static CalculatePriceResponse of(final Price originTotal, final Price userTotal) {
+        return new CalculatePriceResponse(FormattedPrice.from(originTotal), FormattedPrice.from(userTotal));
     }
 }
@@ -0,0 +1,20 @@
+package foodiepass.server.currency.dto.response;
+
+import foodiepass.server.currency.dto.response.CalculatePriceResponse.FormattedPrice;
+
+import java.util.List;
+
+/**
+ * 요청한 금액 N개를 대상 통화 M개로 환산한 N×M 표.
+ * {@code conversions}의 각 행은 대상 통화 하나이며, 행의 {@code prices}는 {@code originPrices}와 같은 순서다.
+ */
+public record ConvertBatchResponse(
+        List<FormattedPrice> originPrices,
+        List<TargetConversion> conversions
+) {
+    public record TargetConversion(
+            String currencyCode,
+            List<FormattedPrice> prices
+    ) {
+    }
+}
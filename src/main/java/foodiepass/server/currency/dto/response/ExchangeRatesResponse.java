@@ -0,0 +1,13 @@
+package foodiepass.server.currency.dto.response;
+
+import java.util.Map;
+
+/**
+ * 기준 통화 1단위당 각 통화의 환율. 키는 ISO 4217 통화 코드이며, 환율 정보가 없는 통화는 포함하지 않는다.
+ */
+public record ExchangeRatesResponse(
+        String base,
+        long version,
+        Map<String, Double> rates
+) {
+}
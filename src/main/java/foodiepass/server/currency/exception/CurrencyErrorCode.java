@@ -12,6 +12,7 @@ public enum CurrencyErrorCode implements ErrorCode {
     CURRENCY_NOT_FOUND(HttpStatus.NOT_FOUND, "유효하지 않은 통화입니다."),
     INVALID_CURRENCY_INPUT(HttpStatus.BAD_REQUEST, "통화 이름 또는 코드는 비어있을 수 없습니다."),
     UNSUPPORTED_CURRENCY_CODE(HttpStatus.INTERNAL_SERVER_ERROR, "자바 라이브러리에서 지원하지 않는 통화 코드입니다."),
+    INVALID_BATCH_SIZE(HttpStatus.BAD_REQUEST, "일괄 환산은 금액 1~200개, 대상 통화 1~20개까지 요청할 수 있습니다."),
 
     EXCHANGE_RATE_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "환율 정보를 찾을 수 없습니다."),
     ;
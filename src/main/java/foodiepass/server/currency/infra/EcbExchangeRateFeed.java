@@ -0,0 +1,119 @@
+package foodiepass.server.currency.infra;
+
+import foodiepass.server.currency.application.port.out.ExchangeRateFeed;
+import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.currency.exception.CurrencyException;
+import foodiepass.server.menu.infra.exception.ScrapingErrorCode;
+import foodiepass.server.menu.infra.exception.ScrapingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * ECB 일일 환율 XML(EUR 기준)을 StAX로 읽어 요청한 기준 통화의 환율표로 변환한다.
+ * {@code exchange-rate.feed.type=ecb}일 때만 활성화된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "exchange-rate.feed.type", havingValue = "ecb")
+public class EcbExchangeRateFeed implements ExchangeRateFeed {
+
+    private static final String CUBE_ELEMENT = "Cube";
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private final WebClient webClient;
+    private final String feedUrl;
+
+    public EcbExchangeRateFeed(
+            final WebClient.Builder webClientBuilder,
+            @Value("${exchange-rate.feed.ecb.url:https://www.ecb.europa.eu/stats/eurofxref/eurofxref-daily.xml}") final String feedUrl) {
+        this.webClient = webClientBuilder.build();
+        this.feedUrl = feedUrl;
+    }
+
+    @Override
+    public Mono<Map<Currency, Double>> fetchBaseRates(final Currency baseCurrency) {
+        return DataBufferUtils.join(webClient.get()
+                        .uri(feedUrl)
+                        .retrieve()
+                        .bodyToFlux(DataBuffer.class))
+                .map(this::parseEuroRates)
+                .map(euroRates -> rebase(euroRates, baseCurrency))
+                .onErrorMap(e -> !(e instanceof ScrapingException), e -> new ScrapingException(ScrapingErrorCode.RATE_FEED_FETCH_FAILED));
+    }
+
+    private Map<Currency, Double> parseEuroRates(final DataBuffer dataBuffer) {
+        final Map<Currency, Double> euroRates = new EnumMap<>(Currency.class);
+        euroRates.put(Currency.EURO, 1.0);
+
+        try (InputStream inputStream = dataBuffer.asInputStream(true)) {
+            final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == START_ELEMENT && CUBE_ELEMENT.equals(reader.getLocalName())) {
+                        readRate(reader).ifPresent(rate -> euroRates.put(rate.getKey(), rate.getValue()));
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IOException e) {
+            throw new ScrapingException(ScrapingErrorCode.RATE_FEED_PARSING_FAILED);
+        }
+        return euroRates;
+    }
+
+    private Optional<Map.Entry<Currency, Double>> readRate(final XMLStreamReader reader) {
+        final String currencyCode = reader.getAttributeValue(null, "currency");
+        final String rate = reader.getAttributeValue(null, "rate");
+        if (currencyCode == null || rate == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Map.entry(Currency.fromCurrencyCode(currencyCode), Double.parseDouble(rate)));
+        } catch (CurrencyException | NumberFormatException e) {
+            log.debug("ECB 환율 피드의 항목을 건너뜁니다: currency={}, rate={}", currencyCode, rate);
+            return Optional.empty();
+        }
+    }
+
+    private Map<Currency, Double> rebase(final Map<Currency, Double> euroRates, final Currency baseCurrency) {
+        final Double baseRate = euroRates.get(baseCurrency);
+        final Map<Currency, Double> baseRates = new EnumMap<>(Currency.class);
+        if (baseRate == null || baseRate <= 0) {
+            log.warn("ECB 환율 피드에 기준 통화 {}의 환율이 없습니다.", baseCurrency.getCurrencyCode());
+            return baseRates;
+        }
+
+        euroRates.forEach((currency, rate) -> {
+            if (currency != baseCurrency) {
+                baseRates.put(currency, rate / baseRate);
+            }
+        });
+        return baseRates;
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,110 @@
+package foodiepass.server.currency.infra;
+
+import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.menu.infra.exception.ScrapingErrorCode;
+import foodiepass.server.menu.infra.exception.ScrapingException;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공유 Reactor Netty 커넥션 풀로 Google Finance 페이지를 가져와 환율을 추출한다.
+ * 풀 크기로 동시 요청 수를 제한하고, 호스트별 최소 요청 간격을 두며, 본문을 스트리밍으로 읽어 DOM을 만들지 않는다.
+ */
+@Slf4j
+@Component
+public class GoogleFinanceRateFetcher {
+
+    private final String googleFinanceUrlFormat;
+    private final StreamingRateExtractor.Selector exchangeRateSelector;
+    private final long minRequestIntervalNanos;
+    private final ConnectionProvider connectionProvider;
+    private final HttpClient httpClient;
+    private final ConcurrentMap<String, AtomicLong> nextRequestSlots = new ConcurrentHashMap<>();
+
+    public GoogleFinanceRateFetcher(
+            @Value("${jsoup.google-finance.url-format}") final String googleFinanceUrlFormat,
+            @Value("${jsoup.google-finance.selector}") final String exchangeRateSelector,
+            @Value("${jsoup.google-finance.max-connections:8}") final int maxConnections,
+            @Value("${jsoup.google-finance.min-request-interval:PT0.05S}") final Duration minRequestInterval,
+            @Value("${jsoup.google-finance.response-timeout:PT5S}") final Duration responseTimeout) {
+        this.googleFinanceUrlFormat = googleFinanceUrlFormat;
+        this.exchangeRateSelector = StreamingRateExtractor.Selector.parse(exchangeRateSelector);
+        this.minRequestIntervalNanos = minRequestInterval.toNanos();
+        this.connectionProvider = ConnectionProvider.builder("google-finance")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(-1)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        this.httpClient = HttpClient.create(connectionProvider)
+                .compress(true)
+                .followRedirect(true)
+                .keepAlive(true)
+                .responseTimeout(responseTimeout);
+    }
+
+    public Mono<Double> fetchRate(final Currency from, final Currency to) {
+        final String url = String.format(googleFinanceUrlFormat, from.getCurrencyCode(), to.getCurrencyCode());
+
+        return Mono.defer(() -> Mono.delay(reserveRequestSlot(URI.create(url).getHost())))
+                .then(httpClient.get()
+                        .uri(url)
+                        .response((response, body) -> {
+                            if (!HttpResponseStatus.OK.equals(response.status())) {
+                                return body.then(Mono.<String>error(new ScrapingException(ScrapingErrorCode.SCRAPING_CONNECTION_FAILED)));
+                            }
+
+                            final StreamingRateExtractor extractor = new StreamingRateExtractor(exchangeRateSelector);
+                            return body.asString(StandardCharsets.ISO_8859_1)
+                                    .doOnNext(extractor::feed)
+                                    .then(Mono.fromCallable(() -> extractor.result()
+                                            .orElseThrow(() -> new ScrapingException(ScrapingErrorCode.RATE_ELEMENT_NOT_FOUND))));
+                        })
+                        .next())
+                .switchIfEmpty(Mono.error(new ScrapingException(ScrapingErrorCode.RATE_ELEMENT_NOT_FOUND)))
+                .map(this::parseRate)
+                .onErrorMap(e -> !(e instanceof ScrapingException), e -> {
+                    log.debug("환율 페이지 요청 실패: {} -> {}", from.getCurrencyCode(), to.getCurrencyCode(), e);
+                    return new ScrapingException(ScrapingErrorCode.SCRAPING_CONNECTION_FAILED);
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.dispose();
+    }
+
+    private double parseRate(final String exchangeRateText) {
+        try {
+            return Double.parseDouble(exchangeRateText.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new ScrapingException(ScrapingErrorCode.RATE_PARSING_FAILED);
+        }
+    }
+
+    /**
+     * 같은 호스트로 나가는 요청의 시작 시각을 최소 간격만큼 벌려 두고, 이번 요청이 기다려야 할 시간을 돌려준다.
+     */
+    private Duration reserveRequestSlot(final String host) {
+        if (minRequestIntervalNanos <= 0) {
+            return Duration.ZERO;
+        }
+
+        final long now = System.nanoTime();
+        final AtomicLong nextSlot = nextRequestSlots.computeIfAbsent(host, ignored -> new AtomicLong(now));
+        final long reserved = nextSlot.getAndUpdate(slot -> Math.max(slot, now) + minRequestIntervalNanos);
+        return Duration.ofNanos(Math.max(0, Math.max(reserved, now) - now));
+    }
+}
@@ -1,72 +1,70 @@
 package foodiepass.server.currency.infra;
 
 import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.global.resilience.ReactiveCircuitBreaker;
 import foodiepass.server.menu.application.port.out.ExchangeRateProvider;
 import foodiepass.server.menu.infra.exception.ScrapingErrorCode;
 import foodiepass.server.menu.infra.exception.ScrapingException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
-import java.io.IOException;
+import java.time.Duration;
 
+/**
+ * 환율 캐시는 {@link foodiepass.server.currency.application.ExchangeRateCache}가 스냅샷 단위로 맡으므로 여기서는 따로 캐시하지 않는다.
+ * 동기 조회는 {@code sync-timeout}까지만 기다린다. 요청 간격 대기, 커넥션 풀 대기와 연결 시간이 응답 제한 시간 앞에 붙으므로 그보다 넉넉하게 잡는다.
+ * 비동기 조회는 애노테이션이 Mono를 만드는 호출만 감싸므로 서킷 브레이커를 구독 단위로 직접 적용한다.
+ */
 @Slf4j
 @Component
 public class GoogleFinanceRateProvider implements ExchangeRateProvider {
 
-    private final String googleFinanceUrlFormat;
-    private final String exchangeRateSelector;
+    private static final String CIRCUIT_BREAKER_NAME = "exchangeRate";
+
+    private final GoogleFinanceRateFetcher rateFetcher;
+    private final io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker;
+    private final Duration syncTimeout;
 
     public GoogleFinanceRateProvider(
-            @Value("${jsoup.google-finance.url-format}") final String googleFinanceUrlFormat,
-            @Value("${jsoup.google-finance.selector}") final String exchangeRateSelector) {
-        this.googleFinanceUrlFormat = googleFinanceUrlFormat;
-        this.exchangeRateSelector = exchangeRateSelector;
+            final GoogleFinanceRateFetcher rateFetcher,
+            final CircuitBreakerRegistry circuitBreakerRegistry,
+            @Value("${jsoup.google-finance.sync-timeout:PT30S}") final Duration syncTimeout
+    ) {
+        this.rateFetcher = rateFetcher;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        this.syncTimeout = syncTimeout;
     }
 
     @Override
-    @Cacheable(value = "exchangeRates", key = "#from.currencyCode + '::' + #to.currencyCode")
-    @CircuitBreaker(name = "exchangeRate", fallbackMethod = "fallbackGetExchangeRate")
+    @CircuitBreaker(name = CIRCUIT_BREAKER_NAME, fallbackMethod = "fallbackGetExchangeRate")
     public double getExchangeRate(final Currency from, final Currency to) {
         if (from.equals(to)) {
             return 1.0;
         }
-
-        final String url = String.format(googleFinanceUrlFormat, from.getCurrencyCode(), to.getCurrencyCode());
-        try {
-            final Document doc = Jsoup.connect(url).get();
-            final Element exchangeRateElement = doc.selectFirst(exchangeRateSelector);
-
-            if (exchangeRateElement == null) {
-                throw new ScrapingException(ScrapingErrorCode.RATE_ELEMENT_NOT_FOUND);
-            }
-
-            final String exchangeRateString = exchangeRateElement.text().replaceAll(",", "");
-            return Double.parseDouble(exchangeRateString);
-
-        } catch (IOException e) {
-            throw new ScrapingException(ScrapingErrorCode.SCRAPING_CONNECTION_FAILED);
-        } catch (NumberFormatException e) {
-            throw new ScrapingException(ScrapingErrorCode.RATE_PARSING_FAILED);
-        }
+        return rateFetcher.fetchRate(from, to).block(syncTimeout);
     }
 
     @Override
-    @Cacheable(value = "exchangeRatesAsync", key = "#from.currencyCode + '::' + #to.currencyCode")
     public Mono<Double> getExchangeRateAsync(final Currency from, final Currency to) {
-        return Mono.fromCallable(() -> getExchangeRate(from, to))
-                .subscribeOn(Schedulers.boundedElastic());
+        if (from.equals(to)) {
+            return Mono.just(1.0);
+        }
+        return rateFetcher.fetchRate(from, to)
+                .transformDeferred(ReactiveCircuitBreaker.of(circuitBreaker))
+                .onErrorResume(t -> fallbackGetExchangeRateAsync(from, to, t));
     }
 
     public double fallbackGetExchangeRate(final Currency from, final Currency to, final Throwable t) {
         log.warn("Circuit Breaker is open for getExchangeRate. from: {}, to: {}. error: {}", from.getCurrencyCode(), to.getCurrencyCode(), t.getMessage());
         throw new ScrapingException(ScrapingErrorCode.EXTERNAL_API_CIRCUIT_OPEN);
     }
+
+    private Mono<Double> fallbackGetExchangeRateAsync(final Currency from, final Currency to, final Throwable t) {
+        log.warn("Circuit Breaker is open for getExchangeRateAsync. from: {}, to: {}. error: {}", from.getCurrencyCode(), to.getCurrencyCode(), t.getMessage());
+        return Mono.error(new ScrapingException(ScrapingErrorCode.EXTERNAL_API_CIRCUIT_OPEN));
+    }
 }
@@ -0,0 +1,165 @@
+package foodiepass.server.currency.infra;
+
+import foodiepass.server.currency.application.port.out.ExchangeRateSnapshotRepository;
+import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.currency.domain.ExchangeRateTable;
+import foodiepass.server.currency.exception.CurrencyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * ShedLock과 같은 {@link DataSource}에 환율 스냅샷을 버전별로 저장한다.
+ * 스냅샷에는 기준 환율(n개)만 저장하고, 교차 환율은 불러올 때 {@link ExchangeRateTable}이 다시 계산한다.
+ * 부분 갱신도 스냅샷을 하나씩 남기므로 개수가 아니라 {@code retention} 기간으로 지우되, 최근 스냅샷 몇 개는 항상 남긴다.
+ */
+@Slf4j
+@Repository
+public class JdbcExchangeRateSnapshotRepository implements ExchangeRateSnapshotRepository {
+
+    private static final int MIN_RETAINED_SNAPSHOT_COUNT = 7;
+
+    private static final String INSERT_SNAPSHOT_SQL =
+            "INSERT INTO exchange_rate_snapshot (version, base_currency, fetched_at) VALUES (?, ?, ?)";
+    private static final String INSERT_RATE_SQL =
+            "INSERT INTO exchange_rate_snapshot_rate (version, currency_code, rate, fetched_at) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_LATEST_VERSION_SQL =
+            "SELECT MAX(version) FROM exchange_rate_snapshot";
+    private static final String SELECT_SNAPSHOT_SQL =
+            "SELECT version, base_currency FROM exchange_rate_snapshot WHERE version = ?";
+    private static final String SELECT_RATES_SQL =
+            "SELECT currency_code, rate, fetched_at FROM exchange_rate_snapshot_rate WHERE version = ?";
+    private static final String SELECT_OLDEST_RETAINED_VERSION_SQL =
+            "SELECT version FROM exchange_rate_snapshot ORDER BY version DESC LIMIT 1 OFFSET ?";
+    private static final String DELETE_OLD_RATES_SQL =
+            "DELETE FROM exchange_rate_snapshot_rate WHERE version < ?";
+    private static final String DELETE_OLD_SNAPSHOTS_SQL =
+            "DELETE FROM exchange_rate_snapshot WHERE version < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+
+    public JdbcExchangeRateSnapshotRepository(
+            final DataSource dataSource,
+            @Value("${exchange-rate.snapshot.retention:P7D}") final Duration retention
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.retention = retention;
+    }
+
+    @Override
+    @Transactional
+    public void save(final ExchangeRateTable exchangeRateTable) {
+        final long version = exchangeRateTable.getVersion();
+
+        jdbcTemplate.update(
+                INSERT_SNAPSHOT_SQL,
+                version,
+                exchangeRateTable.getBaseCurrency().getCurrencyCode(),
+                Timestamp.from(exchangeRateTable.getFetchedAt())
+        );
+
+        final List<Object[]> rateRows = new ArrayList<>();
+        exchangeRateTable.toBaseRates()
+                .forEach((currency, rate) -> rateRows.add(new Object[]{
+                        version,
+                        currency.getCurrencyCode(),
+                        rate,
+                        exchangeRateTable.getRateFetchedAt(currency).map(Timestamp::from).orElse(null)
+                }));
+        jdbcTemplate.batchUpdate(INSERT_RATE_SQL, rateRows);
+
+        deleteExpiredSnapshots();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ExchangeRateTable> findLatest() {
+        final OptionalLong latestVersion = findLatestVersion();
+        if (latestVersion.isEmpty()) {
+            return Optional.empty();
+        }
+        return findByVersion(latestVersion.getAsLong());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ExchangeRateTable> findByVersion(final long version) {
+        return jdbcTemplate.query(SELECT_SNAPSHOT_SQL, (rs, rowNum) ->
+                        new SnapshotHeader(rs.getLong("version"), rs.getString("base_currency")), version)
+                .stream()
+                .findFirst()
+                .map(this::loadTable);
+    }
+
+    /**
+     * 기본 키 인덱스만 읽는 가벼운 조회로, 다른 노드가 새 스냅샷을 저장했는지 주기적으로 확인할 때 사용한다.
+     */
+    @Override
+    public OptionalLong findLatestVersion() {
+        final Long latestVersion = jdbcTemplate.queryForObject(SELECT_LATEST_VERSION_SQL, Long.class);
+        return latestVersion == null ? OptionalLong.empty() : OptionalLong.of(latestVersion);
+    }
+
+    private ExchangeRateTable loadTable(final SnapshotHeader header) {
+        final Map<Currency, Double> rates = new EnumMap<>(Currency.class);
+        final Map<Currency, Instant> rateFetchedAts = new EnumMap<>(Currency.class);
+        jdbcTemplate.query(SELECT_RATES_SQL, rs -> {
+            final Optional<Currency> currency = toCurrency(rs.getString("currency_code"));
+            if (currency.isPresent()) {
+                rates.put(currency.get(), rs.getDouble("rate"));
+                final Timestamp fetchedAt = rs.getTimestamp("fetched_at");
+                if (fetchedAt != null) {
+                    rateFetchedAts.put(currency.get(), fetchedAt.toInstant());
+                }
+            }
+        }, header.version());
+
+        return ExchangeRateTable.restore(
+                Currency.fromCurrencyCode(header.baseCurrencyCode()),
+                rates,
+                rateFetchedAts,
+                Instant.ofEpochMilli(header.version())
+        );
+    }
+
+    private Optional<Currency> toCurrency(final String currencyCode) {
+        try {
+            return Optional.of(Currency.fromCurrencyCode(currencyCode));
+        } catch (CurrencyException e) {
+            log.warn("더 이상 지원하지 않는 통화의 환율 스냅샷은 건너뜁니다: {}", currencyCode);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 버전은 스냅샷을 만든 시각(epoch millis)이므로 보존 기간도 버전으로 비교한다.
+     */
+    private void deleteExpiredSnapshots() {
+        final long expiredBefore = Instant.now().minus(retention).toEpochMilli();
+        jdbcTemplate.queryForList(SELECT_OLDEST_RETAINED_VERSION_SQL, Long.class, MIN_RETAINED_SNAPSHOT_COUNT - 1)
+                .stream()
+                .findFirst()
+                .map(oldestRetainedVersion -> Math.min(oldestRetainedVersion, expiredBefore))
+                .ifPresent(deleteBefore -> {
+                    jdbcTemplate.update(DELETE_OLD_RATES_SQL, deleteBefore);
+                    jdbcTemplate.update(DELETE_OLD_SNAPSHOTS_SQL, deleteBefore);
+                });
+    }
+
+    private record SnapshotHeader(long version, String baseCurrencyCode) {
+    }
+}
@@ -0,0 +1,127 @@
+package foodiepass.server.currency.infra;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 응답 본문을 청크 단위로 받아 선택자에 해당하는 첫 요소의 텍스트를 찾는다.
+ * 문서 전체를 DOM으로 만들지 않고, 아직 닫히지 않은 태그와 텍스트만 버퍼에 남긴다.
+ */
+final class StreamingRateExtractor {
+
+    private static final int MAX_PENDING_LENGTH = 16 * 1024;
+    private static final Pattern CLASS_ATTRIBUTE = Pattern.compile(
+            "\\sclass\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\s\"'>]+))",
+            Pattern.CASE_INSENSITIVE
+    );
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Selector selector;
+    private final StringBuilder pending = new StringBuilder();
+    private boolean insideMatchedElement;
+    private String text;
+
+    StreamingRateExtractor(final Selector selector) {
+        this.selector = selector;
+    }
+
+    void feed(final CharSequence chunk) {
+        if (text != null) {
+            return;
+        }
+        pending.append(chunk);
+        scan();
+    }
+
+    Optional<String> result() {
+        return Optional.ofNullable(text);
+    }
+
+    private void scan() {
+        while (text == null) {
+            final int tagStart = pending.indexOf("<");
+            if (tagStart < 0) {
+                if (!insideMatchedElement || pending.length() > MAX_PENDING_LENGTH) {
+                    pending.setLength(0);
+                }
+                return;
+            }
+
+            if (insideMatchedElement) {
+                final String segment = pending.substring(0, tagStart).trim();
+                if (!segment.isEmpty()) {
+                    text = segment;
+                    pending.setLength(0);
+                    return;
+                }
+            }
+
+            final int tagEnd = pending.indexOf(">", tagStart);
+            if (tagEnd < 0) {
+                pending.delete(0, tagStart);
+                if (pending.length() > MAX_PENDING_LENGTH) {
+                    pending.setLength(0);
+                }
+                return;
+            }
+
+            if (!insideMatchedElement) {
+                insideMatchedElement = selector.matches(pending.substring(tagStart + 1, tagEnd));
+            }
+            pending.delete(0, tagEnd + 1);
+        }
+    }
+
+    /**
+     * {@code div.YMlKec.fxKbKc}처럼 태그 이름과 클래스로만 이루어진 단일 복합 선택자.
+     */
+    record Selector(String tagName, Set<String> classNames) {
+
+        private static final Pattern COMPOUND_SELECTOR = Pattern.compile("([A-Za-z][\\w-]*)?((?:\\.[\\w-]+)*)");
+
+        static Selector parse(final String selector) {
+            final Matcher matcher = COMPOUND_SELECTOR.matcher(selector.trim());
+            if (selector.isBlank() || !matcher.matches()) {
+                throw new IllegalArgumentException("스트리밍 추출은 태그와 클래스로 이루어진 단일 선택자만 지원합니다: " + selector);
+            }
+
+            final Set<String> classNames = Arrays.stream(matcher.group(2).split("\\."))
+                    .filter(className -> !className.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+            return new Selector(matcher.group(1), classNames);
+        }
+
+        boolean matches(final String tag) {
+            if (tag.isEmpty() || tag.charAt(0) == '/' || tag.charAt(0) == '!' || tag.charAt(0) == '?') {
+                return false;
+            }
+            if (tagName != null && !tagName.equalsIgnoreCase(readTagName(tag))) {
+                return false;
+            }
+            if (classNames.isEmpty()) {
+                return true;
+            }
+
+            final Matcher matcher = CLASS_ATTRIBUTE.matcher(tag);
+            if (!matcher.find()) {
+                return false;
+            }
+            final String classValue = matcher.group(1) != null ? matcher.group(1)
+                    : matcher.group(2) != null ? matcher.group(2)
+                    : matcher.group(3);
+            return Arrays.asList(WHITESPACE.split(classValue.trim())).containsAll(classNames);
+        }
+
+        private static String readTagName(final String tag) {
+            int end = 0;
+            while (end < tag.length() && !Character.isWhitespace(tag.charAt(end)) && tag.charAt(end) != '/') {
+                end++;
+            }
+            return tag.substring(0, end);
+        }
+    }
+}
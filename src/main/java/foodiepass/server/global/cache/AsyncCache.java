@@ -0,0 +1,249 @@
+package foodiepass.server.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 비동기 조회 결과를 공유하는 크기 제한 캐시.
+ * 같은 키에 대한 동시 조회는 하나의 로딩을 함께 기다리고, 성공한 값은 {@code ttl} 동안, 실패나 빈 결과는 {@code negativeTtl} 동안만 재사용한다.
+ * 가득 찬 상태에서의 입장 여부는 {@link FrequencyAwareCache}의 빈도 기반 정책을 따른다.
+ * <p>
+ * 만료까지 {@code refreshAhead}보다 적게 남은 값이 조회되면 현재 값을 돌려주면서 뒤에서 다시 로딩한다.
+ * 만료 시각은 최대 {@code jitterRatio}만큼 앞당겨 흩뿌리므로, 함께 로딩된 키들이 한꺼번에 만료되지 않는다.
+ */
+public final class AsyncCache<K, V> {
+
+    private static final String METRIC_PREFIX = "cache";
+    private static final String CACHE_TAG = "cache";
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final FrequencyAwareCache<K, Entry<V>> entries;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final long refreshAheadNanos;
+    private final double jitterRatio;
+    private final LongSupplier ticker;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter sizeEvictionCounter;
+    private final Counter expiryEvictionCounter;
+    private final Counter refreshSuccessCounter;
+    private final Counter refreshFailureCounter;
+
+    AsyncCache(
+            final String name,
+            final int maximumSize,
+            final Duration ttl,
+            final Duration negativeTtl,
+            final Duration refreshAhead,
+            final double jitterRatio,
+            final MeterRegistry meterRegistry,
+            final LongSupplier ticker
+    ) {
+        if (jitterRatio < 0 || jitterRatio >= 1) {
+            throw new IllegalArgumentException("jitterRatio는 0 이상 1 미만이어야 합니다.");
+        }
+        this.entries = new FrequencyAwareCache<>(
+                maximumSize,
+                (key, entry) -> onEviction(entry),
+                entry -> entry.isExpired(ticker.getAsLong())
+        );
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.refreshAheadNanos = refreshAhead.toNanos();
+        this.jitterRatio = jitterRatio;
+        this.ticker = ticker;
+
+        this.hitCounter = counter(meterRegistry, "gets", name, "result", "hit");
+        this.missCounter = counter(meterRegistry, "gets", name, "result", "miss");
+        this.sizeEvictionCounter = counter(meterRegistry, "evictions", name, "cause", "size");
+        this.expiryEvictionCounter = counter(meterRegistry, "evictions", name, "cause", "expired");
+        this.refreshSuccessCounter = counter(meterRegistry, "refreshes", name, "result", "success");
+        this.refreshFailureCounter = counter(meterRegistry, "refreshes", name, "result", "failure");
+        Gauge.builder(METRIC_PREFIX + ".size", entries, FrequencyAwareCache::size)
+                .tag(CACHE_TAG, name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 살아 있는 항목이 있으면 그 결과를, 없으면 {@code loader}가 만든 결과를 돌려준다.
+     * {@code loader}는 잠금 안에서 호출되므로 실제 작업은 구독 시점에 시작되는 {@link Mono}를 만들기만 해야 한다.
+     * 미리 갱신할 때는 잠금을 푼 뒤에 구독하므로 갱신 작업이 다른 조회를 막지 않는다.
+     */
+    public Mono<V> get(final K key, final Function<? super K, ? extends Mono<V>> loader) {
+        return get(key, loader, loader);
+    }
+
+    /**
+     * {@link #get(Object, Function)}과 같지만 미리 갱신할 때는 {@code refresher}로 새 값을 가져온다.
+     * 캐시 앞에 영속 저장소가 있어 {@code loader}가 방금 저장한 값을 다시 읽게 되는 경우에 쓴다.
+     */
+    public Mono<V> get(
+            final K key,
+            final Function<? super K, ? extends Mono<V>> loader,
+            final Function<? super K, ? extends Mono<V>> refresher
+    ) {
+        final Entry<V> refreshTarget;
+        final Mono<V> result;
+        synchronized (entries) {
+            final Entry<V> cached = entries.get(key);
+            final long now = ticker.getAsLong();
+            if (cached != null && !cached.isExpired(now)) {
+                hitCounter.increment();
+                refreshTarget = cached.startRefresh(now) ? cached : null;
+                result = cached.value;
+            } else {
+                if (cached != null) {
+                    expiryEvictionCounter.increment();
+                }
+                missCounter.increment();
+
+                final Entry<V> loaded = new Entry<>(new Expiry(now + ttlNanos, NEVER));
+                loaded.value = loader.apply(key)
+                        .doOnSuccess(value -> loaded.expiry = value == null ? negativeExpiry() : positiveExpiry())
+                        .doOnError(error -> loaded.expiry = negativeExpiry())
+                        .cache();
+                entries.put(key, loaded);
+                refreshTarget = null;
+                result = loaded.value;
+            }
+        }
+        if (refreshTarget != null) {
+            refresh(key, refreshTarget, refresher);
+        }
+        return result;
+    }
+
+    /**
+     * 만료되지 않은 항목이 있는지 본다. 로딩 중인 항목도 있는 것으로 본다. 조회 통계와 접근 빈도에는 반영하지 않는다.
+     */
+    public boolean contains(final K key) {
+        final Entry<V> entry = entries.peek(key);
+        return entry != null && !entry.isExpired(ticker.getAsLong());
+    }
+
+    /**
+     * 이미 알고 있는 값을 성공한 값과 같은 TTL로 넣는다. 캐시 예열에 쓴다.
+     */
+    public void put(final K key, final V value) {
+        final Entry<V> entry = new Entry<>(positiveExpiry());
+        entry.value = Mono.just(value);
+        entries.put(key, entry);
+    }
+
+    public void invalidate(final K key) {
+        entries.invalidate(key);
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(
+                (long) hitCounter.count(),
+                (long) missCounter.count(),
+                (long) (sizeEvictionCounter.count() + expiryEvictionCounter.count())
+        );
+    }
+
+    /**
+     * 새 값을 받으면 같은 항목이 아직 캐시에 있을 때만 교체한다.
+     * 실패하거나 빈 결과면 기존 값을 계속 쓰고, 다음 조회에서 다시 갱신할 수 있게 표시를 푼다.
+     */
+    private void refresh(final K key, final Entry<V> current, final Function<? super K, ? extends Mono<V>> refresher) {
+        Mono.defer(() -> refresher.apply(key)).subscribe(
+                value -> {
+                    final Entry<V> refreshed = new Entry<>(positiveExpiry());
+                    refreshed.value = Mono.just(value);
+                    entries.replace(key, current, refreshed);
+                    refreshSuccessCounter.increment();
+                },
+                error -> {
+                    current.refreshing = false;
+                    refreshFailureCounter.increment();
+                },
+                () -> current.refreshing = false
+        );
+    }
+
+    private Expiry positiveExpiry() {
+        final long expiresAt = ticker.getAsLong() + jitter(ttlNanos);
+        final long refreshAt = refreshAheadNanos > 0 ? expiresAt - refreshAheadNanos : NEVER;
+        return new Expiry(expiresAt, refreshAt);
+    }
+
+    private Expiry negativeExpiry() {
+        return new Expiry(ticker.getAsLong() + jitter(negativeTtlNanos), NEVER);
+    }
+
+    private long jitter(final long nanos) {
+        if (jitterRatio == 0) {
+            return nanos;
+        }
+        return nanos - (long) (nanos * jitterRatio * ThreadLocalRandom.current().nextDouble());
+    }
+
+    private void onEviction(final Entry<V> entry) {
+        if (entry.isExpired(ticker.getAsLong())) {
+            expiryEvictionCounter.increment();
+        } else {
+            sizeEvictionCounter.increment();
+        }
+    }
+
+    private static Counter counter(
+            final MeterRegistry meterRegistry,
+            final String metric,
+            final String name,
+            final String tagKey,
+            final String tagValue
+    ) {
+        return Counter.builder(METRIC_PREFIX + "." + metric)
+                .tag(CACHE_TAG, name)
+                .tag(tagKey, tagValue)
+                .register(meterRegistry);
+    }
+
+    private record Expiry(long expiresAt, long refreshAt) {
+    }
+
+    private static final class Entry<V> {
+
+        private Mono<V> value;
+        private volatile Expiry expiry;
+        private volatile boolean refreshing;
+
+        private Entry(final Expiry expiry) {
+            this.expiry = expiry;
+        }
+
+        private boolean isExpired(final long now) {
+            return now - expiry.expiresAt() >= 0;
+        }
+
+        /**
+         * 갱신할 때가 되었고 아직 갱신 중이 아니면 갱신 중으로 표시한다. 캐시 잠금 안에서 호출한다.
+         */
+        private boolean startRefresh(final long now) {
+            final long refreshAt = expiry.refreshAt();
+            if (refreshing || refreshAt == NEVER || now - refreshAt < 0) {
+                return false;
+            }
+            refreshing = true;
+            return true;
+        }
+    }
+
+    public record CacheStats(long hitCount, long missCount, long evictionCount) {
+
+        public double hitRatio() {
+            final long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package foodiepass.server.global.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 이름별 지표가 같은 {@link MeterRegistry}에 모이도록 {@link AsyncCache}를 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AsyncCacheFactory {
+
+    private final MeterRegistry meterRegistry;
+
+    public <K, V> AsyncCache<K, V> create(
+            final String name,
+            final int maximumSize,
+            final Duration ttl,
+            final Duration negativeTtl
+    ) {
+        return create(name, maximumSize, ttl, negativeTtl, Duration.ZERO, 0.0);
+    }
+
+    /**
+     * @param refreshAhead 만료까지 이만큼 남은 값이 조회되면 뒤에서 다시 로딩한다. 0이면 미리 갱신하지 않는다
+     * @param jitterRatio  만료 시각을 TTL의 최대 이 비율만큼 무작위로 앞당긴다
+     */
+    public <K, V> AsyncCache<K, V> create(
+            final String name,
+            final int maximumSize,
+            final Duration ttl,
+            final Duration negativeTtl,
+            final Duration refreshAhead,
+            final double jitterRatio
+    ) {
+        return new AsyncCache<>(name, maximumSize, ttl, negativeTtl, refreshAhead, jitterRatio, meterRegistry,
+                System::nanoTime);
+    }
+}
@@ -0,0 +1,102 @@
+package foodiepass.server.global.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * 크기가 제한된 LRU 캐시에 빈도 기반 입장 정책을 더한 캐시.
+ * 가득 찬 상태에서 새 키는 가장 오래 쓰이지 않은 항목보다 최근 접근 빈도가 높을 때만 들어온다.
+ * 한 번만 조회되는 값이 자주 쓰이는 값을 밀어내지 않도록 하기 위함이다.
+ * 다만 밀려날 항목이 이미 만료되었으면 빈도와 관계없이 비우고 새 키를 넣는다.
+ */
+public final class FrequencyAwareCache<K, V> {
+
+    private final int maximumSize;
+    private final LinkedHashMap<K, V> entries;
+    private final FrequencySketch sketch;
+    private final BiConsumer<K, V> evictionListener;
+    private final Predicate<? super V> expired;
+
+    public FrequencyAwareCache(final int maximumSize) {
+        this(maximumSize, (key, value) -> {
+        });
+    }
+
+    public FrequencyAwareCache(final int maximumSize, final BiConsumer<K, V> evictionListener) {
+        this(maximumSize, evictionListener, value -> false);
+    }
+
+    /**
+     * @param evictionListener 새 키를 넣느라 밀려난 항목을 받는다. 캐시 잠금을 쥔 채 호출되므로 가벼워야 한다.
+     * @param expired          이미 만료된 값인지 판단한다. 만료된 값은 빈도 비교 없이 밀려난다.
+     */
+    public FrequencyAwareCache(
+            final int maximumSize,
+            final BiConsumer<K, V> evictionListener,
+            final Predicate<? super V> expired
+    ) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize는 0보다 커야 합니다.");
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.sketch = new FrequencySketch(maximumSize);
+        this.evictionListener = evictionListener;
+        this.expired = expired;
+    }
+
+    /**
+     * @return 캐시된 값. 없으면 null
+     */
+    public synchronized V get(final K key) {
+        sketch.increment(key);
+        return entries.get(key);
+    }
+
+    /**
+     * 접근 빈도를 올리지 않고 값을 본다.
+     *
+     * @return 캐시된 값. 없으면 null
+     */
+    public synchronized V peek(final K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * @return 값이 캐시에 들어갔으면 true
+     */
+    public synchronized boolean put(final K key, final V value) {
+        if (entries.containsKey(key) || entries.size() < maximumSize) {
+            entries.put(key, value);
+            return true;
+        }
+
+        final Map.Entry<K, V> eldest = entries.entrySet().iterator().next();
+        final K victim = eldest.getKey();
+        if (!expired.test(eldest.getValue()) && sketch.frequency(key) <= sketch.frequency(victim)) {
+            return false;
+        }
+        evictionListener.accept(victim, entries.remove(victim));
+        entries.put(key, value);
+        return true;
+    }
+
+    /**
+     * 키의 현재 값이 {@code expected}와 같은 객체일 때만 {@code value}로 바꾼다. 접근 빈도와 순서는 건드리지 않는다.
+     *
+     * @return 바꿨으면 true
+     */
+    public synchronized boolean replace(final K key, final V expected, final V value) {
+        return entries.replace(key, expected, value);
+    }
+
+    public synchronized void invalidate(final K key) {
+        entries.remove(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,42 @@
+package foodiepass.server.global.config;
+
+import foodiepass.server.currency.application.ExchangeRateReadinessGate;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기본 {@link ApplicationAvailability}를 대신해, 환율이 적재되기 전에는 Readiness 상태를 REFUSING_TRAFFIC으로 돌려준다.
+ * Spring Boot가 기동 직후 알리는 ACCEPTING_TRAFFIC 이벤트를 다른 이벤트로 덮어쓰면 리스너 실행 순서에 따라 결과가 달라지므로,
+ * 이벤트는 그대로 기록하고 상태를 읽는 시점에 환율 적재 여부를 함께 본다.
+ */
+@Configuration
+public class AvailabilityConfig {
+
+    @Bean
+    public ApplicationAvailabilityBean applicationAvailability(final ExchangeRateReadinessGate readinessGate) {
+        return new ApplicationAvailabilityBean() {
+
+            @Override
+            public <S extends AvailabilityState> S getState(final Class<S> stateType, final S defaultState) {
+                return gated(stateType, super.getState(stateType, defaultState));
+            }
+
+            @Override
+            public <S extends AvailabilityState> S getState(final Class<S> stateType) {
+                return gated(stateType, super.getState(stateType));
+            }
+
+            private <S extends AvailabilityState> S gated(final Class<S> stateType, final S state) {
+                if (stateType == ReadinessState.class && state == ReadinessState.ACCEPTING_TRAFFIC
+                        && !readinessGate.isRatesLoaded()) {
+                    return stateType.cast(ReadinessState.REFUSING_TRAFFIC);
+                }
+                return state;
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package foodiepass.server.global.config;
+
+import foodiepass.server.menu.domain.MenuImage;
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 메뉴판 사진을 multipart로 받을 수 있도록 파일 크기 한도를 사진 한도에 맞춘다. 기본값 1MB로는 휴대폰 사진이 들어오지 않는다.
+ * 파트는 메모리에 모으지 않고 임시 파일에 두었다가, 읽을 때 사진 버퍼 하나에 바로 담는다.
+ */
+@Configuration
+public class MultipartConfig {
+
+    private static final DataSize FORM_FIELDS_SIZE = DataSize.ofKilobytes(64);
+
+    @Bean
+    public MultipartConfigElement multipartConfigElement() {
+        final MultipartConfigFactory factory = new MultipartConfigFactory();
+        factory.setMaxFileSize(DataSize.ofBytes(MenuImage.MAX_SIZE));
+        factory.setMaxRequestSize(DataSize.ofBytes(MenuImage.MAX_SIZE + FORM_FIELDS_SIZE.toBytes()));
+        factory.setFileSizeThreshold(DataSize.ofBytes(0));
+        return factory.createMultipartConfig();
+    }
+}
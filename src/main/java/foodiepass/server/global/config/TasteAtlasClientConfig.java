@@ -0,0 +1,50 @@
+package foodiepass.server.global.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * TasteAtlas 검색 API와 음식 페이지 요청이 함께 쓰는 {@link WebClient}.
+ * 연결 풀을 재사용하고 gzip 응답을 받으며, 메모리에 모을 수 있는 응답 크기를 제한한다.
+ */
+@Configuration
+@Profile(ProfileConstants.NOT_PERFORMANCE_TEST)
+public class TasteAtlasClientConfig {
+
+    @Bean
+    public WebClient tasteAtlasWebClient(
+            final WebClient.Builder webClientBuilder,
+            @Value("${taste-atlas.client.max-connections:50}") final int maxConnections,
+            @Value("${taste-atlas.client.pending-acquire-timeout:PT2S}") final Duration pendingAcquireTimeout,
+            @Value("${taste-atlas.client.max-idle-time:PT30S}") final Duration maxIdleTime,
+            @Value("${taste-atlas.client.connect-timeout:PT2S}") final Duration connectTimeout,
+            @Value("${taste-atlas.client.response-timeout:PT5S}") final Duration responseTimeout,
+            @Value("${taste-atlas.client.max-response-size:2MB}") final DataSize maxResponseSize
+    ) {
+        final ConnectionProvider connectionProvider = ConnectionProvider.builder("taste-atlas")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(maxIdleTime)
+                .build();
+        final HttpClient httpClient = HttpClient.create(connectionProvider)
+                .compress(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxResponseSize.toBytes()))
+                .build();
+    }
+}
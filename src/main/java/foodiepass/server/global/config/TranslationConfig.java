@@ -1,14 +1,20 @@
 package foodiepass.server.global.config;
 
 import com.google.cloud.translate.Translate;
+import foodiepass.server.language.application.TranslationMemory;
+import foodiepass.server.language.infra.BatchingTranslationClient;
+import foodiepass.server.language.infra.CachingTranslationClient;
 import foodiepass.server.language.infra.GoogleTranslationClient;
 import foodiepass.server.menu.application.port.out.TranslationClient;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 
+import java.time.Duration;
+
 @Configuration
 @Profile(ProfileConstants.NOT_PERFORMANCE_TEST)
 public class TranslationConfig {
@@ -17,8 +23,18 @@ public class TranslationConfig {
     @Primary
     public TranslationClient translationClient(
             final Translate translate,
-            @Value("${google.translation.model}") final String translationModel
+            @Value("${google.translation.model}") final String translationModel,
+            @Value("${translation.batch.window:PT0.005S}") final Duration batchWindow,
+            @Value("${translation.batch.max-size:100}") final int maxBatchSize,
+            final TranslationMemory translationMemory,
+            final MeterRegistry meterRegistry
     ) {
-        return new GoogleTranslationClient(translate, translationModel);
+        final TranslationClient batchingClient = new BatchingTranslationClient(
+                new GoogleTranslationClient(translate, translationModel),
+                batchWindow,
+                maxBatchSize,
+                meterRegistry
+        );
+        return new CachingTranslationClient(batchingClient, translationMemory);
     }
 }
@@ -3,6 +3,7 @@ package foodiepass.server.global.error;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingRequestHeaderException;
@@ -34,6 +35,20 @@ public class GlobalExceptionHandler {
         return createResponseEntity(errorCode, detailMessage);
     }
 
+    /**
+     * 본문을 읽는 중에 던진 비즈니스 예외(예: 사진 크기 초과)는 Jackson 예외에 감싸여 오므로 원인을 꺼내 응답한다.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    protected ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof BaseException baseException) {
+                return handleBaseException(baseException);
+            }
+        }
+        log.warn(">> 요청 본문을 읽을 수 없음: {}", e.getMessage());
+        return createResponseEntity(GlobalErrorCode.INVALID_INPUT_VALUE);
+    }
+
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     protected ResponseEntity<ErrorResponse> handleHttpRequestMethodNotSupportedException(HttpRequestMethodNotSupportedException e, HttpServletRequest request) {
         log.warn(">> 지원하지 않는 HTTP 메소드 요청: [{}], 요청 URI: [{}]", e.getMethod(), request.getRequestURI());
@@ -0,0 +1,290 @@
+package foodiepass.server.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import foodiepass.server.global.error.ErrorCode;
+import foodiepass.server.global.error.ErrorResponse;
+import foodiepass.server.global.error.GlobalErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * {@code Content-Encoding: gzip}이나 {@code deflate}로 압축해 보낸 요청 본문을 읽는 쪽에서 풀어 준다.
+ * 풀린 크기는 {@code maxInflatedSize}까지만 허용하고, 그 밖의 인코딩은 415로 거절하며 받을 수 있는 인코딩을 알려 준다.
+ * 비동기 읽기({@link ReadListener})도 지원하되, 이때는 압축된 본문을 모두 받은 뒤에 풀기 시작한다.
+ * multipart 요청은 컨테이너가 직접 원본 스트림을 파싱하므로 압축을 받지 않는다.
+ */
+@Slf4j
+@Component
+public class RequestDecompressionFilter extends OncePerRequestFilter {
+
+    static final String SUPPORTED_ENCODINGS = "gzip, deflate";
+
+    private static final Set<String> GZIP = Set.of("gzip", "x-gzip");
+    private static final String DEFLATE = "deflate";
+    private static final String IDENTITY = "identity";
+
+    private final ObjectMapper objectMapper;
+    private final long maxInflatedSize;
+
+    public RequestDecompressionFilter(
+            final ObjectMapper objectMapper,
+            @Value("${server.request.max-inflated-size:32MB}") final DataSize maxInflatedSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.maxInflatedSize = maxInflatedSize.toBytes();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        if (!StringUtils.hasText(encoding) || IDENTITY.equalsIgnoreCase(encoding.trim())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final String coding = encoding.trim().toLowerCase(Locale.ROOT);
+        if (!(GZIP.contains(coding) || DEFLATE.equals(coding)) || isMultipart(request)) {
+            log.warn(">> 지원하지 않는 요청 본문 인코딩: [{}], 요청 URI: [{}]", encoding, request.getRequestURI());
+            reject(response, GlobalErrorCode.UNSUPPORTED_CONTENT_ENCODING);
+            return;
+        }
+        filterChain.doFilter(new DecompressedRequest(request, coding), response);
+    }
+
+    private boolean isMultipart(final HttpServletRequest request) {
+        final String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("multipart/");
+    }
+
+    private void reject(final HttpServletResponse response, final ErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.ACCEPT_ENCODING, SUPPORTED_ENCODINGS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(errorCode.getStatus().value(), errorCode.getMessage()));
+    }
+
+    /**
+     * 본문 스트림을 압축 해제 스트림으로 바꾸고, 압축된 길이와 인코딩 헤더는 감춘다.
+     */
+    private final class DecompressedRequest extends HttpServletRequestWrapper {
+
+        private final String coding;
+        private ServletInputStream inputStream;
+        private BufferedReader reader;
+
+        DecompressedRequest(final HttpServletRequest request, final String coding) {
+            super(request);
+            this.coding = coding;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new InflatingServletInputStream(super.getInputStream(), coding);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (reader == null) {
+                final String characterEncoding = getCharacterEncoding();
+                final Charset charset = characterEncoding != null
+                        ? Charset.forName(characterEncoding)
+                        : StandardCharsets.ISO_8859_1;
+                reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+            }
+            return reader;
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public String getHeader(final String name) {
+            return isHidden(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(final String name) {
+            return isHidden(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !isHidden(name))
+                    .toList());
+        }
+
+        private boolean isHidden(final String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name)
+                    || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    /**
+     * 블로킹으로 읽으면 원본 스트림을 그대로 풀어 준다.
+     * 비동기로 읽으면 원본 스트림의 {@link ReadListener}로 압축된 본문을 끝까지 모은 뒤, 메모리에서 풀어 가며 넘긴다.
+     * 압축 해제는 부족한 입력을 기다리며 막힐 수 있어 비동기 읽기 중에는 원본에서 바로 풀 수 없기 때문이다.
+     */
+    private final class InflatingServletInputStream extends ServletInputStream {
+
+        private final ServletInputStream source;
+        private final String coding;
+        private InputStream delegate;
+        private boolean async;
+        private long count;
+        private boolean finished;
+
+        InflatingServletInputStream(final ServletInputStream source, final String coding) {
+            this.source = source;
+            this.coding = coding;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = delegate().read();
+            if (b < 0) {
+                finished = true;
+            } else {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            final int read = delegate().read(bytes, offset, length);
+            if (read < 0) {
+                finished = true;
+            } else {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return !async || delegate != null;
+        }
+
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            if (delegate != null) {
+                throw new IllegalStateException("이미 블로킹으로 읽기 시작한 요청 본문입니다.");
+            }
+            async = true;
+            final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            source.setReadListener(new ReadListener() {
+
+                private final byte[] chunk = new byte[8192];
+
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (source.isReady() && !source.isFinished()) {
+                        final int read = source.read(chunk);
+                        if (read < 0) {
+                            return;
+                        }
+                        if (compressed.size() + read > maxInflatedSize) {
+                            throw new IOException("압축된 요청 본문이 " + maxInflatedSize + "바이트를 넘습니다.");
+                        }
+                        compressed.write(chunk, 0, read);
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() throws IOException {
+                    delegate = inflate(new ByteArrayInputStream(compressed.toByteArray()));
+                    readListener.onDataAvailable();
+                    if (finished) {
+                        readListener.onAllDataRead();
+                    }
+                }
+
+                @Override
+                public void onError(final Throwable throwable) {
+                    readListener.onError(throwable);
+                }
+            });
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (delegate != null) {
+                delegate.close();
+            }
+            source.close();
+        }
+
+        private InputStream delegate() throws IOException {
+            if (delegate == null) {
+                if (async) {
+                    throw new IllegalStateException("압축된 요청 본문을 아직 다 받지 못했습니다. isReady()를 먼저 확인해야 합니다.");
+                }
+                delegate = inflate(source);
+            }
+            return delegate;
+        }
+
+        private InputStream inflate(final InputStream compressed) throws IOException {
+            return DEFLATE.equals(coding)
+                    ? new InflaterInputStream(compressed)
+                    : new GZIPInputStream(compressed);
+        }
+
+        private void count(final int read) throws IOException {
+            count += read;
+            if (count > maxInflatedSize) {
+                throw new IOException("압축을 푼 요청 본문이 " + maxInflatedSize + "바이트를 넘습니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package foodiepass.server.global.resilience;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * {@link CircuitBreaker}를 Mono 구독 단위로 적용한다.
+ * {@code @CircuitBreaker} 애노테이션은 resilience4j-reactor 없이는 Mono를 만드는 호출만 감싸므로 비동기 실패를 기록하지 못한다.
+ * 구독할 때 호출 허가를 받고, 완료·실패 시 걸린 시간과 함께 결과를 기록하며, 결과 없이 취소되면 허가를 돌려준다.
+ */
+public final class ReactiveCircuitBreaker {
+
+    private ReactiveCircuitBreaker() {
+    }
+
+    public static <T> Function<Mono<T>, Mono<T>> of(final CircuitBreaker circuitBreaker) {
+        return source -> Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+            }
+
+            final long start = circuitBreaker.getCurrentTimestamp();
+            final AtomicBoolean recorded = new AtomicBoolean();
+            return source
+                    .doOnSuccess(result -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            circuitBreaker.onResult(elapsed(circuitBreaker, start), circuitBreaker.getTimestampUnit(), result);
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            circuitBreaker.onError(elapsed(circuitBreaker, start), circuitBreaker.getTimestampUnit(), error);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            circuitBreaker.releasePermission();
+                        }
+                    });
+        });
+    }
+
+    private static long elapsed(final CircuitBreaker circuitBreaker, final long start) {
+        return circuitBreaker.getCurrentTimestamp() - start;
+    }
+}
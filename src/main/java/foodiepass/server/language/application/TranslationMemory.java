@@ -0,0 +1,153 @@
+package foodiepass.server.language.application;
+
+import foodiepass.server.global.cache.FrequencyAwareCache;
+import foodiepass.server.language.application.port.out.TranslationMemoryRepository;
+import foodiepass.server.language.domain.TranslationKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 번역 결과를 2단계로 보관하는 번역 메모리.
+ * 힙 계층은 크기가 제한된 빈도 기반 캐시이고, 영속 계층은 애플리케이션 DataSource다.
+ * 영속 계층 쓰기는 큐에 모아 두었다가 주기적으로 한 번에 저장하므로 번역 응답 경로를 막지 않는다.
+ * 큐가 가득 차면 쓰기를 버리며, 버린 번역은 다음 번 조회 때 다시 번역되어 저장된다.
+ */
+@Slf4j
+@Component
+public class TranslationMemory {
+
+    private static final String METRIC_PREFIX = "translation.memory";
+
+    private final FrequencyAwareCache<TranslationKey, String> heapTier;
+    private final TranslationMemoryRepository repository;
+    private final BlockingQueue<PendingWrite> pendingWrites;
+    private final int writeBatchSize;
+
+    private final Counter heapHitCounter;
+    private final Counter persistentHitCounter;
+    private final Counter missCounter;
+    private final Counter droppedWriteCounter;
+
+    public TranslationMemory(
+            final TranslationMemoryRepository repository,
+            @Value("${translation.memory.heap-size:10000}") final int heapSize,
+            @Value("${translation.memory.write-queue-capacity:10000}") final int writeQueueCapacity,
+            @Value("${translation.memory.write-batch-size:500}") final int writeBatchSize,
+            final MeterRegistry meterRegistry
+    ) {
+        this.heapTier = new FrequencyAwareCache<>(heapSize);
+        this.repository = repository;
+        this.pendingWrites = new ArrayBlockingQueue<>(writeQueueCapacity);
+        this.writeBatchSize = writeBatchSize;
+
+        this.heapHitCounter = lookupCounter(meterRegistry, "heap_hit");
+        this.persistentHitCounter = lookupCounter(meterRegistry, "persistent_hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        this.droppedWriteCounter = Counter.builder(METRIC_PREFIX + ".writes.dropped")
+                .description("쓰기 큐가 가득 차서 저장하지 못한 번역 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", this, TranslationMemory::hitRatio)
+                .description("힙 또는 영속 계층에서 찾은 조회의 비율")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".heap.size", heapTier, FrequencyAwareCache::size)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".writes.pending", pendingWrites, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 힙 계층에서 먼저 찾고, 없는 키만 영속 계층에서 한 번에 조회한다. 영속 계층에서 찾은 번역은 힙 계층에 올린다.
+     * 영속 계층 조회가 실패하면 찾지 못한 것으로 취급한다.
+     *
+     * @return 번역이 있는 키와 번역문
+     */
+    public Mono<Map<TranslationKey, String>> findAll(final Collection<TranslationKey> keys) {
+        final Map<TranslationKey, String> found = new HashMap<>();
+        final List<TranslationKey> heapMisses = new ArrayList<>();
+        for (TranslationKey key : keys) {
+            final String translatedText = heapTier.get(key);
+            if (translatedText == null) {
+                heapMisses.add(key);
+            } else {
+                found.put(key, translatedText);
+            }
+        }
+        heapHitCounter.increment(found.size());
+        if (heapMisses.isEmpty()) {
+            return Mono.just(found);
+        }
+
+        return Mono.fromCallable(() -> repository.findAll(heapMisses))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(DataAccessException.class, e -> {
+                    log.warn("번역 메모리 영속 계층 조회에 실패했습니다. 저장된 번역 없이 진행합니다.", e);
+                    return Mono.just(Map.of());
+                })
+                .map(persisted -> {
+                    persistentHitCounter.increment(persisted.size());
+                    missCounter.increment(heapMisses.size() - persisted.size());
+                    persisted.forEach(heapTier::put);
+                    found.putAll(persisted);
+                    return found;
+                });
+    }
+
+    public Mono<String> find(final TranslationKey key) {
+        return findAll(List.of(key)).mapNotNull(found -> found.get(key));
+    }
+
+    public void save(final TranslationKey key, final String translatedText) {
+        heapTier.put(key, translatedText);
+        if (!pendingWrites.offer(new PendingWrite(key, translatedText))) {
+            droppedWriteCounter.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${translation.memory.flush-interval:PT1S}")
+    public void flushPendingWrites() {
+        final List<PendingWrite> batch = new ArrayList<>(writeBatchSize);
+        while (pendingWrites.drainTo(batch, writeBatchSize) > 0) {
+            final Map<TranslationKey, String> translations = new LinkedHashMap<>();
+            batch.forEach(write -> translations.put(write.key(), write.translatedText()));
+            try {
+                repository.saveAll(translations);
+            } catch (DataAccessException e) {
+                log.warn("번역 메모리 {}건을 저장하지 못했습니다.", translations.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    double hitRatio() {
+        final double hits = heapHitCounter.count() + persistentHitCounter.count();
+        final double total = hits + missCounter.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private static Counter lookupCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder(METRIC_PREFIX + ".lookups")
+                .description("번역 메모리 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record PendingWrite(TranslationKey key, String translatedText) {
+    }
+}
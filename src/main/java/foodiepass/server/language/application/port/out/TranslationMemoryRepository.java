@@ -0,0 +1,16 @@
+package foodiepass.server.language.application.port.out;
+
+import foodiepass.server.language.domain.TranslationKey;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface TranslationMemoryRepository {
+
+    /**
+     * @return 저장된 번역이 있는 키와 번역문. 없는 키는 포함하지 않는다.
+     */
+    Map<TranslationKey, String> findAll(Collection<TranslationKey> keys);
+
+    void saveAll(Map<TranslationKey, String> translations);
+}
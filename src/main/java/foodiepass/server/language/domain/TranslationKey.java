@@ -0,0 +1,22 @@
+package foodiepass.server.language.domain;
+
+/**
+ * 번역 메모리의 키. 영속 계층에서는 원문 대신 {@link #textHash()}로 색인하고, 충돌은 원문 비교로 걸러낸다.
+ */
+public record TranslationKey(Language source, Language target, String text) {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * @return 원문의 64비트 FNV-1a 해시
+     */
+    public long textHash() {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
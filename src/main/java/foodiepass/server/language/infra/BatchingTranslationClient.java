@@ -0,0 +1,220 @@
+package foodiepass.server.language.infra;
+
+import foodiepass.server.language.domain.Language;
+import foodiepass.server.language.exception.LanguageErrorCode;
+import foodiepass.server.language.exception.LanguageException;
+import foodiepass.server.menu.application.port.out.TranslationClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 간 단건 번역을 언어 쌍별로 모아 한 번의 목록 번역으로 보내는 {@link TranslationClient}.
+ * 언어 쌍마다 첫 요청이 들어온 뒤 {@code window} 동안, 혹은 서로 다른 문장이 {@code maxBatchSize}개 모일 때까지 기다린다.
+ * 같은 구간 안의 동일한 문장은 한 번만 번역하고 결과를 각 호출자에게 나눠 준다.
+ * 전송 전에 취소한 호출자는 묶음에서 빠지고, 남은 호출자가 없는 묶음은 보내지 않는다.
+ * 목록 번역 요청은 이미 묶여 있으므로 그대로 위임한다.
+ */
+@Slf4j
+public class BatchingTranslationClient implements TranslationClient {
+
+    private static final String METRIC_PREFIX = "translation.batch";
+
+    private final TranslationClient delegate;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Scheduler timer;
+    private final Map<LanguagePair, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+
+    private final Counter requestCounter;
+    private final Counter deduplicatedCounter;
+    private final Counter flushCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    public BatchingTranslationClient(
+            final TranslationClient delegate,
+            final Duration window,
+            final int maxBatchSize,
+            final MeterRegistry meterRegistry
+    ) {
+        this(delegate, window, maxBatchSize, meterRegistry, Schedulers.parallel());
+    }
+
+    BatchingTranslationClient(
+            final TranslationClient delegate,
+            final Duration window,
+            final int maxBatchSize,
+            final MeterRegistry meterRegistry,
+            final Scheduler timer
+    ) {
+        this.delegate = delegate;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.timer = timer;
+
+        this.requestCounter = Counter.builder(METRIC_PREFIX + ".requests")
+                .description("묶음 처리 대상으로 들어온 단건 번역 요청 수")
+                .register(meterRegistry);
+        this.deduplicatedCounter = Counter.builder(METRIC_PREFIX + ".deduplicated")
+                .description("같은 구간의 동일 문장으로 합쳐진 요청 수")
+                .register(meterRegistry);
+        this.flushCounter = Counter.builder(METRIC_PREFIX + ".flushes")
+                .description("번역 API로 보낸 묶음 요청 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder(METRIC_PREFIX + ".size")
+                .description("묶음 요청 하나에 담긴 서로 다른 문장 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".window", this, client -> client.window.toMillis())
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".max.size", this, client -> client.maxBatchSize)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<String> translateAsync(final Language source, final Language target, final String text) {
+        if (!StringUtils.hasText(text) || source.equals(target)) {
+            return Mono.just(text);
+        }
+        return Mono.create(sink -> enqueue(new LanguagePair(source, target), text, sink));
+    }
+
+    @Override
+    public Flux<String> translateAsync(final Language source, final Language target, final List<String> texts) {
+        return delegate.translateAsync(source, target, texts);
+    }
+
+    private void enqueue(final LanguagePair pair, final String text, final MonoSink<String> sink) {
+        requestCounter.increment();
+        while (true) {
+            final PendingBatch batch = pendingBatches.computeIfAbsent(pair, PendingBatch::new);
+            final int size = batch.add(text, sink);
+            if (size == PendingBatch.CLOSED) {
+                continue;
+            }
+            sink.onCancel(() -> batch.remove(text, sink));
+            if (size >= maxBatchSize) {
+                flush(batch);
+            } else if (batch.markScheduled()) {
+                timer.schedule(() -> flush(batch), window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            return;
+        }
+    }
+
+    private void flush(final PendingBatch batch) {
+        pendingBatches.remove(batch.pair, batch);
+        final Map<String, List<MonoSink<String>>> waiters = batch.close();
+        if (waiters == null || waiters.isEmpty()) {
+            return;
+        }
+
+        final List<String> texts = new ArrayList<>(waiters.keySet());
+        flushCounter.increment();
+        batchSizeSummary.record(texts.size());
+
+        delegate.translateAsync(batch.pair.source(), batch.pair.target(), texts)
+                .collectList()
+                .subscribe(
+                        translatedTexts -> complete(texts, translatedTexts, waiters),
+                        error -> fail(waiters, error)
+                );
+    }
+
+    private void complete(
+            final List<String> texts,
+            final List<String> translatedTexts,
+            final Map<String, List<MonoSink<String>>> waiters
+    ) {
+        if (translatedTexts.size() != texts.size()) {
+            log.warn("묶음 번역 결과 수가 요청과 다릅니다. 요청: {}, 응답: {}", texts.size(), translatedTexts.size());
+            fail(waiters, new LanguageException(LanguageErrorCode.TRANSLATION_FAILED));
+            return;
+        }
+        for (int i = 0; i < texts.size(); i++) {
+            final String translatedText = translatedTexts.get(i);
+            waiters.get(texts.get(i)).forEach(sink -> sink.success(translatedText));
+        }
+    }
+
+    private void fail(final Map<String, List<MonoSink<String>>> waiters, final Throwable error) {
+        waiters.values().forEach(sinks -> sinks.forEach(sink -> sink.error(error)));
+    }
+
+    private record LanguagePair(Language source, Language target) {
+    }
+
+    private final class PendingBatch {
+
+        static final int CLOSED = -1;
+
+        private final LanguagePair pair;
+        private final Map<String, List<MonoSink<String>>> waiters = new LinkedHashMap<>();
+        private boolean scheduled;
+        private boolean closed;
+
+        PendingBatch(final LanguagePair pair) {
+            this.pair = pair;
+        }
+
+        /**
+         * @return 추가한 뒤 서로 다른 문장의 수. 이미 전송된 묶음이면 {@link #CLOSED}
+         */
+        synchronized int add(final String text, final MonoSink<String> sink) {
+            if (closed) {
+                return CLOSED;
+            }
+            final List<MonoSink<String>> sinks = waiters.computeIfAbsent(text, key -> new ArrayList<>(1));
+            if (!sinks.isEmpty()) {
+                deduplicatedCounter.increment();
+            }
+            sinks.add(sink);
+            return waiters.size();
+        }
+
+        /**
+         * 전송 전이면 취소한 호출자를 빼고, 그 문장을 기다리는 호출자가 더 없으면 문장도 뺀다.
+         */
+        synchronized void remove(final String text, final MonoSink<String> sink) {
+            if (closed) {
+                return;
+            }
+            final List<MonoSink<String>> sinks = waiters.get(text);
+            if (sinks != null && sinks.remove(sink) && sinks.isEmpty()) {
+                waiters.remove(text);
+            }
+        }
+
+        synchronized boolean markScheduled() {
+            if (scheduled || closed) {
+                return false;
+            }
+            scheduled = true;
+            return true;
+        }
+
+        synchronized Map<String, List<MonoSink<String>>> close() {
+            if (closed) {
+                return null;
+            }
+            closed = true;
+            return waiters;
+        }
+    }
+}
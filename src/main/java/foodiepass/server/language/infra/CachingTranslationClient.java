@@ -0,0 +1,95 @@
+package foodiepass.server.language.infra;
+
+import foodiepass.server.language.application.TranslationMemory;
+import foodiepass.server.language.domain.Language;
+import foodiepass.server.language.domain.TranslationKey;
+import foodiepass.server.language.exception.LanguageErrorCode;
+import foodiepass.server.language.exception.LanguageException;
+import foodiepass.server.menu.application.port.out.TranslationClient;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link TranslationMemory}에 있는 번역은 재사용하고, 없는 문장만 위임 대상에 번역을 요청하는 {@link TranslationClient}.
+ * 새로 번역한 결과는 번역 메모리에 저장한다.
+ */
+public class CachingTranslationClient implements TranslationClient {
+
+    private final TranslationClient delegate;
+    private final TranslationMemory translationMemory;
+
+    public CachingTranslationClient(final TranslationClient delegate, final TranslationMemory translationMemory) {
+        this.delegate = delegate;
+        this.translationMemory = translationMemory;
+    }
+
+    @Override
+    public Mono<String> translateAsync(final Language source, final Language target, final String text) {
+        if (!StringUtils.hasText(text) || source.equals(target)) {
+            return Mono.just(text);
+        }
+
+        final TranslationKey key = new TranslationKey(source, target, text);
+        return translationMemory.find(key)
+                .switchIfEmpty(Mono.defer(() -> delegate.translateAsync(source, target, text)
+                        .doOnNext(translatedText -> translationMemory.save(key, translatedText))));
+    }
+
+    @Override
+    public Flux<String> translateAsync(final Language source, final Language target, final List<String> texts) {
+        if (CollectionUtils.isEmpty(texts) || source.equals(target)) {
+            return Flux.fromIterable(texts);
+        }
+
+        final List<TranslationKey> keys = texts.stream()
+                .filter(StringUtils::hasText)
+                .distinct()
+                .map(text -> new TranslationKey(source, target, text))
+                .toList();
+
+        return translationMemory.findAll(keys)
+                .flatMap(found -> translateMissing(source, target, keys, found))
+                .flatMapIterable(translations -> texts.stream()
+                        .map(text -> StringUtils.hasText(text) ? translations.get(text) : text)
+                        .toList());
+    }
+
+    /**
+     * @return 원문을 키로, 번역문을 값으로 하는 맵
+     */
+    private Mono<Map<String, String>> translateMissing(
+            final Language source,
+            final Language target,
+            final List<TranslationKey> keys,
+            final Map<TranslationKey, String> found
+    ) {
+        final Map<String, String> translations = new HashMap<>();
+        found.forEach((key, translatedText) -> translations.put(key.text(), translatedText));
+        final List<TranslationKey> missingKeys = keys.stream()
+                .filter(key -> !found.containsKey(key))
+                .toList();
+        if (missingKeys.isEmpty()) {
+            return Mono.just(translations);
+        }
+
+        final List<String> missingTexts = missingKeys.stream().map(TranslationKey::text).toList();
+        return delegate.translateAsync(source, target, missingTexts)
+                .collectList()
+                .map(translatedTexts -> {
+                    if (translatedTexts.size() != missingTexts.size()) {
+                        throw new LanguageException(LanguageErrorCode.TRANSLATION_FAILED);
+                    }
+                    for (int i = 0; i < missingKeys.size(); i++) {
+                        translations.put(missingTexts.get(i), translatedTexts.get(i));
+                        translationMemory.save(missingKeys.get(i), translatedTexts.get(i));
+                    }
+                    return translations;
+                });
+    }
+}
@@ -0,0 +1,84 @@
+package foodiepass.server.language.infra;
+
+import foodiepass.server.language.application.port.out.TranslationMemoryRepository;
+import foodiepass.server.language.domain.Language;
+import foodiepass.server.language.domain.TranslationKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 애플리케이션 {@link DataSource}에 번역 메모리를 저장한다.
+ * 원문 해시로 조회한 뒤 언어 쌍과 원문을 비교해 해시 충돌을 걸러낸다.
+ */
+@Repository
+public class JdbcTranslationMemoryRepository implements TranslationMemoryRepository {
+
+    private static final int MAX_IN_CLAUSE_SIZE = 500;
+
+    private static final String SELECT_BY_HASHES_SQL_PREFIX =
+            "SELECT source_language, target_language, source_text, translated_text FROM translation_memory WHERE text_hash IN (";
+    private static final String MERGE_SQL =
+            "MERGE INTO translation_memory (source_language, target_language, text_hash, source_text, translated_text, updated_at) "
+                    + "KEY (source_language, target_language, text_hash) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTranslationMemoryRepository(final DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public Map<TranslationKey, String> findAll(final Collection<TranslationKey> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        final Set<TranslationKey> requestedKeys = new HashSet<>(keys);
+        final Map<TranslationKey, String> translations = new HashMap<>();
+        final List<TranslationKey> keyList = new ArrayList<>(requestedKeys);
+        for (int from = 0; from < keyList.size(); from += MAX_IN_CLAUSE_SIZE) {
+            final List<TranslationKey> chunk = keyList.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, keyList.size()));
+            final String sql = SELECT_BY_HASHES_SQL_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            final Object[] hashes = chunk.stream().map(TranslationKey::textHash).toArray();
+
+            jdbcTemplate.query(sql, rs -> {
+                final TranslationKey key = new TranslationKey(
+                        Language.valueOf(rs.getString("source_language")),
+                        Language.valueOf(rs.getString("target_language")),
+                        rs.getString("source_text")
+                );
+                if (requestedKeys.contains(key)) {
+                    translations.put(key, rs.getString("translated_text"));
+                }
+            }, hashes);
+        }
+        return translations;
+    }
+
+    @Override
+    public void saveAll(final Map<TranslationKey, String> translations) {
+        final Timestamp now = Timestamp.from(Instant.now());
+        final List<Object[]> rows = new ArrayList<>(translations.size());
+        translations.forEach((key, translatedText) -> rows.add(new Object[]{
+                key.source().name(),
+                key.target().name(),
+                key.textHash(),
+                key.text(),
+                translatedText,
+                now
+        }));
+        jdbcTemplate.batchUpdate(MERGE_SQL, rows);
+    }
+}
@@ -1,15 +1,26 @@
 package foodiepass.server.menu.api;
 
 import foodiepass.server.menu.application.MenuService;
+import foodiepass.server.menu.domain.MenuImage;
+import foodiepass.server.menu.dto.request.ReconfigureOptions;
 import foodiepass.server.menu.dto.request.ReconfigureRequest;
+import foodiepass.server.menu.dto.response.IndexedFoodItemResponse;
 import foodiepass.server.menu.dto.response.ReconfigureResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/menu")
@@ -21,4 +32,35 @@ public class MenuController {
     public Mono<ReconfigureResponse> reconfigure(@RequestBody final ReconfigureRequest request) {
         return menuService.reconfigure(request);
     }
+
+    /**
+     * 사진 파일을 {@code image} 파트로, 나머지 값은 폼 필드로 받는다.
+     */
+    @PostMapping(value = "/reconfigure", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public Mono<ReconfigureResponse> reconfigureMultipart(
+            @RequestPart("image") final MultipartFile image,
+            @ModelAttribute final ReconfigureOptions options
+    ) throws IOException {
+        return menuService.reconfigure(options.toRequest(MenuImage.read(image.getInputStream(), image.getSize())));
+    }
+
+    /**
+     * 요청 본문 전체를 사진으로 받고, 나머지 값은 쿼리 파라미터로 받는다.
+     */
+    @PostMapping(value = "/reconfigure", consumes = {"image/*", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public Mono<ReconfigureResponse> reconfigureBinary(
+            final HttpServletRequest request,
+            @ModelAttribute final ReconfigureOptions options
+    ) throws IOException {
+        final MenuImage image = MenuImage.read(request.getInputStream(), request.getContentLengthLong());
+        return menuService.reconfigure(options.toRequest(image));
+    }
+
+    @PostMapping(
+            value = "/reconfigure/stream",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE}
+    )
+    public Flux<IndexedFoodItemResponse> reconfigureStream(@RequestBody final ReconfigureRequest request) {
+        return menuService.reconfigureStream(request);
+    }
 }
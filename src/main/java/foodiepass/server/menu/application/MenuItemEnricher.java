@@ -3,77 +3,216 @@ package foodiepass.server.menu.application;
 import foodiepass.server.currency.application.CurrencyService;
 import foodiepass.server.currency.domain.Currency;
 import foodiepass.server.language.domain.Language;
+import foodiepass.server.language.exception.LanguageErrorCode;
+import foodiepass.server.language.exception.LanguageException;
 import foodiepass.server.menu.application.port.out.FoodScrapper;
 import foodiepass.server.menu.application.port.out.TranslationClient;
 import foodiepass.server.menu.domain.FoodInfo;
 import foodiepass.server.menu.domain.MenuItem;
+import foodiepass.server.menu.dto.response.IndexedFoodItemResponse;
 import foodiepass.server.menu.dto.response.ReconfigureResponse.FoodItemResponse;
 import foodiepass.server.menu.dto.response.ReconfigureResponse.PriceInfoResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
+/**
+ * 메뉴판 전체를 단계별로 보강한다.
+ * 메뉴 이름의 영문 번역과 사용자 언어 번역을 메뉴 단위로 모아 중복을 제거한 뒤 한 번에 요청하므로,
+ * 메뉴 수와 관계없이 번역 호출은 몇 번으로 끝난다.
+ */
 @Slf4j
 @Service
 public class MenuItemEnricher {
 
+    private static final Language ENGLISH = Language.fromLanguageName("English");
+    private static final Duration USER_TRANSLATION_WINDOW = Duration.ofMillis(50);
+    private static final String DEFAULT_DESCRIPTION = "상세 정보를 불러올 수 없습니다.";
+    private static final String UNTRANSLATED_DESCRIPTION = "상세 설명을 번역할 수 없습니다.";
+
     private final FoodScrapper foodScraper;
     private final TranslationClient translationClient;
     private final CurrencyService currencyService;
-
-    private static final Language ENGLISH = Language.fromLanguageName("English");
+    private final int scrapChunkSize;
 
     public MenuItemEnricher(
             FoodScrapper foodScraper,
             TranslationClient translationClient,
-            CurrencyService currencyService
+            CurrencyService currencyService,
+            @Value("${menu.enrich.scrap-chunk-size:5}") int scrapChunkSize
     ) {
+        if (scrapChunkSize <= 0) {
+            throw new IllegalArgumentException("scrapChunkSize must be positive");
+        }
         this.foodScraper = foodScraper;
         this.translationClient = translationClient;
         this.currencyService = currencyService;
+        this.scrapChunkSize = scrapChunkSize;
     }
 
-    public Mono<FoodItemResponse> enrichAsync(
-            final MenuItem menuItem,
+    /**
+     * 1단계에서 모든 메뉴 이름을 영문으로 일괄 번역하고, 2단계에서 음식 정보를 {@code scrapChunkSize}개씩 묶어 스크래핑한다.
+     * 3단계는 스크래핑이 끝난 메뉴를 짧은 구간 동안 모아 이름과 설명을 한 번에 사용자 언어로 번역한다.
+     * 결과는 완료된 순서대로 전달되며, 각 항목에는 입력 목록에서의 위치가 담긴다.
+     */
+    public Flux<IndexedFoodItemResponse> enrichAllAsync(
+            final List<MenuItem> menuItems,
             final Language originLanguage,
             final Language userLanguage,
             final Currency originCurrency,
             final Currency userCurrency
     ) {
-        Mono<String> engNameMono = translationClient.translateAsync(originLanguage, ENGLISH, menuItem.getName())
+        if (menuItems.isEmpty()) {
+            return Flux.empty();
+        }
+
+        final List<String> originNames = distinctTexts(menuItems.stream().map(MenuItem::getName));
+
+        return translateAll(originLanguage, ENGLISH, originNames)
                 .onErrorResume(e -> {
-                    log.warn("영문 번역 실패: '{}'. 원본 이름을 사용합니다.", menuItem.getName(), e);
-                    return Mono.just(menuItem.getName());
-                });
+                    log.warn("메뉴 이름 일괄 영문 번역 실패. 원본 이름을 사용합니다.", e);
+                    return Mono.just(Map.of());
+                })
+                .flatMapMany(englishNames -> scrapAll(menuItems, englishNames))
+                .bufferTimeout(menuItems.size(), USER_TRANSLATION_WINDOW)
+                .flatMap(scrapedMenuItems -> translateForUser(scrapedMenuItems, userLanguage, userCurrency));
+    }
+
+    /**
+     * 이름을 묶음으로 나눠 동시에 스크래핑하고, 묶음이 끝나는 대로 그 묶음에 속한 메뉴를 내보낸다.
+     * 한 번의 호출로 여러 이름을 처리하는 스크래퍼의 이점은 살리면서, 가장 느린 이름을 기다리지 않고 첫 항목을 보낼 수 있다.
+     */
+    private Flux<ScrapedMenuItem> scrapAll(final List<MenuItem> menuItems, final Map<String, String> englishNames) {
+        final Map<String, List<Integer>> positionsByEngName = new LinkedHashMap<>();
+        for (int position = 0; position < menuItems.size(); position++) {
+            final MenuItem menuItem = menuItems.get(position);
+            final String engName = englishNames.getOrDefault(menuItem.getName(), menuItem.getName());
+            positionsByEngName.computeIfAbsent(engName, key -> new ArrayList<>()).add(position);
+        }
+
+        final List<String> blankNames = positionsByEngName.keySet().stream()
+                .filter(engName -> !StringUtils.hasText(engName))
+                .toList();
 
-        return engNameMono.flatMap(engName ->
-                foodScraper.scrapAsync(List.of(engName))
-                        .next()
+        return Flux.fromIterable(distinctTexts(positionsByEngName.keySet().stream()))
+                .buffer(scrapChunkSize)
+                .flatMap(engNames -> foodScraper.scrapByNameAsync(engNames)
                         .onErrorResume(e -> {
-                            log.warn("스크래핑 실패: '{}'. 기본 FoodInfo를 사용합니다.", engName, e);
-                            return Mono.just(new FoodInfo(engName, "상세 정보를 불러올 수 없습니다.", "", ""));
+                            log.warn("메뉴 음식 정보 묶음 스크래핑 실패. 기본 FoodInfo를 사용합니다. size={}", engNames.size(), e);
+                            return Mono.just(Map.of());
                         })
-                        .flatMap(scrapedFoodInfo -> {
-                            Mono<String> translatedNameMono = translationClient.translateAsync(ENGLISH, userLanguage, scrapedFoodInfo.getName())
-                                    .onErrorResume(e -> Mono.just(scrapedFoodInfo.getName()));
-
-                            Mono<String> translatedDescriptionMono = translationClient.translateAsync(ENGLISH, userLanguage, scrapedFoodInfo.getDescription())
-                                    .onErrorResume(e -> Mono.just("상세 설명을 번역할 수 없습니다."));
-
-                            Mono<PriceInfoResponse> priceInfoMono = currencyService.convertAndFormatAsync(menuItem.getPrice(), userCurrency)
-                                    .onErrorResume(e -> Mono.just(new PriceInfoResponse("N/A", "N/A")));
-
-                            return Mono.zip(translatedNameMono, translatedDescriptionMono, priceInfoMono)
-                                    .map(tuple -> new FoodItemResponse(
-                                            menuItem.getName(),
-                                            tuple.getT1(),
-                                            tuple.getT2(),
-                                            scrapedFoodInfo.getImage(),
-                                            tuple.getT3()
-                                    ));
-                        })
-        );
+                        .flatMapIterable(foodInfos -> toScrapedMenuItems(engNames, foodInfos, menuItems, positionsByEngName)))
+                .startWith(toScrapedMenuItems(blankNames, Map.of(), menuItems, positionsByEngName));
+    }
+
+    private List<ScrapedMenuItem> toScrapedMenuItems(
+            final List<String> engNames,
+            final Map<String, FoodInfo> foodInfos,
+            final List<MenuItem> menuItems,
+            final Map<String, List<Integer>> positionsByEngName
+    ) {
+        final List<ScrapedMenuItem> scrapedMenuItems = new ArrayList<>();
+        for (String engName : engNames) {
+            final FoodInfo foodInfo = foodInfoOrDefault(foodInfos, engName);
+            for (int position : positionsByEngName.get(engName)) {
+                scrapedMenuItems.add(new ScrapedMenuItem(position, menuItems.get(position), foodInfo));
+            }
+        }
+        return scrapedMenuItems;
+    }
+
+    private FoodInfo foodInfoOrDefault(final Map<String, FoodInfo> foodInfos, final String engName) {
+        final FoodInfo foodInfo = foodInfos.get(engName);
+        if (foodInfo == null) {
+            log.warn("스크래핑 실패: '{}'. 기본 FoodInfo를 사용합니다.", engName);
+            return defaultFoodInfo(engName);
+        }
+        return foodInfo;
+    }
+
+    private Flux<IndexedFoodItemResponse> translateForUser(
+            final List<ScrapedMenuItem> scrapedMenuItems,
+            final Language userLanguage,
+            final Currency userCurrency
+    ) {
+        final List<String> texts = distinctTexts(scrapedMenuItems.stream()
+                .flatMap(scraped -> Stream.of(scraped.foodInfo().getName(), scraped.foodInfo().getDescription())));
+
+        return translateAll(ENGLISH, userLanguage, texts)
+                .onErrorResume(e -> {
+                    log.warn("메뉴 정보 일괄 번역 실패. 번역하지 않은 값을 사용합니다.", e);
+                    return Mono.just(Map.of());
+                })
+                .flatMapMany(translations -> Flux.fromIterable(scrapedMenuItems)
+                        .flatMap(scraped -> toResponse(scraped, translations, userCurrency)));
+    }
+
+    private Mono<IndexedFoodItemResponse> toResponse(
+            final ScrapedMenuItem scraped,
+            final Map<String, String> translations,
+            final Currency userCurrency
+    ) {
+        final FoodInfo foodInfo = scraped.foodInfo();
+        final String translatedName = translations.getOrDefault(foodInfo.getName(), foodInfo.getName());
+        final String description = foodInfo.getDescription();
+        final String translatedDescription = StringUtils.hasText(description)
+                ? translations.getOrDefault(description, UNTRANSLATED_DESCRIPTION)
+                : description;
+
+        return currencyService.convertAndFormatAsync(scraped.menuItem().getPrice(), userCurrency)
+                .onErrorResume(e -> Mono.just(new PriceInfoResponse("N/A", "N/A")))
+                .map(priceInfo -> new IndexedFoodItemResponse(scraped.position(), new FoodItemResponse(
+                        scraped.menuItem().getName(),
+                        translatedName,
+                        translatedDescription,
+                        foodInfo.getImage(),
+                        priceInfo
+                )));
+    }
+
+    /**
+     * @return 원문을 키로, 번역문을 값으로 하는 맵
+     */
+    private Mono<Map<String, String>> translateAll(final Language source, final Language target, final List<String> texts) {
+        if (texts.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        return translationClient.translateAsync(source, target, texts)
+                .collectList()
+                .map(translatedTexts -> {
+                    if (translatedTexts.size() != texts.size()) {
+                        throw new LanguageException(LanguageErrorCode.TRANSLATION_FAILED);
+                    }
+                    final Map<String, String> translations = new HashMap<>();
+                    for (int i = 0; i < texts.size(); i++) {
+                        translations.put(texts.get(i), translatedTexts.get(i));
+                    }
+                    return translations;
+                });
+    }
+
+    private static List<String> distinctTexts(final Stream<String> texts) {
+        return texts.filter(StringUtils::hasText)
+                .distinct()
+                .toList();
+    }
+
+    private static FoodInfo defaultFoodInfo(final String engName) {
+        return new FoodInfo(engName, DEFAULT_DESCRIPTION, "", "");
+    }
+
+    private record ScrapedMenuItem(int position, MenuItem menuItem, FoodInfo foodInfo) {
     }
 }
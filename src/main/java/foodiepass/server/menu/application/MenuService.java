@@ -3,15 +3,15 @@ package foodiepass.server.menu.application;
 import foodiepass.server.currency.domain.Currency;
 import foodiepass.server.language.domain.Language;
 import foodiepass.server.menu.application.port.out.OcrReader;
-import foodiepass.server.menu.domain.MenuItem;
 import foodiepass.server.menu.dto.request.ReconfigureRequest;
+import foodiepass.server.menu.dto.response.IndexedFoodItemResponse;
 import foodiepass.server.menu.dto.response.ReconfigureResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.util.Comparator;
 
 @Service
 @RequiredArgsConstructor
@@ -21,22 +21,28 @@ public class MenuService {
     private final MenuItemEnricher menuItemEnricher;
 
     public Mono<ReconfigureResponse> reconfigure(final ReconfigureRequest request) {
+        return reconfigureStream(request)
+                .collectSortedList(Comparator.comparingInt(IndexedFoodItemResponse::position))
+                .map(items -> items.stream().map(IndexedFoodItemResponse::item).toList())
+                .map(ReconfigureResponse::new);
+    }
+
+    /**
+     * 보강이 끝난 메뉴부터 바로 내보낸다. 각 항목에는 OCR 결과에서의 위치가 함께 담긴다.
+     */
+    public Flux<IndexedFoodItemResponse> reconfigureStream(final ReconfigureRequest request) {
         final Language originLanguage = Language.fromLanguageName(request.originLanguageName());
         final Language userLanguage = Language.fromLanguageName(request.userLanguageName());
         final Currency originCurrency = Currency.fromCurrencyName(request.originCurrencyName());
         final Currency userCurrency = Currency.fromCurrencyName(request.userCurrencyName());
 
-        final List<MenuItem> menuItems = ocrReader.read(request.base64EncodedImage());
-
-        return Flux.fromIterable(menuItems)
-                .flatMap(menuItem -> menuItemEnricher.enrichAsync(
-                        menuItem,
+        return ocrReader.read(request.image())
+                .flatMapMany(menuItems -> menuItemEnricher.enrichAllAsync(
+                        menuItems,
                         originLanguage,
                         userLanguage,
                         originCurrency,
                         userCurrency
-                ))
-                .collectList()
-                .map(ReconfigureResponse::new);
+                ));
     }
 }
@@ -0,0 +1,29 @@
+package foodiepass.server.menu.application.port.out;
+
+import foodiepass.server.menu.domain.FoodInfoSource;
+import foodiepass.server.menu.domain.FoodKnowledge;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface FoodKnowledgeRepository {
+
+    Optional<FoodKnowledge> find(String normalizedName, FoodInfoSource source);
+
+    /**
+     * @return 이름이 같은 모든 출처의 정보
+     */
+    List<FoodKnowledge> findAll(String normalizedName);
+
+    List<FoodKnowledge> findMostRequested(FoodInfoSource source, int limit);
+
+    /**
+     * 이름과 출처가 같은 정보만 덮어쓴다. 조회 횟수는 유지한다.
+     */
+    void save(FoodKnowledge knowledge);
+
+    /**
+     * 출처와 상관없이 이름이 같은 모든 정보의 조회 횟수를 늘린다.
+     */
+    void increaseRequestCount(String normalizedName, long delta);
+}
@@ -0,0 +1,29 @@
+package foodiepass.server.menu.application.port.out;
+
+import foodiepass.server.menu.domain.FoodInfo;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+public interface FoodScrapper {
+
+    /**
+     * 음식 이름마다 설명과 이미지를 찾아 {@link FoodInfo}로 돌려준다. 결과 순서는 입력 순서와 다를 수 있다.
+     */
+    Flux<FoodInfo> scrapAsync(List<String> foodNames);
+
+    /**
+     * 요청한 음식 이름을 키로 결과를 돌려준다. 스크래핑에 실패한 이름은 결과에 담기지 않는다.
+     * 여러 이름을 한 번의 외부 호출로 처리할 수 있는 구현은 이 메서드를 재정의한다.
+     */
+    default Mono<Map<String, FoodInfo>> scrapByNameAsync(final List<String> foodNames) {
+        return Flux.fromStream(foodNames.stream().distinct())
+                .flatMap(foodName -> scrapAsync(List.of(foodName))
+                        .next()
+                        .map(foodInfo -> Map.entry(foodName, foodInfo))
+                        .onErrorResume(e -> Mono.empty()))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+}
@@ -0,0 +1,15 @@
+package foodiepass.server.menu.application.port.out;
+
+import foodiepass.server.menu.domain.MenuImage;
+import foodiepass.server.menu.domain.MenuItem;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface OcrReader {
+
+    /**
+     * 메뉴판 이미지에서 메뉴 이름과 가격을 읽는다. 호출 스레드를 막지 않도록 결과는 구독 시점에 비동기로 만들어진다.
+     */
+    Mono<List<MenuItem>> read(MenuImage image);
+}
@@ -0,0 +1,17 @@
+package foodiepass.server.menu.application.port.out;
+
+import foodiepass.server.language.domain.Language;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface TranslationClient {
+
+    Mono<String> translateAsync(Language source, Language target, String text);
+
+    /**
+     * 여러 문장을 한 번의 요청으로 번역한다. 결과는 입력과 같은 순서로 전달된다.
+     */
+    Flux<String> translateAsync(Language source, Language target, List<String> texts);
+}
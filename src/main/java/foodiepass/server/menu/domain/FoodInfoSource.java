@@ -0,0 +1,7 @@
+package foodiepass.server.menu.domain;
+
+public enum FoodInfoSource {
+    GEMINI,
+    TASTE_ATLAS,
+    URL
+}
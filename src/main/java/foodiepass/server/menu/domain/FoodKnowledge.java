@@ -0,0 +1,55 @@
+package foodiepass.server.menu.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 스크래퍼가 한 번 알아낸 음식 정보. 정규화한 영어 음식 이름과 출처를 키로 배포 사이에도 유지된다.
+ */
+@Getter
+public class FoodKnowledge {
+
+    private final String normalizedName;
+    private final String requestedName;
+    private final FoodInfoSource source;
+    @Getter(AccessLevel.NONE)
+    private final FoodInfo foodInfo;
+    private final Instant fetchedAt;
+    private final long requestCount;
+
+    public FoodKnowledge(
+            final String requestedName,
+            final FoodInfoSource source,
+            final FoodInfo foodInfo,
+            final Instant fetchedAt
+    ) {
+        this(FoodNameNormalizer.normalize(requestedName), requestedName, source, foodInfo, fetchedAt, 0L);
+    }
+
+    public FoodKnowledge(
+            final String normalizedName,
+            final String requestedName,
+            final FoodInfoSource source,
+            final FoodInfo foodInfo,
+            final Instant fetchedAt,
+            final long requestCount
+    ) {
+        this.normalizedName = normalizedName;
+        this.requestedName = requestedName;
+        this.source = source;
+        this.foodInfo = foodInfo;
+        this.fetchedAt = fetchedAt;
+        this.requestCount = requestCount;
+    }
+
+    public boolean isStale(final Duration maxAge, final Instant now) {
+        return fetchedAt.plus(maxAge).isBefore(now);
+    }
+
+    public FoodInfo toFoodInfo() {
+        return foodInfo;
+    }
+}
@@ -0,0 +1,122 @@
+package foodiepass.server.menu.domain;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이미 스크래핑한 음식 이름의 문자 3-gram 역색인.
+ * 정규화한 이름이 그대로 있거나, 3-gram 집합의 Jaccard 유사도가 {@code similarityThreshold} 이상인 이름이 있으면
+ * 그 이름을 처음 스크래핑할 때 쓴 대표 이름을 돌려준다. 색인은 {@code maximumSize}개까지만 늘어난다.
+ */
+public final class FoodNameIndex {
+
+    private static final int GRAM_SIZE = 3;
+    private static final String PADDING = " ".repeat(GRAM_SIZE - 1);
+
+    private final int maximumSize;
+    private final double similarityThreshold;
+    private final Map<String, String> representatives = new HashMap<>();
+    private final Map<String, Integer> gramCounts = new HashMap<>();
+    private final Map<String, List<String>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public FoodNameIndex(final int maximumSize, final double similarityThreshold) {
+        this.maximumSize = maximumSize;
+        this.similarityThreshold = similarityThreshold;
+    }
+
+    public Optional<Match> find(final String normalizedName) {
+        lock.readLock().lock();
+        try {
+            final String exact = representatives.get(normalizedName);
+            if (exact != null) {
+                return Optional.of(new Match(exact, 1.0, true));
+            }
+            return findSimilar(normalizedName);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 새로 색인했으면 true. 이미 있거나 색인이 가득 찼으면 false
+     */
+    public boolean add(final String normalizedName, final String representative) {
+        lock.writeLock().lock();
+        try {
+            if (representatives.containsKey(normalizedName) || representatives.size() >= maximumSize) {
+                return false;
+            }
+            representatives.put(normalizedName, representative);
+            final Set<String> grams = gramsOf(normalizedName);
+            gramCounts.put(normalizedName, grams.size());
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, key -> new ArrayList<>()).add(normalizedName);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return representatives.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Optional<Match> findSimilar(final String normalizedName) {
+        final Set<String> grams = gramsOf(normalizedName);
+        final Map<String, Integer> sharedCounts = new HashMap<>();
+        for (String gram : grams) {
+            final List<String> names = postings.get(gram);
+            if (names != null) {
+                names.forEach(name -> sharedCounts.merge(name, 1, Integer::sum));
+            }
+        }
+
+        String bestName = null;
+        double bestSimilarity = 0.0;
+        for (Map.Entry<String, Integer> entry : sharedCounts.entrySet()) {
+            final int shared = entry.getValue();
+            final double similarity = (double) shared / (grams.size() + gramCounts.get(entry.getKey()) - shared);
+            if (similarity > bestSimilarity) {
+                bestName = entry.getKey();
+                bestSimilarity = similarity;
+            }
+        }
+        if (bestName == null || bestSimilarity < similarityThreshold) {
+            return Optional.empty();
+        }
+        return Optional.of(new Match(representatives.get(bestName), bestSimilarity, false));
+    }
+
+    /**
+     * 띄어쓰기 차이("bibim bap", "bibimbap")가 유사도를 떨어뜨리지 않도록 공백을 뺀 뒤 3-gram을 만든다.
+     */
+    private static Set<String> gramsOf(final String normalizedName) {
+        final String padded = PADDING + normalizedName.replace(" ", "") + " ";
+        final Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * @param representative 이 이름으로 스크래퍼를 호출하면 이미 캐시된 결과를 얻는다
+     * @param exact          정규화한 이름이 그대로 색인에 있었으면 true
+     */
+    public record Match(String representative, double similarity, boolean exact) {
+    }
+}
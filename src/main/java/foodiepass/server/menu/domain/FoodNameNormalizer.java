@@ -0,0 +1,63 @@
+package foodiepass.server.menu.domain;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 번역된 영어 음식 이름을 캐시와 저장소의 키로 쓸 수 있게 정규화한다.
+ * 대소문자, 문장 부호, 공백, 발음 구별 기호를 없애고, 로마자 표기 차이는 겹자음을 줄인 뒤 토큰 단위 대응표로 맞춘다.
+ * 예: "Kimchi Jjigae", "kimchi-jjigae", "Kimchi stew"는 모두 "kimchi jigae"가 된다.
+ */
+public final class FoodNameNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[\\p{P}\\p{S}\\s]+");
+    private static final Pattern DOUBLED_CONSONANTS = Pattern.compile("([bcdfghjklmnpqrstvwxz])\\1+");
+
+    /**
+     * 겹자음을 줄인 뒤의 토큰 기준 대응표. 같은 음식을 가리키는 표기와 영어 풀이를 한 표기로 모은다.
+     */
+    private static final Map<String, String> TOKEN_VARIANTS = Map.ofEntries(
+            Map.entry("chigae", "jigae"),
+            Map.entry("chige", "jigae"),
+            Map.entry("jige", "jigae"),
+            Map.entry("stew", "jigae"),
+            Map.entry("gook", "guk"),
+            Map.entry("kuk", "guk"),
+            Map.entry("bokum", "bokeum"),
+            Map.entry("bokeom", "bokeum"),
+            Map.entry("deok", "teok"),
+            Map.entry("duk", "teok"),
+            Map.entry("tok", "teok"),
+            Map.entry("bab", "bap"),
+            Map.entry("kogi", "gogi"),
+            Map.entry("kimchee", "kimchi"),
+            Map.entry("gimchi", "kimchi"),
+            Map.entry("ramyeon", "ramyun"),
+            Map.entry("ramen", "ramyun")
+    );
+
+    private FoodNameNormalizer() {
+    }
+
+    public static String normalize(final String foodName) {
+        final String decomposed = Normalizer.normalize(foodName, Normalizer.Form.NFD);
+        final String withoutMarks = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        final String[] tokens = SEPARATORS.split(withoutMarks.toLowerCase(Locale.ROOT).strip());
+
+        final StringBuilder normalized = new StringBuilder(foodName.length());
+        for (String token : tokens) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            if (!normalized.isEmpty()) {
+                normalized.append(' ');
+            }
+            final String collapsed = DOUBLED_CONSONANTS.matcher(token).replaceAll("$1");
+            normalized.append(TOKEN_VARIANTS.getOrDefault(collapsed, collapsed));
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,114 @@
+package foodiepass.server.menu.domain;
+
+import foodiepass.server.menu.exception.FoodErrorCode;
+import foodiepass.server.menu.exception.FoodException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * 요청으로 받은 메뉴판 사진. 업로드 본문이나 Base64 문자열을 한 번만 풀어 담은 버퍼를 OCR까지 복사하지 않고 넘긴다.
+ * 버퍼는 실제 길이보다 클 수 있으므로 항상 {@link #length()}까지만 읽어야 하고, 받은 쪽은 내용을 바꾸면 안 된다.
+ */
+public final class MenuImage {
+
+    /**
+     * Gemini 인라인 이미지 한도와 같다. 이보다 큰 사진은 OCR로 보낼 수 없으므로 받는 단계에서 끊는다.
+     */
+    public static final int MAX_SIZE = 20 * 1024 * 1024;
+
+    private static final int DEFAULT_CAPACITY = 256 * 1024;
+
+    private final byte[] buffer;
+    private final int length;
+
+    private MenuImage(final byte[] buffer, final int length) {
+        if (length <= 0) {
+            throw new FoodException(FoodErrorCode.EMPTY_MENU_IMAGE);
+        }
+        this.buffer = buffer;
+        this.length = length;
+    }
+
+    public static MenuImage of(final byte[] bytes) {
+        return new MenuImage(bytes, bytes.length);
+    }
+
+    /**
+     * 본문 길이를 알면 그 크기의 버퍼 하나에 바로 읽어 들인다. 모르면 {@code -1}을 넘긴다.
+     */
+    public static MenuImage read(final InputStream input, final long expectedSize) throws IOException {
+        try (Output output = output(expectedSize)) {
+            input.transferTo(output);
+            return output.toImage();
+        }
+    }
+
+    public static Output output(final long expectedSize) {
+        if (expectedSize > MAX_SIZE) {
+            throw new FoodException(FoodErrorCode.MENU_IMAGE_TOO_LARGE);
+        }
+        return new Output(expectedSize > 0 ? (int) expectedSize : DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 복사하지 않은 내부 버퍼. 앞에서부터 {@link #length()} 바이트만 유효하다.
+     */
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public InputStream inputStream() {
+        return new ByteArrayInputStream(buffer, 0, length);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, length);
+    }
+
+    /**
+     * 쓰는 대로 버퍼를 키우다가 {@link #toImage()}에서 그 버퍼를 그대로 넘긴다. {@link #MAX_SIZE}를 넘기면 예외를 던진다.
+     */
+    public static final class Output extends OutputStream {
+
+        private byte[] buffer;
+        private int count;
+
+        private Output(final int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        @Override
+        public void write(final int b) {
+            ensureCapacity(count + 1);
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) {
+            ensureCapacity(count + length);
+            System.arraycopy(bytes, offset, buffer, count, length);
+            count += length;
+        }
+
+        public MenuImage toImage() {
+            return new MenuImage(buffer, count);
+        }
+
+        private void ensureCapacity(final int required) {
+            if (required > MAX_SIZE || required < 0) {
+                throw new FoodException(FoodErrorCode.MENU_IMAGE_TOO_LARGE);
+            }
+            if (required > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.min(MAX_SIZE, Math.max(required, buffer.length * 2)));
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package foodiepass.server.menu.dto.request;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import foodiepass.server.menu.domain.MenuImage;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+
+/**
+ * JSON 문자열로 온 Base64 사진을 {@link String}으로 만들지 않고 파서에서 바로 풀어 {@link MenuImage} 버퍼에 쓴다.
+ * 요청 본문 길이를 알면 풀린 크기의 상한으로 버퍼를 한 번에 잡아, 큰 사진을 받으며 버퍼를 여러 번 키우지 않는다.
+ */
+public class Base64MenuImageDeserializer extends JsonDeserializer<MenuImage> {
+
+    @Override
+    public MenuImage deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+        if (!parser.hasToken(JsonToken.VALUE_STRING)) {
+            return (MenuImage) context.handleUnexpectedToken(MenuImage.class, parser);
+        }
+        try (MenuImage.Output output = MenuImage.output(expectedImageSize())) {
+            parser.readBinaryValue(context.getBase64Variant(), output);
+            return output.toImage();
+        }
+    }
+
+    /**
+     * Base64는 4글자가 3바이트로 풀리므로 본문 길이로 사진 크기의 상한을 잡는다. 길이를 모르면 {@code -1}을 돌려준다.
+     */
+    private static long expectedImageSize() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return -1;
+        }
+        final long contentLength = attributes.getRequest().getContentLengthLong();
+        if (contentLength <= 0) {
+            return -1;
+        }
+        return Math.min(MenuImage.MAX_SIZE, (contentLength + 3) / 4 * 3);
+    }
+}
@@ -0,0 +1,18 @@
+package foodiepass.server.menu.dto.request;
+
+import foodiepass.server.menu.domain.MenuImage;
+
+/**
+ * 사진을 JSON이 아닌 바이너리나 multipart로 올릴 때 쿼리 파라미터나 폼 필드로 함께 받는 나머지 값.
+ */
+public record ReconfigureOptions(
+        String originLanguageName,
+        String userLanguageName,
+        String originCurrencyName,
+        String userCurrencyName
+) {
+
+    public ReconfigureRequest toRequest(final MenuImage image) {
+        return new ReconfigureRequest(image, originLanguageName, userLanguageName, originCurrencyName, userCurrencyName);
+    }
+}
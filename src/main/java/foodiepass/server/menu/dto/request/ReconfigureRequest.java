@@ -1,7 +1,13 @@
 package foodiepass.server.menu.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import foodiepass.server.menu.domain.MenuImage;
+
 public record ReconfigureRequest(
-        String base64EncodedImage,
+        @JsonProperty("base64EncodedImage")
+        @JsonDeserialize(using = Base64MenuImageDeserializer.class)
+        MenuImage image,
         String originLanguageName,
         String userLanguageName,
         String originCurrencyName,
@@ -0,0 +1,12 @@
+package foodiepass.server.menu.dto.response;
+
+import foodiepass.server.menu.dto.response.ReconfigureResponse.FoodItemResponse;
+
+/**
+ * 스트리밍 응답의 한 항목. 항목은 처리가 끝난 순서대로 전달되므로 {@code position}으로 메뉴판에서의 원래 순서를 알려준다.
+ */
+public record IndexedFoodItemResponse(
+        int position,
+        FoodItemResponse item
+) {
+}
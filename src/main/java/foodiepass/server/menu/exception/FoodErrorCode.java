@@ -13,7 +13,9 @@ public enum FoodErrorCode implements ErrorCode {
     MENU_ITEM_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 메뉴 항목입니다."),
     INVALID_FOOD_NAME(HttpStatus.BAD_REQUEST, "음식 이름은 비어있을 수 없습니다."),
     INVALID_MENU_ITEM_NAME(HttpStatus.BAD_REQUEST, "메뉴 이름은 비어있을 수 없습니다."),
-    INVALID_MENU_ITEM_PRICE(HttpStatus.BAD_REQUEST, "메뉴 가격 정보는 필수입니다.");
+    INVALID_MENU_ITEM_PRICE(HttpStatus.BAD_REQUEST, "메뉴 가격 정보는 필수입니다."),
+    EMPTY_MENU_IMAGE(HttpStatus.BAD_REQUEST, "메뉴판 사진이 비어있습니다."),
+    MENU_IMAGE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "메뉴판 사진은 20MB를 넘을 수 없습니다.");
 
     private final HttpStatus status;
     private final String message;
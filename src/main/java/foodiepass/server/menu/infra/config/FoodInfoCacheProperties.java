@@ -0,0 +1,32 @@
+package foodiepass.server.menu.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "food-info.cache")
+public record FoodInfoCacheProperties(
+        Integer maximumSize,
+        Duration ttl,
+        Duration negativeTtl,
+        Duration refreshAhead,
+        Double jitterRatio
+) {
+    public FoodInfoCacheProperties {
+        if (maximumSize == null) {
+            maximumSize = 10_000;
+        }
+        if (ttl == null) {
+            ttl = Duration.ofHours(1);
+        }
+        if (negativeTtl == null) {
+            negativeTtl = Duration.ofMinutes(1);
+        }
+        if (refreshAhead == null) {
+            refreshAhead = Duration.ofMinutes(5);
+        }
+        if (jitterRatio == null) {
+            jitterRatio = 0.1;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package foodiepass.server.menu.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "food-info.tiers")
+public record FoodScrapperTierProperties(
+        Double hedgePercentile,
+        Duration initialHedgeDelay,
+        Duration minHedgeDelay,
+        Duration maxHedgeDelay,
+        Integer latencySampleSize,
+        Integer minimumSamples
+) {
+    public FoodScrapperTierProperties {
+        if (hedgePercentile == null) {
+            hedgePercentile = 0.9;
+        }
+        if (initialHedgeDelay == null) {
+            initialHedgeDelay = Duration.ofSeconds(2);
+        }
+        if (minHedgeDelay == null) {
+            minHedgeDelay = Duration.ofMillis(200);
+        }
+        if (maxHedgeDelay == null) {
+            maxHedgeDelay = Duration.ofSeconds(5);
+        }
+        if (latencySampleSize == null) {
+            latencySampleSize = 256;
+        }
+        if (minimumSamples == null) {
+            minimumSamples = 20;
+        }
+    }
+}
@@ -11,6 +11,8 @@ public enum ScrapingErrorCode implements ErrorCode {
     SCRAPING_CONNECTION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "환율 정보 스크래핑 연결에 실패했습니다."),
     RATE_ELEMENT_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "환율 정보를 담고 있는 요소를 찾지 못했습니다."),
     RATE_PARSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "스크래핑한 환율 정보를 파싱하는 데 실패했습니다."),
+    RATE_FEED_FETCH_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "환율 피드를 가져오는 데 실패했습니다."),
+    RATE_FEED_PARSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "환율 피드를 파싱하는 데 실패했습니다."),
 
     TASTE_ATLAS_API_REQUEST_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "TasteAtlas API 요청에 실패했습니다."),
     TASTE_ATLAS_JSON_PARSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "TasteAtlas API 응답 파싱에 실패했습니다."),
@@ -0,0 +1,93 @@
+package foodiepass.server.menu.infra.image;
+
+import java.awt.geom.AffineTransform;
+
+/**
+ * JPEG의 EXIF 방향 값(1~8)을 읽고, 그 방향을 바로 세우는 변환을 만든다.
+ * 휴대폰 사진은 픽셀을 돌리지 않고 방향 값만 기록하는 경우가 많아서, 그대로 보내면 옆으로 누운 메뉴판이 된다.
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final int APP1_MARKER = 0xE1;
+    private static final int START_OF_SCAN_MARKER = 0xDA;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * EXIF가 없거나 읽을 수 없으면 {@link #NORMAL}을 돌려준다.
+     */
+    static int read(final byte[] jpeg, final int length) {
+        try {
+            int offset = 2;
+            while (offset + 4 <= length && (jpeg[offset] & 0xFF) == 0xFF) {
+                final int marker = jpeg[offset + 1] & 0xFF;
+                final int segmentLength = readShort(jpeg, offset + 2, false);
+                if (marker == START_OF_SCAN_MARKER) {
+                    return NORMAL;
+                }
+                if (marker == APP1_MARKER && isExif(jpeg, offset + 4)) {
+                    return readOrientation(jpeg, offset + 10);
+                }
+                offset += 2 + segmentLength;
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            return NORMAL;
+        }
+        return NORMAL;
+    }
+
+    static boolean swapsDimensions(final int orientation) {
+        return orientation >= 5 && orientation <= 8;
+    }
+
+    /**
+     * 너비 {@code width}, 높이 {@code height}인 이미지를 바로 세우는 변환.
+     */
+    static AffineTransform transform(final int orientation, final int width, final int height) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);
+            default -> new AffineTransform();
+        };
+    }
+
+    private static boolean isExif(final byte[] jpeg, final int offset) {
+        return jpeg[offset] == 'E' && jpeg[offset + 1] == 'x' && jpeg[offset + 2] == 'i' && jpeg[offset + 3] == 'f'
+                && jpeg[offset + 4] == 0 && jpeg[offset + 5] == 0;
+    }
+
+    private static int readOrientation(final byte[] jpeg, final int tiffStart) {
+        final boolean littleEndian = jpeg[tiffStart] == 'I' && jpeg[tiffStart + 1] == 'I';
+        final int ifdStart = tiffStart + readInt(jpeg, tiffStart + 4, littleEndian);
+        final int entryCount = readShort(jpeg, ifdStart, littleEndian);
+        for (int i = 0; i < entryCount; i++) {
+            final int entry = ifdStart + 2 + i * 12;
+            if (readShort(jpeg, entry, littleEndian) == ORIENTATION_TAG) {
+                final int orientation = readShort(jpeg, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    private static int readShort(final byte[] bytes, final int offset, final boolean littleEndian) {
+        final int first = bytes[offset] & 0xFF;
+        final int second = bytes[offset + 1] & 0xFF;
+        return littleEndian ? (second << 8) | first : (first << 8) | second;
+    }
+
+    private static int readInt(final byte[] bytes, final int offset, final boolean littleEndian) {
+        final int high = readShort(bytes, littleEndian ? offset + 2 : offset, littleEndian);
+        final int low = readShort(bytes, littleEndian ? offset : offset + 2, littleEndian);
+        return (high << 16) | low;
+    }
+}
@@ -0,0 +1,84 @@
+package foodiepass.server.menu.infra.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 파일 앞부분의 매직 바이트로 판별한 이미지 형식.
+ * 형식을 알 수 없으면 예전처럼 {@code image/jpeg}로 보낸다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageFormat {
+    JPEG("image/jpeg"),
+    PNG("image/png"),
+    GIF("image/gif"),
+    BMP("image/bmp"),
+    WEBP("image/webp"),
+    HEIC("image/heic"),
+    HEIF("image/heif"),
+    UNKNOWN("image/jpeg");
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private final String mimeType;
+
+    public static ImageFormat detect(final byte[] bytes) {
+        return detect(bytes, bytes.length);
+    }
+
+    /**
+     * {@code bytes}의 앞 {@code length} 바이트만 본다.
+     */
+    public static ImageFormat detect(final byte[] bytes, final int length) {
+        if (startsWith(bytes, length, 0, (byte) 0xFF, (byte) 0xD8, (byte) 0xFF)) {
+            return JPEG;
+        }
+        if (startsWith(bytes, length, 0, PNG_SIGNATURE)) {
+            return PNG;
+        }
+        if (startsWith(bytes, length, 0, ascii("GIF87a")) || startsWith(bytes, length, 0, ascii("GIF89a"))) {
+            return GIF;
+        }
+        if (startsWith(bytes, length, 0, ascii("RIFF")) && startsWith(bytes, length, 8, ascii("WEBP"))) {
+            return WEBP;
+        }
+        if (startsWith(bytes, length, 4, ascii("ftyp"))) {
+            return detectIsoBrand(bytes, length);
+        }
+        if (startsWith(bytes, length, 0, ascii("BM"))) {
+            return BMP;
+        }
+        return UNKNOWN;
+    }
+
+    private static ImageFormat detectIsoBrand(final byte[] bytes, final int length) {
+        if (length < 12) {
+            return UNKNOWN;
+        }
+        final String brand = new String(bytes, 8, 4, StandardCharsets.US_ASCII);
+        return switch (brand) {
+            case "heic", "heix", "hevc", "hevx", "heim", "heis" -> HEIC;
+            case "mif1", "msf1" -> HEIF;
+            default -> UNKNOWN;
+        };
+    }
+
+    private static boolean startsWith(final byte[] bytes, final int length, final int offset, final byte... prefix) {
+        if (length < offset + prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] ascii(final String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
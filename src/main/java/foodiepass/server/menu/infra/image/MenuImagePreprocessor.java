@@ -0,0 +1,177 @@
+package foodiepass.server.menu.infra.image;
+
+import foodiepass.server.menu.domain.MenuImage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * OCR 요청 전에 메뉴판 사진을 줄인다. 실제 형식은 매직 바이트로 판별하고, EXIF 방향을 바로잡은 뒤
+ * 긴 변을 {@code maxEdge}로 맞추고 필요하면 흑백으로 바꿔 {@code jpegQuality}로 다시 인코딩한다.
+ * 이미 작고 바로 선 JPEG이거나 JDK로 읽을 수 없는 형식(WebP, HEIC 등)은 원본을 실제 MIME 타입과 함께 그대로 보낸다.
+ */
+@Slf4j
+@Component
+public class MenuImagePreprocessor {
+
+    private static final String METRIC_PREFIX = "ocr.image";
+    private static final long MAX_SOURCE_PIXELS = 100_000_000L;
+
+    private final int maxEdge;
+    private final boolean grayscale;
+    private final float jpegQuality;
+
+    private final DistributionSummary originalBytesSummary;
+    private final DistributionSummary preparedBytesSummary;
+
+    public MenuImagePreprocessor(
+            @Value("${ocr.image.max-edge:2048}") final int maxEdge,
+            @Value("${ocr.image.grayscale:false}") final boolean grayscale,
+            @Value("${ocr.image.jpeg-quality:0.85}") final float jpegQuality,
+            final MeterRegistry meterRegistry
+    ) {
+        if (maxEdge <= 0) {
+            throw new IllegalArgumentException("maxEdge must be positive");
+        }
+        if (jpegQuality <= 0 || jpegQuality > 1) {
+            throw new IllegalArgumentException("jpegQuality must be in (0, 1]");
+        }
+        this.maxEdge = maxEdge;
+        this.grayscale = grayscale;
+        this.jpegQuality = jpegQuality;
+
+        this.originalBytesSummary = bytesSummary(meterRegistry, "original");
+        this.preparedBytesSummary = bytesSummary(meterRegistry, "prepared");
+    }
+
+    /**
+     * 처리 중 오류가 나면 OCR 자체는 계속할 수 있도록 원본을 돌려준다. 원본을 그대로 보낼 때는 받은 버퍼를 복사하지 않는다.
+     */
+    public PreparedImage prepare(final MenuImage image) {
+        originalBytesSummary.record(image.length());
+        final PreparedImage prepared = prepareOrKeep(image);
+        preparedBytesSummary.record(prepared.image().length());
+        return prepared;
+    }
+
+    private PreparedImage prepareOrKeep(final MenuImage image) {
+        final ImageFormat format = ImageFormat.detect(image.buffer(), image.length());
+        final PreparedImage original = new PreparedImage(image, format.getMimeType());
+        final int orientation = format == ImageFormat.JPEG
+                ? ExifOrientation.read(image.buffer(), image.length())
+                : ExifOrientation.NORMAL;
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(image.inputStream())) {
+            final Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return original;
+            }
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                final int width = reader.getWidth(0);
+                final int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    log.warn("메뉴 이미지가 너무 커서 원본을 그대로 보냅니다. width={}, height={}", width, height);
+                    return original;
+                }
+                if (format == ImageFormat.JPEG && orientation == ExifOrientation.NORMAL
+                        && Math.max(width, height) <= maxEdge && !grayscale) {
+                    return original;
+                }
+
+                final BufferedImage decoded = reader.read(0, subsampled(reader, Math.max(width, height)));
+                return new PreparedImage(encodeJpeg(render(decoded, orientation)), ImageFormat.JPEG.getMimeType());
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("메뉴 이미지 전처리에 실패해 원본을 그대로 보냅니다. format={}", format, e);
+            return original;
+        }
+    }
+
+    /**
+     * 목표 크기의 두 배까지는 디코딩 단계에서 건너뛰어 읽는다. 12MP 사진 전체를 메모리에 펼치지 않기 위함이다.
+     * 나머지 축소는 보간으로 처리해 글자 가장자리가 깨지지 않게 한다.
+     */
+    private ImageReadParam subsampled(final ImageReader reader, final int longEdge) {
+        final ImageReadParam param = reader.getDefaultReadParam();
+        final int step = longEdge / (maxEdge * 2);
+        if (step > 1) {
+            param.setSourceSubsampling(step, step, 0, 0);
+        }
+        return param;
+    }
+
+    private BufferedImage render(final BufferedImage source, final int orientation) {
+        final boolean swap = ExifOrientation.swapsDimensions(orientation);
+        final int orientedWidth = swap ? source.getHeight() : source.getWidth();
+        final int orientedHeight = swap ? source.getWidth() : source.getHeight();
+        final double scale = Math.min(1.0, (double) maxEdge / Math.max(orientedWidth, orientedHeight));
+        final int targetWidth = Math.max(1, (int) Math.round(orientedWidth * scale));
+        final int targetHeight = Math.max(1, (int) Math.round(orientedHeight * scale));
+
+        final AffineTransform transform = AffineTransform.getScaleInstance(
+                (double) targetWidth / orientedWidth, (double) targetHeight / orientedHeight);
+        transform.concatenate(ExifOrientation.transform(orientation, source.getWidth(), source.getHeight()));
+
+        final BufferedImage target = new BufferedImage(targetWidth, targetHeight,
+                grayscale ? BufferedImage.TYPE_BYTE_GRAY : BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private MenuImage encodeJpeg(final BufferedImage image) throws IOException {
+        final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        final MenuImage.Output output = MenuImage.output(-1);
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            final ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toImage();
+    }
+
+    private static DistributionSummary bytesSummary(final MeterRegistry meterRegistry, final String stage) {
+        return DistributionSummary.builder(METRIC_PREFIX + ".bytes")
+                .description("OCR로 보내기 전후의 메뉴 이미지 크기")
+                .baseUnit("bytes")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    public record PreparedImage(MenuImage image, String mimeType) {
+    }
+}
@@ -0,0 +1,144 @@
+package foodiepass.server.menu.infra.knowledge;
+
+import foodiepass.server.global.cache.AsyncCache;
+import foodiepass.server.menu.application.port.out.FoodKnowledgeRepository;
+import foodiepass.server.menu.domain.FoodInfo;
+import foodiepass.server.menu.domain.FoodInfoSource;
+import foodiepass.server.menu.domain.FoodKnowledge;
+import foodiepass.server.menu.domain.FoodNameNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 스크래퍼가 외부 호출 전에 먼저 읽고, 스크래핑에 성공하면 뒤에서 기록하는 영속 음식 정보 저장소.
+ * 정보는 출처별로 따로 보관하고, 조회 횟수는 이름별로 메모리에 모았다가 주기적으로 반영한다.
+ * 조회 횟수는 저장소를 읽을 때가 아니라 사용자 요청마다 한 번, 요청을 받는 쪽이 {@link #recordRequest(String)}로 센다.
+ * 시작 시 출처마다 가장 많이 조회된 음식을 그 출처의 메모리 캐시에 미리 올린다.
+ */
+@Slf4j
+@Component
+public class FoodKnowledgeBase {
+
+    private final FoodKnowledgeRepository repository;
+    private final Duration maxAge;
+    private final int warmUpSize;
+    private final Map<String, LongAdder> pendingRequestCounts = new ConcurrentHashMap<>();
+
+    public FoodKnowledgeBase(
+            final FoodKnowledgeRepository repository,
+            @Value("${food-info.knowledge.max-age:P30D}") final Duration maxAge,
+            @Value("${food-info.knowledge.warm-up-size:2000}") final int warmUpSize
+    ) {
+        this.repository = repository;
+        this.maxAge = maxAge;
+        this.warmUpSize = warmUpSize;
+    }
+
+    /**
+     * {@code source}가 기록한 정보를 찾는다.
+     * 저장된 정보가 없거나 {@code maxAge}보다 오래됐거나 조회에 실패하면 비어 있는 결과를 돌려준다.
+     */
+    public Mono<FoodInfo> find(final String foodName, final FoodInfoSource source) {
+        final String normalizedName = FoodNameNormalizer.normalize(foodName);
+        return Mono.fromCallable(() -> repository.find(normalizedName, source))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty)
+                .filter(knowledge -> !knowledge.isStale(maxAge, Instant.now()))
+                .map(FoodKnowledge::toFoodInfo)
+                .onErrorResume(DataAccessException.class, e -> {
+                    log.warn("음식 정보 저장소 조회에 실패했습니다. foodName='{}'", foodName, e);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 출처와 상관없이 오래되지 않은 정보 중 가장 최근에 가져온 것을 찾는다. 실패는 {@link #find(String, FoodInfoSource)}와 같게 다룬다.
+     */
+    public Mono<FoodInfo> find(final String foodName) {
+        final String normalizedName = FoodNameNormalizer.normalize(foodName);
+        return Mono.fromCallable(() -> repository.findAll(normalizedName))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(knowledges -> {
+                    final Instant now = Instant.now();
+                    return Mono.justOrEmpty(knowledges.stream()
+                            .filter(knowledge -> !knowledge.isStale(maxAge, now))
+                            .max(Comparator.comparing(FoodKnowledge::getFetchedAt)));
+                })
+                .map(FoodKnowledge::toFoodInfo)
+                .onErrorResume(DataAccessException.class, e -> {
+                    log.warn("음식 정보 저장소 조회에 실패했습니다. foodName='{}'", foodName, e);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 응답 경로를 막지 않도록 별도 스레드에서 저장한다. 저장에 실패해도 다음 스크래핑 때 다시 기록된다.
+     */
+    public void saveBehind(final String foodName, final FoodInfoSource source, final FoodInfo foodInfo) {
+        Mono.fromRunnable(() -> repository.save(new FoodKnowledge(foodName, source, foodInfo, Instant.now())))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(
+                        null,
+                        error -> log.warn("음식 정보를 저장하지 못했습니다. foodName='{}'", foodName, error)
+                );
+    }
+
+    /**
+     * {@code source}가 기록한 정보 중 가장 많이 조회된, 오래되지 않은 정보를 캐시에 올린다.
+     *
+     * @return 캐시에 올린 항목 수
+     */
+    public int warmUp(final FoodInfoSource source, final AsyncCache<String, FoodInfo> cache) {
+        try {
+            final Instant now = Instant.now();
+            final List<FoodKnowledge> mostRequested = repository.findMostRequested(source, warmUpSize);
+            int warmedUp = 0;
+            for (FoodKnowledge knowledge : mostRequested) {
+                if (!knowledge.isStale(maxAge, now)) {
+                    cache.put(knowledge.getRequestedName(), knowledge.toFoodInfo());
+                    warmedUp++;
+                }
+            }
+            return warmedUp;
+        } catch (DataAccessException e) {
+            log.warn("음식 정보 캐시 예열에 실패했습니다. 빈 캐시로 시작합니다.", e);
+            return 0;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${food-info.knowledge.request-count-flush-interval:PT30S}")
+    public void flushRequestCounts() {
+        for (Map.Entry<String, LongAdder> entry : pendingRequestCounts.entrySet()) {
+            final long delta = entry.getValue().sumThenReset();
+            if (delta == 0) {
+                pendingRequestCounts.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            try {
+                repository.increaseRequestCount(entry.getKey(), delta);
+            } catch (DataAccessException e) {
+                log.warn("음식 정보 조회 횟수를 반영하지 못했습니다. normalizedName='{}'", entry.getKey(), e);
+            }
+        }
+    }
+
+    /**
+     * 음식 이름이 한 번 요청됐음을 기록한다. 시작 시 예열할 음식을 고르는 데 쓴다.
+     */
+    public void recordRequest(final String foodName) {
+        pendingRequestCounts.computeIfAbsent(FoodNameNormalizer.normalize(foodName), key -> new LongAdder()).increment();
+    }
+}
@@ -0,0 +1,94 @@
+package foodiepass.server.menu.infra.knowledge;
+
+import foodiepass.server.menu.application.port.out.FoodKnowledgeRepository;
+import foodiepass.server.menu.domain.FoodInfo;
+import foodiepass.server.menu.domain.FoodInfoSource;
+import foodiepass.server.menu.domain.FoodKnowledge;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 애플리케이션 {@link DataSource}에 음식 정보를 저장한다.
+ * 세 스크래퍼가 한 테이블을 함께 쓰므로 이름과 출처를 함께 키로 삼아, 한 출처의 기록이 다른 출처의 기록을 덮어쓰지 않게 한다.
+ */
+@Repository
+public class JdbcFoodKnowledgeRepository implements FoodKnowledgeRepository {
+
+    private static final String COLUMNS =
+            "normalized_name, requested_name, source, name, description, image, preview_image, fetched_at, request_count";
+    private static final String SELECT_BY_NAME_AND_SOURCE_SQL =
+            "SELECT " + COLUMNS + " FROM food_knowledge WHERE normalized_name = ? AND source = ?";
+    private static final String SELECT_BY_NAME_SQL =
+            "SELECT " + COLUMNS + " FROM food_knowledge WHERE normalized_name = ?";
+    private static final String SELECT_MOST_REQUESTED_SQL =
+            "SELECT " + COLUMNS + " FROM food_knowledge WHERE source = ? ORDER BY request_count DESC LIMIT ?";
+    private static final String MERGE_SQL =
+            "MERGE INTO food_knowledge (normalized_name, source, requested_name, name, description, image, preview_image, fetched_at) "
+                    + "KEY (normalized_name, source) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INCREASE_REQUEST_COUNT_SQL =
+            "UPDATE food_knowledge SET request_count = request_count + ? WHERE normalized_name = ?";
+
+    private static final RowMapper<FoodKnowledge> ROW_MAPPER = (rs, rowNum) -> new FoodKnowledge(
+            rs.getString("normalized_name"),
+            rs.getString("requested_name"),
+            FoodInfoSource.valueOf(rs.getString("source")),
+            new FoodInfo(
+                    rs.getString("name"),
+                    rs.getString("description"),
+                    rs.getString("image"),
+                    rs.getString("preview_image")
+            ),
+            rs.getTimestamp("fetched_at").toInstant(),
+            rs.getLong("request_count")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcFoodKnowledgeRepository(final DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public Optional<FoodKnowledge> find(final String normalizedName, final FoodInfoSource source) {
+        return jdbcTemplate.query(SELECT_BY_NAME_AND_SOURCE_SQL, ROW_MAPPER, normalizedName, source.name())
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<FoodKnowledge> findAll(final String normalizedName) {
+        return jdbcTemplate.query(SELECT_BY_NAME_SQL, ROW_MAPPER, normalizedName);
+    }
+
+    @Override
+    public List<FoodKnowledge> findMostRequested(final FoodInfoSource source, final int limit) {
+        return jdbcTemplate.query(SELECT_MOST_REQUESTED_SQL, ROW_MAPPER, source.name(), limit);
+    }
+
+    @Override
+    public void save(final FoodKnowledge knowledge) {
+        final FoodInfo foodInfo = knowledge.toFoodInfo();
+        jdbcTemplate.update(
+                MERGE_SQL,
+                knowledge.getNormalizedName(),
+                knowledge.getSource().name(),
+                knowledge.getRequestedName(),
+                foodInfo.getName(),
+                foodInfo.getDescription(),
+                foodInfo.getImage(),
+                foodInfo.getPreviewImage(),
+                Timestamp.from(knowledge.getFetchedAt())
+        );
+    }
+
+    @Override
+    public void increaseRequestCount(final String normalizedName, final long delta) {
+        jdbcTemplate.update(INCREASE_REQUEST_COUNT_SQL, delta, normalizedName);
+    }
+}
@@ -0,0 +1,41 @@
+package foodiepass.server.menu.infra.scraper;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * 최근 {@code capacity}개의 응답 시간만 보관하고 그 분위수를 계산한다.
+ * 오래된 표본은 새 표본으로 덮어써서 외부 서비스의 최근 상태를 따라가게 한다.
+ */
+final class LatencyWindow {
+
+    private final long[] samples;
+    private int count;
+    private int next;
+
+    LatencyWindow(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.samples = new long[capacity];
+    }
+
+    synchronized void record(final long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+    }
+
+    /**
+     * @return 표본이 {@code minimumSamples}개보다 적으면 비어 있는 값
+     */
+    synchronized OptionalLong percentile(final double percentile, final int minimumSamples) {
+        if (count == 0 || count < minimumSamples) {
+            return OptionalLong.empty();
+        }
+        final long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        final int rank = (int) Math.ceil(percentile * count) - 1;
+        return OptionalLong.of(sorted[Math.max(0, Math.min(rank, count - 1))]);
+    }
+}
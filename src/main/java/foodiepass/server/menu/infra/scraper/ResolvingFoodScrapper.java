@@ -0,0 +1,146 @@
+package foodiepass.server.menu.infra.scraper;
+
+import foodiepass.server.global.config.ProfileConstants;
+import foodiepass.server.menu.application.port.out.FoodScrapper;
+import foodiepass.server.menu.domain.FoodInfo;
+import foodiepass.server.menu.domain.FoodNameIndex;
+import foodiepass.server.menu.domain.FoodNameNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 스크래퍼 앞에서 음식 이름을 정규화하고, 이미 스크래핑한 이름과 같거나 충분히 비슷하면 그 대표 이름으로 바꿔 호출한다.
+ * 스크래퍼의 캐시는 대표 이름을 키로 갖고 있으므로 표기만 다른 요청이 새 외부 호출로 이어지지 않는다.
+ * 대표 이름으로 바꿔 호출한 횟수를 {@code food.name.scrapes.saved}로 기록한다.
+ */
+@Component
+@Primary
+@Profile(ProfileConstants.NOT_PERFORMANCE_TEST)
+public class ResolvingFoodScrapper implements FoodScrapper {
+
+    private static final String METRIC_PREFIX = "food.name";
+
+    private final FoodScrapper delegate;
+    private final FoodNameIndex nameIndex;
+
+    private final Counter exactCounter;
+    private final Counter normalizedCounter;
+    private final Counter similarCounter;
+    private final Counter unknownCounter;
+    private final Counter savedScrapeCounter;
+
+    public ResolvingFoodScrapper(
+            @Qualifier("tieredFoodScrapper") final FoodScrapper delegate,
+            @Value("${food-name.index.maximum-size:50000}") final int maximumIndexSize,
+            @Value("${food-name.index.similarity-threshold:0.6}") final double similarityThreshold,
+            final MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.nameIndex = new FoodNameIndex(maximumIndexSize, similarityThreshold);
+
+        this.exactCounter = resolutionCounter(meterRegistry, "exact");
+        this.normalizedCounter = resolutionCounter(meterRegistry, "normalized");
+        this.similarCounter = resolutionCounter(meterRegistry, "similar");
+        this.unknownCounter = resolutionCounter(meterRegistry, "unknown");
+        this.savedScrapeCounter = Counter.builder(METRIC_PREFIX + ".scrapes.saved")
+                .description("정규화나 유사 이름 매칭으로 이미 스크래핑한 대표 이름에 연결된 요청 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".index.size", nameIndex, FoodNameIndex::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Flux<FoodInfo> scrapAsync(final List<String> foodNames) {
+        return Flux.fromIterable(foodNames)
+                .flatMap(this::scrap);
+    }
+
+    /**
+     * 요청한 이름들을 대표 이름으로 바꿔 한 번에 위임하고, 결과를 다시 요청한 이름으로 돌려 담는다.
+     * 같은 요청 안에서 정규화한 이름이 같은 음식은 처음 나온 이름 하나로만 스크래핑한다.
+     */
+    @Override
+    public Mono<Map<String, FoodInfo>> scrapByNameAsync(final List<String> foodNames) {
+        final Map<String, String> normalizedNames = new LinkedHashMap<>();
+        final Map<String, String> representatives = new LinkedHashMap<>();
+        final Map<String, String> representativesByNormalizedName = new HashMap<>();
+        for (String foodName : foodNames) {
+            if (representatives.containsKey(foodName)) {
+                continue;
+            }
+            final String normalizedName = FoodNameNormalizer.normalize(foodName);
+            normalizedNames.put(foodName, normalizedName);
+            representatives.put(foodName, representativesByNormalizedName.computeIfAbsent(
+                    normalizedName, key -> resolve(foodName, key)));
+        }
+
+        return delegate.scrapByNameAsync(representatives.values().stream().distinct().toList())
+                .map(scraped -> {
+                    final Map<String, FoodInfo> found = new HashMap<>();
+                    representatives.forEach((foodName, representative) -> {
+                        final FoodInfo foodInfo = scraped.get(representative);
+                        if (foodInfo != null) {
+                            index(normalizedNames.get(foodName), representative);
+                            found.put(foodName, foodInfo);
+                        }
+                    });
+                    return found;
+                });
+    }
+
+    private Mono<FoodInfo> scrap(final String foodName) {
+        final String normalizedName = FoodNameNormalizer.normalize(foodName);
+        final String representative = resolve(foodName, normalizedName);
+
+        return delegate.scrapAsync(List.of(representative))
+                .next()
+                .doOnNext(foodInfo -> index(normalizedName, representative));
+    }
+
+    private void index(final String normalizedName, final String representative) {
+        nameIndex.add(normalizedName, representative);
+        nameIndex.add(FoodNameNormalizer.normalize(representative), representative);
+    }
+
+    private String resolve(final String foodName, final String normalizedName) {
+        final Optional<FoodNameIndex.Match> match = nameIndex.find(normalizedName);
+        if (match.isEmpty()) {
+            unknownCounter.increment();
+            return foodName;
+        }
+
+        final String representative = match.get().representative();
+        if (representative.equals(foodName)) {
+            exactCounter.increment();
+            return representative;
+        }
+        if (match.get().exact()) {
+            normalizedCounter.increment();
+        } else {
+            similarCounter.increment();
+        }
+        savedScrapeCounter.increment();
+        return representative;
+    }
+
+    private static Counter resolutionCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder(METRIC_PREFIX + ".resolutions")
+                .description("음식 이름을 대표 이름으로 연결한 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,387 @@
+package foodiepass.server.menu.infra.scraper;
+
+import foodiepass.server.global.cache.AsyncCache;
+import foodiepass.server.global.cache.AsyncCacheFactory;
+import foodiepass.server.global.config.ProfileConstants;
+import foodiepass.server.menu.application.port.out.FoodScrapper;
+import foodiepass.server.menu.domain.FoodInfo;
+import foodiepass.server.menu.domain.FoodInfoSource;
+import foodiepass.server.menu.infra.config.FoodInfoCacheProperties;
+import foodiepass.server.menu.infra.config.FoodScrapperTierProperties;
+import foodiepass.server.menu.infra.config.TasteAtlasProperties;
+import foodiepass.server.menu.infra.knowledge.FoodKnowledgeBase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * 지식 베이스, TasteAtlas, Gemini 순으로 음식 정보를 찾는 {@link FoodScrapper}.
+ * 지식 베이스 앞에는 크기 제한 메모리 캐시를 두어, 이미 찾은 이름은 저장소를 다시 읽지 않는다.
+ * 앞 단계가 최근 응답 시간의 {@code hedge-percentile} 분위 안에 답하지 않으면 남은 이름을 다음 단계에도 보내고,
+ * 먼저 도착한 쓸 만한 결과를 쓴다. 설명이나 이미지가 없거나 기본값으로 대체된 결과는 쓸 만하지 않은 것으로 본다.
+ * 마지막 단계는 뒤에 넘길 곳이 없으므로 남은 이름을 한 번에 요청한다.
+ * 이름별 요청은 단계마다 동시에 {@code maxConcurrency}개까지만 보내 공유 연결 풀을 한 메뉴가 다 차지하지 않게 한다.
+ */
+@Slf4j
+@Component("tieredFoodScrapper")
+@Profile(ProfileConstants.NOT_PERFORMANCE_TEST)
+public class TieredFoodScrapper implements FoodScrapper {
+
+    private static final String METRIC_PREFIX = "food.scrapper.tier";
+    private static final String KNOWLEDGE_TIER = "knowledge";
+    /**
+     * 같은 이름이 여러 출처에 있으면 뒤에 올린 값이 남으므로, 앞 단계의 출처를 나중에 올린다.
+     */
+    private static final List<FoodInfoSource> WARM_UP_ORDER =
+            List.of(FoodInfoSource.URL, FoodInfoSource.GEMINI, FoodInfoSource.TASTE_ATLAS);
+
+    private final FoodKnowledgeBase knowledgeBase;
+    private final AsyncCache<String, FoodInfo> knownCache;
+    private final List<Tier> tiers;
+    private final Predicate<FoodInfo> usable;
+    private final FoodScrapperTierProperties properties;
+    private final Scheduler timer;
+
+    private final Counter knowledgeWinCounter;
+
+    public TieredFoodScrapper(
+            final FoodKnowledgeBase knowledgeBase,
+            @Qualifier("tasteAtlasFoodScrapper") final FoodScrapper tasteAtlasScrapper,
+            @Qualifier("geminiFoodScrapper") final FoodScrapper geminiScrapper,
+            final TasteAtlasProperties tasteAtlasProperties,
+            final FoodScrapperTierProperties properties,
+            final AsyncCacheFactory cacheFactory,
+            final FoodInfoCacheProperties cacheProperties,
+            final MeterRegistry meterRegistry,
+            @Value("${taste-atlas.client.max-connections:50}") final int tasteAtlasMaxConnections
+    ) {
+        this(
+                knowledgeBase,
+                cacheFactory.create(
+                        "tiered-food-info",
+                        cacheProperties.maximumSize(),
+                        cacheProperties.ttl(),
+                        cacheProperties.negativeTtl()
+                ),
+                List.of(
+                        new Source("taste-atlas", tasteAtlasScrapper, tasteAtlasMaxConnections),
+                        new Source("gemini", geminiScrapper)
+                ),
+                foodInfo -> hasDetails(foodInfo) && !isDefault(foodInfo, tasteAtlasProperties.defaults()),
+                properties,
+                meterRegistry,
+                Schedulers.parallel()
+        );
+    }
+
+    TieredFoodScrapper(
+            final FoodKnowledgeBase knowledgeBase,
+            final AsyncCache<String, FoodInfo> knownCache,
+            final List<Source> sources,
+            final Predicate<FoodInfo> usable,
+            final FoodScrapperTierProperties properties,
+            final MeterRegistry meterRegistry,
+            final Scheduler timer
+    ) {
+        if (sources.isEmpty()) {
+            throw new IllegalArgumentException("at least one source is required");
+        }
+        this.knowledgeBase = knowledgeBase;
+        this.knownCache = knownCache;
+        this.usable = usable;
+        this.properties = properties;
+        this.timer = timer;
+        this.tiers = sources.stream()
+                .map(source -> new Tier(source, meterRegistry))
+                .toList();
+
+        this.knowledgeWinCounter = winCounter(meterRegistry, KNOWLEDGE_TIER);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpCache() {
+        WARM_UP_ORDER.forEach(source -> knowledgeBase.warmUp(source, knownCache));
+    }
+
+    @Override
+    public Flux<FoodInfo> scrapAsync(final List<String> foodNames) {
+        return scrapByNameAsync(foodNames)
+                .flatMapMany(found -> Flux.fromIterable(foodNames).mapNotNull(found::get));
+    }
+
+    @Override
+    public Mono<Map<String, FoodInfo>> scrapByNameAsync(final List<String> foodNames) {
+        final List<String> distinctNames = foodNames.stream().distinct().toList();
+        distinctNames.forEach(knowledgeBase::recordRequest);
+        return findKnown(distinctNames)
+                .flatMap(known -> {
+                    final List<String> unknownNames = distinctNames.stream()
+                            .filter(foodName -> !known.containsKey(foodName))
+                            .toList();
+                    if (unknownNames.isEmpty()) {
+                        return Mono.just(known);
+                    }
+                    final Answers answers = new Answers(unknownNames.size());
+                    return resolve(unknownNames, 0, answers)
+                            .takeUntilOther(answers.completed())
+                            .then(Mono.fromSupplier(() -> answers.mergeInto(known)));
+                });
+    }
+
+    private Mono<Map<String, FoodInfo>> findKnown(final List<String> foodNames) {
+        return Flux.fromIterable(foodNames)
+                .flatMap(foodName -> knownCache.get(foodName, knowledgeBase::find)
+                        .map(foodInfo -> Map.entry(foodName, foodInfo)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .doOnNext(known -> knowledgeWinCounter.increment(known.size()));
+    }
+
+    /**
+     * {@code index} 단계에 이름을 보내고, 그 단계가 모두 답하거나 헤지 지연이 지나면
+     * 아직 쓸 만한 결과가 없는 이름만 다음 단계로 넘긴다.
+     * 넘긴 단계까지 끝나면 남은 이름은 모두 뒤 단계가 답해 본 것이므로, 이 단계를 더 기다리지 않고 취소한다.
+     */
+    private Mono<Void> resolve(final List<String> foodNames, final int index, final Answers answers) {
+        final Tier tier = tiers.get(index);
+        if (index == tiers.size() - 1) {
+            return tier.scrapAll(foodNames)
+                    .doOnNext(answer -> answers.offer(tier, answer))
+                    .then();
+        }
+
+        final AtomicBoolean finished = new AtomicBoolean();
+        final Sinks.Empty<Void> tierDone = Sinks.empty();
+        final Mono<Void> primary = tier.scrapEach(foodNames)
+                .doOnNext(answer -> answers.offer(tier, answer))
+                .doFinally(signal -> {
+                    finished.set(true);
+                    tierDone.tryEmitEmpty();
+                })
+                .then();
+        final Mono<Void> hedge = Mono.firstWithSignal(
+                        tierDone.asMono(),
+                        Mono.delay(tier.hedgeDelay(), timer).then()
+                )
+                .then(Mono.defer(() -> {
+                    final List<String> pendingNames = answers.pending(foodNames);
+                    if (pendingNames.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    if (!finished.get()) {
+                        tier.hedgeCounter.increment(pendingNames.size());
+                    }
+                    return resolve(pendingNames, index + 1, answers);
+                }));
+        final Sinks.Empty<Void> hedgeDone = Sinks.empty();
+        return Mono.when(
+                primary.takeUntilOther(hedgeDone.asMono()),
+                hedge.doFinally(signal -> hedgeDone.tryEmitEmpty())
+        );
+    }
+
+    private static boolean hasDetails(final FoodInfo foodInfo) {
+        return StringUtils.hasText(foodInfo.getDescription()) && StringUtils.hasText(foodInfo.getImage());
+    }
+
+    private static boolean isDefault(final FoodInfo foodInfo, final TasteAtlasProperties.Defaults defaults) {
+        return defaults != null && foodInfo.getImage().equals(defaults.imageUrl());
+    }
+
+    private static Duration clamp(final Duration value, final Duration min, final Duration max) {
+        if (value.compareTo(min) < 0) {
+            return min;
+        }
+        return value.compareTo(max) > 0 ? max : value;
+    }
+
+    private static Counter winCounter(final MeterRegistry meterRegistry, final String tier) {
+        return Counter.builder(METRIC_PREFIX + ".wins")
+                .description("단계별로 최종 결과로 쓰인 음식 정보 수")
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+
+    record Source(String name, FoodScrapper scrapper, int maxConcurrency) {
+
+        Source(final String name, final FoodScrapper scrapper) {
+            this(name, scrapper, Queues.SMALL_BUFFER_SIZE);
+        }
+    }
+
+    private record Answer(String foodName, FoodInfo foodInfo) {
+    }
+
+    private final class Tier {
+
+        private final String name;
+        private final FoodScrapper scrapper;
+        private final int maxConcurrency;
+        private final LatencyWindow latencies;
+
+        private final Timer latencyTimer;
+        private final Counter usableCounter;
+        private final Counter poorCounter;
+        private final Counter missingCounter;
+        private final Counter winCounter;
+        private final Counter hedgeCounter;
+
+        Tier(final Source source, final MeterRegistry meterRegistry) {
+            this.name = source.name();
+            this.scrapper = source.scrapper();
+            this.maxConcurrency = source.maxConcurrency();
+            this.latencies = new LatencyWindow(properties.latencySampleSize());
+
+            this.latencyTimer = Timer.builder(METRIC_PREFIX + ".latency")
+                    .description("단계별 음식 정보 응답 시간")
+                    .tag("tier", name)
+                    .register(meterRegistry);
+            this.usableCounter = answerCounter(meterRegistry, "usable");
+            this.poorCounter = answerCounter(meterRegistry, "poor");
+            this.missingCounter = answerCounter(meterRegistry, "missing");
+            this.winCounter = winCounter(meterRegistry, name);
+            this.hedgeCounter = Counter.builder(METRIC_PREFIX + ".hedges")
+                    .description("응답이 늦어 다음 단계에도 보낸 음식 이름 수")
+                    .tag("tier", name)
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + ".hedge.delay", this, tier -> tier.hedgeDelay().toMillis())
+                    .baseUnit("milliseconds")
+                    .tag("tier", name)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * 이름마다 따로 요청해 먼저 끝난 이름부터 흘려보낸다. 헤지 여부를 이름 단위로 판단하기 위함이다.
+         */
+        Flux<Answer> scrapEach(final List<String> foodNames) {
+            return Flux.fromIterable(foodNames)
+                    .flatMap(foodName -> timed(scrapper.scrapAsync(List.of(foodName)).next())
+                            .map(foodInfo -> new Answer(foodName, foodInfo))
+                            .switchIfEmpty(Mono.fromRunnable(missingCounter::increment))
+                            .onErrorResume(e -> {
+                                log.warn("{} 단계 음식 정보 조회 실패: foodName='{}'", name, foodName, e);
+                                missingCounter.increment();
+                                return Mono.empty();
+                            }), maxConcurrency);
+        }
+
+        Flux<Answer> scrapAll(final List<String> foodNames) {
+            return timed(scrapper.scrapByNameAsync(foodNames))
+                    .onErrorResume(e -> {
+                        log.warn("{} 단계 음식 정보 조회 실패: size={}", name, foodNames.size(), e);
+                        return Mono.just(Map.of());
+                    })
+                    .flatMapIterable(found -> {
+                        missingCounter.increment(foodNames.stream().filter(foodName -> !found.containsKey(foodName)).count());
+                        return found.entrySet();
+                    })
+                    .map(entry -> new Answer(entry.getKey(), entry.getValue()));
+        }
+
+        /**
+         * 취소된 요청은 끝까지 기다린 시간이 아니므로 표본에 넣지 않는다.
+         */
+        private <T> Mono<T> timed(final Mono<T> request) {
+            return Mono.defer(() -> {
+                final long start = timer.now(TimeUnit.NANOSECONDS);
+                return request.doOnSuccess(ignored -> {
+                    final long elapsed = timer.now(TimeUnit.NANOSECONDS) - start;
+                    latencies.record(elapsed);
+                    latencyTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                });
+            });
+        }
+
+        Duration hedgeDelay() {
+            final OptionalLong percentile = latencies.percentile(
+                    properties.hedgePercentile(), properties.minimumSamples());
+            if (percentile.isEmpty()) {
+                return properties.initialHedgeDelay();
+            }
+            return clamp(Duration.ofNanos(percentile.getAsLong()), properties.minHedgeDelay(), properties.maxHedgeDelay());
+        }
+
+        private Counter answerCounter(final MeterRegistry meterRegistry, final String quality) {
+            return Counter.builder(METRIC_PREFIX + ".answers")
+                    .description("단계별 응답 품질")
+                    .tag("tier", name)
+                    .tag("quality", quality)
+                    .register(meterRegistry);
+        }
+
+    }
+
+    /**
+     * 여러 단계가 동시에 답할 수 있으므로 이름마다 처음 도착한 쓸 만한 결과만 남긴다.
+     * 쓸 만한 결과가 끝내 없으면 가장 먼저 받은 부족한 결과를 대신 쓴다.
+     * 남긴 결과는 메모리 캐시에도 올려 다음 요청이 저장소를 거치지 않게 한다.
+     */
+    private final class Answers {
+
+        private final int expected;
+        private final Map<String, FoodInfo> usableAnswers = new ConcurrentHashMap<>();
+        private final Map<String, FoodInfo> poorAnswers = new ConcurrentHashMap<>();
+        private final Sinks.One<Boolean> completed = Sinks.one();
+
+        Answers(final int expected) {
+            this.expected = expected;
+        }
+
+        void offer(final Tier tier, final Answer answer) {
+            if (!usable.test(answer.foodInfo())) {
+                tier.poorCounter.increment();
+                poorAnswers.putIfAbsent(answer.foodName(), answer.foodInfo());
+                return;
+            }
+            tier.usableCounter.increment();
+            if (usableAnswers.putIfAbsent(answer.foodName(), answer.foodInfo()) == null) {
+                tier.winCounter.increment();
+                knownCache.put(answer.foodName(), answer.foodInfo());
+                if (usableAnswers.size() == expected) {
+                    completed.tryEmitValue(true);
+                }
+            }
+        }
+
+        List<String> pending(final List<String> foodNames) {
+            return foodNames.stream()
+                    .filter(foodName -> !usableAnswers.containsKey(foodName))
+                    .toList();
+        }
+
+        Mono<Boolean> completed() {
+            return completed.asMono();
+        }
+
+        Map<String, FoodInfo> mergeInto(final Map<String, FoodInfo> known) {
+            final Map<String, FoodInfo> merged = new HashMap<>(poorAnswers);
+            merged.putAll(usableAnswers);
+            merged.putAll(known);
+            return merged;
+        }
+    }
+}
@@ -1,19 +1,27 @@
 package foodiepass.server.menu.infra.scraper.gemini;
 
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
 import com.google.cloud.vertexai.VertexAI;
 import com.google.cloud.vertexai.api.GenerateContentResponse;
 import com.google.cloud.vertexai.generativeai.ContentMaker;
 import com.google.cloud.vertexai.generativeai.GenerativeModel;
 import com.google.cloud.vertexai.generativeai.PartMaker;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.ByteString;
 import foodiepass.server.global.config.ProfileConstants;
+import foodiepass.server.global.resilience.ReactiveCircuitBreaker;
 import foodiepass.server.menu.infra.exception.GeminiErrorCode;
 import foodiepass.server.menu.infra.exception.GeminiException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.util.Optional;
@@ -23,22 +31,42 @@ import java.util.Optional;
 @Profile(ProfileConstants.NOT_PERFORMANCE_TEST)
 public class GeminiClient {
 
+    private static final String CIRCUIT_BREAKER_NAME = "gemini";
+
     private final GenerativeModel multimodalModel;
     private final GenerativeModel textModel;
     private final GeminiResponseParser responseParser;
+    private final io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker;
 
+    @Autowired
     public GeminiClient(
             final VertexAI vertexAI,
             final GeminiResponseParser responseParser,
+            final CircuitBreakerRegistry circuitBreakerRegistry,
             @Value("${google.gemini.model.vision}") final String multimodalModelName,
             @Value("${google.gemini.model.pro}") final String textModelName
     ) {
-        this.multimodalModel = new GenerativeModel(multimodalModelName, vertexAI);
-        this.textModel = new GenerativeModel(textModelName, vertexAI);
+        this(
+                new GenerativeModel(multimodalModelName, vertexAI),
+                new GenerativeModel(textModelName, vertexAI),
+                responseParser,
+                circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME)
+        );
+    }
+
+    GeminiClient(
+            final GenerativeModel multimodalModel,
+            final GenerativeModel textModel,
+            final GeminiResponseParser responseParser,
+            final io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker
+    ) {
+        this.multimodalModel = multimodalModel;
+        this.textModel = textModel;
         this.responseParser = responseParser;
+        this.circuitBreaker = circuitBreaker;
     }
 
-    @CircuitBreaker(name = "gemini", fallbackMethod = "fallbackGenerateText")
+    @CircuitBreaker(name = CIRCUIT_BREAKER_NAME, fallbackMethod = "fallbackGenerateText")
     public String generateText(final String prompt) {
         try {
             final GenerateContentResponse apiResponse = textModel.generateContent(ContentMaker.fromString(prompt));
@@ -48,18 +76,44 @@ public class GeminiClient {
         }
     }
 
-    @CircuitBreaker(name = "gemini", fallbackMethod = "fallbackGenerateTextWithImage")
-    public String generateText(final ByteString imageBytes, final String mimeType, final String prompt) {
-        try {
-            final GenerateContentResponse apiResponse = multimodalModel.generateContent(
-                    ContentMaker.fromMultiModalData(
-                            PartMaker.fromMimeTypeAndData(mimeType, imageBytes),
-                            prompt
-                    ));
-            return extractAndParseText(apiResponse);
-        } catch (IOException e) {
-            throw new GeminiException(GeminiErrorCode.GEMINI_API_IO_ERROR);
-        }
+    /**
+     * Vertex AI의 비동기 호출을 사용하므로 응답을 기다리는 동안 어떤 스레드도 점유하지 않는다.
+     * 애노테이션은 Mono를 만드는 호출만 감싸므로 서킷 브레이커는 구독 단위로 직접 적용한다.
+     */
+    public Mono<String> generateTextAsync(final ByteString imageBytes, final String mimeType, final String prompt) {
+        return Mono.defer(() -> {
+                    try {
+                        return toMono(multimodalModel.generateContentAsync(
+                                ContentMaker.fromMultiModalData(
+                                        PartMaker.fromMimeTypeAndData(mimeType, imageBytes),
+                                        prompt
+                                )));
+                    } catch (IOException e) {
+                        return Mono.error(new GeminiException(GeminiErrorCode.GEMINI_API_IO_ERROR));
+                    }
+                })
+                .onErrorMap(e -> !(e instanceof GeminiException),
+                        e -> new GeminiException(GeminiErrorCode.GEMINI_API_IO_ERROR))
+                .map(this::extractAndParseText)
+                .transformDeferred(ReactiveCircuitBreaker.of(circuitBreaker))
+                .onErrorResume(t -> fallbackGenerateTextWithImage(imageBytes, mimeType, prompt, t));
+    }
+
+    private static <T> Mono<T> toMono(final ApiFuture<T> future) {
+        return Mono.create(sink -> {
+            ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+                @Override
+                public void onSuccess(final T result) {
+                    sink.success(result);
+                }
+
+                @Override
+                public void onFailure(final Throwable t) {
+                    sink.error(t);
+                }
+            }, MoreExecutors.directExecutor());
+            sink.onCancel(() -> future.cancel(true));
+        });
     }
 
     private String extractAndParseText(final GenerateContentResponse apiResponse) {
@@ -79,8 +133,8 @@ public class GeminiClient {
         throw new GeminiException(GeminiErrorCode.EXTERNAL_API_CIRCUIT_OPEN);
     }
 
-    public String fallbackGenerateTextWithImage(final ByteString imageBytes, final String mimeType, final String prompt, final Throwable t) {
+    private Mono<String> fallbackGenerateTextWithImage(final ByteString imageBytes, final String mimeType, final String prompt, final Throwable t) {
         log.warn("Circuit Breaker is open for Gemini multimodal generation. error: {}", t.getMessage());
-        throw new GeminiException(GeminiErrorCode.EXTERNAL_API_CIRCUIT_OPEN);
+        return Mono.error(new GeminiException(GeminiErrorCode.EXTERNAL_API_CIRCUIT_OPEN));
     }
 }
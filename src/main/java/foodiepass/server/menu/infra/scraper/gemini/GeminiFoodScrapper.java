@@ -1,28 +1,38 @@
 package foodiepass.server.menu.infra.scraper.gemini;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import foodiepass.server.global.cache.AsyncCache;
+import foodiepass.server.global.cache.AsyncCacheFactory;
 import foodiepass.server.global.config.ProfileConstants;
 import foodiepass.server.menu.application.port.out.FoodScrapper;
 import foodiepass.server.menu.domain.FoodInfo;
+import foodiepass.server.menu.domain.FoodInfoSource;
+import foodiepass.server.menu.infra.config.FoodInfoCacheProperties;
 import foodiepass.server.menu.infra.exception.GeminiErrorCode;
 import foodiepass.server.menu.infra.exception.GeminiException;
-import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Primary;
+import foodiepass.server.menu.infra.knowledge.FoodKnowledgeBase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
+@Slf4j
 @Component("geminiFoodScrapper")
-@Primary
 @Profile(ProfileConstants.NOT_PERFORMANCE_TEST)
-@RequiredArgsConstructor
 public class GeminiFoodScrapper implements FoodScrapper {
 
     private static final String FOOD_INFO_PROMPT_TEMPLATE = """
@@ -34,18 +44,173 @@ public class GeminiFoodScrapper implements FoodScrapper {
         }
         """;
 
+    private static final String BATCH_FOOD_INFO_PROMPT_TEMPLATE = """
+        For each food name in the JSON array below, get the 200-character description and image url.
+        Please print it out as one valid JSON array with one object per food name
+        [
+            {
+                "name": "food name exactly as given (String)",
+                "image": "valid image url of food (String)",
+                "description": "200-character description of food(String)"
+            }
+        ]
+        Food names: %s
+        """;
+
     private final GeminiClient geminiClient;
     private final ObjectMapper objectMapper;
-    private final Map<String, Mono<FoodInfo>> foodInfoCache = new ConcurrentHashMap<>();
+    private final FoodKnowledgeBase knowledgeBase;
+    private final AsyncCache<String, FoodInfo> foodInfoCache;
+    private final int batchSize;
+
+    public GeminiFoodScrapper(
+            final GeminiClient geminiClient,
+            final ObjectMapper objectMapper,
+            final FoodKnowledgeBase knowledgeBase,
+            final AsyncCacheFactory cacheFactory,
+            final FoodInfoCacheProperties cacheProperties,
+            @Value("${google.gemini.food-info.batch-size:20}") final int batchSize
+    ) {
+        this.geminiClient = geminiClient;
+        this.objectMapper = objectMapper;
+        this.knowledgeBase = knowledgeBase;
+        this.foodInfoCache = cacheFactory.create(
+                "gemini-food-info",
+                cacheProperties.maximumSize(),
+                cacheProperties.ttl(),
+                cacheProperties.negativeTtl(),
+                cacheProperties.refreshAhead(),
+                cacheProperties.jitterRatio()
+        );
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpCache() {
+        knowledgeBase.warmUp(FoodInfoSource.GEMINI, foodInfoCache);
+    }
 
     @Override
     public Flux<FoodInfo> scrapAsync(final List<String> foodNames) {
+        final Map<String, Mono<FoodInfo>> lookups = lookUpAll(foodNames);
         return Flux.fromIterable(foodNames)
-                .flatMap(this::getFoodInfoReactively);
+                .flatMap(lookups::get);
+    }
+
+    @Override
+    public Mono<Map<String, FoodInfo>> scrapByNameAsync(final List<String> foodNames) {
+        return Flux.fromIterable(lookUpAll(foodNames).entrySet())
+                .flatMap(lookup -> lookup.getValue()
+                        .map(foodInfo -> Map.entry(lookup.getKey(), foodInfo))
+                        .onErrorResume(e -> {
+                            log.warn("Gemini 음식 정보 스크래핑 실패: foodName='{}'", lookup.getKey(), e);
+                            return Mono.empty();
+                        }))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /**
+     * 캐시에 없는 이름이 둘 이상이면 한 번의 프롬프트로 함께 요청하고, 그 결과로 이름별 캐시를 채운다.
+     * 묶음 응답에 빠진 이름만 이름별 프롬프트로 다시 요청한다.
+     */
+    private Map<String, Mono<FoodInfo>> lookUpAll(final List<String> foodNames) {
+        final List<String> distinctNames = foodNames.stream().distinct().toList();
+        final List<String> uncachedNames = distinctNames.stream()
+                .filter(foodName -> !foodInfoCache.contains(foodName))
+                .toList();
+        final Mono<Map<String, FoodInfo>> batch = uncachedNames.size() > 1
+                ? findOrScrapBatch(uncachedNames).cache()
+                : Mono.just(Map.of());
+
+        final Map<String, Mono<FoodInfo>> lookups = new HashMap<>();
+        for (String foodName : distinctNames) {
+            lookups.put(foodName, foodInfoCache.get(
+                    foodName,
+                    key -> batch
+                            .flatMap(found -> Mono.justOrEmpty(found.get(key)))
+                            .switchIfEmpty(Mono.defer(() -> findOrScrap(key))),
+                    this::scrap
+            ));
+        }
+        return lookups;
+    }
+
+    private Mono<Map<String, FoodInfo>> findOrScrapBatch(final List<String> foodNames) {
+        return Flux.fromIterable(foodNames)
+                .flatMap(foodName -> knowledgeBase.find(foodName, FoodInfoSource.GEMINI)
+                        .map(foodInfo -> Map.entry(foodName, foodInfo)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .flatMap(known -> {
+                    final List<String> unknownNames = foodNames.stream()
+                            .filter(foodName -> !known.containsKey(foodName))
+                            .toList();
+                    return Flux.fromIterable(partition(unknownNames))
+                            .flatMap(this::scrapBatch)
+                            .reduce(new HashMap<>(known), (merged, scraped) -> {
+                                merged.putAll(scraped);
+                                return merged;
+                            });
+                });
+    }
+
+    /**
+     * 묶음 요청이 실패하면 빈 결과를 돌려주어 이름별 요청으로 넘어가게 한다.
+     */
+    private Mono<Map<String, FoodInfo>> scrapBatch(final List<String> foodNames) {
+        return Mono.fromCallable(() -> {
+                    final String prompt = createBatchPromptForFoodInfo(foodNames);
+                    final String jsonResponse = geminiClient.generateText(prompt);
+                    return parseBatchResponse(jsonResponse, foodNames);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(scraped -> scraped.forEach((foodName, foodInfo) ->
+                        knowledgeBase.saveBehind(foodName, FoodInfoSource.GEMINI, foodInfo)))
+                .onErrorResume(e -> {
+                    log.warn("Gemini 음식 정보 묶음 요청 실패. 이름별로 다시 요청합니다. size={}", foodNames.size(), e);
+                    return Mono.just(Map.of());
+                });
     }
 
-    private Mono<FoodInfo> getFoodInfoReactively(String foodName) {
-        return foodInfoCache.computeIfAbsent(foodName, this::scrapFoodInfoReactively);
+    private Map<String, FoodInfo> parseBatchResponse(final String jsonResponse, final List<String> foodNames)
+            throws JsonProcessingException {
+        final Map<String, String> requestedNames = new HashMap<>();
+        foodNames.forEach(foodName -> requestedNames.put(foodName.toLowerCase(Locale.ROOT), foodName));
+
+        final JsonNode items = objectMapper.readTree(jsonResponse);
+        if (!items.isArray()) {
+            throw new GeminiException(GeminiErrorCode.INVALID_GEMINI_RESPONSE);
+        }
+        final Map<String, FoodInfo> scraped = new LinkedHashMap<>();
+        for (JsonNode item : items) {
+            final String requestedName = requestedNames.get(item.path("name").asText("").toLowerCase(Locale.ROOT));
+            if (requestedName == null) {
+                continue;
+            }
+            final String image = item.path("image").asText(null);
+            scraped.put(requestedName, new FoodInfo(requestedName, item.path("description").asText(null), image, image));
+        }
+        return scraped;
+    }
+
+    private List<List<String>> partition(final List<String> foodNames) {
+        final List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < foodNames.size(); from += batchSize) {
+            chunks.add(foodNames.subList(from, Math.min(from + batchSize, foodNames.size())));
+        }
+        return chunks;
+    }
+
+    private Mono<FoodInfo> findOrScrap(final String foodName) {
+        return knowledgeBase.find(foodName, FoodInfoSource.GEMINI)
+                .switchIfEmpty(Mono.defer(() -> scrap(foodName)));
+    }
+
+    /**
+     * 저장소를 건너뛰고 새로 요청한다. 미리 갱신할 때 저장소가 방금 기록한 값을 다시 돌려주지 않도록 한다.
+     */
+    private Mono<FoodInfo> scrap(final String foodName) {
+        return scrapFoodInfoReactively(foodName)
+                .doOnNext(foodInfo -> knowledgeBase.saveBehind(foodName, FoodInfoSource.GEMINI, foodInfo));
     }
 
     private Mono<FoodInfo> scrapFoodInfoReactively(final String foodName) {
@@ -58,11 +223,14 @@ public class GeminiFoodScrapper implements FoodScrapper {
                         throw new GeminiException(GeminiErrorCode.FOOD_INFO_SCRAP_FAILED);
                     }
                 })
-                .subscribeOn(Schedulers.boundedElastic())
-                .cache();
+                .subscribeOn(Schedulers.boundedElastic());
     }
 
     private String createPromptForFoodInfo(final String foodName) {
         return String.format(FOOD_INFO_PROMPT_TEMPLATE, foodName);
     }
+
+    private String createBatchPromptForFoodInfo(final List<String> foodNames) throws JsonProcessingException {
+        return String.format(BATCH_FOOD_INFO_PROMPT_TEMPLATE, objectMapper.writeValueAsString(foodNames));
+    }
 }
@@ -3,17 +3,20 @@ package foodiepass.server.menu.infra.scraper.gemini;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import foodiepass.server.global.config.ProfileConstants;
 import foodiepass.server.menu.application.port.out.OcrReader;
+import foodiepass.server.menu.domain.MenuImage;
 import foodiepass.server.menu.domain.MenuItem;
 import foodiepass.server.menu.infra.exception.GeminiErrorCode;
 import foodiepass.server.menu.infra.exception.GeminiException;
+import foodiepass.server.menu.infra.image.MenuImagePreprocessor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.Base64;
 import java.util.List;
 
 @Component
@@ -22,26 +25,29 @@ import java.util.List;
 public class GeminiOcrReader implements OcrReader {
 
     public static final String JSON_EXTRACT_PROMPT_MESSAGE = "Given a menu image, please extract and print the names and prices of the food items in JSON format. Follow the structure below for each item:\n\n[{\"name\": \"Name of the Food (String)\", \"price\": Price of the Food (double)}, ...]";
-    private static final String IMAGE_MIME_TYPE = "image/jpeg";
 
     private final GeminiClient geminiClient;
     private final ObjectMapper objectMapper;
+    private final MenuImagePreprocessor imagePreprocessor;
 
+    /**
+     * 이미지 전처리는 CPU를 오래 쓰므로 이벤트 루프가 아닌 별도 스레드에서 한다.
+     * 요청 버퍼는 이후 바뀌지 않으므로 protobuf로 복사하지 않고 감싸서 보낸다.
+     */
     @Override
-    public List<MenuItem> read(final String base64encodedImage) {
-        try {
-            final ByteString byteStringImage = ByteString.copyFrom(
-                    Base64.getDecoder().decode(base64encodedImage)
-            );
-
-            final String jsonResponse = geminiClient.generateText(
-                    byteStringImage,
-                    IMAGE_MIME_TYPE,
-                    JSON_EXTRACT_PROMPT_MESSAGE
-            );
+    public Mono<List<MenuItem>> read(final MenuImage image) {
+        return Mono.fromCallable(() -> imagePreprocessor.prepare(image))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(prepared -> geminiClient.generateTextAsync(
+                        UnsafeByteOperations.unsafeWrap(prepared.image().buffer(), 0, prepared.image().length()),
+                        prepared.mimeType(),
+                        JSON_EXTRACT_PROMPT_MESSAGE))
+                .map(this::parseMenuItems);
+    }
 
+    private List<MenuItem> parseMenuItems(final String jsonResponse) {
+        try {
             return objectMapper.readValue(jsonResponse, new TypeReference<>() {});
-
         } catch (final JsonProcessingException e) {
             throw new GeminiException(GeminiErrorCode.OCR_REQUEST_FAILED);
         }
@@ -0,0 +1,115 @@
+package foodiepass.server.menu.infra.scraper.tasteAtlas;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * HTML 응답을 {@code </head>}까지만 읽고 나머지 다운로드를 취소한다.
+ * 음식 설명과 이미지는 {@code <meta>} 태그에만 있으므로 본문은 받을 필요가 없다.
+ * {@code </head>}가 {@code maxBytes} 안에 나오지 않으면 그때까지 읽은 부분만 돌려준다.
+ */
+final class HtmlHeadReader {
+
+    private static final byte[] HEAD_END_TAG = "</head".getBytes(StandardCharsets.US_ASCII);
+
+    private HtmlHeadReader() {
+    }
+
+    static Mono<String> readHead(final Flux<DataBuffer> body, final int maxBytes) {
+        return Mono.defer(() -> {
+            final HeadBuffer head = new HeadBuffer(maxBytes);
+            return body
+                    .doOnNext(dataBuffer -> {
+                        try {
+                            head.append(dataBuffer);
+                        } finally {
+                            DataBufferUtils.release(dataBuffer);
+                        }
+                    })
+                    .takeUntil(ignored -> head.isComplete())
+                    .then(Mono.fromSupplier(head::toHtml));
+        });
+    }
+
+    private static final class HeadBuffer {
+
+        private final int maxBytes;
+        private byte[] bytes = new byte[8 * 1024];
+        private int length;
+        private int scanFrom;
+        private boolean complete;
+
+        HeadBuffer(final int maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        void append(final DataBuffer dataBuffer) {
+            if (complete) {
+                return;
+            }
+            final int count = Math.min(dataBuffer.readableByteCount(), maxBytes - length);
+            ensureCapacity(length + count);
+            dataBuffer.read(bytes, length, count);
+            length += count;
+
+            final int end = findHeadEnd();
+            if (end >= 0) {
+                length = end;
+                complete = true;
+            } else if (length >= maxBytes) {
+                complete = true;
+            }
+        }
+
+        boolean isComplete() {
+            return complete;
+        }
+
+        String toHtml() {
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * 버퍼 경계에 걸친 태그도 찾도록 직전 검색 위치에서 태그 길이만큼 앞부터 다시 본다.
+         *
+         * @return {@code </head>}의 {@code >} 다음 위치. 아직 없으면 -1
+         */
+        private int findHeadEnd() {
+            for (int i = scanFrom; i + HEAD_END_TAG.length <= length; i++) {
+                if (matchesHeadEndTag(i)) {
+                    for (int j = i + HEAD_END_TAG.length; j < length; j++) {
+                        if (bytes[j] == '>') {
+                            return j + 1;
+                        }
+                    }
+                    scanFrom = i;
+                    return -1;
+                }
+            }
+            scanFrom = Math.max(0, length - HEAD_END_TAG.length + 1);
+            return -1;
+        }
+
+        private boolean matchesHeadEndTag(final int offset) {
+            for (int k = 0; k < HEAD_END_TAG.length; k++) {
+                final byte b = bytes[offset + k];
+                final byte lower = b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+                if (lower != HEAD_END_TAG[k]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void ensureCapacity(final int capacity) {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, Math.min(bytes.length * 2, maxBytes)));
+            }
+        }
+    }
+}
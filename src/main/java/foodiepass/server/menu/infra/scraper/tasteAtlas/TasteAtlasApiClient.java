@@ -9,12 +9,24 @@ import foodiepass.server.menu.infra.scraper.auth.domain.Authenticatable;
 import foodiepass.server.menu.infra.scraper.tasteAtlas.dto.TasteAtlasResponse;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * TasteAtlas 검색 API와 음식 페이지를 요청한다. 검색 응답은 문자열로 모으지 않고 받은 버퍼에서 바로 역직렬화하고,
+ * 음식 페이지는 메타 태그가 있는 {@code <head>}까지만 받는다.
+ */
 @Slf4j
 @Component
 @Profile(ProfileConstants.NOT_PERFORMANCE_TEST)
@@ -23,12 +35,22 @@ public class TasteAtlasApiClient implements Authenticatable {
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
     private final TasteAtlasProperties properties;
+    private final int maxResponseBytes;
+    private final int maxHeadBytes;
     private volatile String authToken;
 
-    public TasteAtlasApiClient(WebClient.Builder webClientBuilder, ObjectMapper objectMapper, TasteAtlasProperties properties) {
-        this.webClient = webClientBuilder.baseUrl(properties.api().url()).build();
+    public TasteAtlasApiClient(
+            @Qualifier("tasteAtlasWebClient") final WebClient webClient,
+            final ObjectMapper objectMapper,
+            final TasteAtlasProperties properties,
+            @Value("${taste-atlas.client.max-response-size:2MB}") final DataSize maxResponseSize,
+            @Value("${taste-atlas.client.max-head-size:128KB}") final DataSize maxHeadSize
+    ) {
+        this.webClient = webClient;
         this.objectMapper = objectMapper;
         this.properties = properties;
+        this.maxResponseBytes = (int) maxResponseSize.toBytes();
+        this.maxHeadBytes = (int) maxHeadSize.toBytes();
         this.authToken = properties.api().authToken();
     }
 
@@ -42,29 +64,32 @@ public class TasteAtlasApiClient implements Authenticatable {
     public Mono<TasteAtlasResponse> search(String foodName) {
         String searchQuery = String.format(properties.api().url(), foodName.replace(" ", "+"));
 
-        return webClient.get()
-                .uri(searchQuery)
-                .header(HttpHeaders.AUTHORIZATION, authToken)
-                .retrieve()
-                .bodyToMono(String.class)
-                .flatMap(this::parseResponse)
+        return DataBufferUtils.join(webClient.get()
+                        .uri(searchQuery)
+                        .header(HttpHeaders.AUTHORIZATION, authToken)
+                        .retrieve()
+                        .bodyToFlux(DataBuffer.class), maxResponseBytes)
+                .map(this::parseResponse)
                 .onErrorMap(e -> !(e instanceof ScrapingException), e -> new ScrapingException(ScrapingErrorCode.TASTE_ATLAS_API_REQUEST_FAILED));
     }
 
-    @CircuitBreaker(name = "tasteAtlas", fallbackMethod = "fallbackFetchHtml")
-    public Mono<String> fetchHtml(final String url) {
-        return WebClient.create().get()
-                .uri(url)
-                .retrieve()
-                .bodyToMono(String.class)
+    /**
+     * 음식 페이지의 {@code <head>}까지만 받아 돌려준다. 이후 본문은 내려받지 않고 요청을 취소한다.
+     */
+    @CircuitBreaker(name = "tasteAtlas", fallbackMethod = "fallbackFetchHead")
+    public Mono<String> fetchHead(final String url) {
+        return HtmlHeadReader.readHead(webClient.get()
+                        .uri(url)
+                        .retrieve()
+                        .bodyToFlux(DataBuffer.class), maxHeadBytes)
                 .onErrorMap(e -> new ScrapingException(ScrapingErrorCode.TASTE_ATLAS_HTML_FETCH_FAILED));
     }
 
-    private Mono<TasteAtlasResponse> parseResponse(String body) {
-        try {
-            return Mono.just(objectMapper.readValue(body, TasteAtlasResponse.class));
-        } catch (Exception e) {
-            return Mono.error(new ScrapingException(ScrapingErrorCode.TASTE_ATLAS_JSON_PARSING_FAILED));
+    private TasteAtlasResponse parseResponse(final DataBuffer body) {
+        try (InputStream inputStream = body.asInputStream(true)) {
+            return objectMapper.readValue(inputStream, TasteAtlasResponse.class);
+        } catch (IOException e) {
+            throw new ScrapingException(ScrapingErrorCode.TASTE_ATLAS_JSON_PARSING_FAILED);
         }
     }
 
@@ -73,8 +98,8 @@ public class TasteAtlasApiClient implements Authenticatable {
         return Mono.error(new ScrapingException(ScrapingErrorCode.EXTERNAL_API_CIRCUIT_OPEN));
     }
 
-    public Mono<String> fallbackFetchHtml(final String url, Throwable t) {
-        log.warn("Circuit Breaker is open for TasteAtlas fetchHtml. url: {}. error: {}", url, t.getMessage());
+    public Mono<String> fallbackFetchHead(final String url, Throwable t) {
+        log.warn("Circuit Breaker is open for TasteAtlas fetchHead. url: {}. error: {}", url, t.getMessage());
         return Mono.error(new ScrapingException(ScrapingErrorCode.EXTERNAL_API_CIRCUIT_OPEN));
     }
 }
@@ -1,36 +1,58 @@
 package foodiepass.server.menu.infra.scraper.tasteAtlas;
 
+import foodiepass.server.global.cache.AsyncCache;
+import foodiepass.server.global.cache.AsyncCacheFactory;
 import foodiepass.server.global.config.ProfileConstants;
 import foodiepass.server.menu.application.port.out.FoodScrapper;
 import foodiepass.server.menu.domain.FoodInfo;
+import foodiepass.server.menu.domain.FoodInfoSource;
+import foodiepass.server.menu.infra.config.FoodInfoCacheProperties;
 import foodiepass.server.menu.infra.config.TasteAtlasProperties;
-import foodiepass.server.menu.infra.scraper.tasteAtlas.dto.TasteAtlasResponse;
-import lombok.RequiredArgsConstructor;
+import foodiepass.server.menu.infra.knowledge.FoodKnowledgeBase;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
-import java.time.Duration;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component("tasteAtlasFoodScrapper")
 @Profile(ProfileConstants.NOT_PERFORMANCE_TEST)
-@RequiredArgsConstructor
 public class TasteAtlasFoodScrapper implements FoodScrapper {
 
-    private final TasteAtlasApiClient apiClient;
-    private final TasteAtlasPageParser pageParser;
+    private final TasteAtlasPageLookup pageLookup;
     private final TasteAtlasProperties properties;
+    private final FoodKnowledgeBase knowledgeBase;
+    private final AsyncCache<String, FoodInfo> foodInfoCache;
 
-    private final Map<String, Mono<FoodInfo>> foodInfoCache = new ConcurrentHashMap<>();
+    public TasteAtlasFoodScrapper(
+            final TasteAtlasPageLookup pageLookup,
+            final TasteAtlasProperties properties,
+            final FoodKnowledgeBase knowledgeBase,
+            final AsyncCacheFactory cacheFactory,
+            final FoodInfoCacheProperties cacheProperties
+    ) {
+        this.pageLookup = pageLookup;
+        this.properties = properties;
+        this.knowledgeBase = knowledgeBase;
+        this.foodInfoCache = cacheFactory.create(
+                "taste-atlas-food-info",
+                cacheProperties.maximumSize(),
+                cacheProperties.ttl(),
+                cacheProperties.negativeTtl(),
+                cacheProperties.refreshAhead(),
+                cacheProperties.jitterRatio()
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpCache() {
+        knowledgeBase.warmUp(FoodInfoSource.TASTE_ATLAS, foodInfoCache);
+    }
 
     @Override
     public Flux<FoodInfo> scrapAsync(final List<String> foodNames) {
@@ -38,28 +60,35 @@ public class TasteAtlasFoodScrapper implements FoodScrapper {
                 .flatMap(this::getFoodInfo);
     }
 
+    /**
+     * 실패와 빈 결과는 짧은 음수 캐시 TTL 동안만 재사용하고, 기본 정보로의 대체는 캐시 밖에서 한다.
+     * 일시적인 실패가 기본 정보로 굳어 성공 TTL 동안 남지 않도록 하기 위함이다.
+     */
     private Mono<FoodInfo> getFoodInfo(String foodName) {
-        return foodInfoCache.computeIfAbsent(foodName, this::fetchAndCache);
-    }
-
-    private Mono<FoodInfo> fetchAndCache(String foodName) {
-        log.info("TasteAtlas 스크래핑 시작: foodName='{}'", foodName);
-
-        return apiClient.search(foodName)
-                .timeout(Duration.ofSeconds(10))
-                .retryWhen(Retry.backoff(3, Duration.ofSeconds(2)))
-                .flatMap(response -> Mono.justOrEmpty(findFirstItem(response)))
-                .flatMap(item -> {
-                    String fullUrl = properties.baseUrl() + item.urlLink();
-                    return apiClient.fetchHtml(fullUrl)
-                            .flatMap(html -> pageParser.parse(html, item));
-                })
-                .doOnSuccess(foodInfo -> log.info("스크래핑 성공: foodName='{}'", foodInfo.getName()))
+        return foodInfoCache.get(foodName, this::findOrScrap, this::scrap)
+                .switchIfEmpty(Mono.fromSupplier(() -> getDefaultFoodInfo(foodName)))
                 .onErrorResume(error -> {
                     log.error("'{}' 정보 스크래핑 실패. 기본 정보를 반환합니다.", foodName, error);
                     return Mono.just(getDefaultFoodInfo(foodName));
-                })
-                .cache(Duration.ofHours(1));
+                });
+    }
+
+    private Mono<FoodInfo> findOrScrap(final String foodName) {
+        return knowledgeBase.find(foodName, FoodInfoSource.TASTE_ATLAS)
+                .switchIfEmpty(Mono.defer(() -> scrap(foodName)));
+    }
+
+    /**
+     * 저장소를 건너뛰고 새로 가져온다. 미리 갱신할 때 저장소가 방금 기록한 값을 다시 돌려주지 않도록 한다.
+     */
+    private Mono<FoodInfo> scrap(final String foodName) {
+        return fetch(foodName)
+                .doOnNext(foodInfo -> knowledgeBase.saveBehind(foodName, FoodInfoSource.TASTE_ATLAS, foodInfo));
+    }
+
+    private Mono<FoodInfo> fetch(String foodName) {
+        return pageLookup.find(foodName)
+                .doOnNext(foodInfo -> log.info("스크래핑 성공: foodName='{}'", foodInfo.getName()));
     }
 
     private FoodInfo getDefaultFoodInfo(String foodName) {
@@ -71,18 +100,4 @@ public class TasteAtlasFoodScrapper implements FoodScrapper {
                 properties.defaults().imageUrl()
         );
     }
-
-    private Optional<TasteAtlasResponse.Item> findFirstItem(TasteAtlasResponse response) {
-        if (response == null) {
-            return Optional.empty();
-        }
-        if (!CollectionUtils.isEmpty(response.customItems())) {
-            return Optional.of(response.customItems().get(0));
-        }
-        if (!CollectionUtils.isEmpty(response.items())) {
-            return Optional.of(response.items().get(0));
-        }
-        log.debug("TasteAtlas 응답에서 아이템을 찾지 못했습니다.");
-        return Optional.empty();
-    }
 }
@@ -0,0 +1,102 @@
+package foodiepass.server.menu.infra.scraper.tasteAtlas;
+
+import foodiepass.server.global.cache.AsyncCache;
+import foodiepass.server.global.cache.AsyncCacheFactory;
+import foodiepass.server.global.config.ProfileConstants;
+import foodiepass.server.menu.domain.FoodInfo;
+import foodiepass.server.menu.infra.config.FoodInfoCacheProperties;
+import foodiepass.server.menu.infra.config.TasteAtlasProperties;
+import foodiepass.server.menu.infra.scraper.tasteAtlas.dto.TasteAtlasResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 음식 이름으로 TasteAtlas 음식 페이지를 찾아 파싱한다.
+ * 검색 결과(이름 → 검색 항목)와 파싱한 페이지(URL → {@link FoodInfo})를 따로 캐시해서,
+ * 번역 결과만 다르고 같은 페이지로 이어지는 이름은 페이지를 다시 받지 않는다.
+ * 검색 결과는 페이지 내용보다 훨씬 덜 바뀌므로 TTL을 더 길게 둔다.
+ */
+@Slf4j
+@Component
+@Profile(ProfileConstants.NOT_PERFORMANCE_TEST)
+public class TasteAtlasPageLookup {
+
+    private final TasteAtlasApiClient apiClient;
+    private final TasteAtlasPageParser pageParser;
+    private final TasteAtlasProperties properties;
+    private final AsyncCache<String, TasteAtlasResponse.Item> searchCache;
+    private final AsyncCache<String, FoodInfo> pageCache;
+
+    public TasteAtlasPageLookup(
+            final TasteAtlasApiClient apiClient,
+            final TasteAtlasPageParser pageParser,
+            final TasteAtlasProperties properties,
+            final AsyncCacheFactory cacheFactory,
+            final FoodInfoCacheProperties cacheProperties,
+            @Value("${taste-atlas.cache.search-ttl:P7D}") final Duration searchTtl,
+            @Value("${taste-atlas.cache.page-ttl:PT6H}") final Duration pageTtl
+    ) {
+        this.apiClient = apiClient;
+        this.pageParser = pageParser;
+        this.properties = properties;
+        this.searchCache = cacheFactory.create(
+                "taste-atlas-search",
+                cacheProperties.maximumSize(),
+                searchTtl,
+                cacheProperties.negativeTtl()
+        );
+        this.pageCache = cacheFactory.create(
+                "taste-atlas-page",
+                cacheProperties.maximumSize(),
+                pageTtl,
+                cacheProperties.negativeTtl()
+        );
+    }
+
+    /**
+     * 검색 결과가 없으면 비어 있는 결과를 돌려준다. 같은 URL을 동시에 조회하면 한 번만 받아 함께 쓴다.
+     */
+    public Mono<FoodInfo> find(final String foodName) {
+        return searchCache.get(foodName, this::search)
+                .flatMap(item -> {
+                    final String pageUrl = properties.baseUrl() + item.urlLink();
+                    return pageCache.get(pageUrl, url -> fetchPage(url, item));
+                });
+    }
+
+    private Mono<TasteAtlasResponse.Item> search(final String foodName) {
+        log.info("TasteAtlas 검색 시작: foodName='{}'", foodName);
+        return apiClient.search(foodName)
+                .timeout(Duration.ofSeconds(10))
+                .retryWhen(Retry.backoff(3, Duration.ofSeconds(2)))
+                .flatMap(response -> Mono.justOrEmpty(findFirstItem(response)));
+    }
+
+    private Mono<FoodInfo> fetchPage(final String pageUrl, final TasteAtlasResponse.Item item) {
+        log.info("TasteAtlas 페이지 스크래핑 시작: url='{}'", pageUrl);
+        return apiClient.fetchHead(pageUrl)
+                .flatMap(head -> pageParser.parse(head, item));
+    }
+
+    private Optional<TasteAtlasResponse.Item> findFirstItem(final TasteAtlasResponse response) {
+        if (response == null) {
+            return Optional.empty();
+        }
+        if (!CollectionUtils.isEmpty(response.customItems())) {
+            return Optional.of(response.customItems().get(0));
+        }
+        if (!CollectionUtils.isEmpty(response.items())) {
+            return Optional.of(response.items().get(0));
+        }
+        log.debug("TasteAtlas 응답에서 아이템을 찾지 못했습니다.");
+        return Optional.empty();
+    }
+}
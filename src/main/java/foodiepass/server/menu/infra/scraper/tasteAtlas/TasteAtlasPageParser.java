@@ -9,19 +9,21 @@ import org.jsoup.nodes.Document;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.util.Optional;
 
+/**
+ * 음식 페이지의 {@code <head>}에서 설명과 이미지 메타 태그를 읽는다.
+ * 입력은 {@link TasteAtlasApiClient#fetchHead}가 받은 몇 KB 남짓한 조각이라 별도 스레드로 넘기지 않고 바로 파싱한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class TasteAtlasPageParser {
 
     private final TasteAtlasProperties properties;
 
-    public Mono<FoodInfo> parse(String html, TasteAtlasResponse.Item item) {
-        return Mono.fromCallable(() -> Jsoup.parse(html))
-                .subscribeOn(Schedulers.boundedElastic())
+    public Mono<FoodInfo> parse(String head, TasteAtlasResponse.Item item) {
+        return Mono.fromCallable(() -> Jsoup.parse(head))
                 .map(doc -> extractFoodInfo(doc, item));
     }
 
@@ -1,32 +1,59 @@
 package foodiepass.server.menu.infra.scraper.url;
 
+import foodiepass.server.global.cache.AsyncCache;
+import foodiepass.server.global.cache.AsyncCacheFactory;
 import foodiepass.server.global.config.ProfileConstants;
 import foodiepass.server.menu.application.port.out.FoodScrapper;
 import foodiepass.server.menu.domain.FoodInfo;
+import foodiepass.server.menu.domain.FoodInfoSource;
+import foodiepass.server.menu.infra.config.FoodInfoCacheProperties;
 import foodiepass.server.menu.infra.config.TasteAtlasProperties;
-import foodiepass.server.menu.infra.scraper.tasteAtlas.TasteAtlasApiClient;
-import foodiepass.server.menu.infra.scraper.tasteAtlas.TasteAtlasPageParser;
-import lombok.RequiredArgsConstructor;
+import foodiepass.server.menu.infra.knowledge.FoodKnowledgeBase;
+import foodiepass.server.menu.infra.scraper.tasteAtlas.TasteAtlasPageLookup;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
+@Slf4j
 @Component
 @Profile(ProfileConstants.NOT_PERFORMANCE_TEST)
-@RequiredArgsConstructor
 public class UrlFoodScrapper implements FoodScrapper {
 
-    private final TasteAtlasApiClient apiClient;
-    private final TasteAtlasPageParser pageParser;
+    private final TasteAtlasPageLookup pageLookup;
     private final TasteAtlasProperties properties;
+    private final FoodKnowledgeBase knowledgeBase;
+    private final AsyncCache<String, FoodInfo> foodInfoCache;
 
-    private final Map<String, Mono<FoodInfo>> foodInfoCache = new ConcurrentHashMap<>();
+    public UrlFoodScrapper(
+            final TasteAtlasPageLookup pageLookup,
+            final TasteAtlasProperties properties,
+            final FoodKnowledgeBase knowledgeBase,
+            final AsyncCacheFactory cacheFactory,
+            final FoodInfoCacheProperties cacheProperties
+    ) {
+        this.pageLookup = pageLookup;
+        this.properties = properties;
+        this.knowledgeBase = knowledgeBase;
+        this.foodInfoCache = cacheFactory.create(
+                "url-food-info",
+                cacheProperties.maximumSize(),
+                cacheProperties.ttl(),
+                cacheProperties.negativeTtl(),
+                cacheProperties.refreshAhead(),
+                cacheProperties.jitterRatio()
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpCache() {
+        knowledgeBase.warmUp(FoodInfoSource.URL, foodInfoCache);
+    }
 
     @Override
     public Flux<FoodInfo> scrapAsync(final List<String> foodNames) {
@@ -35,26 +62,25 @@ public class UrlFoodScrapper implements FoodScrapper {
     }
 
     private Mono<FoodInfo> getFoodInfo(String foodName) {
-        return foodInfoCache.computeIfAbsent(foodName, this::scrapAndCache);
-    }
-
-    private Mono<FoodInfo> scrapAndCache(String foodName) {
-        return apiClient.search(foodName)
-                .flatMap(response ->
-                        Flux.fromIterable(response.customItems())
-                                .concatWith(Flux.fromIterable(response.items()))
-                                .next()
-                )
-                .flatMap(item -> {
-                    String fullUrl = properties.baseUrl() + item.urlLink();
-                    return apiClient.fetchHtml(fullUrl)
-                            .flatMap(html -> pageParser.parse(html, item));
-                })
+        return foodInfoCache.get(foodName, this::findOrScrap, this::scrap)
+                .switchIfEmpty(Mono.fromSupplier(() -> getDefaultFoodInfo(foodName)))
                 .onErrorResume(error -> {
-                    System.err.println("Failed to scrap info for " + foodName + ": " + error.getMessage());
+                    log.warn("URL 음식 정보 조회 실패: foodName='{}'", foodName, error);
                     return Mono.just(getDefaultFoodInfo(foodName));
-                })
-                .cache(Duration.ofHours(1));
+                });
+    }
+
+    private Mono<FoodInfo> findOrScrap(final String foodName) {
+        return knowledgeBase.find(foodName, FoodInfoSource.URL)
+                .switchIfEmpty(Mono.defer(() -> scrap(foodName)));
+    }
+
+    /**
+     * 저장소를 건너뛰고 새로 가져온다. 미리 갱신할 때 저장소가 방금 기록한 값을 다시 돌려주지 않도록 한다.
+     */
+    private Mono<FoodInfo> scrap(final String foodName) {
+        return pageLookup.find(foodName)
+                .doOnNext(foodInfo -> knowledgeBase.saveBehind(foodName, FoodInfoSource.URL, foodInfo));
     }
 
     private FoodInfo getDefaultFoodInfo(String foodName) {
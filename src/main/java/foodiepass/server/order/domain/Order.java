@@ -23,9 +23,9 @@ public class Order {
     }
 
     public Price calculateTotalPrice() {
-        return items.stream()
-                .map(OrderItem::calculateTotalPrice)
-                .reduce(Price.zero(this.currency), Price::add);
+        final Price.Total total = Price.total(this.currency);
+        items.forEach(item -> item.addTo(total));
+        return total.toPrice();
     }
 
     private void validateItems(List<OrderItem> items) {
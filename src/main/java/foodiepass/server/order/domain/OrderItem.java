@@ -23,7 +23,14 @@ public class OrderItem {
     }
 
     public Price calculateTotalPrice() {
-        return menuItem.getPrice().multiply(quantity);
+        return addTo(Price.total(menuItem.getPrice().getCurrency())).toPrice();
+    }
+
+    /**
+     * 이 항목의 금액을 합계에 더한다. 주문 총액을 항목마다 {@link Price}를 만들지 않고 구할 때 쓴다.
+     */
+    public Price.Total addTo(final Price.Total total) {
+        return total.add(menuItem.getPrice(), quantity);
     }
 
     public String getName() {
@@ -10,6 +10,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -38,6 +40,35 @@ class PriceTest {
             assertThat(price.getAmount()).isEqualTo(amount);
         }
 
+        @Test
+        @DisplayName("통화의 소수 자릿수를 넘는 금액은 최소 단위로 반올림해 보관한다")
+        void shouldRoundAmountToMinorUnits() {
+            // when
+            Price dollarPrice = new Price(USD, new BigDecimal("12.345"));
+            Price wonPrice = new Price(KRW, new BigDecimal("1500.5"));
+
+            // then
+            assertThat(dollarPrice.getMinorUnits()).isEqualTo(1235L);
+            assertThat(dollarPrice.getAmount()).isEqualTo(new BigDecimal("12.35"));
+            assertThat(wonPrice.getMinorUnits()).isEqualTo(1501L);
+        }
+
+        @Test
+        @DisplayName("소수 표기만 다른 같은 금액은 같은 Price로 취급한다")
+        void shouldTreatSameValueWithDifferentScaleAsEqual() {
+            // when & then
+            assertThat(new Price(USD, new BigDecimal("10"))).isEqualTo(new Price(USD, new BigDecimal("10.00")));
+        }
+
+        @Test
+        @DisplayName("최소 단위로 long 범위를 넘는 금액이면 PriceException(AMOUNT_OVERFLOW)을 던진다")
+        void shouldThrowExceptionWhenAmountOverflows() {
+            // when & then
+            assertThatThrownBy(() -> new Price(USD, new BigDecimal("100000000000000000")))
+                    .isInstanceOf(PriceException.class)
+                    .hasMessage(PriceErrorCode.AMOUNT_OVERFLOW.getMessage());
+        }
+
         @Test
         @DisplayName("통화 정보가 null이면 PriceException(NULL_CURRENCY)을 던진다")
         void shouldThrowExceptionWhenCurrencyIsNull() {
@@ -130,6 +161,86 @@ class PriceTest {
                     .isInstanceOf(PriceException.class)
                     .hasMessage(PriceErrorCode.INVALID_QUANTITY.getMessage());
         }
+
+        @Test
+        @DisplayName("곱한 결과가 long 범위를 넘으면 PriceException(AMOUNT_OVERFLOW) 예외를 발생시킨다")
+        void whenResultOverflows_shouldThrowPriceException() {
+            // given
+            Price price = Price.ofMinorUnits(KRW, Long.MAX_VALUE / 2);
+
+            // when & then
+            assertThatThrownBy(() -> price.multiply(3))
+                    .isInstanceOf(PriceException.class)
+                    .hasMessage(PriceErrorCode.AMOUNT_OVERFLOW.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("total 정적 팩토리 메서드는")
+    class Describe_total {
+
+        @Test
+        @DisplayName("단가와 수량을 곱한 금액을 모두 더한 Price 객체를 만든다")
+        void shouldSumUnitAmountsTimesQuantities() {
+            // when
+            Price total = Price.total(USD)
+                    .add(new BigDecimal("10.25"), new BigDecimal("2"))
+                    .add(new BigDecimal("3.10"), new BigDecimal("3.00"))
+                    .toPrice();
+
+            // then
+            assertThat(total).isEqualTo(new Price(USD, new BigDecimal("29.80")));
+        }
+
+        @Test
+        @DisplayName("Price 단가와 수량을 곱한 금액을 모두 더한 Price 객체를 만든다")
+        void shouldSumPricesTimesQuantities() {
+            // when
+            Price total = Price.total(USD)
+                    .add(new Price(USD, new BigDecimal("10.25")), 2)
+                    .add(new Price(USD, new BigDecimal("3.10")), 3)
+                    .toPrice();
+
+            // then
+            assertThat(total).isEqualTo(new Price(USD, new BigDecimal("29.80")));
+        }
+
+        @Test
+        @DisplayName("합계와 통화가 다른 Price를 더하면 PriceException(CURRENCIES_DO_NOT_MATCH)을 던진다")
+        void shouldThrowExceptionWhenPriceCurrencyDiffers() {
+            // given
+            Price.Total total = Price.total(USD);
+
+            // when & then
+            assertThatThrownBy(() -> total.add(new Price(KRW, new BigDecimal("1000")), 1))
+                    .isInstanceOf(PriceException.class)
+                    .hasMessage(PriceErrorCode.CURRENCIES_DO_NOT_MATCH.getMessage());
+        }
+
+        @Test
+        @DisplayName("소수 부분이 있는 수량이면 PriceException(FRACTIONAL_QUANTITY)을 던진다")
+        void shouldThrowExceptionWhenQuantityIsFractional() {
+            // given
+            Price.Total total = Price.total(USD);
+
+            // when & then
+            assertThatThrownBy(() -> total.add(new BigDecimal("10.00"), new BigDecimal("1.5")))
+                    .isInstanceOf(PriceException.class)
+                    .hasMessage(PriceErrorCode.FRACTIONAL_QUANTITY.getMessage());
+        }
+
+        @Test
+        @DisplayName("합계가 long 범위를 넘으면 PriceException(AMOUNT_OVERFLOW)을 던진다")
+        void shouldThrowExceptionWhenTotalOverflows() {
+            // given
+            BigDecimal hugeAmount = BigDecimal.valueOf(Long.MAX_VALUE / 2);
+            Price.Total total = Price.total(KRW).add(hugeAmount, BigDecimal.ONE);
+
+            // when & then
+            assertThatThrownBy(() -> total.add(hugeAmount, new BigDecimal("2")))
+                    .isInstanceOf(PriceException.class)
+                    .hasMessage(PriceErrorCode.AMOUNT_OVERFLOW.getMessage());
+        }
     }
 
     @Nested
@@ -149,4 +260,87 @@ class PriceTest {
             assertThat(actualPrice).isEqualTo(expectedPrice);
         }
     }
+
+    @Nested
+    @DisplayName("convert 메서드는")
+    class Describe_convert {
+
+        @Test
+        @DisplayName("환율을 곱해 대상 통화의 소수 자릿수에 맞춰 HALF_UP으로 반올림한다")
+        void shouldConvertToTargetCurrencyMinorUnits() {
+            // given
+            Price price = new Price(USD, new BigDecimal("20.00"));
+
+            // when
+            Price result = price.convert(KRW, 1350.55);
+
+            // then
+            assertThat(result).isEqualTo(new Price(KRW, new BigDecimal("27011")));
+        }
+
+        @Test
+        @DisplayName("정확히 반올림 경계에 있는 금액은 올림한다")
+        void whenResultIsOnTie_shouldRoundHalfUp() {
+            // given
+            Price price = new Price(USD, new BigDecimal("1.15"));
+
+            // when
+            Price result = price.convert(Currency.EURO, 0.5);
+
+            // then
+            assertThat(result.getAmount()).isEqualTo(new BigDecimal("0.58"));
+        }
+
+        @Test
+        @DisplayName("BigDecimal로 계산한 결과와 같은 최소 단위 금액을 만든다")
+        void shouldMatchBigDecimalArithmetic() {
+            // given
+            Random random = new Random(7);
+
+            for (int i = 0; i < 10_000; i++) {
+                long minorUnits = random.nextLong(1_000_000_000L);
+                double rate = Math.round(random.nextDouble() * 2_000 * 10_000) / 10_000.0;
+                Price price = Price.ofMinorUnits(USD, minorUnits);
+
+                // when
+                Price result = price.convert(KRW, rate);
+
+                // then
+                BigDecimal expected = price.getAmount()
+                        .multiply(BigDecimal.valueOf(rate))
+                        .setScale(0, RoundingMode.HALF_UP);
+                assertThat(result.getAmount()).isEqualTo(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("환율이 음수이거나 유한하지 않으면 PriceException(INVALID_EXCHANGE_RATE)을 던진다")
+        void whenRateIsInvalid_shouldThrowPriceException() {
+            // given
+            Price price = new Price(USD, new BigDecimal("1.00"));
+
+            // when & then
+            assertThatThrownBy(() -> price.convert(KRW, Double.NaN))
+                    .isInstanceOf(PriceException.class)
+                    .hasMessage(PriceErrorCode.INVALID_EXCHANGE_RATE.getMessage());
+            assertThatThrownBy(() -> price.convert(KRW, -1.0))
+                    .isInstanceOf(PriceException.class)
+                    .hasMessage(PriceErrorCode.INVALID_EXCHANGE_RATE.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("format 메서드는")
+    class Describe_format {
+
+        @Test
+        @DisplayName("통화 표기 규칙에 맞춘 문자열을 반환한다")
+        void shouldFormatWithCurrencyRules() {
+            // given
+            Price price = new Price(USD, new BigDecimal("1234.5"));
+
+            // when & then
+            assertThat(price.format()).isEqualTo(USD.format(new BigDecimal("1234.50")));
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package foodiepass.server.currency.api;
+
+import foodiepass.server.currency.application.CurrencyService;
+import foodiepass.server.currency.application.ExchangeRateVectorCache;
+import foodiepass.server.currency.application.ExchangeRateVectorCache.SerializedRates;
+import foodiepass.server.currency.domain.Currency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CurrencyControllerTest {
+
+    private static final SerializedRates RATES = new SerializedRates(
+            "\"USD-1000\"",
+            "{\"status\":200}".getBytes(StandardCharsets.UTF_8)
+    );
+
+    private WebTestClient webTestClient;
+
+    @Mock
+    private CurrencyService currencyService;
+
+    @Mock
+    private ExchangeRateVectorCache exchangeRateVectorCache;
+
+    @BeforeEach
+    void setUp() {
+        CurrencyController currencyController = new CurrencyController(currencyService, exchangeRateVectorCache);
+        webTestClient = WebTestClient.bindToController(currencyController).build();
+    }
+
+    @Test
+    @DisplayName("GET /currency/rates 요청 시 직렬화된 환율 벡터를 ETag와 함께 반환한다")
+    void getRates_shouldReturnSerializedRatesWithETag() {
+        // given
+        when(exchangeRateVectorCache.getRates(Currency.UNITED_STATES_DOLLAR)).thenReturn(RATES);
+
+        // when & then
+        webTestClient.get().uri("/currency/rates?base=USD")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"USD-1000\"")
+                .expectBody().json("{\"status\":200}");
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환한다")
+    void getRates_withMatchingETag_shouldReturnNotModified() {
+        // given
+        when(exchangeRateVectorCache.getRates(Currency.UNITED_STATES_DOLLAR)).thenReturn(RATES);
+
+        // when & then
+        webTestClient.get().uri("/currency/rates?base=USD")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"USD-1000\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+}
@@ -1,8 +1,11 @@
 package foodiepass.server.currency.application;
 
 import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.currency.domain.ExchangeRateTable;
 import foodiepass.server.currency.dto.request.CalculatePriceRequest;
+import foodiepass.server.currency.dto.request.ConvertBatchRequest;
 import foodiepass.server.currency.dto.response.CalculatePriceResponse;
+import foodiepass.server.currency.dto.response.ConvertBatchResponse;
 import foodiepass.server.currency.exception.CurrencyException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,10 +18,17 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
+import static foodiepass.server.currency.exception.CurrencyErrorCode.EXCHANGE_RATE_NOT_FOUND;
+import static foodiepass.server.currency.exception.CurrencyErrorCode.INVALID_BATCH_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CurrencyService 테스트")
@@ -30,6 +40,9 @@ class CurrencyServiceTest {
     @Mock
     private ExchangeRateCache exchangeRateCache;
 
+    @Mock
+    private UsageBasedExchangeRateRefresher exchangeRateRefresher;
+
     @Nested
     @DisplayName("calculateOrdersPriceAsync 메소드는")
     class Describe_calculateOrdersPriceAsync {
@@ -43,11 +56,11 @@ class CurrencyServiceTest {
             );
             CalculatePriceRequest request = new CalculatePriceRequest("United States Dollar", "South Korean won", orders);
 
-            String from = Currency.UNITED_STATES_DOLLAR.getCurrencyCode();
-            String to = Currency.SOUTH_KOREAN_WON.getCurrencyCode();
+            Currency from = Currency.UNITED_STATES_DOLLAR;
+            Currency to = Currency.SOUTH_KOREAN_WON;
             double exchangeRate = 1350.50;
 
-            given(exchangeRateCache.getExchangeRate(from, to)).willReturn(Optional.of(exchangeRate));
+            given(exchangeRateCache.getExchangeRate(from, to)).willReturn(exchangeRate);
 
             // when
             Mono<CalculatePriceResponse> result = currencyService.calculateOrdersPriceAsync(request);
@@ -71,10 +84,10 @@ class CurrencyServiceTest {
             );
             CalculatePriceRequest request = new CalculatePriceRequest("United States Dollar", "Japanese Yen", orders);
 
-            String from = Currency.UNITED_STATES_DOLLAR.getCurrencyCode();
-            String to = Currency.JAPANESE_YEN.getCurrencyCode();
+            Currency from = Currency.UNITED_STATES_DOLLAR;
+            Currency to = Currency.JAPANESE_YEN;
 
-            given(exchangeRateCache.getExchangeRate(from, to)).willReturn(Optional.empty());
+            given(exchangeRateCache.getExchangeRate(from, to)).willThrow(new CurrencyException(EXCHANGE_RATE_NOT_FOUND));
 
             // when
             Mono<CalculatePriceResponse> result = currencyService.calculateOrdersPriceAsync(request);
@@ -85,4 +98,76 @@ class CurrencyServiceTest {
                     .verify();
         }
     }
+
+    @Nested
+    @DisplayName("convertBatchAsync 메소드는")
+    class Describe_convertBatchAsync {
+
+        @Test
+        @DisplayName("금액 N개를 대상 통화 M개로 환산한 N×M 표를 반환한다")
+        void shouldReturnConversionTable() {
+            // given
+            ConvertBatchRequest request = new ConvertBatchRequest(
+                    "United States Dollar",
+                    List.of(new BigDecimal("10.00"), new BigDecimal("2.50")),
+                    List.of("South Korean won", "Japanese Yen")
+            );
+            ExchangeRateTable table = ExchangeRateTable.fromBaseRates(
+                    Currency.UNITED_STATES_DOLLAR,
+                    Map.of(Currency.SOUTH_KOREAN_WON, 1350.0, Currency.JAPANESE_YEN, 150.0),
+                    Instant.now()
+            );
+            given(exchangeRateCache.getExchangeRateTable()).willReturn(table);
+
+            // when
+            Mono<ConvertBatchResponse> result = currencyService.convertBatchAsync(request);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(response -> {
+                        assertThat(response.originPrices()).hasSize(2);
+                        assertThat(response.conversions())
+                                .extracting(ConvertBatchResponse.TargetConversion::currencyCode)
+                                .containsExactly("KRW", "JPY");
+                        assertThat(response.conversions().get(0).prices())
+                                .extracting(CalculatePriceResponse.FormattedPrice::value)
+                                .containsExactly(new BigDecimal("13500.00"), new BigDecimal("3375.00"));
+                        assertThat(response.conversions().get(1).prices())
+                                .extracting(CalculatePriceResponse.FormattedPrice::value)
+                                .containsExactly(new BigDecimal("1500.00"), new BigDecimal("375.00"));
+                    })
+                    .verifyComplete();
+            verify(exchangeRateCache, times(1)).getExchangeRateTable();
+        }
+
+        @Test
+        @DisplayName("환율 표에 없는 대상 통화가 있으면 CurrencyException을 발생시킨다")
+        void withMissingRate_shouldThrowCurrencyException() {
+            // given
+            ConvertBatchRequest request = new ConvertBatchRequest(
+                    "United States Dollar", List.of(new BigDecimal("10.00")), List.of("Japanese Yen")
+            );
+            given(exchangeRateCache.getExchangeRateTable()).willReturn(ExchangeRateTable.empty());
+
+            // when
+            Mono<ConvertBatchResponse> result = currencyService.convertBatchAsync(request);
+
+            // then
+            StepVerifier.create(result)
+                    .expectError(CurrencyException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("금액이나 대상 통화가 비어 있으면 CurrencyException(INVALID_BATCH_SIZE)을 던진다")
+        void withEmptyAmounts_shouldThrowCurrencyException() {
+            // given
+            ConvertBatchRequest request = new ConvertBatchRequest("United States Dollar", List.of(), List.of("Japanese Yen"));
+
+            // when & then
+            assertThatThrownBy(() -> currencyService.convertBatchAsync(request))
+                    .isInstanceOf(CurrencyException.class)
+                    .hasMessage(INVALID_BATCH_SIZE.getMessage());
+        }
+    }
 }
@@ -1,12 +1,18 @@
 package foodiepass.server.currency.application;
 
+import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.currency.domain.ExchangeRateTable;
+import foodiepass.server.currency.exception.CurrencyErrorCode;
+import foodiepass.server.currency.exception.CurrencyException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("ExchangeRateCache 테스트")
 class ExchangeRateCacheTest {
@@ -19,38 +25,39 @@ class ExchangeRateCacheTest {
     }
 
     @Test
-    @DisplayName("환율 정보를 저장하고 올바르게 조회한다")
-    void shouldStoreAndRetrieveRateCorrectly() {
+    @DisplayName("환율 스냅샷을 교체하고 올바르게 조회한다")
+    void shouldReplaceTableAndRetrieveRateCorrectly() {
         // given
-        String from = "USD";
-        String to = "KRW";
         double rate = 1300.0;
-        exchangeRateCache.updateExchangeRate(from, to, rate);
+        exchangeRateCache.replace(ExchangeRateTable.fromBaseRates(
+                Currency.UNITED_STATES_DOLLAR,
+                Map.of(Currency.SOUTH_KOREAN_WON, rate),
+                Instant.now()
+        ));
 
         // when
-        Optional<Double> retrievedRate = exchangeRateCache.getExchangeRate(from, to);
+        double retrievedRate = exchangeRateCache.getExchangeRate(Currency.UNITED_STATES_DOLLAR, Currency.SOUTH_KOREAN_WON);
 
         // then
-        assertThat(retrievedRate).isPresent().contains(rate);
+        assertThat(retrievedRate).isEqualTo(rate);
     }
 
     @Test
     @DisplayName("동일 통화 조회 시 환율 1.0을 반환한다")
     void whenSameCurrency_shouldReturnRateOfOne() {
         // when
-        Optional<Double> retrievedRate = exchangeRateCache.getExchangeRate("USD", "USD");
+        double retrievedRate = exchangeRateCache.getExchangeRate(Currency.UNITED_STATES_DOLLAR, Currency.UNITED_STATES_DOLLAR);
 
         // then
-        assertThat(retrievedRate).isPresent().contains(1.0);
+        assertThat(retrievedRate).isEqualTo(1.0);
     }
 
     @Test
-    @DisplayName("캐시에 없는 환율 조회 시 Optional.empty를 반환한다")
-    void whenRateNotExists_shouldReturnEmptyOptional() {
-        // when
-        Optional<Double> retrievedRate = exchangeRateCache.getExchangeRate("EUR", "GBP");
-
-        // then
-        assertThat(retrievedRate).isEmpty();
+    @DisplayName("캐시에 없는 환율 조회 시 CurrencyException(EXCHANGE_RATE_NOT_FOUND)을 던진다")
+    void whenRateNotExists_shouldThrowCurrencyException() {
+        // when & then
+        assertThatThrownBy(() -> exchangeRateCache.getExchangeRate(Currency.EURO, Currency.POUND_STERLING))
+                .isInstanceOf(CurrencyException.class)
+                .hasMessage(CurrencyErrorCode.EXCHANGE_RATE_NOT_FOUND.getMessage());
     }
 }
@@ -0,0 +1,59 @@
+package foodiepass.server.currency.application;
+
+import foodiepass.server.global.config.AvailabilityConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.availability.ApplicationAvailabilityAutoConfiguration;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExchangeRateReadinessGate 테스트")
+class ExchangeRateReadinessGateTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ApplicationAvailabilityAutoConfiguration.class))
+            .withUserConfiguration(AvailabilityConfig.class, ExchangeRateReadinessGate.class);
+
+    @Test
+    @DisplayName("환율이 적재되기 전에는 ACCEPTING_TRAFFIC 이벤트가 와도 REFUSING_TRAFFIC을 유지하고, 적재 후 ACCEPTING_TRAFFIC이 된다")
+    void shouldRefuseTrafficUntilRatesLoaded() {
+        contextRunner.run(context -> {
+            // given
+            ApplicationAvailability availability = context.getBean(ApplicationAvailability.class);
+
+            // when
+            AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+
+            // then
+            assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+
+            // when
+            context.getBean(ExchangeRateReadinessGate.class).markRatesLoaded();
+
+            // then
+            assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+        });
+    }
+
+    @Test
+    @DisplayName("환율이 적재되어도 애플리케이션이 트래픽 수신을 거부한 상태면 REFUSING_TRAFFIC을 유지한다")
+    void whenApplicationRefusesTraffic_shouldStayRefusing() {
+        contextRunner.run(context -> {
+            // given
+            context.getBean(ExchangeRateReadinessGate.class).markRatesLoaded();
+
+            // when
+            AvailabilityChangeEvent.publish(context, ReadinessState.REFUSING_TRAFFIC);
+
+            // then
+            assertThat(context).hasSingleBean(ApplicationAvailability.class);
+            assertThat(context.getBean(ApplicationAvailability.class).getReadinessState())
+                    .isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+        });
+    }
+}
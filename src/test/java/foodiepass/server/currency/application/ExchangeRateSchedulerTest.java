@@ -1,38 +1,331 @@
 package foodiepass.server.currency.application;
 
+import foodiepass.server.currency.application.port.out.ExchangeRateFeed;
+import foodiepass.server.currency.application.port.out.ExchangeRateSnapshotRepository;
 import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.currency.domain.ExchangeRateTable;
 import foodiepass.server.menu.application.port.out.ExchangeRateProvider;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ExchangeRateScheduler 테스트")
 class ExchangeRateSchedulerTest {
 
-    @InjectMocks
     private ExchangeRateScheduler exchangeRateScheduler;
 
     @Mock
     private ExchangeRateProvider exchangeRateProvider;
 
+    @Mock
+    private ExchangeRateFeed exchangeRateFeed;
+
     @Mock
     private ExchangeRateCache exchangeRateCache;
 
+    @Mock
+    private ExchangeRateSnapshotRepository snapshotRepository;
+
+    @Mock
+    private ExchangeRateReadinessGate readinessGate;
+
+    @Mock
+    private LockProvider lockProvider;
+
+    @Mock
+    private SimpleLock simpleLock;
+
+    @BeforeEach
+    void setUp() {
+        exchangeRateScheduler = new ExchangeRateScheduler(
+                exchangeRateProvider,
+                Optional.empty(),
+                exchangeRateCache,
+                snapshotRepository,
+                readinessGate,
+                Duration.ofHours(24),
+                Duration.ofHours(1),
+                lockProvider,
+                Schedulers.immediate()
+        );
+    }
+
     @Test
-    @DisplayName("초기화 메소드 호출 시 환율을 가져와 캐시를 올바르게 업데이트한다")
-    void initializeCacheOnStartup_shouldFetchRatesAndCorrectlyUpdateCache() {
+    @DisplayName("저장된 스냅샷이 없으면 환율을 가져와 캐시를 하나의 스냅샷으로 교체하고 저장한다")
+    void initializeCacheOnStartup_withoutSnapshot_shouldFetchRatesAndReplaceCacheWithSingleSnapshot() {
         // given
+        given(snapshotRepository.findLatest()).willReturn(Optional.empty());
+        given(exchangeRateCache.getExchangeRateTable()).willReturn(ExchangeRateTable.empty());
+        given(lockProvider.lock(any(LockConfiguration.class))).willReturn(Optional.of(simpleLock));
+        givenProviderRates();
+
+        // when
+        exchangeRateScheduler.initializeCacheOnStartup();
+
+        // then
+        ArgumentCaptor<ExchangeRateTable> tableCaptor = ArgumentCaptor.forClass(ExchangeRateTable.class);
+        verify(exchangeRateCache).replace(tableCaptor.capture());
+
+        ExchangeRateTable table = tableCaptor.getValue();
+        assertThat(table.getRate(Currency.UNITED_STATES_DOLLAR, Currency.SOUTH_KOREAN_WON)).isEqualTo(1350.0);
+        assertThat(table.getRate(Currency.SOUTH_KOREAN_WON, Currency.UNITED_STATES_DOLLAR)).isEqualTo(1.0 / 1350.0);
+        assertThat(table.getRate(Currency.SOUTH_KOREAN_WON, Currency.JAPANESE_YEN)).isEqualTo(150.0 / 1350.0);
+
+        verify(snapshotRepository).save(table);
+        verify(readinessGate).markRatesLoaded();
+    }
+
+    @Test
+    @DisplayName("최신 스냅샷이 유효하면 스냅샷으로 캐시를 채우고 외부 환율을 가져오지 않는다")
+    void initializeCacheOnStartup_withFreshSnapshot_shouldLoadSnapshotWithoutScraping() {
+        // given
+        ExchangeRateTable snapshot = ExchangeRateTable.fromBaseRates(
+                Currency.UNITED_STATES_DOLLAR,
+                Map.of(Currency.SOUTH_KOREAN_WON, 1350.0),
+                Instant.now().minus(Duration.ofHours(1))
+        );
+        given(snapshotRepository.findLatest()).willReturn(Optional.of(snapshot));
+
+        // when
+        exchangeRateScheduler.initializeCacheOnStartup();
+
+        // then
+        verify(exchangeRateCache).replace(snapshot);
+        verify(readinessGate).markRatesLoaded();
+        verify(exchangeRateProvider, never()).getExchangeRateAsync(any(Currency.class), any(Currency.class));
+    }
+
+    @Test
+    @DisplayName("최신 스냅샷이 오래되었으면 스냅샷으로 먼저 캐시를 채운 뒤 환율을 다시 가져온다")
+    void initializeCacheOnStartup_withStaleSnapshot_shouldLoadSnapshotAndRefresh() {
+        // given
+        ExchangeRateTable snapshot = ExchangeRateTable.fromBaseRates(
+                Currency.UNITED_STATES_DOLLAR,
+                Map.of(Currency.SOUTH_KOREAN_WON, 1300.0),
+                Instant.now().minus(Duration.ofDays(2))
+        );
+        given(snapshotRepository.findLatest()).willReturn(Optional.of(snapshot));
+        given(exchangeRateCache.getExchangeRateTable()).willReturn(snapshot);
+        given(lockProvider.lock(any(LockConfiguration.class))).willReturn(Optional.of(simpleLock));
+        givenProviderRates();
+
+        // when
+        exchangeRateScheduler.initializeCacheOnStartup();
+
+        // then
+        ArgumentCaptor<ExchangeRateTable> tableCaptor = ArgumentCaptor.forClass(ExchangeRateTable.class);
+        verify(exchangeRateCache, times(2)).replace(tableCaptor.capture());
+
+        assertThat(tableCaptor.getAllValues().get(0)).isSameAs(snapshot);
+        assertThat(tableCaptor.getAllValues().get(1).getRate(Currency.UNITED_STATES_DOLLAR, Currency.SOUTH_KOREAN_WON))
+                .isEqualTo(1350.0);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 갱신 락을 가지고 있으면 기동 시 외부 환율을 가져오지 않는다")
+    void initializeCacheOnStartup_whenLockHeldByAnotherNode_shouldNotScrape() {
+        // given
+        given(snapshotRepository.findLatest()).willReturn(Optional.empty());
+        given(lockProvider.lock(any(LockConfiguration.class))).willReturn(Optional.empty());
+
+        // when
+        exchangeRateScheduler.initializeCacheOnStartup();
+
+        // then
+        verify(exchangeRateProvider, never()).getExchangeRateAsync(any(Currency.class), any(Currency.class));
+        verify(exchangeRateCache, never()).replace(any(ExchangeRateTable.class));
+    }
+
+    @Test
+    @DisplayName("환율 피드가 있으면 피드의 환율을 사용하고 피드에 없는 통화만 통화쌍 단위로 조회한다")
+    void initializeCacheOnStartup_withFeed_shouldFetchOnlyMissingRatesPerPair() {
+        // given
+        ExchangeRateScheduler schedulerWithFeed = new ExchangeRateScheduler(
+                exchangeRateProvider,
+                Optional.of(exchangeRateFeed),
+                exchangeRateCache,
+                snapshotRepository,
+                readinessGate,
+                Duration.ofHours(24),
+                Duration.ofHours(1),
+                lockProvider,
+                Schedulers.immediate()
+        );
+        given(snapshotRepository.findLatest()).willReturn(Optional.empty());
+        given(exchangeRateCache.getExchangeRateTable()).willReturn(ExchangeRateTable.empty());
+        given(lockProvider.lock(any(LockConfiguration.class))).willReturn(Optional.of(simpleLock));
+        given(exchangeRateFeed.fetchBaseRates(Currency.UNITED_STATES_DOLLAR))
+                .willReturn(Mono.just(Map.of(Currency.SOUTH_KOREAN_WON, 1340.0)));
+        givenProviderRates();
+
+        // when
+        schedulerWithFeed.initializeCacheOnStartup();
+
+        // then
+        ArgumentCaptor<ExchangeRateTable> tableCaptor = ArgumentCaptor.forClass(ExchangeRateTable.class);
+        verify(exchangeRateCache).replace(tableCaptor.capture());
+
+        ExchangeRateTable table = tableCaptor.getValue();
+        assertThat(table.getRate(Currency.UNITED_STATES_DOLLAR, Currency.SOUTH_KOREAN_WON)).isEqualTo(1340.0);
+        assertThat(table.getRate(Currency.UNITED_STATES_DOLLAR, Currency.JAPANESE_YEN)).isEqualTo(150.0);
+        verify(exchangeRateProvider, never()).getExchangeRateAsync(Currency.UNITED_STATES_DOLLAR, Currency.SOUTH_KOREAN_WON);
+    }
+
+    @Test
+    @DisplayName("환율 피드 조회에 실패하면 모든 통화를 통화쌍 단위로 조회한다")
+    void initializeCacheOnStartup_whenFeedFails_shouldFallBackToPerPairRates() {
+        // given
+        ExchangeRateScheduler schedulerWithFeed = new ExchangeRateScheduler(
+                exchangeRateProvider,
+                Optional.of(exchangeRateFeed),
+                exchangeRateCache,
+                snapshotRepository,
+                readinessGate,
+                Duration.ofHours(24),
+                Duration.ofHours(1),
+                lockProvider,
+                Schedulers.immediate()
+        );
+        given(snapshotRepository.findLatest()).willReturn(Optional.empty());
+        given(exchangeRateCache.getExchangeRateTable()).willReturn(ExchangeRateTable.empty());
+        given(lockProvider.lock(any(LockConfiguration.class))).willReturn(Optional.of(simpleLock));
+        given(exchangeRateFeed.fetchBaseRates(Currency.UNITED_STATES_DOLLAR))
+                .willReturn(Mono.error(new IllegalStateException("feed down")));
+        givenProviderRates();
+
+        // when
+        schedulerWithFeed.initializeCacheOnStartup();
+
+        // then
+        ArgumentCaptor<ExchangeRateTable> tableCaptor = ArgumentCaptor.forClass(ExchangeRateTable.class);
+        verify(exchangeRateCache).replace(tableCaptor.capture());
+        assertThat(tableCaptor.getValue().getRate(Currency.UNITED_STATES_DOLLAR, Currency.SOUTH_KOREAN_WON)).isEqualTo(1350.0);
+    }
+
+    @Test
+    @DisplayName("가져온 환율의 반영과 스냅샷 저장은 환율을 내보낸 스레드가 아닌 반영용 스케줄러에서 실행한다")
+    void refreshRates_shouldApplyAndSaveOnApplyScheduler() {
+        // given
+        Scheduler applyScheduler = Schedulers.newSingle("rate-apply");
+        ExchangeRateScheduler schedulerWithApplyThread = new ExchangeRateScheduler(
+                exchangeRateProvider,
+                Optional.empty(),
+                exchangeRateCache,
+                snapshotRepository,
+                readinessGate,
+                Duration.ofHours(24),
+                Duration.ofHours(1),
+                lockProvider,
+                applyScheduler
+        );
+        given(exchangeRateCache.getExchangeRateTable()).willReturn(ExchangeRateTable.empty());
+        given(exchangeRateProvider.getExchangeRateAsync(any(Currency.class), any(Currency.class)))
+                .willAnswer(invocation -> Mono.just(1.0).publishOn(Schedulers.parallel()));
+        AtomicReference<String> saveThread = new AtomicReference<>();
+        willAnswer(invocation -> {
+            saveThread.set(Thread.currentThread().getName());
+            return null;
+        }).given(snapshotRepository).save(any(ExchangeRateTable.class));
+
+        try {
+            // when
+            schedulerWithApplyThread.refreshRates(EnumSet.of(Currency.SOUTH_KOREAN_WON, Currency.JAPANESE_YEN));
+
+            // then
+            verify(snapshotRepository, timeout(1000)).save(any(ExchangeRateTable.class));
+            assertThat(saveThread.get()).startsWith("rate-apply");
+        } finally {
+            applyScheduler.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("저장소에 이 노드의 캐시보다 새로운 스냅샷이 있으면 그 위에 갱신한 통화만 반영한다")
+    void refreshRates_shouldMergeOntoNewerPersistedSnapshot() {
+        // given
+        Instant now = Instant.now();
+        ExchangeRateTable localTable = ExchangeRateTable.fromBaseRates(
+                Currency.UNITED_STATES_DOLLAR,
+                Map.of(Currency.SOUTH_KOREAN_WON, 1300.0, Currency.JAPANESE_YEN, 140.0),
+                now.minus(Duration.ofMinutes(10))
+        );
+        ExchangeRateTable persistedSnapshot = localTable.refresh(
+                Currency.UNITED_STATES_DOLLAR,
+                Map.of(Currency.JAPANESE_YEN, 151.0),
+                now.minus(Duration.ofSeconds(30))
+        );
+        given(exchangeRateCache.getExchangeRateTable()).willReturn(localTable);
+        given(snapshotRepository.findLatest()).willReturn(Optional.of(persistedSnapshot));
+        givenProviderRates();
+
+        // when
+        exchangeRateScheduler.refreshRates(EnumSet.of(Currency.SOUTH_KOREAN_WON));
+
+        // then
+        ArgumentCaptor<ExchangeRateTable> tableCaptor = ArgumentCaptor.forClass(ExchangeRateTable.class);
+        verify(snapshotRepository).save(tableCaptor.capture());
+        ExchangeRateTable saved = tableCaptor.getValue();
+        assertThat(saved.getRate(Currency.UNITED_STATES_DOLLAR, Currency.SOUTH_KOREAN_WON)).isEqualTo(1350.0);
+        assertThat(saved.getRate(Currency.UNITED_STATES_DOLLAR, Currency.JAPANESE_YEN)).isEqualTo(151.0);
+        assertThat(saved.getVersion()).isGreaterThan(persistedSnapshot.getVersion());
+    }
+
+    @Test
+    @DisplayName("재사용 기간 안에 다시 갱신하면 환율 피드를 다시 받지 않고 이전 결과를 쓴다")
+    void refreshRates_shouldReuseFeedRatesWithinReuseWindow() {
+        // given
+        ExchangeRateScheduler schedulerWithFeed = new ExchangeRateScheduler(
+                exchangeRateProvider,
+                Optional.of(exchangeRateFeed),
+                exchangeRateCache,
+                snapshotRepository,
+                readinessGate,
+                Duration.ofHours(24),
+                Duration.ofHours(1),
+                lockProvider,
+                Schedulers.immediate()
+        );
+        given(exchangeRateCache.getExchangeRateTable()).willReturn(ExchangeRateTable.empty());
+        given(exchangeRateFeed.fetchBaseRates(Currency.UNITED_STATES_DOLLAR))
+                .willReturn(Mono.just(Map.of(Currency.SOUTH_KOREAN_WON, 1340.0)));
+
+        // when
+        schedulerWithFeed.refreshRates(EnumSet.of(Currency.SOUTH_KOREAN_WON));
+        schedulerWithFeed.refreshRates(EnumSet.of(Currency.SOUTH_KOREAN_WON));
+
+        // then
+        verify(exchangeRateFeed, times(1)).fetchBaseRates(Currency.UNITED_STATES_DOLLAR);
+        verify(snapshotRepository, times(2)).save(any(ExchangeRateTable.class));
+    }
+
+    private void givenProviderRates() {
         given(exchangeRateProvider.getExchangeRateAsync(any(Currency.class), any(Currency.class)))
                 .willAnswer(invocation -> {
                     Currency target = invocation.getArgument(1);
@@ -45,19 +338,5 @@ class ExchangeRateSchedulerTest {
                     }
                     return Mono.just(1.0);
                 });
-
-        // when
-        exchangeRateScheduler.initializeCacheOnStartup();
-
-        // then
-        ArgumentCaptor<String> fromCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<String> toCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<Double> rateCaptor = ArgumentCaptor.forClass(Double.class);
-
-        verify(exchangeRateCache, atLeastOnce()).updateExchangeRate(fromCaptor.capture(), toCaptor.capture(), rateCaptor.capture());
-
-        verify(exchangeRateCache).updateExchangeRate("USD", "KRW", 1350.0);
-        verify(exchangeRateCache).updateExchangeRate("KRW", "USD", 1.0 / 1350.0);
-        verify(exchangeRateCache).updateExchangeRate("KRW", "JPY", 150.0 / 1350.0);
     }
 }
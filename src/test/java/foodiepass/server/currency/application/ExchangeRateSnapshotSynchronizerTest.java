@@ -0,0 +1,101 @@
+package foodiepass.server.currency.application;
+
+import foodiepass.server.currency.application.port.out.ExchangeRateSnapshotRepository;
+import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.currency.domain.ExchangeRateTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExchangeRateSnapshotSynchronizer 테스트")
+class ExchangeRateSnapshotSynchronizerTest {
+
+    private static final Instant FETCHED_AT = Instant.parse("2025-07-31T00:00:00Z");
+
+    @InjectMocks
+    private ExchangeRateSnapshotSynchronizer synchronizer;
+
+    @Mock
+    private ExchangeRateSnapshotRepository snapshotRepository;
+
+    @Mock
+    private ExchangeRateCache exchangeRateCache;
+
+    @Mock
+    private ExchangeRateReadinessGate readinessGate;
+
+    @Test
+    @DisplayName("공유 저장소에 더 새로운 스냅샷이 있으면 불러와 캐시에 적용한다")
+    void whenNewerSnapshotExists_shouldLoadAndApplyIt() {
+        // given
+        ExchangeRateTable current = snapshotAt(FETCHED_AT);
+        ExchangeRateTable latest = snapshotAt(FETCHED_AT.plusSeconds(3600));
+
+        given(exchangeRateCache.getExchangeRateTable()).willReturn(current);
+        given(snapshotRepository.findLatestVersion()).willReturn(OptionalLong.of(latest.getVersion()));
+        given(snapshotRepository.findByVersion(latest.getVersion())).willReturn(Optional.of(latest));
+        given(exchangeRateCache.replaceIfNewer(latest)).willReturn(true);
+
+        // when
+        synchronizer.synchronizeWithLatestSnapshot();
+
+        // then
+        verify(exchangeRateCache).replaceIfNewer(latest);
+        verify(readinessGate).markRatesLoaded();
+    }
+
+    @Test
+    @DisplayName("공유 저장소의 버전이 현재 버전과 같으면 스냅샷을 불러오지 않는다")
+    void whenVersionIsUpToDate_shouldNotLoadSnapshot() {
+        // given
+        ExchangeRateTable current = snapshotAt(FETCHED_AT);
+
+        given(exchangeRateCache.getExchangeRateTable()).willReturn(current);
+        given(snapshotRepository.findLatestVersion()).willReturn(OptionalLong.of(current.getVersion()));
+
+        // when
+        synchronizer.synchronizeWithLatestSnapshot();
+
+        // then
+        verify(snapshotRepository, never()).findByVersion(anyLong());
+        verify(exchangeRateCache, never()).replaceIfNewer(any());
+    }
+
+    @Test
+    @DisplayName("공유 저장소 조회에 실패해도 예외를 전파하지 않고 현재 환율을 유지한다")
+    void whenRepositoryFails_shouldKeepCurrentRates() {
+        // given
+        given(exchangeRateCache.getExchangeRateTable()).willReturn(snapshotAt(FETCHED_AT));
+        given(snapshotRepository.findLatestVersion()).willThrow(new DataAccessResourceFailureException("db down"));
+
+        // when
+        synchronizer.synchronizeWithLatestSnapshot();
+
+        // then
+        verify(exchangeRateCache, never()).replaceIfNewer(any());
+    }
+
+    private ExchangeRateTable snapshotAt(Instant fetchedAt) {
+        return ExchangeRateTable.fromBaseRates(
+                Currency.UNITED_STATES_DOLLAR,
+                Map.of(Currency.SOUTH_KOREAN_WON, 1350.0),
+                fetchedAt
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package foodiepass.server.currency.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import foodiepass.server.currency.application.ExchangeRateVectorCache.SerializedRates;
+import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.currency.domain.ExchangeRateTable;
+import foodiepass.server.currency.exception.CurrencyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ExchangeRateVectorCache 테스트")
+class ExchangeRateVectorCacheTest {
+
+    private static final Currency USD = Currency.UNITED_STATES_DOLLAR;
+    private static final Currency KRW = Currency.SOUTH_KOREAN_WON;
+    private static final Currency JPY = Currency.JAPANESE_YEN;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ExchangeRateCache exchangeRateCache;
+    private ExchangeRateVectorCache exchangeRateVectorCache;
+
+    @BeforeEach
+    void setUp() {
+        exchangeRateCache = new ExchangeRateCache();
+        exchangeRateVectorCache = new ExchangeRateVectorCache(exchangeRateCache, objectMapper);
+    }
+
+    @Test
+    @DisplayName("기준 통화의 전체 환율 벡터를 응답 형식으로 직렬화한다")
+    void getRates_shouldSerializeRateVector() throws Exception {
+        // given
+        exchangeRateCache.replace(tableAt(Instant.ofEpochMilli(1_000L)));
+
+        // when
+        SerializedRates rates = exchangeRateVectorCache.getRates(KRW);
+
+        // then
+        JsonNode result = objectMapper.readTree(rates.body()).get("result");
+        assertThat(result.get("base").asText()).isEqualTo("KRW");
+        assertThat(result.get("version").asLong()).isEqualTo(1_000L);
+        assertThat(result.get("rates").get("USD").asDouble()).isEqualTo(1 / 1350.0);
+        assertThat(result.get("rates").get("JPY").asDouble()).isEqualTo(150.0 / 1350.0);
+        assertThat(result.get("rates").has("KRW")).isFalse();
+        assertThat(rates.eTag()).isEqualTo("\"KRW-1000\"");
+    }
+
+    @Test
+    @DisplayName("같은 스냅샷 버전에서는 직렬화한 본문을 재사용하고, 버전이 바뀌면 다시 만든다")
+    void getRates_shouldReuseBodyUntilVersionChanges() {
+        // given
+        exchangeRateCache.replace(tableAt(Instant.ofEpochMilli(1_000L)));
+        SerializedRates first = exchangeRateVectorCache.getRates(USD);
+
+        // when
+        SerializedRates second = exchangeRateVectorCache.getRates(USD);
+        exchangeRateCache.replace(tableAt(Instant.ofEpochMilli(2_000L)));
+        SerializedRates third = exchangeRateVectorCache.getRates(USD);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        assertThat(third.eTag()).isEqualTo("\"USD-2000\"");
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같을 때만 일치한다고 판단한다")
+    void serializedRates_shouldMatchOnlyCurrentETag() {
+        // given
+        exchangeRateCache.replace(tableAt(Instant.ofEpochMilli(1_000L)));
+        SerializedRates rates = exchangeRateVectorCache.getRates(USD);
+
+        // when & then
+        assertThat(rates.matches("\"USD-1000\"")).isTrue();
+        assertThat(rates.matches("\"USD-500\", W/\"USD-1000\"")).isTrue();
+        assertThat(rates.matches("\"USD-500\"")).isFalse();
+        assertThat(rates.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("환율 정보가 없으면 CurrencyException을 던진다")
+    void getRates_withEmptyTable_shouldThrowCurrencyException() {
+        // when & then
+        assertThatThrownBy(() -> exchangeRateVectorCache.getRates(USD))
+                .isInstanceOf(CurrencyException.class);
+    }
+
+    private ExchangeRateTable tableAt(Instant fetchedAt) {
+        return ExchangeRateTable.fromBaseRates(USD, Map.of(KRW, 1350.0, JPY, 150.0), fetchedAt);
+    }
+}
@@ -0,0 +1,118 @@
+package foodiepass.server.currency.application;
+
+import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.currency.domain.ExchangeRateTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UsageBasedExchangeRateRefresher 테스트")
+class UsageBasedExchangeRateRefresherTest {
+
+    private static final Currency USD = Currency.UNITED_STATES_DOLLAR;
+    private static final Currency KRW = Currency.SOUTH_KOREAN_WON;
+    private static final Currency JPY = Currency.JAPANESE_YEN;
+    private static final Currency EUR = Currency.EURO;
+
+    @Mock
+    private ExchangeRateCache exchangeRateCache;
+
+    @Mock
+    private ExchangeRateScheduler exchangeRateScheduler;
+
+    @Test
+    @DisplayName("자주 쓰는 통화는 짧은 유효 기간이 지나면 갱신 대상이 되고, 사용되지 않은 통화는 대상이 아니다")
+    void collectDueCurrencies_shouldRefreshHotCurrencyOnly() {
+        // given
+        UsageBasedExchangeRateRefresher refresher = createRefresher(List.of("KRW"), 0);
+        givenTableFetchedBefore(Duration.ofHours(2));
+
+        // when
+        var dueCurrencies = refresher.collectDueCurrencies(Instant.now());
+
+        // then
+        assertThat(dueCurrencies).containsExactly(KRW);
+    }
+
+    @Test
+    @DisplayName("사용되지 않던 통화는 긴 유효 기간이 지난 뒤 처음 사용될 때 갱신 대상이 된다")
+    void collectDueCurrencies_shouldRefreshColdCurrencyLazilyOnFirstUse() {
+        // given
+        UsageBasedExchangeRateRefresher refresher = createRefresher(List.of(), 0);
+        givenTableFetchedBefore(Duration.ofHours(25));
+        assertThat(refresher.collectDueCurrencies(Instant.now())).isEmpty();
+
+        // when
+        refresher.recordUsage(USD, JPY);
+
+        // then
+        assertThat(refresher.collectDueCurrencies(Instant.now())).containsExactly(JPY);
+    }
+
+    @Test
+    @DisplayName("사용량 상위 통화는 설정에 없어도 자주 쓰는 통화로 취급한다")
+    void collectDueCurrencies_shouldPromoteMostUsedCurrencies() {
+        // given
+        UsageBasedExchangeRateRefresher refresher = createRefresher(List.of(), 2);
+        givenTableFetchedBefore(Duration.ofHours(2));
+
+        // when
+        refresher.recordUsage(USD, JPY);
+        refresher.recordUsage(USD, JPY);
+        refresher.recordUsage(USD, JPY);
+        refresher.recordUsage(USD, EUR);
+
+        // then
+        assertThat(refresher.collectDueCurrencies(Instant.now())).containsExactly(JPY);
+    }
+
+    @Test
+    @DisplayName("갱신할 통화가 없으면 환율을 가져오지 않는다")
+    void refreshDueCurrencies_whenNothingIsDue_shouldNotRefresh() {
+        // given
+        UsageBasedExchangeRateRefresher refresher = createRefresher(List.of("KRW"), 0);
+        givenTableFetchedBefore(Duration.ofMinutes(10));
+
+        // when
+        refresher.refreshDueCurrencies();
+
+        // then
+        verify(exchangeRateScheduler, never()).refreshRates(any());
+    }
+
+    private UsageBasedExchangeRateRefresher createRefresher(List<String> hotCurrencyCodes, int hotUsageRank) {
+        return new UsageBasedExchangeRateRefresher(
+                exchangeRateCache,
+                exchangeRateScheduler,
+                hotCurrencyCodes,
+                hotUsageRank,
+                Duration.ofHours(1),
+                Duration.ofHours(24),
+                0.0,
+                20
+        );
+    }
+
+    private void givenTableFetchedBefore(Duration age) {
+        ExchangeRateTable table = ExchangeRateTable.fromBaseRates(
+                USD,
+                Map.of(KRW, 1350.0, JPY, 150.0, EUR, 0.9),
+                Instant.now().minus(age)
+        );
+        given(exchangeRateCache.getExchangeRateTable()).willReturn(table);
+    }
+}
@@ -0,0 +1,72 @@
+package foodiepass.server.currency.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CurrencyFormatTable 클래스")
+class CurrencyFormatTableTest {
+
+    @DisplayName("NumberFormat.getCurrencyInstance()와 같은 문자열을 만든다")
+    @ParameterizedTest(name = "{0} {1}")
+    @CsvSource({
+            "UNITED_STATES_DOLLAR, 0",
+            "UNITED_STATES_DOLLAR, 1234567.891",
+            "UNITED_STATES_DOLLAR, 0.005",
+            "UNITED_STATES_DOLLAR, 0.015",
+            "UNITED_STATES_DOLLAR, -1234.56",
+            "SOUTH_KOREAN_WON, 27010.00",
+            "SOUTH_KOREAN_WON, 1350.5",
+            "JAPANESE_YEN, 999999999.995",
+            "EURO, 12.345",
+            "EURO, 12345678901234567.5"
+    })
+    void format_shouldMatchNumberFormat(Currency currency, BigDecimal amount) {
+        // given
+        NumberFormat numberFormat = NumberFormat.getCurrencyInstance();
+        numberFormat.setCurrency(java.util.Currency.getInstance(currency.getCurrencyCode()));
+
+        // when
+        String formatted = CurrencyFormatTable.format(currency, amount);
+
+        // then
+        assertThat(formatted).isEqualTo(numberFormat.format(amount));
+    }
+
+    @Test
+    @DisplayName("formatTo는 전달받은 StringBuilder에 이어 쓴다")
+    void formatTo_shouldAppendToGivenBuilder() {
+        // given
+        StringBuilder builder = new StringBuilder("합계: ");
+
+        // when
+        CurrencyFormatTable.formatTo(builder, Currency.UNITED_STATES_DOLLAR, new BigDecimal("10.5"));
+
+        // then
+        assertThat(builder.toString()).isEqualTo("합계: " + Currency.UNITED_STATES_DOLLAR.format(new BigDecimal("10.5")));
+    }
+
+    @DisplayName("최소 단위 정수 금액을 BigDecimal로 포맷한 결과와 같은 문자열을 만든다")
+    @ParameterizedTest(name = "{0} {1} scale={2}")
+    @CsvSource({
+            "UNITED_STATES_DOLLAR, 123456789, 2",
+            "UNITED_STATES_DOLLAR, 5, 2",
+            "UNITED_STATES_DOLLAR, 12345, 3",
+            "SOUTH_KOREAN_WON, 27010, 0",
+            "SOUTH_KOREAN_WON, 2701050, 2",
+            "JAPANESE_YEN, 0, 0"
+    })
+    void formatMinorUnits_shouldMatchBigDecimalFormat(Currency currency, long unscaled, int scale) {
+        // when
+        String formatted = CurrencyFormatTable.format(currency, unscaled, scale);
+
+        // then
+        assertThat(formatted).isEqualTo(CurrencyFormatTable.format(currency, BigDecimal.valueOf(unscaled, scale)));
+    }
+}
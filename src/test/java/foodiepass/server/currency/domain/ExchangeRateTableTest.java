@@ -0,0 +1,169 @@
+package foodiepass.server.currency.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExchangeRateTable 클래스")
+class ExchangeRateTableTest {
+
+    private final Currency USD = Currency.UNITED_STATES_DOLLAR;
+    private final Currency KRW = Currency.SOUTH_KOREAN_WON;
+    private final Currency JPY = Currency.JAPANESE_YEN;
+    private final Currency EUR = Currency.EURO;
+    private final Instant FETCHED_AT = Instant.parse("2025-07-31T00:00:00Z");
+
+    @Nested
+    @DisplayName("fromBaseRates 정적 팩토리 메서드는")
+    class Describe_fromBaseRates {
+
+        @Test
+        @DisplayName("기준 환율로부터 역환율과 교차 환율을 계산한다")
+        void shouldCalculateInverseAndCrossRates() {
+            // when
+            ExchangeRateTable table = ExchangeRateTable.fromBaseRates(USD, Map.of(KRW, 1350.0, JPY, 150.0), FETCHED_AT);
+
+            // then
+            assertThat(table.getRate(USD, KRW)).isEqualTo(1350.0);
+            assertThat(table.getRate(KRW, USD)).isEqualTo(1.0 / 1350.0);
+            assertThat(table.getRate(KRW, JPY)).isEqualTo(150.0 / 1350.0);
+            assertThat(table.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("0 이하이거나 유한하지 않은 환율은 무시한다")
+        void shouldIgnoreInvalidRates() {
+            // when
+            ExchangeRateTable table = ExchangeRateTable.fromBaseRates(USD, Map.of(KRW, 0.0, JPY, Double.POSITIVE_INFINITY), FETCHED_AT);
+
+            // then
+            assertThat(table.hasRate(USD, KRW)).isFalse();
+            assertThat(table.hasRate(USD, JPY)).isFalse();
+            assertThat(table.isEmpty()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("getRate 메서드는")
+    class Describe_getRate {
+
+        @Test
+        @DisplayName("동일 통화에 대해서는 환율 정보가 없어도 1.0을 반환한다")
+        void shouldReturnOneForSameCurrency() {
+            assertThat(ExchangeRateTable.empty().getRate(EUR, EUR)).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("환율 정보가 없으면 NaN을 반환한다")
+        void shouldReturnNaNWhenRateIsUnknown() {
+            // given
+            ExchangeRateTable table = ExchangeRateTable.fromBaseRates(USD, Map.of(KRW, 1350.0), FETCHED_AT);
+
+            // when & then
+            assertThat(table.getRate(KRW, EUR)).isNaN();
+            assertThat(table.hasRate(KRW, EUR)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("refresh 메서드는")
+    class Describe_refresh {
+
+        @Test
+        @DisplayName("이번에 가져오지 못한 통화는 이전 환율을 유지하고 나머지는 새 환율로 교체한다")
+        void shouldKeepPreviousRatesForMissingCurrencies() {
+            // given
+            ExchangeRateTable previous = ExchangeRateTable.fromBaseRates(USD, Map.of(KRW, 1300.0, JPY, 140.0), FETCHED_AT);
+
+            // when
+            ExchangeRateTable refreshed = previous.refresh(USD, Map.of(KRW, 1350.0), FETCHED_AT.plusSeconds(60));
+
+            // then
+            assertThat(refreshed.getRate(USD, KRW)).isEqualTo(1350.0);
+            assertThat(refreshed.getRate(USD, JPY)).isEqualTo(140.0);
+            assertThat(previous.getRate(USD, KRW)).isEqualTo(1300.0);
+            assertThat(refreshed.getVersion()).isGreaterThan(previous.getVersion());
+        }
+
+        @Test
+        @DisplayName("기준 통화가 바뀌면 이전 환율을 이어받지 않는다")
+        void shouldNotCarryOverRatesWhenBaseCurrencyChanges() {
+            // given
+            ExchangeRateTable previous = ExchangeRateTable.fromBaseRates(USD, Map.of(JPY, 140.0), FETCHED_AT);
+
+            // when
+            ExchangeRateTable refreshed = previous.refresh(EUR, Map.of(KRW, 1450.0), FETCHED_AT.plusSeconds(60));
+
+            // then
+            assertThat(refreshed.getRate(EUR, KRW)).isEqualTo(1450.0);
+            assertThat(refreshed.hasRate(EUR, JPY)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("toBaseRates 메서드는")
+    class Describe_toBaseRates {
+
+        @Test
+        @DisplayName("기준 통화를 제외한 기준 환율을 반환하여 같은 스냅샷을 복원할 수 있게 한다")
+        void shouldReturnBaseRatesWithoutBaseCurrency() {
+            // given
+            ExchangeRateTable table = ExchangeRateTable.fromBaseRates(USD, Map.of(KRW, 1350.0, JPY, 150.0), FETCHED_AT);
+
+            // when
+            Map<Currency, Double> baseRates = table.toBaseRates();
+            ExchangeRateTable restored = ExchangeRateTable.fromBaseRates(USD, baseRates, table.getFetchedAt());
+
+            // then
+            assertThat(baseRates).containsOnlyKeys(KRW, JPY);
+            assertThat(restored.getRate(KRW, JPY)).isEqualTo(table.getRate(KRW, JPY));
+            assertThat(restored.getVersion()).isEqualTo(FETCHED_AT.toEpochMilli());
+        }
+    }
+
+    @Nested
+    @DisplayName("getRateFetchedAt 메서드는")
+    class Describe_getRateFetchedAt {
+
+        @Test
+        @DisplayName("부분 갱신 후에도 갱신하지 않은 통화는 이전 조회 시각을 유지한다")
+        void shouldKeepFetchedAtOfCurrenciesNotRefreshed() {
+            // given
+            Instant refreshedAt = FETCHED_AT.plusSeconds(3600);
+            ExchangeRateTable table = ExchangeRateTable.fromBaseRates(USD, Map.of(KRW, 1350.0, JPY, 150.0), FETCHED_AT);
+
+            // when
+            ExchangeRateTable refreshed = table.refresh(USD, Map.of(KRW, 1360.0), refreshedAt);
+
+            // then
+            assertThat(refreshed.getRateFetchedAt(KRW)).contains(refreshedAt);
+            assertThat(refreshed.getRateFetchedAt(JPY)).contains(FETCHED_AT);
+            assertThat(refreshed.getRateFetchedAt(EUR)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("복원한 스냅샷은 통화별 조회 시각이 없으면 스냅샷의 조회 시각을 사용한다")
+        void restore_shouldFallBackToSnapshotFetchedAt() {
+            // given
+            Instant krwFetchedAt = FETCHED_AT.minusSeconds(600);
+
+            // when
+            ExchangeRateTable restored = ExchangeRateTable.restore(
+                    USD,
+                    Map.of(KRW, 1350.0, JPY, 150.0),
+                    Map.of(KRW, krwFetchedAt),
+                    FETCHED_AT
+            );
+
+            // then
+            assertThat(restored.getRateFetchedAt(KRW)).contains(krwFetchedAt);
+            assertThat(restored.getRateFetchedAt(JPY)).contains(FETCHED_AT);
+            assertThat(restored.getVersion()).isEqualTo(FETCHED_AT.toEpochMilli());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package foodiepass.server.currency.infra;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.menu.infra.exception.ScrapingErrorCode;
+import foodiepass.server.menu.infra.exception.ScrapingException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("EcbExchangeRateFeed 테스트")
+class EcbExchangeRateFeedTest {
+
+    private static final String FEED_PATH = "/stats/eurofxref/eurofxref-daily.xml";
+    private static final String ECB_FEED = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <gesmes:Envelope xmlns:gesmes="http://www.gesmes.org/xml/2002-08-01" xmlns="http://www.ecb.int/vocabulary/2002-08-01/eurofxref">
+              <gesmes:subject>Reference rates</gesmes:subject>
+              <Cube>
+                <Cube time="2025-07-31">
+                  <Cube currency="USD" rate="1.1400"/>
+                  <Cube currency="JPY" rate="171.00"/>
+                  <Cube currency="KRW" rate="1596.00"/>
+                  <Cube currency="XXX" rate="1.0"/>
+                </Cube>
+              </Cube>
+            </gesmes:Envelope>
+            """;
+
+    static WireMockServer wireMockServer;
+
+    private EcbExchangeRateFeed exchangeRateFeed;
+
+    @BeforeAll
+    static void startMockServer() {
+        wireMockServer = new WireMockServer(0);
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void stopMockServer() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer.resetAll();
+        exchangeRateFeed = new EcbExchangeRateFeed(WebClient.builder(), wireMockServer.baseUrl() + FEED_PATH);
+    }
+
+    @Test
+    @DisplayName("EUR 기준 피드를 요청한 기준 통화의 환율표로 변환한다")
+    void fetchBaseRates_shouldRebaseEuroRates() {
+        // given
+        wireMockServer.stubFor(get(urlPathEqualTo(FEED_PATH))
+                .willReturn(aResponse().withStatus(200).withHeader("Content-Type", "text/xml").withBody(ECB_FEED)));
+
+        // when & then
+        StepVerifier.create(exchangeRateFeed.fetchBaseRates(Currency.UNITED_STATES_DOLLAR))
+                .assertNext(rates -> {
+                    assertThat(rates).doesNotContainKey(Currency.UNITED_STATES_DOLLAR);
+                    assertThat(rates.get(Currency.SOUTH_KOREAN_WON)).isCloseTo(1400.0, within(1e-9));
+                    assertThat(rates.get(Currency.JAPANESE_YEN)).isCloseTo(150.0, within(1e-9));
+                    assertThat(rates.get(Currency.EURO)).isCloseTo(1 / 1.14, within(1e-9));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("피드에 기준 통화가 없으면 빈 환율표를 돌려준다")
+    void fetchBaseRates_whenBaseCurrencyMissing_shouldReturnEmptyRates() {
+        // given
+        wireMockServer.stubFor(get(urlPathEqualTo(FEED_PATH))
+                .willReturn(aResponse().withStatus(200).withBody(ECB_FEED.replace("<Cube currency=\"USD\" rate=\"1.1400\"/>", ""))));
+
+        // when & then
+        StepVerifier.create(exchangeRateFeed.fetchBaseRates(Currency.UNITED_STATES_DOLLAR))
+                .assertNext(rates -> assertThat(rates).isEmpty())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("피드 서버가 실패하면 RATE_FEED_FETCH_FAILED 예외가 발생한다")
+    void fetchBaseRates_whenServerFails_shouldThrowFetchFailed() {
+        // given
+        wireMockServer.stubFor(get(urlPathEqualTo(FEED_PATH)).willReturn(aResponse().withStatus(503)));
+
+        // when & then
+        StepVerifier.create(exchangeRateFeed.fetchBaseRates(Currency.UNITED_STATES_DOLLAR))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(ScrapingException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(ScrapingErrorCode.RATE_FEED_FETCH_FAILED))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("피드가 올바른 XML이 아니면 RATE_FEED_PARSING_FAILED 예외가 발생한다")
+    void fetchBaseRates_whenXmlIsMalformed_shouldThrowParsingFailed() {
+        // given
+        wireMockServer.stubFor(get(urlPathEqualTo(FEED_PATH))
+                .willReturn(aResponse().withStatus(200).withBody("<Cube><Cube currency=\"USD\"")));
+
+        // when & then
+        StepVerifier.create(exchangeRateFeed.fetchBaseRates(Currency.UNITED_STATES_DOLLAR))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(ScrapingException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(ScrapingErrorCode.RATE_FEED_PARSING_FAILED))
+                .verify();
+    }
+}
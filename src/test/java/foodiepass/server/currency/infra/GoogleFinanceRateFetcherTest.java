@@ -0,0 +1,161 @@
+package foodiepass.server.currency.infra;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.menu.infra.exception.ScrapingErrorCode;
+import foodiepass.server.menu.infra.exception.ScrapingException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GoogleFinanceRateFetcher 테스트")
+class GoogleFinanceRateFetcherTest {
+
+    private static final String RATE_PAGE = """
+            <html><head><title>USD / KRW</title></head>
+            <body>
+              <main>
+                <div class="YMlKec">placeholder</div>
+                <div jsname="ip75Cb" class="YMlKec fxKbKc">1,350.25</div>
+              </main>
+            </body></html>
+            """;
+
+    static WireMockServer wireMockServer;
+
+    private GoogleFinanceRateFetcher rateFetcher;
+
+    @BeforeAll
+    static void startMockServer() {
+        wireMockServer = new WireMockServer(0);
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void stopMockServer() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer.resetAll();
+        rateFetcher = new GoogleFinanceRateFetcher(
+                wireMockServer.baseUrl() + "/finance/quote/%s-%s",
+                "div.YMlKec.fxKbKc",
+                2,
+                Duration.ZERO,
+                Duration.ofSeconds(2)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        rateFetcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 청크로 나뉘어 전송된 페이지에서 환율을 추출한다")
+    void fetchRate_withChunkedBody_shouldExtractRate() {
+        // given
+        wireMockServer.stubFor(get(urlPathEqualTo("/finance/quote/USD-KRW"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "text/html; charset=UTF-8")
+                        .withBody(RATE_PAGE)
+                        .withChunkedDribbleDelay(8, 40)));
+
+        // when & then
+        StepVerifier.create(rateFetcher.fetchRate(Currency.UNITED_STATES_DOLLAR, Currency.SOUTH_KOREAN_WON))
+                .expectNext(1350.25)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("동시 요청 수보다 많은 통화를 요청해도 모든 환율을 가져온다")
+    void fetchRate_withManyCurrencies_shouldFetchAllThroughBoundedPool() {
+        // given
+        wireMockServer.stubFor(get(urlPathMatching("/finance/quote/USD-.*"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody(RATE_PAGE)
+                        .withFixedDelay(20)));
+        List<Currency> targets = Arrays.stream(Currency.values())
+                .filter(currency -> currency != Currency.UNITED_STATES_DOLLAR)
+                .limit(20)
+                .toList();
+
+        // when
+        List<Double> rates = Flux.fromIterable(targets)
+                .flatMap(target -> rateFetcher.fetchRate(Currency.UNITED_STATES_DOLLAR, target))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // then
+        assertThat(rates).hasSize(targets.size()).containsOnly(1350.25);
+        wireMockServer.verify(targets.size(), getRequestedFor(urlPathMatching("/finance/quote/USD-.*")));
+    }
+
+    @Test
+    @DisplayName("응답 상태가 200이 아니면 SCRAPING_CONNECTION_FAILED 예외가 발생한다")
+    void fetchRate_whenServerFails_shouldThrowConnectionFailed() {
+        // given
+        wireMockServer.stubFor(get(urlPathEqualTo("/finance/quote/USD-JPY"))
+                .willReturn(aResponse().withStatus(503)));
+
+        // when & then
+        StepVerifier.create(rateFetcher.fetchRate(Currency.UNITED_STATES_DOLLAR, Currency.JAPANESE_YEN))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(ScrapingException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(ScrapingErrorCode.SCRAPING_CONNECTION_FAILED))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("환율 요소가 없으면 RATE_ELEMENT_NOT_FOUND 예외가 발생한다")
+    void fetchRate_whenRateElementMissing_shouldThrowElementNotFound() {
+        // given
+        wireMockServer.stubFor(get(urlPathEqualTo("/finance/quote/USD-JPY"))
+                .willReturn(aResponse().withStatus(200).withBody("<html><body>no rate</body></html>")));
+
+        // when & then
+        StepVerifier.create(rateFetcher.fetchRate(Currency.UNITED_STATES_DOLLAR, Currency.JAPANESE_YEN))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(ScrapingException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(ScrapingErrorCode.RATE_ELEMENT_NOT_FOUND))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("환율 텍스트가 숫자가 아니면 RATE_PARSING_FAILED 예외가 발생한다")
+    void fetchRate_whenRateIsNotNumber_shouldThrowParsingFailed() {
+        // given
+        wireMockServer.stubFor(get(urlPathEqualTo("/finance/quote/USD-JPY"))
+                .willReturn(aResponse().withStatus(200).withBody("<div class=\"YMlKec fxKbKc\">N/A</div>")));
+
+        // when & then
+        StepVerifier.create(rateFetcher.fetchRate(Currency.UNITED_STATES_DOLLAR, Currency.JAPANESE_YEN))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(ScrapingException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(ScrapingErrorCode.RATE_PARSING_FAILED))
+                .verify();
+    }
+}
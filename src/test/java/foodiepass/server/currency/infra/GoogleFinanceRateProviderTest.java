@@ -0,0 +1,89 @@
+package foodiepass.server.currency.infra;
+
+import foodiepass.server.currency.domain.Currency;
+import foodiepass.server.menu.infra.exception.ScrapingErrorCode;
+import foodiepass.server.menu.infra.exception.ScrapingException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GoogleFinanceRateProvider 테스트")
+class GoogleFinanceRateProviderTest {
+
+    @Mock
+    private GoogleFinanceRateFetcher rateFetcher;
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowSize(2)
+            .minimumNumberOfCalls(2)
+            .failureRateThreshold(50)
+            .build());
+
+    @Test
+    @DisplayName("동기 조회는 가져온 환율을 돌려준다")
+    void getExchangeRate_shouldReturnFetchedRate() {
+        // given
+        when(rateFetcher.fetchRate(Currency.UNITED_STATES_DOLLAR, Currency.JAPANESE_YEN)).thenReturn(Mono.just(150.0));
+        GoogleFinanceRateProvider provider = new GoogleFinanceRateProvider(rateFetcher, circuitBreakerRegistry, Duration.ofSeconds(1));
+
+        // when
+        double rate = provider.getExchangeRate(Currency.UNITED_STATES_DOLLAR, Currency.JAPANESE_YEN);
+
+        // then
+        assertThat(rate).isEqualTo(150.0);
+    }
+
+    @Test
+    @DisplayName("동기 조회는 제한 시간이 지나면 더 기다리지 않고 예외를 던진다")
+    void getExchangeRate_shouldGiveUpAfterResponseTimeout() {
+        // given
+        when(rateFetcher.fetchRate(Currency.UNITED_STATES_DOLLAR, Currency.JAPANESE_YEN)).thenReturn(Mono.never());
+        GoogleFinanceRateProvider provider = new GoogleFinanceRateProvider(rateFetcher, circuitBreakerRegistry, Duration.ofMillis(50));
+
+        // when & then
+        assertThatThrownBy(() -> provider.getExchangeRate(Currency.UNITED_STATES_DOLLAR, Currency.JAPANESE_YEN))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("비동기 조회가 구독 뒤에 실패하면 서킷 브레이커가 실패를 기록하고, 열린 뒤에는 환율 페이지를 요청하지 않는다")
+    void getExchangeRateAsync_whenFetchFails_shouldOpenCircuitBreaker() {
+        // given
+        AtomicInteger subscriptions = new AtomicInteger();
+        when(rateFetcher.fetchRate(Currency.UNITED_STATES_DOLLAR, Currency.JAPANESE_YEN))
+                .thenReturn(Mono.<Double>error(new ScrapingException(ScrapingErrorCode.SCRAPING_CONNECTION_FAILED))
+                        .doOnSubscribe(ignored -> subscriptions.incrementAndGet()));
+        GoogleFinanceRateProvider provider = new GoogleFinanceRateProvider(rateFetcher, circuitBreakerRegistry, Duration.ofSeconds(1));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(provider.getExchangeRateAsync(Currency.UNITED_STATES_DOLLAR, Currency.JAPANESE_YEN))
+                    .expectErrorSatisfies(e -> assertThat(e)
+                            .isInstanceOf(ScrapingException.class)
+                            .extracting("errorCode")
+                            .isEqualTo(ScrapingErrorCode.EXTERNAL_API_CIRCUIT_OPEN))
+                    .verify();
+        }
+
+        // then
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("exchangeRate");
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(2);
+        assertThat(subscriptions).hasValue(2);
+    }
+}
@@ -0,0 +1,61 @@
+package foodiepass.server.currency.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StreamingRateExtractor 테스트")
+class StreamingRateExtractorTest {
+
+    private static final StreamingRateExtractor.Selector SELECTOR = StreamingRateExtractor.Selector.parse("div.YMlKec.fxKbKc");
+
+    @Test
+    @DisplayName("태그와 텍스트가 여러 청크로 나뉘어 들어와도 선택자에 맞는 요소의 텍스트를 찾는다")
+    void feed_whenTagIsSplitAcrossChunks_shouldExtractText() {
+        // given
+        StreamingRateExtractor extractor = new StreamingRateExtractor(SELECTOR);
+
+        // when
+        extractor.feed("<html><body><div class=\"YMlKec\">0</div><di");
+        extractor.feed("v jsname=\"ip75Cb\" class=\"fxKbKc YMlKec\">1,3");
+        extractor.feed("50.25</div></body></html>");
+
+        // then
+        assertThat(extractor.result()).contains("1,350.25");
+    }
+
+    @Test
+    @DisplayName("일치하는 요소의 텍스트가 하위 태그 안에 있으면 첫 번째 텍스트를 찾는다")
+    void feed_whenTextIsNested_shouldExtractFirstText() {
+        // given
+        StreamingRateExtractor extractor = new StreamingRateExtractor(SELECTOR);
+
+        // when
+        extractor.feed("<div class='YMlKec fxKbKc'>\n  <span>148.32</span></div>");
+
+        // then
+        assertThat(extractor.result()).contains("148.32");
+    }
+
+    @Test
+    @DisplayName("선택자에 맞는 요소가 없으면 결과가 비어 있다")
+    void feed_whenNoElementMatches_shouldReturnEmpty() {
+        // given
+        StreamingRateExtractor extractor = new StreamingRateExtractor(SELECTOR);
+
+        // when
+        extractor.feed("<html><body><span class=\"YMlKec fxKbKc\">1</span></body></html>");
+
+        // then
+        assertThat(extractor.result()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("하위 선택자처럼 단일 복합 선택자가 아니면 예외가 발생한다")
+    void parse_withDescendantSelector_shouldThrow() {
+        assertThatThrownBy(() -> StreamingRateExtractor.Selector.parse("main div.YMlKec"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
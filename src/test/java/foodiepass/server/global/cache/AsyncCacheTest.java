@@ -0,0 +1,219 @@
+package foodiepass.server.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AsyncCache 테스트")
+class AsyncCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+
+    private final AtomicLong ticker = new AtomicLong();
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AsyncCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AsyncCache<>("test", 2, TTL, NEGATIVE_TTL, Duration.ZERO, 0.0, meterRegistry, ticker::get);
+    }
+
+    @Test
+    @DisplayName("같은 키는 TTL 동안 한 번만 로딩하고 결과를 재사용한다")
+    void get_shouldReuseLoadedValueWithinTtl() {
+        // when & then
+        StepVerifier.create(cache.get("a", succeeding())).expectNext("A").verifyComplete();
+        StepVerifier.create(cache.get("a", succeeding())).expectNext("A").verifyComplete();
+        assertThat(loadCount).hasValue(1);
+        assertThat(cache.stats()).isEqualTo(new AsyncCache.CacheStats(1, 1, 0));
+    }
+
+    @Test
+    @DisplayName("성공한 값은 TTL이 지나면 다시 로딩한다")
+    void get_shouldReloadAfterTtl() {
+        // given
+        cache.get("a", succeeding()).block();
+
+        // when
+        ticker.addAndGet(TTL.toNanos());
+        cache.get("a", succeeding()).block();
+
+        // then
+        assertThat(loadCount).hasValue(2);
+        assertThat(cache.stats().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패는 음수 캐시 TTL 동안만 재사용하고 그 뒤에는 다시 로딩한다")
+    void get_shouldCacheFailuresForNegativeTtlOnly() {
+        // given
+        Function<String, Mono<String>> failing = key -> Mono.defer(() -> {
+            loadCount.incrementAndGet();
+            return Mono.error(new IllegalStateException("일시적 실패"));
+        });
+        StepVerifier.create(cache.get("a", failing)).expectError(IllegalStateException.class).verify();
+
+        // when & then
+        ticker.addAndGet(NEGATIVE_TTL.toNanos() - 1);
+        StepVerifier.create(cache.get("a", succeeding())).expectError(IllegalStateException.class).verify();
+        ticker.addAndGet(1);
+        StepVerifier.create(cache.get("a", succeeding())).expectNext("A").verifyComplete();
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("빈 결과도 음수 캐시 TTL이 지나면 다시 로딩한다")
+    void get_shouldTreatEmptyAsNegative() {
+        // given
+        cache.get("a", key -> Mono.<String>empty().doOnSubscribe(subscription -> loadCount.incrementAndGet())).block();
+
+        // when
+        ticker.addAndGet(NEGATIVE_TTL.toNanos());
+        String value = cache.get("a", succeeding()).block();
+
+        // then
+        assertThat(value).isEqualTo("A");
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("가득 찬 상태에서 자주 조회된 키가 들어오면 밀려난 항목 수를 기록한다")
+    void get_shouldRecordSizeEvictions() {
+        // given
+        cache.get("a", succeeding()).block();
+        cache.get("b", succeeding()).block();
+        for (int i = 0; i < 3; i++) {
+            cache.get("c", succeeding()).block();
+        }
+
+        // when
+        cache.get("c", succeeding()).block();
+
+        // then
+        assertThat(cache.stats().evictionCount()).isPositive();
+        assertThat(meterRegistry.counter("cache.evictions", "cache", "test", "cause", "size").count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("만료가 가까운 값이 조회되면 현재 값을 돌려주면서 뒤에서 새 값으로 바꾼다")
+    void get_shouldRefreshAheadOfExpiry() {
+        // given
+        AsyncCache<String, String> refreshingCache =
+                new AsyncCache<>("refresh", 10, TTL, NEGATIVE_TTL, Duration.ofMinutes(1), 0.0, meterRegistry, ticker::get);
+        refreshingCache.get("a", key -> Mono.just("old")).block();
+        ticker.addAndGet(TTL.minusMinutes(1).toNanos());
+
+        // when
+        String current = refreshingCache.get("a", key -> Mono.just("new")).block();
+        ticker.addAndGet(Duration.ofMinutes(1).toNanos());
+        String refreshed = refreshingCache.get("a", key -> Mono.just("unused")).block();
+
+        // then
+        assertThat(current).isEqualTo("old");
+        assertThat(refreshed).isEqualTo("new");
+        assertThat(refreshingCache.stats().missCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("cache.refreshes", "cache", "refresh", "result", "success").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("미리 갱신에 실패하면 기존 값을 만료까지 계속 쓴다")
+    void get_shouldKeepCurrentValueWhenRefreshFails() {
+        // given
+        AsyncCache<String, String> refreshingCache =
+                new AsyncCache<>("refresh", 10, TTL, NEGATIVE_TTL, Duration.ofMinutes(1), 0.0, meterRegistry, ticker::get);
+        refreshingCache.get("a", key -> Mono.just("old")).block();
+        ticker.addAndGet(TTL.minusMinutes(1).toNanos());
+
+        // when
+        refreshingCache.get("a", key -> Mono.error(new IllegalStateException("일시적 실패"))).block();
+        String current = refreshingCache.get("a", key -> Mono.just("unused")).block();
+
+        // then
+        assertThat(current).isEqualTo("old");
+        assertThat(meterRegistry.counter("cache.refreshes", "cache", "refresh", "result", "failure").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("미리 갱신에 실패하면 다음 조회에서 다시 갱신을 시도한다")
+    void get_shouldRetryRefreshAfterFailure() {
+        // given
+        AsyncCache<String, String> refreshingCache =
+                new AsyncCache<>("refresh", 10, TTL, NEGATIVE_TTL, Duration.ofMinutes(1), 0.0, meterRegistry, ticker::get);
+        refreshingCache.get("a", key -> Mono.just("old")).block();
+        ticker.addAndGet(TTL.minusMinutes(1).toNanos());
+        refreshingCache.get("a", key -> Mono.error(new IllegalStateException("일시적 실패"))).block();
+
+        // when
+        refreshingCache.get("a", key -> Mono.just("new")).block();
+        String refreshed = refreshingCache.get("a", key -> Mono.just("unused")).block();
+
+        // then
+        assertThat(refreshed).isEqualTo("new");
+        assertThat(meterRegistry.counter("cache.refreshes", "cache", "refresh", "result", "success").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("가득 찬 상태에서 밀려날 항목이 이미 만료됐으면 빈도와 상관없이 새 값을 받아들인다")
+    void get_shouldEvictExpiredVictimRegardlessOfFrequency() {
+        // given
+        cache.get("a", succeeding()).block();
+        cache.get("b", succeeding()).block();
+        for (int i = 0; i < 3; i++) {
+            cache.get("a", succeeding()).block();
+            cache.get("b", succeeding()).block();
+        }
+        ticker.addAndGet(TTL.plusSeconds(1).toNanos());
+
+        // when
+        cache.get("c", succeeding()).block();
+
+        // then
+        assertThat(cache.get("c", key -> Mono.just("unused")).block()).isEqualTo("C");
+        assertThat(meterRegistry.counter("cache.evictions", "cache", "test", "cause", "expired").count())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("함께 로딩된 키들의 만료 시각을 TTL 안에서 흩뿌린다")
+    void get_shouldJitterExpiry() {
+        // given
+        AsyncCache<Integer, Integer> jitteredCache =
+                new AsyncCache<>("jitter", 100, TTL, NEGATIVE_TTL, Duration.ZERO, 0.5, meterRegistry, ticker::get);
+        for (int key = 0; key < 50; key++) {
+            jitteredCache.get(key, Mono::just).block();
+        }
+
+        // when
+        ticker.addAndGet(TTL.toNanos() * 3 / 4);
+        for (int key = 0; key < 50; key++) {
+            jitteredCache.get(key, Mono::just).block();
+        }
+
+        // then
+        long expiredCount = jitteredCache.stats().missCount() - 50;
+        assertThat(expiredCount).isBetween(1L, 49L);
+    }
+
+    private Function<String, Mono<String>> succeeding() {
+        return key -> Mono.fromCallable(() -> {
+            loadCount.incrementAndGet();
+            return key.toUpperCase();
+        });
+    }
+}
@@ -0,0 +1,114 @@
+package foodiepass.server.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FrequencyAwareCache 테스트")
+class FrequencyAwareCacheTest {
+
+    @Test
+    @DisplayName("최대 크기 전까지는 모든 값을 받아들인다")
+    void put_shouldAdmitUntilFull() {
+        // given
+        FrequencyAwareCache<String, Integer> cache = new FrequencyAwareCache<>(2);
+
+        // when
+        boolean first = cache.put("a", 1);
+        boolean second = cache.put("b", 2);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("가득 찬 상태에서 자주 조회된 새 키는 가장 오래 쓰이지 않은 항목을 밀어낸다")
+    void put_shouldEvictVictimWhenCandidateIsMoreFrequent() {
+        // given
+        FrequencyAwareCache<String, Integer> cache = new FrequencyAwareCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("b");
+        for (int i = 0; i < 3; i++) {
+            cache.get("c");
+        }
+
+        // when
+        boolean admitted = cache.put("c", 3);
+
+        // then
+        assertThat(admitted).isTrue();
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("c")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("가득 찬 상태라도 밀려날 항목이 만료됐으면 빈도를 비교하지 않고 새 키를 받아들인다")
+    void put_shouldEvictExpiredVictimRegardlessOfFrequency() {
+        // given
+        List<String> evicted = new ArrayList<>();
+        FrequencyAwareCache<String, Integer> cache =
+                new FrequencyAwareCache<>(2, (key, value) -> evicted.add(key), value -> value < 0);
+        cache.put("a", -1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.get("b");
+
+        // when
+        boolean admitted = cache.put("c", 3);
+
+        // then
+        assertThat(admitted).isTrue();
+        assertThat(evicted).containsExactly("a");
+        assertThat(cache.get("c")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("가득 찬 상태에서 한 번도 조회되지 않은 새 키는 받아들이지 않는다")
+    void put_shouldRejectColdCandidate() {
+        // given
+        FrequencyAwareCache<String, Integer> cache = new FrequencyAwareCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.get("b");
+
+        // when
+        boolean admitted = cache.put("c", 3);
+
+        // then
+        assertThat(admitted).isFalse();
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미 있는 키는 가득 찬 상태에서도 값을 갱신한다")
+    void put_shouldReplaceExistingKey() {
+        // given
+        FrequencyAwareCache<String, Integer> cache = new FrequencyAwareCache<>(1);
+        cache.put("a", 1);
+
+        // when
+        cache.put("a", 2);
+
+        // then
+        assertThat(cache.get("a")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기가 0 이하면 예외를 던진다")
+    void constructor_shouldRejectNonPositiveSize() {
+        assertThatThrownBy(() -> new FrequencyAwareCache<>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,218 @@
+package foodiepass.server.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RequestDecompressionFilter 테스트")
+class RequestDecompressionFilterTest {
+
+    private static final byte[] BODY = "{\"base64EncodedImage\": \"AAEC\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final RequestDecompressionFilter filter =
+            new RequestDecompressionFilter(new ObjectMapper(), DataSize.ofKilobytes(1));
+
+    @Test
+    @DisplayName("gzip 본문은 풀어서 넘기고 압축된 길이와 인코딩 헤더는 감춘다")
+    void doFilter_withGzip_shouldInflateBody() throws Exception {
+        // given
+        MockHttpServletRequest request = encodedRequest("gzip", gzip(BODY));
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertThat(forwarded.getInputStream().readAllBytes()).isEqualTo(BODY);
+        assertThat(forwarded.getContentLengthLong()).isEqualTo(-1);
+        assertThat(forwarded.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(forwarded.getHeader(HttpHeaders.CONTENT_LENGTH)).isNull();
+    }
+
+    @Test
+    @DisplayName("deflate 본문도 풀어서 넘긴다")
+    void doFilter_withDeflate_shouldInflateBody() throws Exception {
+        // given
+        MockHttpServletRequest request = encodedRequest("deflate", deflate(BODY));
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest().getInputStream().readAllBytes()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("인코딩 헤더가 없으면 요청을 그대로 넘긴다")
+    void doFilter_withoutEncoding_shouldPassThrough() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/menu/reconfigure");
+        request.setContent(BODY);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 인코딩은 415와 함께 받을 수 있는 인코딩을 알려 준다")
+    void doFilter_withUnsupportedEncoding_shouldReject() throws Exception {
+        // given
+        MockHttpServletRequest request = encodedRequest("zstd", BODY);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value());
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_ENCODING)).isEqualTo("gzip, deflate");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("압축을 푼 크기가 한도를 넘으면 읽는 도중 IOException을 던진다")
+    void doFilter_withOversizedInflatedBody_shouldFailWhileReading() throws Exception {
+        // given
+        MockHttpServletRequest request = encodedRequest("gzip", gzip(new byte[4096]));
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        ServletRequest forwarded = chain.getRequest();
+
+        // when & then
+        assertThatThrownBy(() -> forwarded.getInputStream().readAllBytes())
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("비동기로 읽으면 압축된 본문을 모두 받은 뒤 풀어서 ReadListener에 넘긴다")
+    void doFilter_withReadListener_shouldInflateAfterAllDataRead() throws Exception {
+        // given
+        HttpServletRequest request = new AsyncSourceRequest(encodedRequest("gzip", gzip(BODY)));
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        ServletInputStream forwarded = chain.getRequest().getInputStream();
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        boolean[] allDataRead = new boolean[1];
+
+        // when
+        forwarded.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                byte[] chunk = new byte[4];
+                while (forwarded.isReady() && !forwarded.isFinished()) {
+                    int read = forwarded.read(chunk);
+                    if (read > 0) {
+                        received.write(chunk, 0, read);
+                    }
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead[0] = true;
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throw new AssertionError(throwable);
+            }
+        });
+
+        // then
+        assertThat(received.toByteArray()).isEqualTo(BODY);
+        assertThat(allDataRead[0]).isTrue();
+    }
+
+    private static MockHttpServletRequest encodedRequest(String encoding, byte[] content) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/menu/reconfigure");
+        request.setContentType("application/json");
+        request.addHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        request.setContent(content);
+        return request;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(content);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] content) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(output)) {
+            deflater.write(content);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * 컨테이너처럼 ReadListener를 받으면 본문을 한 번에 알린 뒤 끝났다고 알리는 원본 요청.
+     */
+    private static final class AsyncSourceRequest extends HttpServletRequestWrapper {
+
+        AsyncSourceRequest(final MockHttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            ByteArrayInputStream content = new ByteArrayInputStream(super.getInputStream().readAllBytes());
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return content.read();
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return content.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(final ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+    }
+}
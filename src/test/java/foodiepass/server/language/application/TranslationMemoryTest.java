@@ -0,0 +1,141 @@
+package foodiepass.server.language.application;
+
+import foodiepass.server.language.application.port.out.TranslationMemoryRepository;
+import foodiepass.server.language.domain.Language;
+import foodiepass.server.language.domain.TranslationKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TranslationMemory 테스트")
+class TranslationMemoryTest {
+
+    private static final Language ENGLISH = Language.fromLanguageName("English");
+    private static final Language KOREAN = Language.fromLanguageName("Korean");
+    private static final TranslationKey BIBIMBAP = new TranslationKey(ENGLISH, KOREAN, "Bibimbap");
+    private static final TranslationKey BULGOGI = new TranslationKey(ENGLISH, KOREAN, "Bulgogi");
+
+    @Mock
+    private TranslationMemoryRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TranslationMemory translationMemory;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        translationMemory = new TranslationMemory(repository, 100, 100, 1, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("힙 계층에 있는 번역은 영속 계층을 조회하지 않고 돌려준다")
+    void findAll_shouldServeFromHeapTier() {
+        // given
+        translationMemory.save(BIBIMBAP, "비빔밥");
+
+        // when & then
+        StepVerifier.create(translationMemory.findAll(List.of(BIBIMBAP)))
+                .assertNext(found -> assertThat(found).containsExactly(Map.entry(BIBIMBAP, "비빔밥")))
+                .verifyComplete();
+        verify(repository, never()).findAll(any());
+        assertThat(lookups("heap_hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("힙 계층에 없는 키만 영속 계층에서 조회하고 찾은 번역은 힙 계층에 올린다")
+    void findAll_shouldFallBackToPersistentTierAndPromote() {
+        // given
+        when(repository.findAll(List.of(BIBIMBAP, BULGOGI))).thenReturn(Map.of(BIBIMBAP, "비빔밥"));
+
+        // when & then
+        StepVerifier.create(translationMemory.findAll(List.of(BIBIMBAP, BULGOGI)))
+                .assertNext(found -> assertThat(found).containsExactly(Map.entry(BIBIMBAP, "비빔밥")))
+                .verifyComplete();
+        StepVerifier.create(translationMemory.find(BIBIMBAP))
+                .expectNext("비빔밥")
+                .verifyComplete();
+        verify(repository, times(1)).findAll(any());
+        assertThat(lookups("persistent_hit")).isEqualTo(1.0);
+        assertThat(lookups("miss")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("translation.memory.hit.ratio").gauge().value()).isEqualTo(2.0 / 3.0);
+    }
+
+    @Test
+    @DisplayName("영속 계층 조회가 실패하면 찾지 못한 것으로 취급한다")
+    void findAll_shouldTreatRepositoryFailureAsMiss() {
+        // given
+        when(repository.findAll(any())).thenThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+
+        // when & then
+        StepVerifier.create(translationMemory.find(BIBIMBAP))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("대기 중인 쓰기를 배치 크기 단위로 영속 계층에 저장한다")
+    void flushPendingWrites_shouldSaveInBatches() {
+        // given
+        translationMemory.save(BIBIMBAP, "비빔밥");
+        translationMemory.save(BULGOGI, "불고기");
+
+        // when
+        translationMemory.flushPendingWrites();
+
+        // then
+        verify(repository).saveAll(Map.of(BIBIMBAP, "비빔밥"));
+        verify(repository).saveAll(Map.of(BULGOGI, "불고기"));
+    }
+
+    @Test
+    @DisplayName("영속 계층 저장이 실패해도 남은 쓰기를 계속 처리한다")
+    void flushPendingWrites_shouldContinueAfterFailure() {
+        // given
+        translationMemory.save(BIBIMBAP, "비빔밥");
+        translationMemory.save(BULGOGI, "불고기");
+        doThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .when(repository).saveAll(Map.of(BIBIMBAP, "비빔밥"));
+
+        // when
+        translationMemory.flushPendingWrites();
+
+        // then
+        verify(repository, times(2)).saveAll(anyMap());
+    }
+
+    @Test
+    @DisplayName("쓰기 큐가 가득 차면 쓰기를 버리고 개수를 기록한다")
+    void save_shouldDropWritesWhenQueueIsFull() {
+        // given
+        TranslationMemory smallQueueMemory = new TranslationMemory(repository, 100, 1, 1, meterRegistry);
+
+        // when
+        smallQueueMemory.save(BIBIMBAP, "비빔밥");
+        smallQueueMemory.save(BULGOGI, "불고기");
+
+        // then
+        assertThat(meterRegistry.counter("translation.memory.writes.dropped").count()).isEqualTo(1.0);
+    }
+
+    private double lookups(final String result) {
+        return meterRegistry.counter("translation.memory.lookups", "result", result).count();
+    }
+}
@@ -0,0 +1,148 @@
+package foodiepass.server.language.infra;
+
+import foodiepass.server.language.domain.Language;
+import foodiepass.server.language.exception.LanguageErrorCode;
+import foodiepass.server.language.exception.LanguageException;
+import foodiepass.server.menu.application.port.out.TranslationClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchingTranslationClient 테스트")
+class BatchingTranslationClientTest {
+
+    private static final Language ENGLISH = Language.fromLanguageName("English");
+    private static final Language KOREAN = Language.fromLanguageName("Korean");
+
+    @Mock
+    private TranslationClient delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("구간 안에 들어온 단건 요청을 중복 없이 한 번의 목록 번역으로 보내고 결과를 각 호출자에게 나눠 준다")
+    void translateAsync_shouldBatchAndDeduplicateWithinWindow() {
+        // given
+        BatchingTranslationClient client = new BatchingTranslationClient(delegate, Duration.ofMillis(50), 100, meterRegistry);
+        when(delegate.translateAsync(ENGLISH, KOREAN, List.of("Bibimbap", "Bulgogi")))
+                .thenReturn(Flux.just("비빔밥", "불고기"));
+
+        // when
+        Mono<List<String>> results = Flux.merge(
+                client.translateAsync(ENGLISH, KOREAN, "Bibimbap"),
+                client.translateAsync(ENGLISH, KOREAN, "Bulgogi"),
+                client.translateAsync(ENGLISH, KOREAN, "Bibimbap")
+        ).collectList();
+
+        // then
+        StepVerifier.create(results)
+                .assertNext(translated -> assertThat(translated).containsExactlyInAnyOrder("비빔밥", "불고기", "비빔밥"))
+                .verifyComplete();
+        verify(delegate, times(1)).translateAsync(eq(ENGLISH), eq(KOREAN), anyList());
+        assertThat(meterRegistry.counter("translation.batch.deduplicated").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("translation.batch.flushes").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("서로 다른 문장이 최대 개수만큼 모이면 구간이 끝나기 전에 바로 보낸다")
+    void translateAsync_shouldFlushWhenBatchIsFull() {
+        // given
+        BatchingTranslationClient client = new BatchingTranslationClient(delegate, Duration.ofMinutes(1), 2, meterRegistry);
+        when(delegate.translateAsync(ENGLISH, KOREAN, List.of("Bibimbap", "Bulgogi")))
+                .thenReturn(Flux.just("비빔밥", "불고기"));
+
+        // when
+        Mono<List<String>> results = Mono.zip(
+                client.translateAsync(ENGLISH, KOREAN, "Bibimbap"),
+                client.translateAsync(ENGLISH, KOREAN, "Bulgogi"),
+                List::of
+        );
+
+        // then
+        StepVerifier.create(results)
+                .expectNext(List.of("비빔밥", "불고기"))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("전송 전에 취소한 호출자의 문장은 묶음에서 빠진다")
+    void translateAsync_shouldDropCancelledCallerBeforeFlush() {
+        // given
+        BatchingTranslationClient client = new BatchingTranslationClient(delegate, Duration.ofMillis(50), 100, meterRegistry);
+        when(delegate.translateAsync(ENGLISH, KOREAN, List.of("Bulgogi")))
+                .thenReturn(Flux.just("불고기"));
+        client.translateAsync(ENGLISH, KOREAN, "Bibimbap").subscribe().dispose();
+
+        // when & then
+        StepVerifier.create(client.translateAsync(ENGLISH, KOREAN, "Bulgogi"))
+                .expectNext("불고기")
+                .verifyComplete();
+        verify(delegate, times(1)).translateAsync(ENGLISH, KOREAN, List.of("Bulgogi"));
+    }
+
+    @Test
+    @DisplayName("모든 호출자가 취소한 묶음은 번역 API로 보내지 않는다")
+    void translateAsync_whenEveryCallerCancels_shouldSkipFlush() {
+        // given
+        BatchingTranslationClient client = new BatchingTranslationClient(delegate, Duration.ofMillis(20), 100, meterRegistry);
+
+        // when
+        client.translateAsync(ENGLISH, KOREAN, "Bibimbap").subscribe().dispose();
+        client.translateAsync(ENGLISH, KOREAN, "Bulgogi").subscribe().dispose();
+
+        // then
+        StepVerifier.create(Mono.delay(Duration.ofMillis(100))).expectNextCount(1).verifyComplete();
+        verify(delegate, never()).translateAsync(any(), any(), anyList());
+        assertThat(meterRegistry.counter("translation.batch.flushes").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("목록 번역이 실패하면 묶음에 포함된 모든 호출자에게 같은 예외를 전달한다")
+    void translateAsync_whenDelegateFails_shouldFailEveryCaller() {
+        // given
+        BatchingTranslationClient client = new BatchingTranslationClient(delegate, Duration.ofMillis(20), 100, meterRegistry);
+        when(delegate.translateAsync(eq(ENGLISH), eq(KOREAN), anyList()))
+                .thenReturn(Flux.error(new LanguageException(LanguageErrorCode.TRANSLATION_FAILED)));
+
+        // when & then
+        StepVerifier.create(Mono.zip(
+                        client.translateAsync(ENGLISH, KOREAN, "Bibimbap").onErrorReturn("실패"),
+                        client.translateAsync(ENGLISH, KOREAN, "Bulgogi").onErrorReturn("실패")
+                ))
+                .assertNext(tuple -> assertThat(List.of(tuple.getT1(), tuple.getT2())).containsOnly("실패"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("번역할 필요가 없는 요청은 묶지 않고 바로 돌려준다")
+    void translateAsync_withSameLanguage_shouldReturnImmediately() {
+        // given
+        BatchingTranslationClient client = new BatchingTranslationClient(delegate, Duration.ofMillis(20), 100, meterRegistry);
+
+        // when & then
+        StepVerifier.create(client.translateAsync(KOREAN, KOREAN, "비빔밥"))
+                .expectNext("비빔밥")
+                .verifyComplete();
+        verify(delegate, never()).translateAsync(any(), any(), anyList());
+    }
+}
@@ -0,0 +1,107 @@
+package foodiepass.server.language.infra;
+
+import foodiepass.server.language.application.TranslationMemory;
+import foodiepass.server.language.application.port.out.TranslationMemoryRepository;
+import foodiepass.server.language.domain.Language;
+import foodiepass.server.language.exception.LanguageException;
+import foodiepass.server.menu.application.port.out.TranslationClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingTranslationClient 테스트")
+class CachingTranslationClientTest {
+
+    private static final Language ENGLISH = Language.fromLanguageName("English");
+    private static final Language KOREAN = Language.fromLanguageName("Korean");
+
+    @Mock
+    private TranslationClient delegate;
+
+    @Mock
+    private TranslationMemoryRepository repository;
+
+    private CachingTranslationClient client;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(repository.findAll(any())).thenReturn(Map.of());
+        TranslationMemory translationMemory = new TranslationMemory(repository, 100, 100, 100, new SimpleMeterRegistry());
+        client = new CachingTranslationClient(delegate, translationMemory);
+    }
+
+    @Test
+    @DisplayName("한 번 번역한 문장은 다시 번역을 요청하지 않는다")
+    void translateAsync_shouldReuseTranslatedText() {
+        // given
+        when(delegate.translateAsync(ENGLISH, KOREAN, "Bibimbap")).thenReturn(Mono.just("비빔밥"));
+
+        // when & then
+        StepVerifier.create(client.translateAsync(ENGLISH, KOREAN, "Bibimbap"))
+                .expectNext("비빔밥")
+                .verifyComplete();
+        StepVerifier.create(client.translateAsync(ENGLISH, KOREAN, "Bibimbap"))
+                .expectNext("비빔밥")
+                .verifyComplete();
+        verify(delegate, times(1)).translateAsync(ENGLISH, KOREAN, "Bibimbap");
+    }
+
+    @Test
+    @DisplayName("원본과 대상 언어가 같으면 번역 메모리와 번역 API를 거치지 않는다")
+    void translateAsync_shouldSkipSameLanguage() {
+        // when & then
+        StepVerifier.create(client.translateAsync(KOREAN, KOREAN, "비빔밥"))
+                .expectNext("비빔밥")
+                .verifyComplete();
+        verify(delegate, never()).translateAsync(any(), any(), anyString());
+        verify(repository, never()).findAll(any());
+    }
+
+    @Test
+    @DisplayName("목록 번역은 메모리에 없는 문장만 중복 없이 한 번에 요청하고 입력 순서대로 돌려준다")
+    void translateAsyncList_shouldRequestOnlyMissingTexts() {
+        // given
+        when(delegate.translateAsync(ENGLISH, KOREAN, "Bibimbap")).thenReturn(Mono.just("비빔밥"));
+        when(delegate.translateAsync(ENGLISH, KOREAN, List.of("Bulgogi"))).thenReturn(Flux.just("불고기"));
+        client.translateAsync(ENGLISH, KOREAN, "Bibimbap").block();
+
+        // when & then
+        StepVerifier.create(client.translateAsync(ENGLISH, KOREAN, List.of("Bulgogi", "Bibimbap", "", "Bulgogi")))
+                .expectNext("불고기", "비빔밥", "", "불고기")
+                .verifyComplete();
+        verify(delegate, times(1)).translateAsync(eq(ENGLISH), eq(KOREAN), anyList());
+    }
+
+    @Test
+    @DisplayName("번역 결과 수가 요청과 다르면 번역 실패 예외를 던진다")
+    void translateAsyncList_shouldFailOnSizeMismatch() {
+        // given
+        when(delegate.translateAsync(ENGLISH, KOREAN, List.of("Bibimbap", "Bulgogi"))).thenReturn(Flux.just("비빔밥"));
+
+        // when & then
+        StepVerifier.create(client.translateAsync(ENGLISH, KOREAN, List.of("Bibimbap", "Bulgogi")))
+                .expectError(LanguageException.class)
+                .verify();
+    }
+}
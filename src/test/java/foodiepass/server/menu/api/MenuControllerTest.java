@@ -2,6 +2,7 @@ package foodiepass.server.menu.api;
 
 import foodiepass.server.menu.application.MenuService;
 import foodiepass.server.menu.dto.request.ReconfigureRequest;
+import foodiepass.server.menu.dto.response.IndexedFoodItemResponse;
 import foodiepass.server.menu.dto.response.ReconfigureResponse;
 import foodiepass.server.menu.dto.response.ReconfigureResponse.FoodItemResponse;
 import foodiepass.server.menu.dto.response.ReconfigureResponse.PriceInfoResponse;
@@ -9,22 +10,39 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Base64;
 import java.util.Collections;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
 class MenuControllerTest {
 
+    private static final byte[] PHOTO = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0x01, 0x02, 0x03};
+
     private WebTestClient webTestClient;
+    private MockMvc mockMvc;
 
     @Mock
     private MenuService menuService;
@@ -35,6 +53,7 @@ class MenuControllerTest {
     void setUp() {
         menuController = new MenuController(menuService);
         webTestClient = WebTestClient.bindToController(menuController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(menuController).build();
     }
 
 
@@ -42,15 +61,14 @@ class MenuControllerTest {
     @DisplayName("POST /menu/reconfigure 요청 시 메뉴 재구성 결과를 성공적으로 반환한다")
     void reconfigure_shouldReturnReconfiguredMenu() {
         // given
-        ReconfigureRequest request = new ReconfigureRequest(
-                "base64image", "Korean", "English", "KRW", "USD"
-        );
+        Map<String, String> request = jsonRequest();
 
         PriceInfoResponse priceInfo = new PriceInfoResponse("₩10,000", "$7.50");
         FoodItemResponse foodItemResponse = new FoodItemResponse("김치찌개", "Kimchi Stew", "Spicy stew", "image.jpg", priceInfo);
         ReconfigureResponse mockResponse = new ReconfigureResponse(Collections.singletonList(foodItemResponse));
 
-        when(menuService.reconfigure(any(ReconfigureRequest.class)))
+        ArgumentCaptor<ReconfigureRequest> captor = ArgumentCaptor.forClass(ReconfigureRequest.class);
+        when(menuService.reconfigure(captor.capture()))
                 .thenReturn(Mono.just(mockResponse));
 
         // when & then
@@ -64,5 +82,101 @@ class MenuControllerTest {
                     assertThat(response.results().get(0).originMenuName()).isEqualTo("김치찌개");
                     assertThat(response.results().get(0).translatedMenuName()).isEqualTo("Kimchi Stew");
                 });
+        assertThat(captor.getValue().image().toByteArray()).isEqualTo(PHOTO);
+        assertThat(captor.getValue().originLanguageName()).isEqualTo("Korean");
+    }
+
+    @Test
+    @DisplayName("POST /menu/reconfigure/stream 요청 시 보강된 메뉴를 NDJSON으로 한 줄씩 반환한다")
+    void reconfigureStream_shouldStreamItemsAsNdjson() {
+        // given
+        Map<String, String> request = jsonRequest();
+
+        PriceInfoResponse priceInfo = new PriceInfoResponse("₩10,000", "$7.50");
+        FoodItemResponse foodItemResponse = new FoodItemResponse("김치찌개", "Kimchi Stew", "Spicy stew", "image.jpg", priceInfo);
+
+        when(menuService.reconfigureStream(any(ReconfigureRequest.class)))
+                .thenReturn(Flux.just(new IndexedFoodItemResponse(0, foodItemResponse)));
+
+        // when & then
+        webTestClient.post().uri("/menu/reconfigure/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(IndexedFoodItemResponse.class)
+                .value(responses -> {
+                    assertThat(responses).hasSize(1);
+                    assertThat(responses.get(0).position()).isZero();
+                    assertThat(responses.get(0).item().translatedMenuName()).isEqualTo("Kimchi Stew");
+                });
+    }
+
+    @Test
+    @DisplayName("POST /menu/reconfigure에 사진을 multipart로 올리면 나머지 값은 폼 필드로 받는다")
+    void reconfigure_withMultipart_shouldReadImagePart() throws Exception {
+        // given
+        ArgumentCaptor<ReconfigureRequest> captor = ArgumentCaptor.forClass(ReconfigureRequest.class);
+        when(menuService.reconfigure(captor.capture())).thenReturn(Mono.just(reconfigureResponse()));
+
+        // when
+        MvcResult result = mockMvc.perform(multipart("/menu/reconfigure")
+                        .file(new MockMultipartFile("image", "menu.jpg", MediaType.IMAGE_JPEG_VALUE, PHOTO))
+                        .param("originLanguageName", "Korean")
+                        .param("userLanguageName", "English")
+                        .param("originCurrencyName", "KRW")
+                        .param("userCurrencyName", "USD"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].translatedMenuName").value("Kimchi Stew"));
+        assertThat(captor.getValue().image().toByteArray()).isEqualTo(PHOTO);
+        assertThat(captor.getValue().userCurrencyName()).isEqualTo("USD");
+    }
+
+    @Test
+    @DisplayName("POST /menu/reconfigure에 사진을 본문 그대로 올리면 본문 길이만큼의 버퍼 하나에 읽는다")
+    void reconfigure_withBinaryBody_shouldReadBodyIntoExactBuffer() throws Exception {
+        // given
+        ArgumentCaptor<ReconfigureRequest> captor = ArgumentCaptor.forClass(ReconfigureRequest.class);
+        when(menuService.reconfigure(captor.capture())).thenReturn(Mono.just(reconfigureResponse()));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/menu/reconfigure")
+                        .contentType(MediaType.IMAGE_JPEG)
+                        .content(PHOTO)
+                        .param("originLanguageName", "Korean")
+                        .param("userLanguageName", "English")
+                        .param("originCurrencyName", "KRW")
+                        .param("userCurrencyName", "USD"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        assertThat(captor.getValue().image().buffer()).isEqualTo(PHOTO);
+        assertThat(captor.getValue().originLanguageName()).isEqualTo("Korean");
+    }
+
+    private static Map<String, String> jsonRequest() {
+        return Map.of(
+                "base64EncodedImage", Base64.getEncoder().encodeToString(PHOTO),
+                "originLanguageName", "Korean",
+                "userLanguageName", "English",
+                "originCurrencyName", "KRW",
+                "userCurrencyName", "USD"
+        );
+    }
+
+    private static ReconfigureResponse reconfigureResponse() {
+        PriceInfoResponse priceInfo = new PriceInfoResponse("₩10,000", "$7.50");
+        FoodItemResponse foodItemResponse = new FoodItemResponse("김치찌개", "Kimchi Stew", "Spicy stew", "image.jpg", priceInfo);
+        return new ReconfigureResponse(Collections.singletonList(foodItemResponse));
     }
 }
@@ -8,6 +8,7 @@ import foodiepass.server.menu.application.port.out.FoodScrapper;
 import foodiepass.server.menu.application.port.out.TranslationClient;
 import foodiepass.server.menu.domain.FoodInfo;
 import foodiepass.server.menu.domain.MenuItem;
+import foodiepass.server.menu.dto.response.IndexedFoodItemResponse;
 import foodiepass.server.menu.dto.response.ReconfigureResponse.FoodItemResponse;
 import foodiepass.server.menu.dto.response.ReconfigureResponse.PriceInfoResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,18 +19,32 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class MenuItemEnricherTest {
 
+    private static final Language KOREAN = Language.fromLanguageName("Korean");
+    private static final Language ENGLISH = Language.fromLanguageName("English");
+    private static final Language JAPANESE = Language.fromLanguageName("Japanese");
+
     private MenuItemEnricher menuItemEnricher;
 
     @Mock
@@ -41,19 +56,17 @@ class MenuItemEnricherTest {
 
     @BeforeEach
     void setUp() {
-        menuItemEnricher = new MenuItemEnricher(foodScraper, translationClient, currencyService);
+        menuItemEnricher = new MenuItemEnricher(foodScraper, translationClient, currencyService, 5);
     }
 
     @Test
-    @DisplayName("메뉴 아이템 정보를 비동기적으로 보강하여 FoodItemResponse를 반환한다")
-    void enrichAsync_shouldEnrichMenuItemAndReturnResponse() {
+    @DisplayName("메뉴 아이템 정보를 비동기적으로 보강하여 위치가 담긴 FoodItemResponse를 반환한다")
+    void enrichAllAsync_shouldEnrichMenuItemAndReturnResponse() {
         // given
         Price originalPrice = new Price(Currency.SOUTH_KOREAN_WON, new BigDecimal("13000"));
         FoodInfo dummyFoodInfo = new FoodInfo("Kimchi Jjigae", "initial", "initial.jpg", "initial_preview.jpg");
         MenuItem menuItem = new MenuItem("Kimchi Jjigae", originalPrice, dummyFoodInfo);
 
-        Language originLanguage = Language.fromLanguageName("Korean");
-        Language userLanguage = Language.fromLanguageName("Japanese");
         Currency originCurrency = Currency.SOUTH_KOREAN_WON;
         Currency userCurrency = Currency.JAPANESE_YEN;
 
@@ -61,29 +74,139 @@ class MenuItemEnricherTest {
         PriceInfoResponse priceInfoResponse = new PriceInfoResponse("₩13,000", "¥1,300");
 
         // Mocking
-        when(translationClient.translateAsync(originLanguage, Language.fromLanguageName("English"), "Kimchi Jjigae"))
-                .thenReturn(Mono.just("Kimchi Stew"));
-        when(foodScraper.scrapAsync(List.of("Kimchi Stew")))
-                .thenReturn(Flux.just(scrapedFoodInfo));
-        when(translationClient.translateAsync(Language.fromLanguageName("English"), userLanguage, "Kimchi Stew"))
-                .thenReturn(Mono.just("キムチチゲ"));
-        when(translationClient.translateAsync(Language.fromLanguageName("English"), userLanguage, "Spicy kimchi stew with pork"))
-                .thenReturn(Mono.just("豚肉入りの辛いキムチチゲ"));
+        when(translationClient.translateAsync(KOREAN, ENGLISH, List.of("Kimchi Jjigae")))
+                .thenReturn(Flux.just("Kimchi Stew"));
+        when(foodScraper.scrapByNameAsync(List.of("Kimchi Stew")))
+                .thenReturn(Mono.just(Map.of("Kimchi Stew", scrapedFoodInfo)));
+        when(translationClient.translateAsync(ENGLISH, JAPANESE, List.of("Kimchi Stew", "Spicy kimchi stew with pork")))
+                .thenReturn(Flux.just("キムチチゲ", "豚肉入りの辛いキムチチゲ"));
         when(currencyService.convertAndFormatAsync(any(Price.class), eq(userCurrency)))
                 .thenReturn(Mono.just(priceInfoResponse));
 
         // when
-        Mono<FoodItemResponse> result = menuItemEnricher.enrichAsync(menuItem, originLanguage, userLanguage, originCurrency, userCurrency);
+        Flux<IndexedFoodItemResponse> result = menuItemEnricher.enrichAllAsync(
+                List.of(menuItem), KOREAN, JAPANESE, originCurrency, userCurrency);
+
+        // then
+        StepVerifier.create(result)
+                .expectNextMatches(indexed -> {
+                    FoodItemResponse response = indexed.item();
+                    return indexed.position() == 0 &&
+                            response.originMenuName().equals("Kimchi Jjigae") &&
+                            response.translatedMenuName().equals("キムチチゲ") &&
+                            response.description().equals("豚肉入りの辛いキムチチゲ") &&
+                            response.image().equals("image.jpg") &&
+                            response.priceInfo().equals(priceInfoResponse);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("메뉴 전체의 이름과 설명을 중복 없이 모아 단계마다 한 번씩만 번역을 요청한다")
+    void enrichAllAsync_shouldBatchDeduplicatedTranslationsPerStage() {
+        // given
+        Price price = new Price(Currency.SOUTH_KOREAN_WON, new BigDecimal("9000"));
+        MenuItem bibimbap = new MenuItem("비빔밥", price, null);
+        MenuItem sameBibimbap = new MenuItem("비빔밥", price.multiply(2), null);
+        MenuItem bulgogi = new MenuItem("불고기", price, null);
+
+        when(translationClient.translateAsync(KOREAN, ENGLISH, List.of("비빔밥", "불고기")))
+                .thenReturn(Flux.just("Bibimbap", "Bulgogi"));
+        when(foodScraper.scrapByNameAsync(List.of("Bibimbap", "Bulgogi")))
+                .thenReturn(Mono.just(Map.of(
+                        "Bibimbap", new FoodInfo("Bibimbap", "Mixed rice", "b.jpg", ""),
+                        "Bulgogi", new FoodInfo("Bulgogi", "Grilled beef", "g.jpg", "")
+                )));
+        when(translationClient.translateAsync(eq(ENGLISH), eq(JAPANESE), anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<String>>getArgument(2))
+                        .map(text -> "ja:" + text));
+        when(currencyService.convertAndFormatAsync(any(Price.class), any()))
+                .thenReturn(Mono.just(new PriceInfoResponse("₩9,000", "¥990")));
+
+        // when
+        Flux<IndexedFoodItemResponse> result = menuItemEnricher.enrichAllAsync(
+                List.of(bibimbap, sameBibimbap, bulgogi), KOREAN, JAPANESE,
+                Currency.SOUTH_KOREAN_WON, Currency.JAPANESE_YEN);
+
+        // then
+        StepVerifier.create(result.collectSortedList(Comparator.comparingInt(IndexedFoodItemResponse::position)))
+                .assertNext(responses -> assertThat(responses)
+                        .extracting(indexed -> indexed.item().translatedMenuName())
+                        .containsExactly("ja:Bibimbap", "ja:Bibimbap", "ja:Bulgogi"))
+                .verifyComplete();
+
+        verify(translationClient, times(1)).translateAsync(eq(KOREAN), eq(ENGLISH), anyList());
+        verify(translationClient, times(1)).translateAsync(eq(ENGLISH), eq(JAPANESE), argThat((List<String> texts) ->
+                texts.size() == 4 && texts.containsAll(List.of("Bibimbap", "Mixed rice", "Bulgogi", "Grilled beef"))));
+        verify(translationClient, never()).translateAsync(any(), any(), anyString());
+        verify(foodScraper, times(1)).scrapByNameAsync(anyList());
+    }
+
+    @Test
+    @DisplayName("번역이 실패하면 원본 이름과 기본 설명으로 응답한다")
+    void enrichAllAsync_whenTranslationFails_shouldFallBackToOriginalTexts() {
+        // given
+        MenuItem menuItem = new MenuItem("김치찌개", new Price(Currency.SOUTH_KOREAN_WON, new BigDecimal("8000")), null);
+
+        when(translationClient.translateAsync(eq(KOREAN), eq(ENGLISH), anyList()))
+                .thenReturn(Flux.error(new RuntimeException("translate down")));
+        when(foodScraper.scrapByNameAsync(List.of("김치찌개")))
+                .thenReturn(Mono.error(new RuntimeException("scrap down")));
+        when(translationClient.translateAsync(eq(ENGLISH), eq(JAPANESE), anyList()))
+                .thenReturn(Flux.error(new RuntimeException("translate down")));
+        when(currencyService.convertAndFormatAsync(any(Price.class), any()))
+                .thenReturn(Mono.just(new PriceInfoResponse("₩8,000", "¥880")));
+
+        // when
+        Flux<IndexedFoodItemResponse> result = menuItemEnricher.enrichAllAsync(
+                List.of(menuItem), KOREAN, JAPANESE, Currency.SOUTH_KOREAN_WON, Currency.JAPANESE_YEN);
+
+        // then
+        StepVerifier.create(result)
+                .assertNext(indexed -> {
+                    assertThat(indexed.item().translatedMenuName()).isEqualTo("김치찌개");
+                    assertThat(indexed.item().description()).isEqualTo("상세 설명을 번역할 수 없습니다.");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("먼저 끝난 스크래핑 묶음의 메뉴는 가장 느린 묶음을 기다리지 않고 바로 내보낸다")
+    void enrichAllAsync_shouldEmitFirstItemBeforeSlowestScrapeFinishes() {
+        // given
+        menuItemEnricher = new MenuItemEnricher(foodScraper, translationClient, currencyService, 1);
+        Price price = new Price(Currency.SOUTH_KOREAN_WON, new BigDecimal("9000"));
+        MenuItem bibimbap = new MenuItem("비빔밥", price, null);
+        MenuItem bulgogi = new MenuItem("불고기", price, null);
+        Sinks.One<Map<String, FoodInfo>> slowScrape = Sinks.one();
+
+        when(translationClient.translateAsync(KOREAN, ENGLISH, List.of("비빔밥", "불고기")))
+                .thenReturn(Flux.just("Bibimbap", "Bulgogi"));
+        when(foodScraper.scrapByNameAsync(List.of("Bibimbap")))
+                .thenReturn(slowScrape.asMono());
+        when(foodScraper.scrapByNameAsync(List.of("Bulgogi")))
+                .thenReturn(Mono.just(Map.of("Bulgogi", new FoodInfo("Bulgogi", "Grilled beef", "g.jpg", ""))));
+        when(translationClient.translateAsync(eq(ENGLISH), eq(JAPANESE), anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<String>>getArgument(2))
+                        .map(text -> "ja:" + text));
+        when(currencyService.convertAndFormatAsync(any(Price.class), any()))
+                .thenReturn(Mono.just(new PriceInfoResponse("₩9,000", "¥990")));
+
+        // when
+        Flux<IndexedFoodItemResponse> result = menuItemEnricher.enrichAllAsync(
+                List.of(bibimbap, bulgogi), KOREAN, JAPANESE, Currency.SOUTH_KOREAN_WON, Currency.JAPANESE_YEN);
 
         // then
         StepVerifier.create(result)
-                .expectNextMatches(response ->
-                        response.originMenuName().equals("Kimchi Jjigae") &&
-                                response.translatedMenuName().equals("キムチチゲ") &&
-                                response.description().equals("豚肉入りの辛いキムチチゲ") &&
-                                response.image().equals("image.jpg") &&
-                                response.priceInfo().equals(priceInfoResponse)
-                )
+                .assertNext(indexed -> {
+                    assertThat(indexed.position()).isEqualTo(1);
+                    assertThat(indexed.item().translatedMenuName()).isEqualTo("ja:Bulgogi");
+                })
+                .then(() -> slowScrape.tryEmitValue(Map.of("Bibimbap", new FoodInfo("Bibimbap", "Mixed rice", "b.jpg", ""))))
+                .assertNext(indexed -> {
+                    assertThat(indexed.position()).isZero();
+                    assertThat(indexed.item().translatedMenuName()).isEqualTo("ja:Bibimbap");
+                })
                 .verifyComplete();
     }
 }
@@ -5,8 +5,10 @@ import foodiepass.server.currency.domain.Currency;
 import foodiepass.server.language.domain.Language;
 import foodiepass.server.menu.application.port.out.OcrReader;
 import foodiepass.server.menu.domain.FoodInfo;
+import foodiepass.server.menu.domain.MenuImage;
 import foodiepass.server.menu.domain.MenuItem;
 import foodiepass.server.menu.dto.request.ReconfigureRequest;
+import foodiepass.server.menu.dto.response.IndexedFoodItemResponse;
 import foodiepass.server.menu.dto.response.ReconfigureResponse;
 import foodiepass.server.menu.dto.response.ReconfigureResponse.FoodItemResponse;
 import foodiepass.server.menu.dto.response.ReconfigureResponse.PriceInfoResponse;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -45,7 +48,7 @@ class MenuServiceTest {
     void reconfigure_shouldProcessOcrAndEnrichment() {
         // given
         ReconfigureRequest request = new ReconfigureRequest(
-                "base64image",
+                MenuImage.of(new byte[]{1, 2, 3}),
                 "Korean",
                 "English",
                 Currency.SOUTH_KOREAN_WON.getCurrencyName(),
@@ -60,9 +63,9 @@ class MenuServiceTest {
         FoodItemResponse enrichedItem1 = new FoodItemResponse("김치찌개", "Kimchi Stew", "Spicy stew", "kimchi.jpg", priceInfo);
 
         // Mocking
-        when(ocrReader.read(request.base64EncodedImage())).thenReturn(ocrResult);
-        when(menuItemEnricher.enrichAsync(eq(menuItem1), any(Language.class), any(Language.class), any(Currency.class), any(Currency.class)))
-                .thenReturn(Mono.just(enrichedItem1));
+        when(ocrReader.read(request.image())).thenReturn(Mono.just(ocrResult));
+        when(menuItemEnricher.enrichAllAsync(eq(ocrResult), any(Language.class), any(Language.class), any(Currency.class), any(Currency.class)))
+                .thenReturn(Flux.just(new IndexedFoodItemResponse(0, enrichedItem1)));
 
         // when
         Mono<ReconfigureResponse> responseMono = menuService.reconfigure(request);
@@ -77,7 +80,39 @@ class MenuServiceTest {
                 })
                 .verifyComplete();
 
-        verify(ocrReader, times(1)).read(request.base64EncodedImage());
-        verify(menuItemEnricher, times(1)).enrichAsync(any(), any(), any(), any(), any());
+        verify(ocrReader, times(1)).read(request.image());
+        verify(menuItemEnricher, times(1)).enrichAllAsync(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("스트리밍 재구성은 보강된 메뉴를 위치와 함께 그대로 내보내고, 일괄 응답은 위치 순서로 정렬한다")
+    void reconfigureStream_shouldEmitIndexedItems() {
+        // given
+        ReconfigureRequest request = new ReconfigureRequest(
+                MenuImage.of(new byte[]{1, 2, 3}),
+                "Korean",
+                "English",
+                Currency.SOUTH_KOREAN_WON.getCurrencyName(),
+                Currency.UNITED_STATES_DOLLAR.getCurrencyName()
+        );
+
+        MenuItem firstItem = new MenuItem("김치찌개", new Price(Currency.SOUTH_KOREAN_WON, new BigDecimal("8000")), null);
+        MenuItem secondItem = new MenuItem("된장찌개", new Price(Currency.SOUTH_KOREAN_WON, new BigDecimal("7000")), null);
+        PriceInfoResponse priceInfo = new PriceInfoResponse("₩8,000", "$6.00");
+        IndexedFoodItemResponse first = new IndexedFoodItemResponse(0, new FoodItemResponse("김치찌개", "Kimchi Stew", "", "", priceInfo));
+        IndexedFoodItemResponse second = new IndexedFoodItemResponse(1, new FoodItemResponse("된장찌개", "Soybean Paste Stew", "", "", priceInfo));
+
+        when(ocrReader.read(request.image())).thenReturn(Mono.just(List.of(firstItem, secondItem)));
+        when(menuItemEnricher.enrichAllAsync(eq(List.of(firstItem, secondItem)), any(), any(), any(), any()))
+                .thenReturn(Flux.just(second, first));
+
+        // when & then
+        StepVerifier.create(menuService.reconfigureStream(request))
+                .expectNext(second, first)
+                .verifyComplete();
+        StepVerifier.create(menuService.reconfigure(request))
+                .assertNext(response -> assertThat(response.results())
+                        .containsExactly(first.item(), second.item()))
+                .verifyComplete();
     }
 }
@@ -0,0 +1,41 @@
+package foodiepass.server.menu.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FoodKnowledge 테스트")
+class FoodKnowledgeTest {
+
+    @Test
+    @DisplayName("요청한 이름을 정규화해 키로 쓰고 FoodInfo로 되돌릴 수 있다")
+    void constructor_shouldKeyByNormalizedName() {
+        // given
+        FoodInfo foodInfo = new FoodInfo("Bibimbap", "Mixed rice", "bibimbap.jpg", "preview.jpg");
+
+        // when
+        FoodKnowledge knowledge = new FoodKnowledge("Bibimbap ", FoodInfoSource.GEMINI, foodInfo, Instant.EPOCH);
+
+        // then
+        assertThat(knowledge.getNormalizedName()).isEqualTo("bibimbap");
+        assertThat(knowledge.toFoodInfo())
+                .usingRecursiveComparison()
+                .isEqualTo(foodInfo);
+    }
+
+    @Test
+    @DisplayName("가져온 지 최대 보관 기간이 지나면 오래된 정보로 본다")
+    void isStale_shouldCompareFetchedAtWithMaxAge() {
+        // given
+        FoodInfo foodInfo = new FoodInfo("Bibimbap", "Mixed rice", "bibimbap.jpg", "preview.jpg");
+        FoodKnowledge knowledge = new FoodKnowledge("Bibimbap", FoodInfoSource.GEMINI, foodInfo, Instant.EPOCH);
+
+        // when & then
+        assertThat(knowledge.isStale(Duration.ofDays(1), Instant.EPOCH.plus(Duration.ofDays(1)))).isFalse();
+        assertThat(knowledge.isStale(Duration.ofDays(1), Instant.EPOCH.plus(Duration.ofDays(2)))).isTrue();
+    }
+}
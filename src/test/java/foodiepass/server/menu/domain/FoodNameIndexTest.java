@@ -0,0 +1,64 @@
+package foodiepass.server.menu.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FoodNameIndex 테스트")
+class FoodNameIndexTest {
+
+    private FoodNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FoodNameIndex(100, 0.6);
+        index.add("bibimbap", "Bibimbap");
+        index.add("bulgogi", "Bulgogi");
+    }
+
+    @Test
+    @DisplayName("정규화한 이름이 그대로 있으면 대표 이름을 정확히 일치한 결과로 돌려준다")
+    void find_shouldReturnExactMatch() {
+        assertThat(index.find("bulgogi"))
+                .hasValueSatisfying(match -> {
+                    assertThat(match.representative()).isEqualTo("Bulgogi");
+                    assertThat(match.exact()).isTrue();
+                });
+    }
+
+    @Test
+    @DisplayName("띄어쓰기나 철자가 조금 다른 이름은 유사도 기준 이상이면 대표 이름으로 연결한다")
+    void find_shouldReturnSimilarMatch() {
+        assertThat(index.find("bibim bap"))
+                .hasValueSatisfying(match -> assertThat(match.representative()).isEqualTo("Bibimbap"));
+        assertThat(index.find("bibimbab"))
+                .hasValueSatisfying(match -> {
+                    assertThat(match.representative()).isEqualTo("Bibimbap");
+                    assertThat(match.exact()).isFalse();
+                });
+    }
+
+    @Test
+    @DisplayName("유사도가 기준보다 낮으면 찾지 못한 것으로 본다")
+    void find_shouldRejectDissimilarNames() {
+        assertThat(index.find("pork bulgogi")).isEmpty();
+        assertThat(index.find("dakgalbi")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 크기에 이르면 더 이상 색인하지 않는다")
+    void add_shouldStopAtMaximumSize() {
+        // given
+        FoodNameIndex smallIndex = new FoodNameIndex(1, 0.6);
+        smallIndex.add("bibimbap", "Bibimbap");
+
+        // when
+        boolean added = smallIndex.add("bulgogi", "Bulgogi");
+
+        // then
+        assertThat(added).isFalse();
+        assertThat(smallIndex.size()).isEqualTo(1);
+    }
+}
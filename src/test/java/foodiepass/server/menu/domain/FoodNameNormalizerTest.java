@@ -0,0 +1,27 @@
+package foodiepass.server.menu.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FoodNameNormalizer 테스트")
+class FoodNameNormalizerTest {
+
+    @DisplayName("대소문자, 문장 부호, 공백, 발음 구별 기호, 로마자 표기 차이를 없앤다")
+    @ParameterizedTest(name = "\"{0}\" -> \"{1}\"")
+    @CsvSource({
+            "'Kimchi Jjigae', 'kimchi jigae'",
+            "'kimchi-jjigae', 'kimchi jigae'",
+            "'Kimchi stew', 'kimchi jigae'",
+            "'  Kimchi   Fried\tRice ', 'kimchi fried rice'",
+            "'Crème Brûlée', 'creme brulee'",
+            "'Tteokbokki', 'teokboki'",
+            "'Dolsot-Bibimbap!', 'dolsot bibimbap'",
+            "'Gimchi Bokkeumbap', 'kimchi bokeumbap'"
+    })
+    void normalize_shouldUnifyVariants(String foodName, String expected) {
+        assertThat(FoodNameNormalizer.normalize(foodName)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,83 @@
+package foodiepass.server.menu.domain;
+
+import foodiepass.server.menu.exception.FoodErrorCode;
+import foodiepass.server.menu.exception.FoodException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MenuImage 클래스")
+class MenuImageTest {
+
+    @Test
+    @DisplayName("본문 길이를 알면 그 크기의 버퍼 하나에 읽는다")
+    void read_withKnownLength_shouldFillExactBuffer() throws IOException {
+        // given
+        byte[] photo = {1, 2, 3, 4, 5};
+
+        // when
+        MenuImage image = MenuImage.read(new ByteArrayInputStream(photo), photo.length);
+
+        // then
+        assertThat(image.buffer()).hasSize(photo.length);
+        assertThat(image.buffer()).isEqualTo(photo);
+    }
+
+    @Test
+    @DisplayName("본문 길이를 모르면 버퍼를 키워 가며 읽고 유효한 길이를 따로 기억한다")
+    void read_withUnknownLength_shouldTrackValidLength() throws IOException {
+        // given
+        byte[] photo = new byte[300 * 1024];
+        photo[photo.length - 1] = 7;
+
+        // when
+        MenuImage image = MenuImage.read(new ByteArrayInputStream(photo), -1);
+
+        // then
+        assertThat(image.length()).isEqualTo(photo.length);
+        assertThat(image.buffer().length).isGreaterThanOrEqualTo(photo.length);
+        assertThat(image.toByteArray()).isEqualTo(photo);
+        assertThat(image.inputStream().readAllBytes()).isEqualTo(photo);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘는 본문은 끝까지 읽지 않고 FoodException(MENU_IMAGE_TOO_LARGE)을 던진다")
+    void read_overMaxSize_shouldThrow() {
+        // given
+        InputStream endless = new InputStream() {
+            @Override
+            public int read() {
+                return 0;
+            }
+        };
+
+        // when & then
+        assertThatThrownBy(() -> MenuImage.read(endless, -1))
+                .isInstanceOf(FoodException.class)
+                .hasMessage(FoodErrorCode.MENU_IMAGE_TOO_LARGE.getMessage());
+    }
+
+    @Test
+    @DisplayName("선언한 본문 길이가 최대 크기를 넘으면 버퍼를 만들기 전에 거절한다")
+    void output_withDeclaredLengthOverMax_shouldThrow() {
+        // when & then
+        assertThatThrownBy(() -> MenuImage.output(MenuImage.MAX_SIZE + 1L))
+                .isInstanceOf(FoodException.class)
+                .hasMessage(FoodErrorCode.MENU_IMAGE_TOO_LARGE.getMessage());
+    }
+
+    @Test
+    @DisplayName("빈 사진은 FoodException(EMPTY_MENU_IMAGE)을 던진다")
+    void of_withEmptyBytes_shouldThrow() {
+        // when & then
+        assertThatThrownBy(() -> MenuImage.of(new byte[0]))
+                .isInstanceOf(FoodException.class)
+                .hasMessage(FoodErrorCode.EMPTY_MENU_IMAGE.getMessage());
+    }
+}
@@ -0,0 +1,85 @@
+package foodiepass.server.menu.dto.request;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Base64MenuImageDeserializer 테스트")
+class Base64MenuImageDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("base64EncodedImage 문자열을 풀어 사진 버퍼에 담고 나머지 필드는 그대로 읽는다")
+    void deserialize_shouldDecodeBase64IntoImage() throws IOException {
+        // given
+        byte[] photo = new byte[100_000];
+        for (int i = 0; i < photo.length; i++) {
+            photo[i] = (byte) (i * 31);
+        }
+        String json = requestJson(Base64.getEncoder().encodeToString(photo));
+
+        // when
+        ReconfigureRequest request = objectMapper.readValue(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), ReconfigureRequest.class);
+
+        // then
+        assertThat(request.image().toByteArray()).isEqualTo(photo);
+        assertThat(request.originLanguageName()).isEqualTo("Korean");
+        assertThat(request.userCurrencyName()).isEqualTo("USD");
+    }
+
+    @Test
+    @DisplayName("요청 본문 길이를 알면 버퍼를 키우지 않고 풀린 크기의 상한만큼 한 번에 잡는다")
+    void deserialize_withContentLength_shouldSizeBufferFromIt() throws IOException {
+        // given
+        byte[] photo = new byte[300 * 1024];
+        byte[] json = requestJson(Base64.getEncoder().encodeToString(photo)).getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/menu/reconfigure");
+        servletRequest.setContent(json);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+
+        // when
+        ReconfigureRequest request = objectMapper.readValue(new ByteArrayInputStream(json), ReconfigureRequest.class);
+
+        // then
+        assertThat(request.image().length()).isEqualTo(photo.length);
+        assertThat(request.image().buffer().length).isEqualTo((json.length + 3) / 4 * 3);
+    }
+
+    @Test
+    @DisplayName("Base64 형식이 아니면 JSON 처리 예외를 던진다")
+    void deserialize_withInvalidBase64_shouldThrow() {
+        // given
+        String json = requestJson("not base64!");
+
+        // when & then
+        assertThatThrownBy(() -> objectMapper.readValue(json, ReconfigureRequest.class))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    private static String requestJson(String base64EncodedImage) {
+        return """
+                {"base64EncodedImage": "%s", "originLanguageName": "Korean", "userLanguageName": "English",
+                 "originCurrencyName": "KRW", "userCurrencyName": "USD"}
+                """.formatted(base64EncodedImage);
+    }
+}
@@ -0,0 +1,34 @@
+package foodiepass.server.menu.infra.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ImageFormat 클래스")
+class ImageFormatTest {
+
+    @DisplayName("매직 바이트로 이미지 형식을 판별한다")
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource({
+            "ffd8ffe000104a464946, JPEG",
+            "89504e470d0a1a0a0000, PNG",
+            "474946383961, GIF",
+            "52494646000000005745425056503820, WEBP",
+            "0000001866747970686569630000, HEIC",
+            "00000018667479706d6966310000, HEIF",
+            "424d00000000, BMP",
+            "010203, UNKNOWN",
+            "'', UNKNOWN"
+    })
+    void detect_shouldRecognizeMagicBytes(String hex, ImageFormat expected) {
+        // when
+        ImageFormat format = ImageFormat.detect(HexFormat.of().parseHex(hex));
+
+        // then
+        assertThat(format).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,145 @@
+package foodiepass.server.menu.infra.image;
+
+import foodiepass.server.menu.domain.MenuImage;
+import foodiepass.server.menu.infra.image.MenuImagePreprocessor.PreparedImage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MenuImagePreprocessor 테스트")
+class MenuImagePreprocessorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("긴 변이 최대 크기를 넘는 PNG는 비율을 유지해 줄인 JPEG으로 바꾼다")
+    void prepare_shouldDownscaleAndReencodeAsJpeg() throws IOException {
+        // given
+        MenuImagePreprocessor preprocessor = new MenuImagePreprocessor(400, false, 0.85f, meterRegistry);
+        byte[] png = encode(menuPhoto(1600, 1200), "png");
+
+        // when
+        PreparedImage prepared = preprocessor.prepare(MenuImage.of(png));
+
+        // then
+        BufferedImage image = decode(prepared.image().toByteArray());
+        assertThat(prepared.mimeType()).isEqualTo("image/jpeg");
+        assertThat(ImageFormat.detect(prepared.image().toByteArray())).isEqualTo(ImageFormat.JPEG);
+        assertThat(image.getWidth()).isEqualTo(400);
+        assertThat(image.getHeight()).isEqualTo(300);
+        assertThat(prepared.image().length()).isLessThan(png.length);
+    }
+
+    @Test
+    @DisplayName("이미 작고 바로 선 JPEG은 다시 인코딩하지 않는다")
+    void prepare_shouldKeepSmallUprightJpeg() throws IOException {
+        // given
+        MenuImagePreprocessor preprocessor = new MenuImagePreprocessor(400, false, 0.85f, meterRegistry);
+        byte[] jpeg = encode(menuPhoto(300, 200), "jpeg");
+
+        // when
+        PreparedImage prepared = preprocessor.prepare(MenuImage.of(jpeg));
+
+        // then
+        assertThat(prepared.image().buffer()).isSameAs(jpeg);
+        assertThat(prepared.mimeType()).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    @DisplayName("EXIF 방향이 90도 회전이면 픽셀을 돌려 바로 세운다")
+    void prepare_shouldApplyExifOrientation() throws IOException {
+        // given
+        MenuImagePreprocessor preprocessor = new MenuImagePreprocessor(2048, false, 0.85f, meterRegistry);
+        byte[] jpeg = withOrientation(encode(menuPhoto(300, 200), "jpeg"), 6);
+
+        // when
+        PreparedImage prepared = preprocessor.prepare(MenuImage.of(jpeg));
+
+        // then
+        BufferedImage image = decode(prepared.image().toByteArray());
+        assertThat(image.getWidth()).isEqualTo(200);
+        assertThat(image.getHeight()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("흑백 변환을 켜면 회색조 JPEG으로 인코딩한다")
+    void prepare_shouldConvertToGrayscale() throws IOException {
+        // given
+        MenuImagePreprocessor preprocessor = new MenuImagePreprocessor(2048, true, 0.85f, meterRegistry);
+        byte[] jpeg = encode(menuPhoto(300, 200), "jpeg");
+
+        // when
+        PreparedImage prepared = preprocessor.prepare(MenuImage.of(jpeg));
+
+        // then
+        assertThat(decode(prepared.image().toByteArray()).getColorModel().getNumComponents()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JDK로 읽을 수 없는 형식은 원본을 실제 MIME 타입과 함께 그대로 보낸다")
+    void prepare_shouldPassThroughUnreadableFormat() {
+        // given
+        MenuImagePreprocessor preprocessor = new MenuImagePreprocessor(400, false, 0.85f, meterRegistry);
+        byte[] heic = {0, 0, 0, 24, 'f', 't', 'y', 'p', 'h', 'e', 'i', 'c', 0, 0, 0, 0};
+
+        // when
+        PreparedImage prepared = preprocessor.prepare(MenuImage.of(heic));
+
+        // then
+        assertThat(prepared.image().buffer()).isSameAs(heic);
+        assertThat(prepared.mimeType()).isEqualTo("image/heic");
+    }
+
+    private static BufferedImage menuPhoto(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(245, 235, 215));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.DARK_GRAY);
+        for (int y = 20; y < height; y += 24) {
+            graphics.drawString("Bibimbap ........ 12,000", 10, y);
+        }
+        graphics.dispose();
+        return image;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+
+    private static BufferedImage decode(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * SOI 바로 뒤에 방향 태그 하나만 담은 EXIF APP1 세그먼트를 끼워 넣는다.
+     */
+    private static byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] app1 = {
+                (byte) 0xFF, (byte) 0xE1, 0x00, 0x22,
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08,
+                0x00, 0x01,
+                0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, 0x00, (byte) orientation, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00
+        };
+        byte[] result = new byte[jpeg.length + app1.length];
+        result[0] = jpeg[0];
+        result[1] = jpeg[1];
+        System.arraycopy(app1, 0, result, 2, app1.length);
+        System.arraycopy(jpeg, 2, result, 2 + app1.length, jpeg.length - 2);
+        return result;
+    }
+}
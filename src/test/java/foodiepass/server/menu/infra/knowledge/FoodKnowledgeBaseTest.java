@@ -0,0 +1,171 @@
+package foodiepass.server.menu.infra.knowledge;
+
+import foodiepass.server.global.cache.AsyncCache;
+import foodiepass.server.global.cache.AsyncCacheFactory;
+import foodiepass.server.menu.application.port.out.FoodKnowledgeRepository;
+import foodiepass.server.menu.domain.FoodInfo;
+import foodiepass.server.menu.domain.FoodInfoSource;
+import foodiepass.server.menu.domain.FoodKnowledge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FoodKnowledgeBase 테스트")
+class FoodKnowledgeBaseTest {
+
+    private static final FoodInfo BIBIMBAP = new FoodInfo("Bibimbap", "Mixed rice", "bibimbap.jpg", "preview.jpg");
+
+    @Mock
+    private FoodKnowledgeRepository repository;
+
+    private FoodKnowledgeBase knowledgeBase;
+
+    @BeforeEach
+    void setUp() {
+        knowledgeBase = new FoodKnowledgeBase(repository, Duration.ofDays(30), 10);
+    }
+
+    @Test
+    @DisplayName("정규화한 이름과 출처로 저장된 정보를 찾는다")
+    void find_shouldLookUpByNormalizedNameAndSource() {
+        // given
+        when(repository.find("bibimbap", FoodInfoSource.GEMINI))
+                .thenReturn(Optional.of(new FoodKnowledge("Bibimbap", FoodInfoSource.GEMINI, BIBIMBAP, Instant.now())));
+
+        // when & then
+        StepVerifier.create(knowledgeBase.find(" BIBIMBAP ", FoodInfoSource.GEMINI))
+                .assertNext(foodInfo -> assertThat(foodInfo.getDescription()).isEqualTo("Mixed rice"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("최대 보관 기간이 지난 정보는 없는 것으로 본다")
+    void find_shouldIgnoreStaleKnowledge() {
+        // given
+        when(repository.find("bibimbap", FoodInfoSource.GEMINI))
+                .thenReturn(Optional.of(new FoodKnowledge("Bibimbap", FoodInfoSource.GEMINI, BIBIMBAP, Instant.EPOCH)));
+
+        // when & then
+        StepVerifier.create(knowledgeBase.find("Bibimbap", FoodInfoSource.GEMINI))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("출처를 정하지 않으면 오래되지 않은 정보 중 가장 최근에 가져온 것을 돌려준다")
+    void find_withoutSource_shouldReturnLatestFreshKnowledge() {
+        // given
+        Instant now = Instant.now();
+        when(repository.findAll("bibimbap")).thenReturn(List.of(
+                new FoodKnowledge("Bibimbap", FoodInfoSource.URL,
+                        new FoodInfo("Bibimbap", "Stale rice", "stale.jpg", "stale.jpg"), Instant.EPOCH),
+                new FoodKnowledge("Bibimbap", FoodInfoSource.GEMINI, BIBIMBAP, now.minus(Duration.ofDays(2))),
+                new FoodKnowledge("Bibimbap", FoodInfoSource.TASTE_ATLAS,
+                        new FoodInfo("Bibimbap", "Atlas rice", "atlas.jpg", "atlas.jpg"), now.minus(Duration.ofDays(1)))
+        ));
+
+        // when & then
+        StepVerifier.create(knowledgeBase.find("Bibimbap"))
+                .assertNext(foodInfo -> assertThat(foodInfo.getDescription()).isEqualTo("Atlas rice"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("저장소 조회에 실패하면 비어 있는 결과를 돌려준다")
+    void find_shouldTreatFailureAsMiss() {
+        // given
+        when(repository.find(any(), any())).thenThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+
+        // when & then
+        StepVerifier.create(knowledgeBase.find("Bibimbap", FoodInfoSource.GEMINI))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("요청한 이름과 출처를 담아 저장한다")
+    void saveBehind_shouldSaveKnowledgeWithSource() {
+        // when
+        knowledgeBase.saveBehind("Bibimbap", FoodInfoSource.TASTE_ATLAS, BIBIMBAP);
+
+        // then
+        ArgumentCaptor<FoodKnowledge> captor = ArgumentCaptor.forClass(FoodKnowledge.class);
+        verify(repository, timeout(1000)).save(captor.capture());
+        assertThat(captor.getValue().getSource()).isEqualTo(FoodInfoSource.TASTE_ATLAS);
+        assertThat(captor.getValue().getRequestedName()).isEqualTo("Bibimbap");
+        assertThat(captor.getValue().getNormalizedName()).isEqualTo("bibimbap");
+    }
+
+    @Test
+    @DisplayName("모아 둔 요청 횟수를 정규화한 음식 이름별로 한 번에 반영한다")
+    void flushRequestCounts_shouldIncreaseByAccumulatedDelta() {
+        // given
+        knowledgeBase.recordRequest("Bibimbap");
+        knowledgeBase.recordRequest("bibimbap");
+
+        // when
+        knowledgeBase.flushRequestCounts();
+
+        // then
+        verify(repository).increaseRequestCount("bibimbap", 2);
+    }
+
+    @Test
+    @DisplayName("저장소를 읽는 것만으로는 요청 횟수를 세지 않는다")
+    void find_shouldNotCountRequests() {
+        // given
+        when(repository.find("bibimbap", FoodInfoSource.GEMINI)).thenReturn(Optional.empty());
+        when(repository.findAll("bibimbap")).thenReturn(List.of());
+        knowledgeBase.find("Bibimbap", FoodInfoSource.GEMINI).block();
+        knowledgeBase.find("Bibimbap").block();
+
+        // when
+        knowledgeBase.flushRequestCounts();
+
+        // then
+        verify(repository, never()).increaseRequestCount(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("출처별로 가장 많이 조회된 음식 중 오래되지 않은 정보만 캐시에 올린다")
+    void warmUp_shouldPutFreshKnowledgeIntoCache() {
+        // given
+        when(repository.findMostRequested(FoodInfoSource.GEMINI, 10)).thenReturn(List.of(
+                new FoodKnowledge("Bibimbap", FoodInfoSource.GEMINI, BIBIMBAP, Instant.now()),
+                new FoodKnowledge("Bulgogi", FoodInfoSource.GEMINI,
+                        new FoodInfo("Bulgogi", "Grilled beef", "bulgogi.jpg", "preview.jpg"), Instant.EPOCH)
+        ));
+        AsyncCache<String, FoodInfo> cache = new AsyncCacheFactory(new SimpleMeterRegistry())
+                .create("warm-up", 10, Duration.ofHours(1), Duration.ofMinutes(1));
+
+        // when
+        int warmedUp = knowledgeBase.warmUp(FoodInfoSource.GEMINI, cache);
+
+        // then
+        assertThat(warmedUp).isEqualTo(1);
+        StepVerifier.create(cache.get("Bibimbap", key -> Mono.error(new IllegalStateException("로딩되면 안 됩니다."))))
+                .assertNext(foodInfo -> assertThat(foodInfo.getName()).isEqualTo("Bibimbap"))
+                .verifyComplete();
+    }
+}
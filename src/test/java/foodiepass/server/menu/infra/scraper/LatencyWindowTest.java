@@ -0,0 +1,38 @@
+package foodiepass.server.menu.infra.scraper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LatencyWindow 테스트")
+class LatencyWindowTest {
+
+    @Test
+    @DisplayName("표본이 최소 개수보다 적으면 분위수를 계산하지 않는다")
+    void percentile_shouldBeEmptyWithoutEnoughSamples() {
+        // given
+        LatencyWindow window = new LatencyWindow(10);
+        window.record(100);
+
+        // when & then
+        assertThat(window.percentile(0.9, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최근 표본만으로 분위수를 계산한다")
+    void percentile_shouldUseMostRecentSamples() {
+        // given
+        LatencyWindow window = new LatencyWindow(10);
+        for (int i = 1; i <= 10; i++) {
+            window.record(10_000);
+        }
+        for (int i = 1; i <= 10; i++) {
+            window.record(i * 100L);
+        }
+
+        // when & then
+        assertThat(window.percentile(0.9, 5)).hasValue(900);
+        assertThat(window.percentile(0.5, 5)).hasValue(500);
+    }
+}
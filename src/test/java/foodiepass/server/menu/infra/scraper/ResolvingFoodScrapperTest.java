@@ -0,0 +1,108 @@
+package foodiepass.server.menu.infra.scraper;
+
+import foodiepass.server.menu.application.port.out.FoodScrapper;
+import foodiepass.server.menu.domain.FoodInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResolvingFoodScrapper 테스트")
+class ResolvingFoodScrapperTest {
+
+    private static final FoodInfo KIMCHI_JJIGAE = new FoodInfo("Kimchi Jjigae", "Kimchi stew", "kimchi.jpg", "preview.jpg");
+
+    @Mock
+    private FoodScrapper delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ResolvingFoodScrapper scrapper;
+
+    @BeforeEach
+    void setUp() {
+        scrapper = new ResolvingFoodScrapper(delegate, 100, 0.6, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("표기만 다른 음식 이름은 처음 스크래핑한 대표 이름으로 바꿔 요청한다")
+    void scrapAsync_shouldResolveVariantsToRepresentative() {
+        // given
+        when(delegate.scrapAsync(List.of("Kimchi Jjigae"))).thenReturn(Flux.just(KIMCHI_JJIGAE));
+        scrapper.scrapAsync(List.of("Kimchi Jjigae")).blockLast();
+
+        // when & then
+        StepVerifier.create(scrapper.scrapAsync(List.of("kimchi-jjigae", "Kimchi stew")))
+                .expectNext(KIMCHI_JJIGAE, KIMCHI_JJIGAE)
+                .verifyComplete();
+        verify(delegate, times(3)).scrapAsync(List.of("Kimchi Jjigae"));
+        assertThat(meterRegistry.counter("food.name.scrapes.saved").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("food.name.resolutions", "result", "normalized").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("철자가 조금 다른 이름은 유사한 대표 이름으로 연결한다")
+    void scrapAsync_shouldResolveSimilarName() {
+        // given
+        FoodInfo bibimbap = new FoodInfo("Bibimbap", "Mixed rice", "bibimbap.jpg", "preview.jpg");
+        when(delegate.scrapAsync(List.of("Bibimbap"))).thenReturn(Flux.just(bibimbap));
+        scrapper.scrapAsync(List.of("Bibimbap")).blockLast();
+
+        // when
+        scrapper.scrapAsync(List.of("Bibim Bab")).blockLast();
+
+        // then
+        verify(delegate, never()).scrapAsync(List.of("Bibim Bab"));
+        assertThat(meterRegistry.counter("food.name.resolutions", "result", "similar").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("스크래핑에 실패한 이름은 색인하지 않는다")
+    void scrapAsync_shouldNotIndexFailedScrapes() {
+        // given
+        when(delegate.scrapAsync(anyList())).thenReturn(Flux.error(new IllegalStateException("스크래핑 실패")));
+
+        // when
+        StepVerifier.create(scrapper.scrapAsync(List.of("Bulgogi")))
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(scrapper.scrapAsync(List.of("bulgogi")))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // then
+        assertThat(meterRegistry.counter("food.name.resolutions", "result", "unknown").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("메뉴 전체를 한 번에 요청할 때 표기만 다른 이름은 하나로 묶어 위임한다")
+    void scrapByNameAsync_shouldDelegateDistinctRepresentativesOnce() {
+        // given
+        when(delegate.scrapByNameAsync(List.of("Kimchi Jjigae")))
+                .thenReturn(Mono.just(Map.of("Kimchi Jjigae", KIMCHI_JJIGAE)));
+
+        // when & then
+        StepVerifier.create(scrapper.scrapByNameAsync(List.of("Kimchi Jjigae", "kimchi-jjigae")))
+                .assertNext(found -> assertThat(found)
+                        .containsEntry("Kimchi Jjigae", KIMCHI_JJIGAE)
+                        .containsEntry("kimchi-jjigae", KIMCHI_JJIGAE))
+                .verifyComplete();
+        verify(delegate, times(1)).scrapByNameAsync(anyList());
+    }
+}
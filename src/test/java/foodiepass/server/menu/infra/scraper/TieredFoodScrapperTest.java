@@ -0,0 +1,272 @@
+package foodiepass.server.menu.infra.scraper;
+
+import foodiepass.server.global.cache.AsyncCache;
+import foodiepass.server.global.cache.AsyncCacheFactory;
+import foodiepass.server.menu.application.port.out.FoodScrapper;
+import foodiepass.server.menu.domain.FoodInfo;
+import foodiepass.server.menu.domain.FoodInfoSource;
+import foodiepass.server.menu.infra.config.FoodScrapperTierProperties;
+import foodiepass.server.menu.infra.knowledge.FoodKnowledgeBase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TieredFoodScrapper 테스트")
+class TieredFoodScrapperTest {
+
+    private static final String DEFAULT_IMAGE = "default.jpg";
+    private static final FoodInfo ATLAS_BULGOGI = new FoodInfo("Bulgogi", "Grilled beef", "atlas.jpg", "atlas.jpg");
+    private static final FoodInfo GEMINI_BULGOGI = new FoodInfo("Bulgogi", "Marinated beef", "gemini.jpg", "gemini.jpg");
+
+    @Mock
+    private FoodKnowledgeBase knowledgeBase;
+    @Mock
+    private FoodScrapper tasteAtlasScrapper;
+    @Mock
+    private FoodScrapper geminiScrapper;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private VirtualTimeScheduler virtualTime;
+    private TieredFoodScrapper scrapper;
+
+    @BeforeEach
+    void setUp() {
+        virtualTime = VirtualTimeScheduler.create();
+        lenient().when(knowledgeBase.find(anyString())).thenReturn(Mono.empty());
+        scrapper = new TieredFoodScrapper(
+                knowledgeBase,
+                newKnownCache(),
+                List.of(
+                        new TieredFoodScrapper.Source("taste-atlas", tasteAtlasScrapper),
+                        new TieredFoodScrapper.Source("gemini", geminiScrapper)
+                ),
+                foodInfo -> !DEFAULT_IMAGE.equals(foodInfo.getImage()),
+                new FoodScrapperTierProperties(0.9, Duration.ofSeconds(2), Duration.ofMillis(200),
+                        Duration.ofSeconds(5), 16, 4),
+                meterRegistry,
+                virtualTime
+        );
+    }
+
+    @Test
+    @DisplayName("지식 베이스에 있는 음식은 외부 스크래퍼를 호출하지 않는다")
+    void scrapByNameAsync_shouldUseKnowledgeBaseFirst() {
+        // given
+        when(knowledgeBase.find("Bulgogi")).thenReturn(Mono.just(ATLAS_BULGOGI));
+
+        // when
+        Map<String, FoodInfo> found = scrapper.scrapByNameAsync(List.of("Bulgogi")).block();
+
+        // then
+        assertThat(found).containsEntry("Bulgogi", ATLAS_BULGOGI);
+        verify(tasteAtlasScrapper, never()).scrapAsync(anyList());
+        verify(geminiScrapper, never()).scrapByNameAsync(anyList());
+        assertThat(meterRegistry.counter("food.scrapper.tier.wins", "tier", "knowledge").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("요청 하나에서 같은 음식 이름은 외부 단계까지 가더라도 한 번만 요청 횟수에 센다")
+    void scrapByNameAsync_shouldRecordEachDistinctNameOnce() {
+        // given
+        when(tasteAtlasScrapper.scrapAsync(List.of("Bulgogi"))).thenReturn(Flux.just(ATLAS_BULGOGI));
+
+        // when
+        scrapper.scrapByNameAsync(List.of("Bulgogi", "Bulgogi")).block();
+
+        // then
+        verify(knowledgeBase, times(1)).recordRequest("Bulgogi");
+    }
+
+    @Test
+    @DisplayName("지식 베이스에서 찾은 음식은 메모리 캐시에 남아 다음 요청에서 저장소를 다시 읽지 않는다")
+    void scrapByNameAsync_shouldCacheKnowledgeBaseHits() {
+        // given
+        when(knowledgeBase.find("Bulgogi")).thenReturn(Mono.just(ATLAS_BULGOGI));
+
+        // when
+        scrapper.scrapByNameAsync(List.of("Bulgogi")).block();
+        Map<String, FoodInfo> found = scrapper.scrapByNameAsync(List.of("Bulgogi")).block();
+
+        // then
+        assertThat(found).containsEntry("Bulgogi", ATLAS_BULGOGI);
+        verify(knowledgeBase, times(1)).find("Bulgogi");
+    }
+
+    @Test
+    @DisplayName("외부 단계에서 찾은 쓸 만한 결과는 메모리 캐시에 올려 다음 요청에서 저장소와 스크래퍼를 거치지 않는다")
+    void scrapByNameAsync_shouldCacheWinningAnswer() {
+        // given
+        when(tasteAtlasScrapper.scrapAsync(List.of("Bulgogi"))).thenReturn(Flux.just(ATLAS_BULGOGI));
+
+        // when
+        scrapper.scrapByNameAsync(List.of("Bulgogi")).block();
+        Map<String, FoodInfo> found = scrapper.scrapByNameAsync(List.of("Bulgogi")).block();
+
+        // then
+        assertThat(found).containsEntry("Bulgogi", ATLAS_BULGOGI);
+        verify(knowledgeBase, times(1)).find("Bulgogi");
+        verify(tasteAtlasScrapper, times(1)).scrapAsync(anyList());
+    }
+
+    @Test
+    @DisplayName("시작 시 예열한 음식은 저장소를 읽지 않고 메모리 캐시에서 돌려준다")
+    void warmUpCache_shouldServeWarmedNamesFromMemory() {
+        // given
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0) != FoodInfoSource.TASTE_ATLAS) {
+                return 0;
+            }
+            AsyncCache<String, FoodInfo> cache = invocation.getArgument(1);
+            cache.put("Bulgogi", ATLAS_BULGOGI);
+            return 1;
+        }).when(knowledgeBase).warmUp(any(), any());
+
+        // when
+        scrapper.warmUpCache();
+        Map<String, FoodInfo> found = scrapper.scrapByNameAsync(List.of("Bulgogi")).block();
+
+        // then
+        assertThat(found).containsEntry("Bulgogi", ATLAS_BULGOGI);
+        verify(knowledgeBase, never()).find(anyString());
+    }
+
+    @Test
+    @DisplayName("TasteAtlas에는 이름별 요청을 최대 동시 요청 수까지만 보낸다")
+    void scrapByNameAsync_shouldLimitConcurrentRequestsPerTier() {
+        // given
+        TieredFoodScrapper limitedScrapper = new TieredFoodScrapper(
+                knowledgeBase,
+                newKnownCache(),
+                List.of(
+                        new TieredFoodScrapper.Source("taste-atlas", tasteAtlasScrapper, 2),
+                        new TieredFoodScrapper.Source("gemini", geminiScrapper)
+                ),
+                foodInfo -> !DEFAULT_IMAGE.equals(foodInfo.getImage()),
+                new FoodScrapperTierProperties(0.9, Duration.ofSeconds(2), Duration.ofMillis(200),
+                        Duration.ofSeconds(5), 16, 4),
+                meterRegistry,
+                virtualTime
+        );
+        when(tasteAtlasScrapper.scrapAsync(anyList())).thenReturn(Flux.never());
+
+        // when
+        limitedScrapper.scrapByNameAsync(List.of("Bulgogi", "Bibimbap", "Japchae", "Kimchi", "Tteokbokki"))
+                .subscribe();
+
+        // then
+        verify(tasteAtlasScrapper, times(2)).scrapAsync(anyList());
+    }
+
+    @Test
+    @DisplayName("TasteAtlas가 헤지 지연 안에 쓸 만한 결과를 주면 Gemini를 호출하지 않는다")
+    void scrapByNameAsync_shouldNotHedgeWhenPrimaryAnswersInTime() {
+        // given
+        when(tasteAtlasScrapper.scrapAsync(List.of("Bulgogi"))).thenReturn(Flux.just(ATLAS_BULGOGI));
+
+        // when
+        Map<String, FoodInfo> found = scrapper.scrapByNameAsync(List.of("Bulgogi")).block();
+
+        // then
+        assertThat(found).containsEntry("Bulgogi", ATLAS_BULGOGI);
+        verify(geminiScrapper, never()).scrapByNameAsync(anyList());
+        assertThat(meterRegistry.counter("food.scrapper.tier.wins", "tier", "taste-atlas").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("TasteAtlas가 헤지 지연 안에 답하지 않으면 Gemini에도 요청하고 먼저 온 결과를 쓴다")
+    void scrapByNameAsync_shouldHedgeToNextTierWhenPrimaryIsSlow() {
+        // given
+        when(tasteAtlasScrapper.scrapAsync(List.of("Bulgogi"))).thenReturn(Flux.never());
+        when(geminiScrapper.scrapByNameAsync(List.of("Bulgogi"))).thenReturn(Mono.just(Map.of("Bulgogi", GEMINI_BULGOGI)));
+
+        // when & then
+        StepVerifier.create(scrapper.scrapByNameAsync(List.of("Bulgogi")))
+                .then(() -> virtualTime.advanceTimeBy(Duration.ofSeconds(2)))
+                .assertNext(found -> assertThat(found).containsEntry("Bulgogi", GEMINI_BULGOGI))
+                .verifyComplete();
+        assertThat(meterRegistry.counter("food.scrapper.tier.hedges", "tier", "taste-atlas").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("food.scrapper.tier.wins", "tier", "gemini").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("헤지한 Gemini가 부족한 결과만 주더라도 끝나면 느린 TasteAtlas를 기다리지 않고 취소한다")
+    void scrapByNameAsync_shouldCancelSlowPrimaryWhenHedgedTierFinishes() {
+        // given
+        FoodInfo poorGemini = new FoodInfo("Bulgogi", "No description", DEFAULT_IMAGE, DEFAULT_IMAGE);
+        AtomicBoolean primaryCancelled = new AtomicBoolean();
+        when(tasteAtlasScrapper.scrapAsync(List.of("Bulgogi")))
+                .thenReturn(Flux.<FoodInfo>never().doOnCancel(() -> primaryCancelled.set(true)));
+        when(geminiScrapper.scrapByNameAsync(List.of("Bulgogi"))).thenReturn(Mono.just(Map.of("Bulgogi", poorGemini)));
+
+        // when & then
+        StepVerifier.create(scrapper.scrapByNameAsync(List.of("Bulgogi")))
+                .then(() -> virtualTime.advanceTimeBy(Duration.ofSeconds(2)))
+                .assertNext(found -> assertThat(found).containsEntry("Bulgogi", poorGemini))
+                .verifyComplete();
+        assertThat(primaryCancelled).isTrue();
+    }
+
+    @Test
+    @DisplayName("TasteAtlas가 기본 정보만 주면 기다리지 않고 Gemini로 넘긴다")
+    void scrapByNameAsync_shouldFallThroughImmediatelyOnPoorAnswer() {
+        // given
+        FoodInfo defaultInfo = new FoodInfo("Bulgogi", "No description", DEFAULT_IMAGE, DEFAULT_IMAGE);
+        when(tasteAtlasScrapper.scrapAsync(List.of("Bulgogi"))).thenReturn(Flux.just(defaultInfo));
+        when(geminiScrapper.scrapByNameAsync(List.of("Bulgogi"))).thenReturn(Mono.just(Map.of("Bulgogi", GEMINI_BULGOGI)));
+
+        // when
+        Map<String, FoodInfo> found = scrapper.scrapByNameAsync(List.of("Bulgogi")).block();
+
+        // then
+        assertThat(found).containsEntry("Bulgogi", GEMINI_BULGOGI);
+        assertThat(meterRegistry.counter("food.scrapper.tier.hedges", "tier", "taste-atlas").count()).isZero();
+        assertThat(meterRegistry.counter("food.scrapper.tier.answers", "tier", "taste-atlas", "quality", "poor").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("모든 단계가 쓸 만한 결과를 주지 못하면 먼저 받은 부족한 결과를 돌려준다")
+    void scrapByNameAsync_shouldReturnPoorAnswerWhenNoTierSucceeds() {
+        // given
+        FoodInfo defaultInfo = new FoodInfo("Bulgogi", "No description", DEFAULT_IMAGE, DEFAULT_IMAGE);
+        when(tasteAtlasScrapper.scrapAsync(List.of("Bulgogi"))).thenReturn(Flux.just(defaultInfo));
+        when(geminiScrapper.scrapByNameAsync(List.of("Bulgogi"))).thenReturn(Mono.error(new IllegalStateException("실패")));
+
+        // when
+        Map<String, FoodInfo> found = scrapper.scrapByNameAsync(List.of("Bulgogi")).block();
+
+        // then
+        assertThat(found).containsEntry("Bulgogi", defaultInfo);
+        assertThat(meterRegistry.counter("food.scrapper.tier.answers", "tier", "gemini", "quality", "missing").count())
+                .isEqualTo(1.0);
+    }
+
+    private AsyncCache<String, FoodInfo> newKnownCache() {
+        return new AsyncCacheFactory(meterRegistry).create("tiered-food-info", 100, Duration.ofHours(1), Duration.ZERO);
+    }
+}
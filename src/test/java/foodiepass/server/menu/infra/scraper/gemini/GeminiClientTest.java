@@ -0,0 +1,102 @@
+package foodiepass.server.menu.infra.scraper.gemini;
+
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.vertexai.api.Candidate;
+import com.google.cloud.vertexai.api.Content;
+import com.google.cloud.vertexai.api.GenerateContentResponse;
+import com.google.cloud.vertexai.api.Part;
+import com.google.cloud.vertexai.generativeai.GenerativeModel;
+import com.google.protobuf.ByteString;
+import foodiepass.server.menu.infra.exception.GeminiErrorCode;
+import foodiepass.server.menu.infra.exception.GeminiException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GeminiClientTest {
+
+    private static final ByteString IMAGE = ByteString.copyFrom(new byte[]{1, 2, 3});
+
+    @Mock
+    private GenerativeModel multimodalModel;
+
+    @Mock
+    private GenerativeModel textModel;
+
+    private CircuitBreaker circuitBreaker;
+    private GeminiClient geminiClient;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.of("gemini", CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(50)
+                .build());
+        geminiClient = new GeminiClient(multimodalModel, textModel, new GeminiResponseParser(), circuitBreaker);
+    }
+
+    @Test
+    @DisplayName("비동기 OCR 호출이 실패하면 서킷 브레이커가 실패를 기록하고 열린 뒤에는 Gemini를 호출하지 않는다")
+    void generateTextAsync_whenFutureFails_shouldOpenCircuitBreaker() throws IOException {
+        // given
+        when(multimodalModel.generateContentAsync(any(Content.class)))
+                .thenAnswer(invocation -> ApiFutures.immediateFailedFuture(new IllegalStateException("unavailable")));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(geminiClient.generateTextAsync(IMAGE, "image/jpeg", "prompt"))
+                    .expectErrorSatisfies(e -> assertThat(e)
+                            .isInstanceOf(GeminiException.class)
+                            .extracting("errorCode")
+                            .isEqualTo(GeminiErrorCode.EXTERNAL_API_CIRCUIT_OPEN))
+                    .verify();
+        }
+
+        // then
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(2);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        verify(multimodalModel, times(2)).generateContentAsync(any(Content.class));
+    }
+
+    @Test
+    @DisplayName("비동기 OCR 호출이 성공하면 응답이 도착한 뒤에 성공으로 기록한다")
+    void generateTextAsync_whenFutureSucceeds_shouldRecordSuccessOnCompletion() throws IOException {
+        // given
+        SettableApiFuture<GenerateContentResponse> future = SettableApiFuture.create();
+        when(multimodalModel.generateContentAsync(any(Content.class))).thenReturn(future);
+
+        // when & then
+        StepVerifier.create(geminiClient.generateTextAsync(IMAGE, "image/jpeg", "prompt"))
+                .then(() -> {
+                    assertThat(circuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isZero();
+                    future.set(responseOf("[]"));
+                })
+                .expectNext("[]")
+                .verifyComplete();
+        assertThat(circuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isEqualTo(1);
+    }
+
+    private static GenerateContentResponse responseOf(final String text) {
+        return GenerateContentResponse.newBuilder()
+                .addCandidates(Candidate.newBuilder()
+                        .setContent(Content.newBuilder().addParts(Part.newBuilder().setText(text))))
+                .build();
+    }
+}
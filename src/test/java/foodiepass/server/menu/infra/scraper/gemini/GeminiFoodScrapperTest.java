@@ -1,7 +1,14 @@
 package foodiepass.server.menu.infra.scraper.gemini;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import foodiepass.server.global.cache.AsyncCacheFactory;
 import foodiepass.server.menu.domain.FoodInfo;
+import foodiepass.server.menu.domain.FoodInfoSource;
+import foodiepass.server.menu.infra.config.FoodInfoCacheProperties;
+import foodiepass.server.menu.infra.exception.GeminiErrorCode;
+import foodiepass.server.menu.infra.exception.GeminiException;
+import foodiepass.server.menu.infra.knowledge.FoodKnowledgeBase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,12 +16,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,12 +42,23 @@ class GeminiFoodScrapperTest {
     @Mock
     private GeminiClient geminiClient;
 
+    @Mock
+    private FoodKnowledgeBase knowledgeBase;
+
     // 실제 ObjectMapper를 사용합니다.
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @BeforeEach
     void setUp() {
-        geminiFoodScrapper = new GeminiFoodScrapper(geminiClient, objectMapper);
+        lenient().when(knowledgeBase.find(anyString(), any())).thenReturn(Mono.empty());
+        geminiFoodScrapper = new GeminiFoodScrapper(
+                geminiClient,
+                objectMapper,
+                knowledgeBase,
+                new AsyncCacheFactory(new SimpleMeterRegistry()),
+                new FoodInfoCacheProperties(100, Duration.ofHours(1), Duration.ZERO, Duration.ZERO, 0.0),
+                20
+        );
     }
 
     @Test
@@ -81,4 +107,110 @@ class GeminiFoodScrapperTest {
         // 캐시 덕분에 geminiClient는 한 번만 호출되어야 합니다.
         verify(geminiClient, times(1)).generateText(anyString());
     }
+
+    @Test
+    @DisplayName("스크래핑에 실패한 음식은 음수 캐시 TTL이 지나면 다시 스크래핑한다")
+    void scrapAsync_afterFailure_shouldRetryOnceNegativeTtlExpires() {
+        // given
+        final String foodName = "Ramen";
+        final String jsonResponse = "{\"name\":\"Ramen\",\"description\":\"Noodle soup\",\"image\":\"ramen.jpg\",\"previewImage\":\"preview.jpg\"}";
+        when(geminiClient.generateText(anyString()))
+                .thenThrow(new GeminiException(GeminiErrorCode.GEMINI_API_IO_ERROR))
+                .thenReturn(jsonResponse);
+
+        // when & then
+        StepVerifier.create(geminiFoodScrapper.scrapAsync(List.of(foodName)))
+                .expectError(GeminiException.class)
+                .verify();
+        StepVerifier.create(geminiFoodScrapper.scrapAsync(List.of(foodName)))
+                .expectNextMatches(foodInfo -> foodInfo.getName().equals("Ramen"))
+                .verifyComplete();
+        verify(geminiClient, times(2)).generateText(anyString());
+    }
+
+    @Test
+    @DisplayName("저장소에 있는 음식은 Gemini를 호출하지 않고 저장된 정보를 돌려준다")
+    void scrapAsync_withKnownFood_shouldSkipGemini() {
+        // given
+        final FoodInfo knownFoodInfo = new FoodInfo("Bibimbap", "Mixed rice", "bibimbap.jpg", "preview.jpg");
+        when(knowledgeBase.find("Bibimbap", FoodInfoSource.GEMINI)).thenReturn(Mono.just(knownFoodInfo));
+
+        // when & then
+        StepVerifier.create(geminiFoodScrapper.scrapAsync(List.of("Bibimbap")))
+                .expectNext(knownFoodInfo)
+                .verifyComplete();
+        verify(geminiClient, never()).generateText(anyString());
+        verify(knowledgeBase, never()).saveBehind(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Gemini로 스크래핑한 정보는 저장소에 기록한다")
+    void scrapAsync_afterScraping_shouldSaveToKnowledgeBase() {
+        // given
+        final String jsonResponse = "{\"name\":\"Pizza\",\"description\":\"A delicious pizza\",\"image\":\"pizza.jpg\",\"previewImage\":\"preview.jpg\"}";
+        when(geminiClient.generateText(anyString())).thenReturn(jsonResponse);
+
+        // when
+        geminiFoodScrapper.scrapAsync(List.of("Pizza")).blockLast();
+
+        // then
+        verify(knowledgeBase).saveBehind(eq("Pizza"), eq(FoodInfoSource.GEMINI), any(FoodInfo.class));
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 여러 음식은 한 번의 프롬프트로 요청하고 이름별로 나눠 돌려준다")
+    void scrapByNameAsync_shouldRequestUncachedNamesInOnePrompt() {
+        // given
+        final String batchResponse = """
+                [
+                    {"name": "Pizza", "description": "A delicious pizza", "image": "pizza.jpg"},
+                    {"name": "pasta", "description": "Yummy pasta", "image": "pasta.jpg"}
+                ]
+                """;
+        when(geminiClient.generateText(argThat(prompt -> prompt.contains("Food names:")))).thenReturn(batchResponse);
+
+        // when & then
+        StepVerifier.create(geminiFoodScrapper.scrapByNameAsync(List.of("Pizza", "Pasta", "Pizza")))
+                .assertNext(found -> {
+                    assertThat(found).containsOnlyKeys("Pizza", "Pasta");
+                    assertThat(found.get("Pasta").getDescription()).isEqualTo("Yummy pasta");
+                })
+                .verifyComplete();
+        verify(geminiClient, times(1)).generateText(anyString());
+        verify(knowledgeBase, times(2)).saveBehind(anyString(), eq(FoodInfoSource.GEMINI), any(FoodInfo.class));
+    }
+
+    @Test
+    @DisplayName("묶음 응답에 빠진 음식만 이름별 프롬프트로 다시 요청한다")
+    void scrapAsync_shouldFallBackToSinglePromptForMissingNames() {
+        // given
+        final String batchResponse = "[{\"name\": \"Pizza\", \"description\": \"A delicious pizza\", \"image\": \"pizza.jpg\"}]";
+        final String singleResponse = "{\"name\":\"Pasta\",\"description\":\"Yummy pasta\",\"image\":\"pasta.jpg\",\"previewImage\":\"preview.jpg\"}";
+        when(geminiClient.generateText(anyString())).thenAnswer(invocation ->
+                invocation.<String>getArgument(0).contains("Food names:") ? batchResponse : singleResponse);
+
+        // when
+        final List<FoodInfo> foodInfos = geminiFoodScrapper.scrapAsync(List.of("Pizza", "Pasta")).collectList().block();
+
+        // then
+        assertThat(foodInfos).extracting(FoodInfo::getName).containsExactlyInAnyOrder("Pizza", "Pasta");
+        verify(geminiClient, times(2)).generateText(anyString());
+    }
+
+    @Test
+    @DisplayName("한 번 가져온 음식은 다음 묶음 요청에 포함하지 않는다")
+    void scrapByNameAsync_shouldSkipCachedNames() {
+        // given
+        final String batchResponse = "[{\"name\": \"Pizza\", \"description\": \"A delicious pizza\", \"image\": \"pizza.jpg\"},"
+                + "{\"name\": \"Pasta\", \"description\": \"Yummy pasta\", \"image\": \"pasta.jpg\"}]";
+        when(geminiClient.generateText(anyString())).thenReturn(batchResponse);
+        geminiFoodScrapper.scrapByNameAsync(List.of("Pizza", "Pasta")).block();
+
+        // when
+        final Map<String, FoodInfo> found = geminiFoodScrapper.scrapByNameAsync(List.of("Pizza", "Pasta")).block();
+
+        // then
+        assertThat(found).containsOnlyKeys("Pizza", "Pasta");
+        verify(geminiClient, times(1)).generateText(anyString());
+    }
 }
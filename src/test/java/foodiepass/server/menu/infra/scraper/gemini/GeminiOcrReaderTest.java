@@ -0,0 +1,130 @@
+package foodiepass.server.menu.infra.scraper.gemini;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import foodiepass.server.menu.domain.MenuImage;
+import foodiepass.server.menu.domain.MenuItem;
+import foodiepass.server.menu.infra.exception.GeminiErrorCode;
+import foodiepass.server.menu.infra.exception.GeminiException;
+import foodiepass.server.menu.infra.image.MenuImagePreprocessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GeminiOcrReaderTest {
+
+    private static final MenuImage IMAGE = MenuImage.of(new byte[]{1, 2, 3});
+
+    private GeminiOcrReader geminiOcrReader;
+
+    @Mock
+    private GeminiClient geminiClient;
+
+    @BeforeEach
+    void setUp() {
+        geminiOcrReader = new GeminiOcrReader(
+                geminiClient,
+                new ObjectMapper(),
+                new MenuImagePreprocessor(2048, false, 0.85f, new SimpleMeterRegistry())
+        );
+    }
+
+    @Test
+    @DisplayName("구독하기 전에는 Gemini를 호출하지 않는다")
+    void read_shouldNotCallGeminiBeforeSubscription() {
+        // when
+        geminiOcrReader.read(IMAGE);
+
+        // then
+        verify(geminiClient, never()).generateTextAsync(any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Gemini 응답이 JSON 형식이 아니면 GeminiException(OCR_REQUEST_FAILED)을 발생시킨다")
+    void read_withInvalidJson_shouldEmitGeminiException() {
+        // given
+        when(geminiClient.generateTextAsync(eq(ByteString.copyFrom(new byte[]{1, 2, 3})), eq("image/jpeg"), anyString()))
+                .thenReturn(Mono.just("not a json"));
+
+        // when
+        Mono<List<MenuItem>> result = geminiOcrReader.read(IMAGE);
+
+        // then
+        StepVerifier.create(result)
+                .expectErrorMatches(e -> e instanceof GeminiException
+                        && e.getMessage().equals(GeminiErrorCode.OCR_REQUEST_FAILED.getMessage()))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Gemini 호출이 실패하면 같은 예외를 그대로 전달한다")
+    void read_whenGeminiFails_shouldPropagateError() {
+        // given
+        when(geminiClient.generateTextAsync(any(), anyString(), anyString()))
+                .thenReturn(Mono.error(new GeminiException(GeminiErrorCode.EXTERNAL_API_CIRCUIT_OPEN)));
+
+        // when
+        Mono<List<MenuItem>> result = geminiOcrReader.read(IMAGE);
+
+        // then
+        StepVerifier.create(result)
+                .expectError(GeminiException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("실제 이미지 형식에 맞는 MIME 타입으로 Gemini에 보낸다")
+    void read_shouldSendDetectedMimeType() {
+        // given
+        byte[] webp = {'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P'};
+        when(geminiClient.generateTextAsync(eq(ByteString.copyFrom(webp)), eq("image/webp"), anyString()))
+                .thenReturn(Mono.just("[]"));
+
+        // when & then
+        StepVerifier.create(geminiOcrReader.read(MenuImage.of(webp)))
+                .expectNext(List.of())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("전처리하지 않은 사진은 요청 버퍼를 복사하지 않고 유효한 길이만큼 감싸서 보낸다")
+    void read_shouldWrapRequestBufferWithoutCopy() {
+        // given
+        byte[] webp = {'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P'};
+        MenuImage.Output output = MenuImage.output(64);
+        output.write(webp, 0, webp.length);
+        MenuImage image = output.toImage();
+        ArgumentCaptor<ByteString> captor = ArgumentCaptor.forClass(ByteString.class);
+        when(geminiClient.generateTextAsync(captor.capture(), eq("image/webp"), anyString()))
+                .thenReturn(Mono.just("[]"));
+
+        // when
+        StepVerifier.create(geminiOcrReader.read(image))
+                .expectNext(List.of())
+                .verifyComplete();
+
+        // then
+        ByteString sent = captor.getValue();
+        assertThat(sent.size()).isEqualTo(webp.length);
+        image.buffer()[0] = 'X';
+        assertThat(sent.byteAt(0)).isEqualTo((byte) 'X');
+    }
+}
@@ -0,0 +1,68 @@
+package foodiepass.server.menu.infra.scraper.tasteAtlas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HtmlHeadReader 테스트")
+class HtmlHeadReaderTest {
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    @Test
+    @DisplayName("버퍼 경계에 걸친 </head>까지만 읽고 나머지 본문 구독을 취소한다")
+    void readHead_shouldStopAtHeadEndAcrossBuffers() {
+        // given
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flux<DataBuffer> body = Flux.just(
+                        "<html><head><meta property=\"og:description\" content=\"비빔밥\"></he",
+                        "ad><body>",
+                        "<p>본문</p></body></html>"
+                )
+                .map(this::buffer)
+                .doOnCancel(() -> cancelled.set(true));
+
+        // when & then
+        StepVerifier.create(HtmlHeadReader.readHead(body, 1024))
+                .assertNext(head -> assertThat(head)
+                        .isEqualTo("<html><head><meta property=\"og:description\" content=\"비빔밥\"></head>"))
+                .verifyComplete();
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    @DisplayName("대소문자와 관계없이 </HEAD>를 찾는다")
+    void readHead_shouldIgnoreCase() {
+        // given
+        Flux<DataBuffer> body = Flux.just("<HTML><HEAD><TITLE>t</TITLE></HEAD ><BODY></BODY>").map(this::buffer);
+
+        // when & then
+        StepVerifier.create(HtmlHeadReader.readHead(body, 1024))
+                .expectNext("<HTML><HEAD><TITLE>t</TITLE></HEAD >")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("</head>가 최대 크기 안에 없으면 최대 크기까지만 읽는다")
+    void readHead_shouldLimitToMaxBytes() {
+        // given
+        Flux<DataBuffer> body = Flux.just("<html><head>", "x".repeat(100), "</head>").map(this::buffer);
+
+        // when & then
+        StepVerifier.create(HtmlHeadReader.readHead(body, 32))
+                .assertNext(head -> assertThat(head).hasSize(32).startsWith("<html><head>xxx"))
+                .verifyComplete();
+    }
+
+    private DataBuffer buffer(final String text) {
+        return bufferFactory.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,110 @@
+package foodiepass.server.menu.infra.scraper.tasteAtlas;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import foodiepass.server.menu.infra.config.TasteAtlasProperties;
+import foodiepass.server.menu.infra.exception.ScrapingErrorCode;
+import foodiepass.server.menu.infra.exception.ScrapingException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TasteAtlasApiClient 테스트")
+class TasteAtlasApiClientTest {
+
+    private static final String SEARCH_RESPONSE = """
+            {
+              "CustomItems": [],
+              "Items": [{"Name": "Bibimbap", "Subtitle": "Korea", "PreviewImage": {"Image": "preview.jpg"}, "UrlLink": "/bibimbap"}]
+            }
+            """;
+
+    static WireMockServer wireMockServer;
+
+    private TasteAtlasApiClient apiClient;
+
+    @BeforeAll
+    static void startMockServer() {
+        wireMockServer = new WireMockServer(0);
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void stopMockServer() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer.resetAll();
+        TasteAtlasProperties properties = new TasteAtlasProperties(
+                wireMockServer.baseUrl(),
+                new TasteAtlasProperties.Api(wireMockServer.baseUrl() + "/search?q=%s", "token"),
+                null,
+                null
+        );
+        apiClient = new TasteAtlasApiClient(
+                WebClient.builder().build(),
+                new ObjectMapper(),
+                properties,
+                DataSize.ofKilobytes(4),
+                DataSize.ofKilobytes(1)
+        );
+    }
+
+    @Test
+    @DisplayName("검색 응답을 문자열을 거치지 않고 역직렬화한다")
+    void search_shouldDecodeResponseBody() {
+        // given
+        wireMockServer.stubFor(get(urlPathEqualTo("/search"))
+                .willReturn(aResponse().withStatus(200).withHeader("Content-Type", "text/plain").withBody(SEARCH_RESPONSE)));
+
+        // when & then
+        StepVerifier.create(apiClient.search("Bibimbap"))
+                .assertNext(response -> {
+                    assertThat(response.items()).hasSize(1);
+                    assertThat(response.items().get(0).urlLink()).isEqualTo("/bibimbap");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("검색 응답이 최대 크기를 넘으면 요청 실패로 처리한다")
+    void search_shouldFailWhenResponseIsTooLarge() {
+        // given
+        wireMockServer.stubFor(get(urlPathEqualTo("/search"))
+                .willReturn(aResponse().withStatus(200).withBody("[" + " ".repeat(8 * 1024) + "]")));
+
+        // when & then
+        StepVerifier.create(apiClient.search("Bibimbap"))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(ScrapingException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(ScrapingErrorCode.TASTE_ATLAS_API_REQUEST_FAILED))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("음식 페이지는 <head>까지만 돌려준다")
+    void fetchHead_shouldReturnOnlyHead() {
+        // given
+        String head = "<html><head><meta property=\"og:image\" content=\"bibimbap.jpg\"></head>";
+        wireMockServer.stubFor(get(urlPathEqualTo("/bibimbap"))
+                .willReturn(aResponse().withStatus(200).withBody(head + "<body>" + "본문".repeat(10_000) + "</body></html>")));
+
+        // when & then
+        StepVerifier.create(apiClient.fetchHead(wireMockServer.baseUrl() + "/bibimbap"))
+                .expectNext(head)
+                .verifyComplete();
+    }
+}
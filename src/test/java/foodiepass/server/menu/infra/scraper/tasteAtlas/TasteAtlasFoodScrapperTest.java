@@ -1,10 +1,14 @@
 package foodiepass.server.menu.infra.scraper.tasteAtlas;
 
+import foodiepass.server.global.cache.AsyncCacheFactory;
 import foodiepass.server.menu.domain.FoodInfo;
+import foodiepass.server.menu.domain.FoodInfoSource;
+import foodiepass.server.menu.infra.config.FoodInfoCacheProperties;
 import foodiepass.server.menu.infra.config.TasteAtlasProperties;
 import foodiepass.server.menu.infra.exception.ScrapingErrorCode; // ErrorCode를 import 합니다.
 import foodiepass.server.menu.infra.exception.ScrapingException;
-import foodiepass.server.menu.infra.scraper.tasteAtlas.dto.TasteAtlasResponse;
+import foodiepass.server.menu.infra.knowledge.FoodKnowledgeBase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +19,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -27,9 +32,9 @@ class TasteAtlasFoodScrapperTest {
     private TasteAtlasFoodScrapper foodScrapper;
 
     @Mock
-    private TasteAtlasApiClient apiClient;
+    private TasteAtlasPageLookup pageLookup;
     @Mock
-    private TasteAtlasPageParser pageParser;
+    private FoodKnowledgeBase knowledgeBase;
 
     // 테스트용 Properties 객체를 만듭니다.
     private TasteAtlasProperties properties;
@@ -43,7 +48,14 @@ class TasteAtlasFoodScrapperTest {
                 new TasteAtlasProperties.Defaults("default_image.jpg", "default description"),
                 null // selector
         );
-        foodScrapper = new TasteAtlasFoodScrapper(apiClient, pageParser, properties);
+        lenient().when(knowledgeBase.find(anyString(), any())).thenReturn(Mono.empty());
+        foodScrapper = new TasteAtlasFoodScrapper(
+                pageLookup,
+                properties,
+                knowledgeBase,
+                new AsyncCacheFactory(new SimpleMeterRegistry()),
+                new FoodInfoCacheProperties(100, Duration.ofHours(1), Duration.ofMinutes(1), Duration.ZERO, 0.0)
+        );
     }
 
     @Test
@@ -51,15 +63,10 @@ class TasteAtlasFoodScrapperTest {
     void scrapAsync_onSuccess_returnsFoodInfo() {
         // given
         final String foodName = "Ramen";
-        final TasteAtlasResponse.Item item = new TasteAtlasResponse.Item("Ramen", null, "Japanese noodle soup", null, "/ramen");
-        final TasteAtlasResponse apiResponse = new TasteAtlasResponse(List.of(item), null);
-        final String html = "<html></html>";
         final FoodInfo expectedFoodInfo = new FoodInfo("Ramen", "A tasty ramen.", "ramen.jpg", "ramen_preview.jpg");
 
         // Mock 객체들의 동작을 정의합니다.
-        when(apiClient.search(foodName)).thenReturn(Mono.just(apiResponse));
-        when(apiClient.fetchHtml(anyString())).thenReturn(Mono.just(html));
-        when(pageParser.parse(html, item)).thenReturn(Mono.just(expectedFoodInfo));
+        when(pageLookup.find(foodName)).thenReturn(Mono.just(expectedFoodInfo));
 
         // when
         final Flux<FoodInfo> result = foodScrapper.scrapAsync(List.of(foodName));
@@ -75,10 +82,10 @@ class TasteAtlasFoodScrapperTest {
     void scrapAsync_onApiError_returnsDefaultFoodInfo() {
         // given
         final String foodName = "Sushi";
-        // apiClient.search가 ScrapingException 에러를 반환하도록 설정
+        // pageLookup.find가 ScrapingException 에러를 반환하도록 설정
         // null 대신 실제 ErrorCode를 사용하여 예외를 생성합니다.
         final ScrapingErrorCode errorCode = ScrapingErrorCode.TASTE_ATLAS_API_REQUEST_FAILED;
-        when(apiClient.search(foodName)).thenReturn(Mono.error(new ScrapingException(errorCode)));
+        when(pageLookup.find(foodName)).thenReturn(Mono.error(new ScrapingException(errorCode)));
 
         // when
         final Flux<FoodInfo> result = foodScrapper.scrapAsync(List.of(foodName));
@@ -92,7 +99,34 @@ class TasteAtlasFoodScrapperTest {
                 )
                 .verifyComplete();
 
-        // 에러가 났으므로 pageParser는 호출되지 않아야 합니다.
-        verify(pageParser, never()).parse(anyString(), any());
+        // 실패는 기본 정보로 대체하되 지식 베이스에는 저장하지 않아야 합니다.
+        verify(knowledgeBase, never()).saveBehind(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("미리 갱신할 때는 지식 베이스를 건너뛰고 TasteAtlas에서 새로 가져온다")
+    void scrapAsync_onRefreshAhead_skipsKnowledgeBase() {
+        // given
+        final String foodName = "Ramen";
+        final FoodInfo knownFoodInfo = new FoodInfo("Ramen", "Known ramen.", "ramen.jpg", "ramen_preview.jpg");
+        final FoodInfo freshFoodInfo = new FoodInfo("Ramen", "Fresh ramen.", "ramen.jpg", "ramen_preview.jpg");
+        when(knowledgeBase.find(foodName, FoodInfoSource.TASTE_ATLAS)).thenReturn(Mono.just(knownFoodInfo));
+        when(pageLookup.find(foodName)).thenReturn(Mono.just(freshFoodInfo));
+        final TasteAtlasFoodScrapper refreshingScrapper = new TasteAtlasFoodScrapper(
+                pageLookup,
+                properties,
+                knowledgeBase,
+                new AsyncCacheFactory(new SimpleMeterRegistry()),
+                new FoodInfoCacheProperties(100, Duration.ofHours(1), Duration.ofMinutes(1), Duration.ofHours(1), 0.0)
+        );
+        refreshingScrapper.scrapAsync(List.of(foodName)).blockLast();
+
+        // when
+        refreshingScrapper.scrapAsync(List.of(foodName)).blockLast();
+
+        // then
+        verify(knowledgeBase, times(1)).find(foodName, FoodInfoSource.TASTE_ATLAS);
+        verify(pageLookup).find(foodName);
+        verify(knowledgeBase).saveBehind(foodName, FoodInfoSource.TASTE_ATLAS, freshFoodInfo);
     }
 }
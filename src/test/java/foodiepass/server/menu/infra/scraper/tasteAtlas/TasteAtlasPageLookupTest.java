@@ -0,0 +1,105 @@
+package foodiepass.server.menu.infra.scraper.tasteAtlas;
+
+import foodiepass.server.global.cache.AsyncCacheFactory;
+import foodiepass.server.menu.domain.FoodInfo;
+import foodiepass.server.menu.infra.config.FoodInfoCacheProperties;
+import foodiepass.server.menu.infra.config.TasteAtlasProperties;
+import foodiepass.server.menu.infra.scraper.tasteAtlas.dto.TasteAtlasResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TasteAtlasPageLookup 테스트")
+class TasteAtlasPageLookupTest {
+
+    private static final String BASE_URL = "https://www.tasteatlas.com";
+    private static final TasteAtlasResponse.Item KIMCHI_STEW =
+            new TasteAtlasResponse.Item("Kimchi-jjigae", null, "South Korea", null, "/kimchi-jjigae");
+    private static final FoodInfo KIMCHI_STEW_INFO =
+            new FoodInfo("Kimchi-jjigae (South Korea)", "Spicy stew", "kimchi.jpg", "preview.jpg");
+
+    @Mock
+    private TasteAtlasApiClient apiClient;
+    @Mock
+    private TasteAtlasPageParser pageParser;
+
+    private TasteAtlasPageLookup pageLookup;
+
+    @BeforeEach
+    void setUp() {
+        pageLookup = new TasteAtlasPageLookup(
+                apiClient,
+                pageParser,
+                new TasteAtlasProperties(BASE_URL, null, null, null),
+                new AsyncCacheFactory(new SimpleMeterRegistry()),
+                new FoodInfoCacheProperties(100, Duration.ofHours(1), Duration.ofMinutes(1), Duration.ZERO, 0.0),
+                Duration.ofDays(7),
+                Duration.ofHours(6)
+        );
+    }
+
+    @Test
+    @DisplayName("다른 이름이 같은 페이지로 이어지면 페이지는 한 번만 받아 파싱한다")
+    void find_shouldFetchSamePageOnceForDifferentNames() {
+        // given
+        final String head = "<head></head>";
+        when(apiClient.search("Kimchi Stew")).thenReturn(Mono.just(new TasteAtlasResponse(List.of(KIMCHI_STEW), null)));
+        when(apiClient.search("Kimchi Jjigae")).thenReturn(Mono.just(new TasteAtlasResponse(null, List.of(KIMCHI_STEW))));
+        when(apiClient.fetchHead(BASE_URL + "/kimchi-jjigae")).thenReturn(Mono.just(head));
+        when(pageParser.parse(head, KIMCHI_STEW)).thenReturn(Mono.just(KIMCHI_STEW_INFO));
+
+        // when & then
+        StepVerifier.create(pageLookup.find("Kimchi Stew"))
+                .expectNext(KIMCHI_STEW_INFO)
+                .verifyComplete();
+        StepVerifier.create(pageLookup.find("Kimchi Jjigae"))
+                .expectNext(KIMCHI_STEW_INFO)
+                .verifyComplete();
+        verify(apiClient, times(1)).fetchHead(BASE_URL + "/kimchi-jjigae");
+    }
+
+    @Test
+    @DisplayName("같은 이름의 검색 결과는 다시 요청하지 않는다")
+    void find_shouldReuseSearchResult() {
+        // given
+        final String head = "<head></head>";
+        when(apiClient.search("Kimchi Stew")).thenReturn(Mono.just(new TasteAtlasResponse(List.of(KIMCHI_STEW), null)));
+        when(apiClient.fetchHead(BASE_URL + "/kimchi-jjigae")).thenReturn(Mono.just(head));
+        when(pageParser.parse(head, KIMCHI_STEW)).thenReturn(Mono.just(KIMCHI_STEW_INFO));
+        pageLookup.find("Kimchi Stew").block();
+
+        // when
+        pageLookup.find("Kimchi Stew").block();
+
+        // then
+        verify(apiClient, times(1)).search("Kimchi Stew");
+    }
+
+    @Test
+    @DisplayName("검색 결과가 없으면 페이지를 요청하지 않고 비어 있는 결과를 돌려준다")
+    void find_shouldBeEmptyWhenNoSearchResult() {
+        // given
+        when(apiClient.search("Unknown")).thenReturn(Mono.just(new TasteAtlasResponse(List.of(), List.of())));
+
+        // when & then
+        StepVerifier.create(pageLookup.find("Unknown"))
+                .verifyComplete();
+        verify(apiClient, never()).fetchHead(anyString());
+    }
+}
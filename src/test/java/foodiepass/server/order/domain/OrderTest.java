@@ -151,5 +151,26 @@ class OrderTest {
             // then
             assertThat(actualPrice).isEqualTo(expectedPrice);
         }
+
+        @Test
+        @DisplayName("소수 자릿수가 있는 통화도 최소 단위로 정확히 합산한다")
+        void shouldSumFractionalCurrencyExactly() {
+            // given
+            MenuItem cola = new MenuItem(
+                    "Cola",
+                    new Price(Currency.UNITED_STATES_DOLLAR, new BigDecimal("0.10")),
+                    new FoodInfo("Cola", "A cold cola.", "cola.jpg", "cola_preview.jpg")
+            );
+            Order order = new Order(
+                    List.of(new OrderItem(steak, 3), new OrderItem(cola, 7)),
+                    Currency.UNITED_STATES_DOLLAR
+            );
+
+            // when
+            Price actualPrice = order.calculateTotalPrice();
+
+            // then
+            assertThat(actualPrice).isEqualTo(new Price(Currency.UNITED_STATES_DOLLAR, new BigDecimal("167.20")));
+        }
     }
 }
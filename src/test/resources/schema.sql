@@ -5,3 +5,41 @@ CREATE TABLE IF NOT EXISTS shedlock (
     locked_by VARCHAR(255) NOT NULL,
     PRIMARY KEY (name)
     );
+
+CREATE TABLE IF NOT EXISTS exchange_rate_snapshot (
+    version BIGINT NOT NULL,
+    base_currency VARCHAR(3) NOT NULL,
+    fetched_at TIMESTAMP(3) NOT NULL,
+    PRIMARY KEY (version)
+    );
+
+CREATE TABLE IF NOT EXISTS exchange_rate_snapshot_rate (
+    version BIGINT NOT NULL,
+    currency_code VARCHAR(3) NOT NULL,
+    rate DOUBLE PRECISION NOT NULL,
+    fetched_at TIMESTAMP(3),
+    PRIMARY KEY (version, currency_code)
+    );
+
+CREATE TABLE IF NOT EXISTS translation_memory (
+    source_language VARCHAR(64) NOT NULL,
+    target_language VARCHAR(64) NOT NULL,
+    text_hash BIGINT NOT NULL,
+    source_text VARCHAR(4000) NOT NULL,
+    translated_text VARCHAR(4000) NOT NULL,
+    updated_at TIMESTAMP(3) NOT NULL,
+    PRIMARY KEY (source_language, target_language, text_hash)
+    );
+
+CREATE TABLE IF NOT EXISTS food_knowledge (
+    normalized_name VARCHAR(255) NOT NULL,
+    requested_name VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(4000),
+    image VARCHAR(2048),
+    preview_image VARCHAR(2048),
+    source VARCHAR(32) NOT NULL,
+    fetched_at TIMESTAMP(6) NOT NULL,
+    request_count BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (normalized_name, source)
+    );